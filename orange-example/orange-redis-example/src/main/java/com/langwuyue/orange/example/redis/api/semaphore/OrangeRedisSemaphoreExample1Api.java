@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.example.redis.api.semaphore;
+
+import java.util.concurrent.TimeUnit;
+
+import com.langwuyue.orange.redis.annotation.AutoRenew;
+import com.langwuyue.orange.redis.annotation.OrangeRedisKey;
+import com.langwuyue.orange.redis.annotation.Timeout;
+import com.langwuyue.orange.redis.annotation.global.SetExpiration;
+import com.langwuyue.orange.redis.annotation.semaphore.Acquire;
+import com.langwuyue.orange.redis.template.semaphore.SemaphoreOperationsTemplate;
+
+/**
+ * @author Liang.Zhong
+ * @since 1.0.0
+ */
+@OrangeRedisKey(expirationTime = @Timeout(value = 30, unit = TimeUnit.SECONDS), key = "orange:semaphore:example1")
+public interface OrangeRedisSemaphoreExample1Api extends SemaphoreOperationsTemplate {
+
+	@Acquire(permits = 3)
+	@SetExpiration
+	@AutoRenew(autoInitKeyExpirationTime = true)
+	@Override
+	void acquire(Object... args);
+}
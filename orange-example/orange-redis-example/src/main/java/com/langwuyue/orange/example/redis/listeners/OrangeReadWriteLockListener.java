@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.example.redis.listeners;
+
+import org.springframework.stereotype.Component;
+
+import com.langwuyue.orange.example.redis.api.rwlock.OrangeRedisReadWriteLockExample1Api;
+import com.langwuyue.orange.redis.annotation.OrangeRedisIfAbsentListener;
+import com.langwuyue.orange.redis.listener.rwlock.OrangeReadWriteLockEvent;
+import com.langwuyue.orange.redis.listener.rwlock.OrangeReadWriteLockFailedEvent;
+import com.langwuyue.orange.redis.listener.rwlock.OrangeRedisReadWriteLockListener;
+
+/**
+ * @author Liang.Zhong
+ * @since 1.0.0
+ */
+@Component
+@OrangeRedisIfAbsentListener(keys = {OrangeRedisReadWriteLockExample1Api.class})
+public class OrangeReadWriteLockListener implements OrangeRedisReadWriteLockListener {
+
+	@Override
+	public void onFailure(OrangeReadWriteLockFailedEvent event) {
+		System.out.println("OrangeReadWriteLockListener receive failed event, write: " + event.isWrite());
+		
+	}
+
+	@Override
+	public void onSuccess(OrangeReadWriteLockEvent event) {
+		System.out.println("OrangeReadWriteLockListener receive success event, write: " + event.isWrite());
+		try {
+			Thread.sleep(10000);
+		}catch (Exception e) {
+			e.printStackTrace();
+		}
+		System.out.println("OrangeReadWriteLockListener done");
+		
+	}
+
+	@Override
+	public void onRemoveFailed(OrangeReadWriteLockFailedEvent event) {
+		System.out.println("OrangeReadWriteLockListener receive remove failed event");
+		
+	}
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.example.redis.testcase.rwlock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.langwuyue.orange.example.redis.api.rwlock.OrangeRedisReadWriteLockExample1Api;
+import com.langwuyue.orange.example.redis.response.OrangeRedisExampleResponse;
+
+/**
+ * @author Liang.Zhong
+ * @since 1.0.0
+ */
+@RestController
+public class OrangeRedisReadWriteLockTestCases {
+	
+	@Autowired
+	private OrangeRedisReadWriteLockExample1Api readWriteLockExample1Api;
+	
+	@PutMapping("/v1/readWriteLockOperations/readLocks")
+	public OrangeRedisExampleResponse testReadLock() {
+		try {
+			readWriteLockExample1Api.readLock();
+			return new OrangeRedisExampleResponse();
+		}catch (Exception e) {
+			e.printStackTrace();
+			return new OrangeRedisExampleResponse(1,e.getMessage());
+		}
+	}
+	
+	@PutMapping("/v1/readWriteLockOperations/writeLocks")
+	public OrangeRedisExampleResponse testWriteLock() {
+		try {
+			readWriteLockExample1Api.writeLock();
+			return new OrangeRedisExampleResponse();
+		}catch (Exception e) {
+			e.printStackTrace();
+			return new OrangeRedisExampleResponse(1,e.getMessage());
+		}
+	}
+}
@@ -32,6 +32,21 @@ public enum RedisValueTypeEnum {
 	
 	DOUBLE,
 	
+	/**
+	 * Jackson Smile, requires {@code jackson-dataformat-smile} on the classpath.
+	 */
+	SMILE,
+	
+	/**
+	 * Jackson CBOR, requires {@code jackson-dataformat-cbor} on the classpath.
+	 */
+	CBOR,
+	
+	/**
+	 * Encoded by the codec bean registered by the application for this type.
+	 */
+	BINARY,
+	
 	;
 
 }
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.redis.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <h3>Compression of the values written by a client.</h3>
+ * <p>
+ * Overrides {@code orange.redis.compression.*} for the annotated client.
+ * JSON, SMILE and CBOR values whose encoded size reaches the threshold are compressed with GZIP before being written.
+ * Only values stored under a key or a hash field are compressed, members, hash fields and script arguments are always written raw, 
+ * so compare-and-swap operations, whose expected values are compared raw by their scripts, do not match compressed values.
+ * Compressed values are recognized by the GZIP header when read, so values written before the compression was enabled are still readable.
+ * </p>
+ * 
+ * @author Liang.Zhong
+ * @since 1.0.0
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Compression {
+
+	/**
+	 * Compress the values of the client if true, write them raw otherwise.
+	 */
+	boolean enabled() default true;
+	
+	/**
+	 * Minimum size in bytes of the encoded values to be compressed, 
+	 * {@code orange.redis.compression.threshold} is used if not positive.
+	 */
+	int threshold() default 0;
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.redis.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h3>Client side cache of the values read by a value or hash client.</h3>
+ * <p>
+ * The results of {@code @GetValue} of value clients, and of {@code @GetHashValues} and {@code @GetMembers} of hash clients, 
+ * are kept in memory, so repeated reads of a key neither reach Redis nor deserialize the value again.
+ * </p>
+ * <p>
+ * Cached results of a key are dropped once the key is written by a client annotated with {@code @NearCache} of any instance, 
+ * the writes are broadcast with Redis pub/sub. Keys written by other clients or expired by Redis stay cached until {@link #expirationTime()}.
+ * </p>
+ * <p>
+ * The cached results are shared by the callers, they must not be modified.
+ * </p>
+ * 
+ * @author Liang.Zhong
+ * @since 1.0.0
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface NearCache {
+	
+	/**
+	 * Maximum number of cached results of the client, the oldest results are evicted first.
+	 */
+	int maximumSize() default 10000;
+	
+	/**
+	 * Time to live of a cached result since it was read.
+	 */
+	Timeout expirationTime() default @Timeout(value = 1, unit = TimeUnit.MINUTES);
+}
@@ -25,6 +25,11 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 /**
+ * <p>
+ * By default every lock is acquired with its own script call, and {@code @ContinueOnFailure} decides whether the remaining locks are tried after a failure.
+ * When {@link #atomic()} is true, all locks are acquired with one script call, either all of them or none of them.
+ * </p>
+ * 
  * @author Liang.Zhong
  * @since 1.0.0
  */
@@ -33,4 +38,9 @@ import java.lang.annotation.Target;
 @Documented
 public @interface MultipleLocks {
 	
+	/**
+	 * Acquire all locks or none of them with one script call, other nodes never see a part of the locks held.
+	 * {@code @ContinueOnFailure} is ignored in this mode.
+	 */
+	boolean atomic() default false;
 }
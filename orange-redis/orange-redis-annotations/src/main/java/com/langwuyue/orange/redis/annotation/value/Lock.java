@@ -24,7 +24,15 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+import com.langwuyue.orange.redis.annotation.Timeout;
+
 /**
+ * <p>
+ * The lock is tried only once by default. 
+ * When {@link #waitTime()} is positive, the caller waits until the lock is released by its owner, 
+ * and tries again until the lock is acquired or the wait time is elapsed.
+ * </p>
+ * 
  * @author Liang.Zhong
  * @since 1.0.0
  */
@@ -33,5 +41,11 @@ import java.lang.annotation.Target;
 @Documented
 public @interface Lock {
 
-
+	/**
+	 * The longest time to wait for the lock, {@code 0} means the lock is tried only once.
+	 * <p>
+	 * The waiters are woken by the release of the lock, they also retry with a jittered backoff in case a release is missed.
+	 * </p>
+	 */
+	Timeout waitTime() default @Timeout(0);
 }
@@ -22,6 +22,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import com.langwuyue.orange.redis.RedisValueTypeEnum;
 import com.langwuyue.orange.redis.annotation.AddMembers;
@@ -37,6 +38,8 @@ import com.langwuyue.orange.redis.annotation.Random;
 import com.langwuyue.orange.redis.annotation.RedisOldValue;
 import com.langwuyue.orange.redis.annotation.RedisValue;
 import com.langwuyue.orange.redis.annotation.RemoveMembers;
+import com.langwuyue.orange.redis.annotation.ScanCursor;
+import com.langwuyue.orange.redis.annotation.ScanPattern;
 import com.langwuyue.orange.redis.annotation.hash.GetHashKeys;
 import com.langwuyue.orange.redis.annotation.hash.GetHashValueLength;
 import com.langwuyue.orange.redis.annotation.hash.GetHashValues;
@@ -326,4 +329,47 @@ public interface JSONOperationsTemplate<T> extends GlobalOperationsTemplate {
     @RemoveMembers
     @ContinueOnFailure(true)
     Map<String,Boolean> remove(@Multiple Collection<String> keys);
-}
\ No newline at end of file
+    
+    /**
+     * Scans members by cursor
+     * 
+     * <p>
+     * Each call reads one page of {@code HSCAN} from the cursor returned by the previous call, 
+     * so reading a page costs only the page whatever its position is.
+     * </p>
+     * 
+     * <p>
+     * Developers must override this method when another interface extends this template; 
+     * otherwise, an exception will occur, 
+     * because the method's return type involves a generic argument T.
+     * </p>
+     * 
+     * @param pattern Pattern of the field names
+     * @param count Hint of the number of members read by one page
+     * @param cursor {@code 0} to start a new iteration, otherwise the cursor returned by the previous call
+     * @return Single-entry map {next cursor: members}, the next cursor is {@code 0} once the iteration is completed
+     */
+    @GetMembers
+    Map<Long, Map<String, T>> scanByCursor(@ScanPattern String pattern, @Count Long count, @ScanCursor Long cursor);
+    
+    /**
+     * Scans all members lazily
+     * 
+     * <p>
+     * Pages of {@code HSCAN} are read while the stream is consumed, only one page is held in memory.
+     * A member may be returned more than once if the hash is modified during the iteration.
+     * </p>
+     * 
+     * <p>
+     * Developers must override this method when another interface extends this template; 
+     * otherwise, an exception will occur, 
+     * because the method's return type involves a generic argument T.
+     * </p>
+     * 
+     * @param pattern Pattern of the field names
+     * @param count Hint of the number of members read by one page
+     * @return Entries of field names and deserialized values, {@code Iterator} and {@code Iterable} are also supported
+     */
+    @GetMembers
+    Stream<Map.Entry<String, T>> scanAll(@ScanPattern String pattern, @Count Long count);
+}
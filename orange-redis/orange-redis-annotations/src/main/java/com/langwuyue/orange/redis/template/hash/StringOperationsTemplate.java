@@ -21,6 +21,7 @@ package com.langwuyue.orange.redis.template.hash;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import com.langwuyue.orange.redis.RedisValueTypeEnum;
 import com.langwuyue.orange.redis.annotation.hash.OrangeRedisHashClient;
@@ -72,4 +73,16 @@ public interface StringOperationsTemplate extends JSONOperationsTemplate<String>
 		
 		return null;
 	}
+
+	@Override
+	default Map<Long, Map<String, String>> scanByCursor(String pattern, Long count, Long cursor) {
+		
+		return null;
+	}
+
+	@Override
+	default Stream<Map.Entry<String, String>> scanAll(String pattern, Long count) {
+		
+		return null;
+	}
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.redis.template.rwlock;
+
+import com.langwuyue.orange.redis.annotation.AutoRenew;
+import com.langwuyue.orange.redis.annotation.global.SetExpiration;
+import com.langwuyue.orange.redis.annotation.rwlock.OrangeRedisReadWriteLockClient;
+import com.langwuyue.orange.redis.annotation.rwlock.ReadLock;
+import com.langwuyue.orange.redis.annotation.rwlock.WriteLock;
+import com.langwuyue.orange.redis.template.global.GlobalOperationsTemplate;
+
+/**
+ * Interface template for Redis read-write lock operations. 
+ * Developers should extend this interface and annotate the child interface with {@code OrangeRedisKey}.
+ * 
+ * <p>A example is:
+ * <blockquote><pre>
+ *  {@code @OrangeRedisKey(expirationTime = @Timeout(value = 30, unit = TimeUnit.SECONDS), key = "orange:rwlock:example1")} 
+ *  public interface OrangeRedisReadWriteLockExample1Api extends ReadWriteLockOperationsTemplate {
+ *  	
+ *  	// Custom operations can be added here
+ *  }
+ * </pre></blockquote>
+ * </p>
+ * 
+ * <p>
+ * Each holder of the lock has its own lease in the hash of the key, which expires after the expiration time of the key unless it is renewed, 
+ * so a holder which is gone does not block the others longer than the expiration time.
+ * </p>
+ * 
+ * <p>Please review examples for more information.</p>
+ * 
+ * @author Liang.Zhong
+ * @since 1.0.0
+ */
+@OrangeRedisReadWriteLockClient
+public interface ReadWriteLockOperationsTemplate extends GlobalOperationsTemplate {
+	
+	/**
+	 * Acquires the shared lock, notifies listeners (who will handle business logic)
+	 * 
+	 * <p>
+	 * [Read lock] -> [Notify listeners]  (listeners process business logic)-> [Release read lock]
+	 * </p>
+	 * 
+	 * <p>
+	 * Readers hold the lock together, the lock is refused only while a writer holds it.
+	 * Once the lock is acquired or refused, the {@code OrangeRedisReadWriteLockListener} component ​​will be triggered​​. 
+	 * Note that the {@code OrangeRedisReadWriteLockListener} implementation class must be annotated with Spring’s {@code @Component}
+	 * </p>
+	 * 
+	 * <p>
+	 * The lease of the reader is renewed while the listeners are still executing, 
+	 * see {@link AutoRenew#threshold()}.
+	 * </p>
+	 */
+	@ReadLock
+	@SetExpiration
+	@AutoRenew(autoInitKeyExpirationTime = true)
+	void readLock(Object... args);
+	
+	/**
+	 * Acquires the exclusive lock, notifies listeners (who will handle business logic)
+	 * 
+	 * <p>
+	 * [Write lock] -> [Notify listeners]  (listeners process business logic)-> [Release write lock]
+	 * </p>
+	 * 
+	 * <p>
+	 * The lock is refused while any reader or another writer holds it.
+	 * Once the lock is acquired or refused, the {@code OrangeRedisReadWriteLockListener} component ​​will be triggered​​. 
+	 * </p>
+	 * 
+	 * <p>
+	 * The lease of the writer is renewed while the listeners are still executing, 
+	 * see {@link AutoRenew#threshold()}.
+	 * </p>
+	 */
+	@WriteLock
+	@SetExpiration
+	@AutoRenew(autoInitKeyExpirationTime = true)
+	void writeLock(Object... args);
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.redis.template.semaphore;
+
+import com.langwuyue.orange.redis.annotation.AutoRenew;
+import com.langwuyue.orange.redis.annotation.global.SetExpiration;
+import com.langwuyue.orange.redis.annotation.semaphore.Acquire;
+import com.langwuyue.orange.redis.annotation.semaphore.OrangeRedisSemaphoreClient;
+import com.langwuyue.orange.redis.template.global.GlobalOperationsTemplate;
+
+/**
+ * Interface template for Redis semaphore operations. 
+ * Developers should extend this interface and annotate the child interface with {@code OrangeRedisKey}.
+ * 
+ * <p>A example is:
+ * <blockquote><pre>
+ *  {@code @OrangeRedisKey(expirationTime = @Timeout(value = 30, unit = TimeUnit.SECONDS), key = "orange:semaphore:example1")} 
+ *  public interface OrangeRedisSemaphoreExample1Api extends SemaphoreOperationsTemplate {
+ *  	
+ *  	{@code @Acquire(permits = 10)}
+ *  	{@code @SetExpiration}
+ *  	{@code @AutoRenew(autoInitKeyExpirationTime = true)}
+ *  	{@code @Override}
+ *  	void acquire(Object... args);
+ *  }
+ * </pre></blockquote>
+ * </p>
+ * 
+ * <p>
+ * Each holder of a permit has its own lease in the hash of the key, which expires after the expiration time of the key unless it is renewed, 
+ * so the permit of a holder which is gone is given back after the expiration time.
+ * </p>
+ * 
+ * <p>Please review examples for more information.</p>
+ * 
+ * @author Liang.Zhong
+ * @since 1.0.0
+ */
+@OrangeRedisSemaphoreClient
+public interface SemaphoreOperationsTemplate extends GlobalOperationsTemplate {
+	
+	/**
+	 * Acquires a permit, notifies listeners (who will handle business logic)
+	 * 
+	 * <p>
+	 * [Acquire] -> [Notify listeners]  (listeners process business logic)-> [Release]
+	 * </p>
+	 * 
+	 * <p>
+	 * The permit is refused while {@link Acquire#permits()} holders have one. 
+	 * The template declares one permit, developers should override this method with the number of permits of the semaphore.
+	 * Once the permit is acquired or refused, the {@code OrangeRedisSemaphoreListener} component ​​will be triggered​​. 
+	 * Note that the {@code OrangeRedisSemaphoreListener} implementation class must be annotated with Spring’s {@code @Component}
+	 * </p>
+	 * 
+	 * <p>
+	 * The lease of the holder is renewed while the listeners are still executing, 
+	 * see {@link AutoRenew#threshold()}.
+	 * </p>
+	 */
+	@Acquire
+	@SetExpiration
+	@AutoRenew(autoInitKeyExpirationTime = true)
+	void acquire(Object... args);
+}
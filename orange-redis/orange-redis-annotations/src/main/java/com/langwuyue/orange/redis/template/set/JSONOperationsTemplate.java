@@ -21,6 +21,7 @@ package com.langwuyue.orange.redis.template.set;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import com.langwuyue.orange.redis.RedisValueTypeEnum;
 import com.langwuyue.orange.redis.annotation.AddMembers;
@@ -37,6 +38,7 @@ import com.langwuyue.orange.redis.annotation.Random;
 import com.langwuyue.orange.redis.annotation.RedisOldValue;
 import com.langwuyue.orange.redis.annotation.RedisValue;
 import com.langwuyue.orange.redis.annotation.RemoveMembers;
+import com.langwuyue.orange.redis.annotation.ScanCursor;
 import com.langwuyue.orange.redis.annotation.ScanPattern;
 import com.langwuyue.orange.redis.annotation.set.IsMembers;
 import com.langwuyue.orange.redis.annotation.set.OrangeRedisSetClient;
@@ -323,6 +325,11 @@ public interface JSONOperationsTemplate<T> extends GlobalOperationsTemplate {
 	 * </p>
 	 * 
 	 * 
+	 * <p>
+	 * The members before the page are scanned again to reach the page, 
+	 * prefer {@link #scanByCursor(String, Long, Long)} or {@link #scanAll(String, Long)} for large sets.
+	 * </p>
+	 * 
 	 * @param pattern
 	 * @param count
 	 * @param pageNo
@@ -330,4 +337,47 @@ public interface JSONOperationsTemplate<T> extends GlobalOperationsTemplate {
 	 */
 	@GetMembers
 	Set<T> scan(@ScanPattern String pattern,@Count Long count,@PageNo Long pageNo);
+	
+	/**
+	 * <h3> Scan members by cursor</h3>
+	 * 
+	 * <p>
+	 * Each call reads one page of {@code SSCAN} from the cursor returned by the previous call, 
+	 * so reading a page costs only the page whatever its position is.
+	 * </p>
+	 * 
+	 * <p>
+	 * Developers must override this method when another interface extends this template; 
+	 * otherwise, an exception will occur, 
+	 * because the method's return type involves a generic argument T.
+	 * </p>
+	 * 
+	 * @param pattern
+	 * @param count 	Hint of the number of members read by one page.
+	 * @param cursor 	{@code 0} to start a new iteration, otherwise the cursor returned by the previous call.
+	 * @return a single-entry LinkedHashMap {next cursor: members}, the next cursor is {@code 0} once the iteration is completed.
+	 */
+	@GetMembers
+	Map<Long,Set<T>> scanByCursor(@ScanPattern String pattern,@Count Long count,@ScanCursor Long cursor);
+	
+	/**
+	 * <h3> Scan all members lazily</h3>
+	 * 
+	 * <p>
+	 * Pages of {@code SSCAN} are read while the stream is consumed, only one page is held in memory.
+	 * A member may be returned more than once if the set is modified during the iteration.
+	 * </p>
+	 * 
+	 * <p>
+	 * Developers must override this method when another interface extends this template; 
+	 * otherwise, an exception will occur, 
+	 * because the method's return type involves a generic argument T.
+	 * </p>
+	 * 
+	 * @param pattern
+	 * @param count 	Hint of the number of members read by one page.
+	 * @return members, {@code Iterator<T>} and {@code Iterable<T>} are also supported.
+	 */
+	@GetMembers
+	Stream<T> scanAll(@ScanPattern String pattern,@Count Long count);
 }
@@ -21,6 +21,7 @@ package com.langwuyue.orange.redis.template.set;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import com.langwuyue.orange.redis.RedisValueTypeEnum;
 import com.langwuyue.orange.redis.annotation.set.OrangeRedisSetClient;
@@ -105,4 +106,14 @@ public interface StringOperationsTemplate extends JSONOperationsTemplate<String>
 	default Set<String> scan(String pattern, Long count, Long cursor) {
 		return null;
 	}
+
+	@Override
+	default Map<Long, Set<String>> scanByCursor(String pattern, Long count, Long cursor) {
+		return null;
+	}
+
+	@Override
+	default Stream<String> scanAll(String pattern, Long count) {
+		return null;
+	}
 }
@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import com.langwuyue.orange.redis.RedisValueTypeEnum;
 import com.langwuyue.orange.redis.annotation.AddMembers;
@@ -41,6 +42,8 @@ import com.langwuyue.orange.redis.annotation.PopMembers;
 import com.langwuyue.orange.redis.annotation.Random;
 import com.langwuyue.orange.redis.annotation.RedisValue;
 import com.langwuyue.orange.redis.annotation.RemoveMembers;
+import com.langwuyue.orange.redis.annotation.ScanCursor;
+import com.langwuyue.orange.redis.annotation.ScanPattern;
 import com.langwuyue.orange.redis.annotation.StartIndex;
 import com.langwuyue.orange.redis.annotation.TimeoutUnit;
 import com.langwuyue.orange.redis.annotation.TimeoutValue;
@@ -684,4 +687,49 @@ public interface JSONOperationsTemplate<T> extends GlobalOperationsTemplate {
 	 */
 	@Decrement
 	Double decrement(@RedisValue T value, @Score Double delta);
+	
+	/**
+	 * Scans members with scores by cursor.
+	 * 
+	 * <p>
+	 * Each call reads one page of {@code ZSCAN} from the cursor returned by the previous call, 
+	 * so reading a page costs only the page whatever its position is.
+	 * </p>
+	 * 
+	 * <p>
+	 * Developers must override this method when another interface extends this template; 
+	 * otherwise, an exception will occur, 
+	 * because the method's return type involves a generic argument T.
+	 * </p>
+	 * 
+	 * @param pattern
+	 * @param count 	Hint of the number of members read by one page.
+	 * @param cursor 	{@code 0} to start a new iteration, otherwise the cursor returned by the previous call.
+	 * @return a single-entry LinkedHashMap {next cursor: {"value": score}}, the next cursor is {@code 0} once the iteration is completed.
+	 */
+	@GetMembers
+	@WithScores
+	Map<Long,Map<T,Double>> scanByCursor(@ScanPattern String pattern, @Count Long count, @ScanCursor Long cursor);
+	
+	/**
+	 * Scans all members with scores lazily.
+	 * 
+	 * <p>
+	 * Pages of {@code ZSCAN} are read while the stream is consumed, only one page is held in memory.
+	 * A member may be returned more than once if the zset is modified during the iteration.
+	 * </p>
+	 * 
+	 * <p>
+	 * Developers must override this method when another interface extends this template; 
+	 * otherwise, an exception will occur, 
+	 * because the method's return type involves a generic argument T.
+	 * </p>
+	 * 
+	 * @param pattern
+	 * @param count 	Hint of the number of members read by one page.
+	 * @return entries {"value": score}, {@code Iterator} and {@code Iterable} are also supported.
+	 */
+	@GetMembers
+	@WithScores
+	Stream<Map.Entry<T,Double>> scanAll(@ScanPattern String pattern, @Count Long count);
 }
@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import com.langwuyue.orange.redis.RedisValueTypeEnum;
 import com.langwuyue.orange.redis.annotation.Count;
@@ -272,5 +273,15 @@ public interface StringOperationsTemplate extends JSONOperationsTemplate<String>
 	default Map<String, Long> reveseRanks(Set<String> value) {
 		return null;
 	}
+
+	@Override
+	default Map<Long, Map<String, Double>> scanByCursor(String pattern, Long count, Long cursor) {
+		return null;
+	}
+
+	@Override
+	default Stream<Map.Entry<String, Double>> scanAll(String pattern, Long count) {
+		return null;
+	}
 	
 }
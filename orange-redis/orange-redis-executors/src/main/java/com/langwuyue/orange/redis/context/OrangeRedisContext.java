@@ -20,6 +20,7 @@ package com.langwuyue.orange.redis.context;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.lang.reflect.Type;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 
@@ -41,6 +42,10 @@ public class OrangeRedisContext {
 	
 	private RedisValueTypeEnum valueType;
 	
+	private Class<?> returnType;
+	
+	private Type genericReturnType;
+	
 	public OrangeRedisContext(
 		Class<?> operationOwner, 
 		Method operationMethod, 
@@ -93,6 +98,23 @@ public class OrangeRedisContext {
 	public RedisValueTypeEnum getValueType() {
 		return valueType;
 	}
+	
+	/**
+	 * The type which the executor should return, it is the return type of the operation method,
+	 * or the type argument of it when the method returns {@code CompletableFuture} or {@code CompletionStage}.
+	 */
+	public Class<?> getReturnType() {
+		return returnType != null ? returnType : operationMethod.getReturnType();
+	}
+	
+	public Type getGenericReturnType() {
+		return genericReturnType != null ? genericReturnType : operationMethod.getGenericReturnType();
+	}
+	
+	public void setReturnType(Class<?> returnType, Type genericReturnType) {
+		this.returnType = returnType;
+		this.genericReturnType = genericReturnType;
+	}
 
 	public static class Key {
 		private String originalKey;
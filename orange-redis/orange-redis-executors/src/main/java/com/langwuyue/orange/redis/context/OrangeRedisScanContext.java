@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.redis.context;
+
+import java.lang.reflect.Method;
+
+import com.langwuyue.orange.redis.OrangeRedisException;
+import com.langwuyue.orange.redis.RedisValueTypeEnum;
+import com.langwuyue.orange.redis.annotation.OrangeRedisOperationArg;
+import com.langwuyue.orange.redis.annotation.ScanCursor;
+import com.langwuyue.orange.redis.annotation.ScanPattern;
+import com.langwuyue.orange.redis.utils.OrangeReflectionUtils;
+
+/**
+ * Context of the cursor-based scans of set and zset.
+ * 
+ * @author Liang.Zhong
+ * @since 1.0.0
+ */
+public class OrangeRedisScanContext extends OrangeRedisCountContext {
+	
+	@OrangeRedisOperationArg(binding = ScanPattern.class)
+	private Object pattern;
+	
+	@OrangeRedisOperationArg(binding = ScanCursor.class)
+	private Object cursor;
+
+	public OrangeRedisScanContext(
+		Class<?> operationOwner, 
+		Method operationMethod, 
+		Object[] args, 
+		Key redisKey,
+		RedisValueTypeEnum valueType
+	) {
+		super(operationOwner, operationMethod, args, redisKey, valueType);
+	}
+	
+	public String getPattern() {
+		if(this.pattern == null) {
+			throw new OrangeRedisException(String.format("The argument annotated with @%s cannot be null", ScanPattern.class));
+		}
+		return this.pattern.toString();
+	}
+	
+	/**
+	 * @return {@code 0} if the cursor is absent, which starts a new iteration
+	 */
+	public long getCursor() {
+		if(this.cursor == null) {
+			return 0L;
+		}
+		if(!(OrangeReflectionUtils.isInteger(this.cursor.getClass())) && !(this.cursor instanceof String)) {
+			throw new OrangeRedisException(String.format("The argument annotated with @%s must be a integer or a string", ScanCursor.class));
+		}
+		long value = Long.parseLong(this.cursor.toString());
+		if(value < 0) {
+			throw new OrangeRedisException(String.format("The argument annotated with @%s cannot be negative", ScanCursor.class));
+		}
+		return value;
+	}
+	
+}
@@ -51,6 +51,8 @@ public class OrangeRedisContextBuilder {
 	
 	private Class<? extends OrangeRedisContext> contextClass;
 	
+	private OrangeRedisInvocationPlan plan;
+	
 	public OrangeRedisContextBuilder() {}
 	
 	public OrangeRedisContextBuilder operationOwner(Class<?> operationOwner) {
@@ -88,8 +90,17 @@ public class OrangeRedisContextBuilder {
 		this.operationArgHandlerMapping = operationArgHandlerMapping;
 		return this;
 	}
+	public OrangeRedisContextBuilder plan(OrangeRedisInvocationPlan plan) {
+		this.plan = plan;
+		return this;
+	}
 	
 	public OrangeRedisContext build() throws Exception {
+		if(this.plan != null) {
+			OrangeRedisContext context = this.plan.newContext(getContextConstructorArgs());
+			this.plan.bind(context, this.args);
+			return context;
+		}
 		OrangeRedisContext context = newContext();
 		Annotation[] annotations = this.actualMethod.getAnnotations();
 		Map<Class<? extends Annotation>, List<Field>> annotationFieldMap = this.operationArgHandlerMapping.getContextFieldsMap().get(this.contextClass);
@@ -129,6 +140,30 @@ public class OrangeRedisContextBuilder {
 		);
 	}
 	
+	/**
+	 * Parameter types of the context constructor, used to compile {@link OrangeRedisInvocationPlan}.
+	 * Must be kept in line with {@link #getContextConstructorArgs()}.
+	 */
+	public Class<?>[] getContextConstructorParameterTypes() {
+		return new Class<?>[] {
+			Class.class,
+			Method.class,
+			Object[].class,
+			Key.class,
+			RedisValueTypeEnum.class
+		};
+	}
+	
+	protected Object[] getContextConstructorArgs() {
+		return new Object[] {
+			this.operationOwner,
+			this.operationMethod,
+			this.args,
+			this.redisKey,
+			this.valueType
+		};
+	}
+	
 	private void copyValueToContext(
 			Annotation annotation,
 			OrangeRedisContext context,
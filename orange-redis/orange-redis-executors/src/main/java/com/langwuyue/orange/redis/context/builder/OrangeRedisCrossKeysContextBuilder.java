@@ -18,8 +18,10 @@
  */
 package com.langwuyue.orange.redis.context.builder;
 
+import java.lang.reflect.Method;
 import java.util.List;
 
+import com.langwuyue.orange.redis.RedisValueTypeEnum;
 import com.langwuyue.orange.redis.context.OrangeRedisContext;
 import com.langwuyue.orange.redis.executor.cross.context.OrangeCrossOperationContext;
 
@@ -48,6 +50,30 @@ public class OrangeRedisCrossKeysContextBuilder extends OrangeRedisContextBuilde
 		);
 	}
 
+	@Override
+	public Class<?>[] getContextConstructorParameterTypes() {
+		return new Class<?>[] {
+			Class.class,
+			Method.class,
+			Object[].class,
+			List.class,
+			String.class,
+			RedisValueTypeEnum.class
+		};
+	}
+	
+	@Override
+	protected Object[] getContextConstructorArgs() {
+		return new Object[] {
+			this.getOperationOwner(),
+			this.getOperationMethod(),
+			this.getArgs(),
+			this.keys,
+			this.storeTo,
+			((OrangeCrossKeysOperationArgHandlerMapping)this.getOperationArgHandlerMapping()).getValueType(this.getOperationMethod())
+		};
+	}
+
 	public OrangeRedisCrossKeysContextBuilder keys(List<String> keys) {
 		this.keys = keys;
 		return this;
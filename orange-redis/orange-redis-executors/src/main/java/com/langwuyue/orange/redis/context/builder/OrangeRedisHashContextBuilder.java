@@ -18,8 +18,11 @@
  */
 package com.langwuyue.orange.redis.context.builder;
 
+import java.lang.reflect.Method;
+
 import com.langwuyue.orange.redis.RedisValueTypeEnum;
 import com.langwuyue.orange.redis.context.OrangeRedisContext;
+import com.langwuyue.orange.redis.context.OrangeRedisContext.Key;
 import com.langwuyue.orange.redis.executor.hash.context.OrangeHashContext;
 
 /**
@@ -48,4 +51,28 @@ public class OrangeRedisHashContextBuilder extends OrangeRedisContextBuilder {
 				this.keyType
 		);
 	}
+	
+	@Override
+	public Class<?>[] getContextConstructorParameterTypes() {
+		return new Class<?>[] {
+			Class.class,
+			Method.class,
+			Object[].class,
+			Key.class,
+			RedisValueTypeEnum.class,
+			RedisValueTypeEnum.class
+		};
+	}
+	
+	@Override
+	protected Object[] getContextConstructorArgs() {
+		return new Object[] {
+			this.getOperationOwner(),
+			this.getOperationMethod(),
+			this.getArgs(),
+			this.getRedisKey(),
+			this.getValueType(),
+			this.keyType
+		};
+	}
 }
@@ -0,0 +1,369 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.redis.context.builder;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import com.langwuyue.orange.redis.OrangeRedisException;
+import com.langwuyue.orange.redis.annotation.KeyVariable;
+import com.langwuyue.orange.redis.context.OrangeRedisContext;
+import com.langwuyue.orange.redis.executor.OrangeRedisExecutor;
+import com.langwuyue.orange.redis.utils.OrangeReflectionUtils;
+
+/**
+ * <h3>Pre-compiled invocation plan of a client method.</h3>
+ * <p>
+ * The executor, the context constructor and every annotation-to-field binding of the method are resolved once,
+ * when the client proxy is created. Building a context at runtime then only invokes the constructor
+ * handle and runs the binder steps against the arguments, without reading annotations or looking up mappings.
+ * </p>
+ * <p>
+ * A plan is immutable, it is safe to be shared by all threads calling the client.
+ * </p>
+ *
+ * @author Liang.Zhong
+ * @since 1.0.0
+ */
+public class OrangeRedisInvocationPlan {
+
+	private final Method operationMethod;
+
+	private final Method actualMethod;
+
+	private final OrangeRedisExecutor executor;
+
+	private final Class<? extends OrangeRedisContext> contextClass;
+
+	private final MethodHandle contextFactory;
+
+	private final Binder[] binders;
+
+	private final AsyncType asyncType;
+
+	private final Class<?> returnType;
+
+	private final Type genericReturnType;
+
+	private OrangeRedisInvocationPlan(
+		Method operationMethod,
+		Method actualMethod,
+		OrangeRedisExecutor executor,
+		MethodHandle contextFactory,
+		Binder[] binders
+	) {
+		this.operationMethod = operationMethod;
+		this.actualMethod = actualMethod;
+		this.executor = executor;
+		this.contextClass = executor.getContextClass();
+		this.contextFactory = contextFactory;
+		this.binders = binders;
+		Type genericType = operationMethod.getGenericReturnType();
+		Class<?> rawType = operationMethod.getReturnType();
+		this.asyncType = AsyncType.of(rawType);
+		if(this.asyncType != null) {
+			genericType = genericType instanceof ParameterizedType ? ((ParameterizedType) genericType).getActualTypeArguments()[0] : Object.class;
+			if(this.asyncType == AsyncType.FLUX) {
+				// Elements of a flux are read as a list, or as an iterable over the pages of a scan
+				genericType = new ElementsType(executor.isLazy() ? Iterable.class : List.class, genericType);
+			}
+			rawType = genericType instanceof Class || genericType instanceof ParameterizedType ? OrangeReflectionUtils.getRawType(genericType) : Object.class;
+		}
+		this.returnType = rawType;
+		this.genericReturnType = genericType;
+	}
+
+	public static OrangeRedisInvocationPlan compile(
+		Method operationMethod,
+		Method actualMethod,
+		OrangeRedisExecutor executor,
+		Class<?>[] constructorParameterTypes,
+		OrangeOperationArgHandlerMapping operationArgHandlerMapping
+	) {
+		Class<? extends OrangeRedisContext> contextClass = executor.getContextClass();
+		return new OrangeRedisInvocationPlan(
+			operationMethod,
+			actualMethod,
+			executor,
+			compileContextFactory(contextClass,constructorParameterTypes),
+			compileBinders(actualMethod,contextClass,operationArgHandlerMapping)
+		);
+	}
+
+	private static MethodHandle compileContextFactory(
+		Class<? extends OrangeRedisContext> contextClass,
+		Class<?>[] constructorParameterTypes
+	) {
+		int len = constructorParameterTypes.length;
+		try {
+			Constructor<? extends OrangeRedisContext> constructor = contextClass.getConstructor(constructorParameterTypes);
+			return MethodHandles.publicLookup()
+					.unreflectConstructor(constructor)
+					.asType(MethodType.genericMethodType(len))
+					.asSpreader(Object[].class, len);
+		}catch (Exception e) {
+			throw new OrangeRedisException(
+				String.format(
+					"The context %s must have a public constructor with parameters %s",
+					contextClass,
+					Arrays.toString(constructorParameterTypes)
+				),
+				e
+			);
+		}
+	}
+
+	private static Binder[] compileBinders(
+		Method actualMethod,
+		Class<? extends OrangeRedisContext> contextClass,
+		OrangeOperationArgHandlerMapping operationArgHandlerMapping
+	) {
+		Map<Class<? extends Annotation>, List<Field>> annotationFieldMap = operationArgHandlerMapping.getContextFieldsMap().get(contextClass);
+		if(annotationFieldMap == null) {
+			return new Binder[0];
+		}
+		Map<Field, OrangeOperationArgHandler> valueHandlerMap = operationArgHandlerMapping.getFieldValueHandlerMap();
+		List<Binder> binders = new ArrayList<>();
+		for(Annotation annotation : actualMethod.getAnnotations()) {
+			List<Field> fields = annotationFieldMap.get(annotation.annotationType());
+			if(fields == null || fields.isEmpty()) {
+				continue;
+			}
+			for(Field field : fields) {
+				field.setAccessible(true);
+				binders.add(new MethodAnnotationBinder(valueHandlerMap.get(field),field,annotation));
+			}
+		}
+		Annotation[][] parametersAnnotations = actualMethod.getParameterAnnotations();
+		int len = parametersAnnotations.length;
+		for(int i = 0; i < len; i++) {
+			for(Annotation annotation : parametersAnnotations[i]) {
+				if(annotation.annotationType() == KeyVariable.class) {
+					continue;
+				}
+				List<Field> fields = annotationFieldMap.get(annotation.annotationType());
+				if(fields == null || fields.isEmpty()) {
+					continue;
+				}
+				for(Field field : fields) {
+					field.setAccessible(true);
+					binders.add(new ParameterBinder(valueHandlerMap.get(field),field,annotation,len,i));
+				}
+			}
+		}
+		return binders.toArray(new Binder[0]);
+	}
+
+	public OrangeRedisContext newContext(Object[] constructorArgs) throws Exception {
+		try {
+			return (OrangeRedisContext) (Object) this.contextFactory.invokeExact(constructorArgs);
+		}catch (Exception | Error e) {
+			throw e;
+		}catch (Throwable e) {
+			throw new OrangeRedisException(String.format("Create context %s error", this.contextClass), e);
+		}
+	}
+
+	public void bind(OrangeRedisContext context, Object[] args) {
+		if(this.asyncType != null) {
+			context.setReturnType(this.returnType, this.genericReturnType);
+		}
+		for(Binder binder : this.binders) {
+			binder.bind(context, args);
+		}
+	}
+
+	public Method getOperationMethod() {
+		return operationMethod;
+	}
+
+	public Method getActualMethod() {
+		return actualMethod;
+	}
+
+	public OrangeRedisExecutor getExecutor() {
+		return executor;
+	}
+
+	public Class<? extends OrangeRedisContext> getContextClass() {
+		return contextClass;
+	}
+
+	/**
+	 * Whether the operation method returns {@link CompletableFuture}, {@link CompletionStage}, {@code Mono} or {@code Flux}
+	 */
+	public boolean isAsync() {
+		return asyncType != null;
+	}
+
+	/**
+	 * @return {@code null} if the operation method is synchronous
+	 */
+	public AsyncType getAsyncType() {
+		return asyncType;
+	}
+
+	/**
+	 * The return type of the executor, the type argument of the future when the plan is {@link #isAsync()}
+	 */
+	public Class<?> getReturnType() {
+		return returnType;
+	}
+
+	public Type getGenericReturnType() {
+		return genericReturnType;
+	}
+
+	public enum AsyncType {
+
+		FUTURE,
+
+		MONO,
+
+		FLUX;
+
+		/**
+		 * Reactor classes are compared by name, so that Reactor is not required by synchronous clients.
+		 */
+		static AsyncType of(Class<?> returnType) {
+			if(returnType == CompletableFuture.class || returnType == CompletionStage.class) {
+				return FUTURE;
+			}
+			if("reactor.core.publisher.Mono".equals(returnType.getName())) {
+				return MONO;
+			}
+			if("reactor.core.publisher.Flux".equals(returnType.getName())) {
+				return FLUX;
+			}
+			return null;
+		}
+	}
+
+	private static class ElementsType implements ParameterizedType {
+
+		private final Class<?> rawType;
+
+		private final Type[] actualTypeArguments;
+
+		ElementsType(Class<?> rawType, Type elementType) {
+			this.rawType = rawType;
+			this.actualTypeArguments = new Type[] {elementType};
+		}
+
+		@Override
+		public Type[] getActualTypeArguments() {
+			return actualTypeArguments.clone();
+		}
+
+		@Override
+		public Type getRawType() {
+			return rawType;
+		}
+
+		@Override
+		public Type getOwnerType() {
+			return null;
+		}
+
+		@Override
+		public String toString() {
+			return rawType.getName() + "<" + actualTypeArguments[0].getTypeName() + ">";
+		}
+
+		@Override
+		public int hashCode() {
+			return Arrays.hashCode(actualTypeArguments) ^ rawType.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if(!(obj instanceof ParameterizedType)) {
+				return false;
+			}
+			ParameterizedType other = (ParameterizedType) obj;
+			return other.getRawType() == rawType 
+					&& other.getOwnerType() == null 
+					&& Arrays.equals(actualTypeArguments, other.getActualTypeArguments());
+		}
+	}
+
+	private interface Binder {
+
+		void bind(OrangeRedisContext context, Object[] args);
+	}
+
+	private static class MethodAnnotationBinder implements Binder {
+
+		private final OrangeOperationArgHandler handler;
+
+		private final Field field;
+
+		private final Annotation annotation;
+
+		MethodAnnotationBinder(OrangeOperationArgHandler handler, Field field, Annotation annotation) {
+			this.handler = handler;
+			this.field = field;
+			this.annotation = annotation;
+		}
+
+		@Override
+		public void bind(OrangeRedisContext context, Object[] args) {
+			this.handler.setContextValueByAnnotation(context, this.annotation, this.field);
+		}
+	}
+
+	private static class ParameterBinder implements Binder {
+
+		private final OrangeOperationArgHandler handler;
+
+		private final Field field;
+
+		private final Annotation annotation;
+
+		private final int parameterCount;
+
+		private final int parameterIndex;
+
+		ParameterBinder(OrangeOperationArgHandler handler, Field field, Annotation annotation, int parameterCount, int parameterIndex) {
+			this.handler = handler;
+			this.field = field;
+			this.annotation = annotation;
+			this.parameterCount = parameterCount;
+			this.parameterIndex = parameterIndex;
+		}
+
+		@Override
+		public void bind(OrangeRedisContext context, Object[] args) {
+			this.handler.bind(this.field, context, this.annotation, this.parameterCount, this.parameterIndex, args);
+		}
+	}
+}
@@ -18,8 +18,10 @@
  */
 package com.langwuyue.orange.redis.context.builder;
 
+import java.lang.reflect.Method;
 import java.util.List;
 
+import com.langwuyue.orange.redis.RedisValueTypeEnum;
 import com.langwuyue.orange.redis.context.OrangeRedisContext;
 import com.langwuyue.orange.redis.executor.script.context.OrangeScriptContext;
 
@@ -44,6 +46,28 @@ public class OrangeRedisScriptContextBuilder extends OrangeRedisContextBuilder {
 		);
 	}
 
+	@Override
+	public Class<?>[] getContextConstructorParameterTypes() {
+		return new Class<?>[] {
+			Class.class,
+			Method.class,
+			Object[].class,
+			List.class,
+			RedisValueTypeEnum.class
+		};
+	}
+	
+	@Override
+	protected Object[] getContextConstructorArgs() {
+		return new Object[] {
+			this.getOperationOwner(),
+			this.getOperationMethod(),
+			this.getArgs(),
+			this.keys,
+			this.getValueType()
+		};
+	}
+
 	public OrangeRedisScriptContextBuilder keys(List<String> keys) {
 		this.keys = keys;
 		return this;
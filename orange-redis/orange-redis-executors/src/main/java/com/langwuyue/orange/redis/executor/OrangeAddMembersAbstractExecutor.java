@@ -50,7 +50,7 @@ public abstract class OrangeAddMembersAbstractExecutor extends OrangeRedisAbstra
 	@Override
 	public Object execute(OrangeRedisContext context) throws Exception {
 		OrangeRedisIterableContext ctx = (OrangeRedisIterableContext)context;
-		Class returnClass = context.getOperationMethod().getReturnType();
+		Class returnClass = context.getReturnType();
 		if(!Map.class.isAssignableFrom(returnClass)) {
 			return doAdd(context);	
 		}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.redis.executor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.langwuyue.orange.redis.OrangeRedisIfAbsentException;
+import com.langwuyue.orange.redis.context.OrangeRedisIterableContext;
+
+/**
+ * <h3>Adds members if absent in chunks.</h3>
+ * <p>
+ * Each chunk is sent with one script call, the script returns a flag per member in order:
+ * {@code '1'} added, {@code '0'} already present. When the operation does not continue on failure,
+ * the script stops at the first present member and returns only the flags of the members it has tried.
+ * </p>
+ * <p>
+ * The results are the same as adding the members one by one:
+ * <ul>
+ * <li>Added members are successful.</li>
+ * <li>Present members are failed with {@link OrangeRedisIfAbsentException}.</li>
+ * <li>Members of a chunk whose call throws an exception are unknown and failed, because the script may have been completed.</li>
+ * <li>Members which are not tried after a failure are unknown.</li>
+ * </ul>
+ * </p>
+ *
+ * @author Liang.Zhong
+ * @since 1.0.0
+ */
+public class OrangeAddMembersIfAbsentBatch {
+
+	/**
+	 * Number of members sent with one script call, a bounded script does not block the server for long.
+	 */
+	public static final int BATCH_SIZE = 500;
+
+	private final Set<Object> successEntries = new LinkedHashSet<>();
+
+	private final List<Object> successMembers = new ArrayList<>();
+
+	private final Map<Object,Exception> failedEntries = new LinkedHashMap<>();
+
+	private final Set<Object> unknownEntries = new LinkedHashSet<>();
+
+	public void execute(OrangeRedisIterableContext ctx, Chunk chunk) {
+		List<Object> members = new ArrayList<>();
+		List<Object> entries = new ArrayList<>();
+		ctx.forEach((t,o) -> {
+			members.add(t);
+			entries.add(o);
+		});
+		boolean continueOnFailure = ctx.continueOnFailure();
+		int size = members.size();
+		for(int from = 0; from < size; from += BATCH_SIZE) {
+			if(!continueOnFailure && !failedEntries.isEmpty()) {
+				unknownEntries.addAll(entries.subList(from, size));
+				return;
+			}
+			int to = Math.min(size, from + BATCH_SIZE);
+			String flags;
+			try {
+				flags = chunk.execute(members.subList(from, to), continueOnFailure);
+			}catch (Exception e) {
+				// The script may have been interrupted by a client timeout or network error, but it was actually completed successfully.
+				for(int i = from; i < to; i++) {
+					Object entry = entries.get(i);
+					unknownEntries.add(entry);
+					if(continueOnFailure || i == from) {
+						failedEntries.put(entry, e);
+					}
+				}
+				continue;
+			}
+			for(int i = from; i < to; i++) {
+				Object entry = entries.get(i);
+				int index = i - from;
+				if(flags == null || index >= flags.length()) {
+					unknownEntries.add(entry);
+					continue;
+				}
+				if(flags.charAt(index) == '1') {
+					successEntries.add(entry);
+					successMembers.add(members.get(i));
+				}else{
+					failedEntries.put(entry, new OrangeRedisIfAbsentException("False returned"));
+				}
+			}
+		}
+	}
+
+	public boolean isEmpty() {
+		return successEntries.isEmpty() && unknownEntries.isEmpty() && failedEntries.isEmpty();
+	}
+
+	public Set<Object> getSuccessEntries() {
+		return successEntries;
+	}
+
+	public List<Object> getSuccessMembers() {
+		return successMembers;
+	}
+
+	public Map<Object, Exception> getFailedEntries() {
+		return failedEntries;
+	}
+
+	public Set<Object> getUnknownEntries() {
+		return unknownEntries;
+	}
+
+	@FunctionalInterface
+	public interface Chunk {
+
+		/**
+		 * @return flags of the members in order, {@code '1'} added and {@code '0'} present
+		 */
+		String execute(List<Object> members, boolean continueOnFailure) throws Exception;
+	}
+}
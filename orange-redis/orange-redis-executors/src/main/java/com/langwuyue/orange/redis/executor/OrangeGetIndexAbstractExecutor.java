@@ -50,7 +50,7 @@ public abstract class OrangeGetIndexAbstractExecutor extends OrangeRedisAbstract
 
 	@Override
 	public Object execute(OrangeRedisContext context) throws Exception {
-		Class returnClass = context.getOperationMethod().getReturnType();
+		Class returnClass = context.getReturnType();
 		boolean returnMap = Map.class.isAssignableFrom(returnClass);
 		if(returnMap) {
 			Map<Object,Long> resultMap = new LinkedHashMap<>();
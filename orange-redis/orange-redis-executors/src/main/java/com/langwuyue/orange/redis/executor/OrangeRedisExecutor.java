@@ -34,4 +34,12 @@ public interface OrangeRedisExecutor {
 		return OrangeRedisContext.class;
 	}
 	
+	/**
+	 * Whether the results are read from Redis while they are iterated, 
+	 * the elements of a {@code Flux} are then read as an {@link Iterable} instead of a {@link java.util.List}.
+	 */
+	default boolean isLazy() {
+		return false;
+	}
+	
 }
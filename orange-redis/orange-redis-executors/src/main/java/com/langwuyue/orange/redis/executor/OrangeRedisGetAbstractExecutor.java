@@ -50,7 +50,7 @@ public abstract class OrangeRedisGetAbstractExecutor extends OrangeRedisAbstract
 
 	protected Object toReturnValue(OrangeRedisContext context, Collection result, Type returnArgumentType, Field field) throws Exception {
 		boolean fieldValue = field != null;
-		Class<?> returnClass = context.getOperationMethod().getReturnType();
+		Class<?> returnClass = context.getReturnType();
 		if (result == null 
 				|| (
 					!fieldValue && returnClass.isAssignableFrom(result.getClass())
@@ -108,6 +108,6 @@ public abstract class OrangeRedisGetAbstractExecutor extends OrangeRedisAbstract
 	}
 	
 	protected Type getReturnArgumentType(OrangeRedisContext context){
-		return OrangeReflectionUtils.getCollectionOrArrayArgumentType(context.getOperationMethod().getGenericReturnType());
+		return OrangeReflectionUtils.getCollectionOrArrayArgumentType(context.getGenericReturnType());
 	}
 }
@@ -41,7 +41,7 @@ public abstract class OrangeRedisGetOneAbstractExecutor extends OrangeRedisGetAb
 		if(result == null) {
 			return result;
 		}
-		Class<?> returnClass = context.getOperationMethod().getReturnType();
+		Class<?> returnClass = context.getReturnType();
 		if(Collection.class.isAssignableFrom(returnClass) || returnClass.isArray()) {
 			return result;	
 		}
@@ -53,12 +53,12 @@ public abstract class OrangeRedisGetOneAbstractExecutor extends OrangeRedisGetAb
 	
 	@Override
 	protected Type getReturnArgumentType(OrangeRedisContext context) {
-		Class<?> returnClass = context.getOperationMethod().getReturnType();
+		Class<?> returnClass = context.getReturnType();
 		if(Collection.class.isAssignableFrom(returnClass) || returnClass.isArray()) {
 			return super.getReturnArgumentType(context);	
 		}
 		else{
-			return context.getOperationMethod().getGenericReturnType();
+			return context.getGenericReturnType();
 		}
 	}
 
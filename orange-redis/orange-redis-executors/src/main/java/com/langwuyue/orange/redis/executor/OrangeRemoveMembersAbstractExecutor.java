@@ -50,7 +50,7 @@ public abstract class OrangeRemoveMembersAbstractExecutor extends OrangeRedisAbs
 	@Override
 	public Object execute(OrangeRedisContext context) throws Exception {
 		OrangeRedisIterableContext ctx = (OrangeRedisIterableContext)context;
-		Class<?> returnClass = context.getOperationMethod().getReturnType();
+		Class<?> returnClass = context.getReturnType();
 		boolean continueOnFailure = ctx.continueOnFailure();
 		if(!Map.class.isAssignableFrom(returnClass)) {
 			Long result = doRemove(context);
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.redis.executor;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.langwuyue.orange.redis.OrangeRedisException;
+
+/**
+ * <h3>Lazy iteration over all pages of a {@code SSCAN}, {@code HSCAN} or {@code ZSCAN}.</h3>
+ * <p>
+ * The next page is read only when the elements of the current page are consumed, 
+ * so only one page is held in memory whatever the size of the key is.
+ * The iteration is completed once the server replies the cursor {@code 0}.
+ * </p>
+ * <p>
+ * As guaranteed by Redis, an element which is present during the whole iteration is returned at least once, 
+ * an element may be returned more than once if the key is rehashed during the iteration.
+ * </p>
+ *
+ * @author Liang.Zhong
+ * @since 1.0.0
+ */
+public class OrangeScanIterator<T> implements Iterator<T> {
+	
+	private final PageReader<T> reader;
+	
+	private Iterator<T> elements = Collections.emptyIterator();
+	
+	private long cursor;
+	
+	private boolean completed;
+	
+	public OrangeScanIterator(PageReader<T> reader) {
+		this.reader = reader;
+	}
+
+	@Override
+	public boolean hasNext() {
+		while(!this.elements.hasNext()) {
+			if(this.completed) {
+				return false;
+			}
+			Page<T> page;
+			try {
+				page = this.reader.read(this.cursor);
+			}catch (RuntimeException e) {
+				throw e;
+			}catch (Exception e) {
+				throw new OrangeRedisException(String.format("Scan error at cursor %s", this.cursor), e);
+			}
+			this.cursor = page.cursor;
+			this.completed = page.cursor == 0;
+			this.elements = page.elements == null ? Collections.emptyIterator() : page.elements.iterator();
+		}
+		return true;
+	}
+
+	@Override
+	public T next() {
+		if(!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		return this.elements.next();
+	}
+	
+	/**
+	 * Adapt a new iteration to the return type of the operation method.
+	 * 
+	 * @param returnClass {@link Iterator}, {@link Stream} or {@link Iterable}, every iteration of an {@link Iterable} starts a new scan
+	 */
+	public static <T> Object toReturnValue(Class<?> returnClass, PageReader<T> reader) {
+		if(returnClass == Iterator.class) {
+			return new OrangeScanIterator<>(reader);
+		}
+		if(returnClass == Stream.class) {
+			return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new OrangeScanIterator<>(reader), Spliterator.ORDERED), false);
+		}
+		if(returnClass == Iterable.class) {
+			return (Iterable<T>) () -> new OrangeScanIterator<>(reader);
+		}
+		throw new OrangeRedisException(String.format("The return type must be %s, %s or %s", Iterator.class, Stream.class, Iterable.class));
+	}
+	
+	/**
+	 * @return the type argument of the {@link Iterator}, {@link Stream} or {@link Iterable} returned by the operation method
+	 */
+	public static Type getElementType(Type genericReturnType) {
+		if(!(genericReturnType instanceof ParameterizedType)) {
+			throw new OrangeRedisException("Expected a ParameterizedType, found raw type.");
+		}
+		return ((ParameterizedType) genericReturnType).getActualTypeArguments()[0];
+	}
+	
+	/**
+	 * @return the key type and the value type of the {@link Map.Entry} elements returned by the operation method
+	 */
+	public static Type[] getEntryTypes(Type genericReturnType) {
+		Type elementType = getElementType(genericReturnType);
+		if(!(elementType instanceof ParameterizedType) || ((ParameterizedType) elementType).getRawType() != Map.Entry.class) {
+			throw new OrangeRedisException(String.format("The elements must be %s with actual type arguments.", Map.Entry.class));
+		}
+		return ((ParameterizedType) elementType).getActualTypeArguments();
+	}
+	
+	@FunctionalInterface
+	public interface PageReader<T> {
+		
+		/**
+		 * @param cursor {@code 0} for the first page, then the cursor of the previous page
+		 */
+		Page<T> read(long cursor) throws Exception;
+	}
+	
+	public static class Page<T> {
+		
+		private final Collection<T> elements;
+		
+		private final long cursor;
+
+		public Page(Collection<T> elements, long cursor) {
+			this.elements = elements;
+			this.cursor = cursor;
+		}
+	}
+}
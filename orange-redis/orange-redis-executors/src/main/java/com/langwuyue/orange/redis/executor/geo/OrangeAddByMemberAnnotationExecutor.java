@@ -47,7 +47,7 @@ public class OrangeAddByMemberAnnotationExecutor extends OrangeRedisAbstractExec
 	public Object execute(OrangeRedisContext context) throws Exception {
 		OrangeAddMemberContext ctx = (OrangeAddMemberContext) context;
 		Long result = this.operations.add(context.getRedisKey().getValue(), OrangeCollectionUtils.asList(ctx.getMember()), ctx.getValueType());
-		Class<?> returnClass = context.getOperationMethod().getReturnType();
+		Class<?> returnClass = context.getReturnType();
 		if(returnClass == Boolean.class || returnClass == boolean.class) {
 			return result != null && result > 0;	
 		}
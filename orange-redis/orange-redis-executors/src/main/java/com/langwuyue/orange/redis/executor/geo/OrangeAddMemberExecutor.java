@@ -49,7 +49,7 @@ public class OrangeAddMemberExecutor extends OrangeRedisAbstractExecutor {
 	public Object execute(OrangeRedisContext context) throws Exception {
 		OrangeValuePointContext ctx = (OrangeValuePointContext) context;
 		Long result = this.operations.add(context.getRedisKey().getValue(), OrangeCollectionUtils.asList(ctx.getMember()), ctx.getValueType());
-		Class<?> returnClass = context.getOperationMethod().getReturnType();
+		Class<?> returnClass = context.getReturnType();
 		if(returnClass == Boolean.class || returnClass == boolean.class) {
 			return result != null && result > 0;	
 		}
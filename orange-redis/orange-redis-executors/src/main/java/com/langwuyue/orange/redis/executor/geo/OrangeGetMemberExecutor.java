@@ -52,7 +52,7 @@ public class OrangeGetMemberExecutor extends OrangeGetMembersExecutor {
 		OrangeRedisContext ctx, 
 		List<GeoEntry> entries
 	) throws Exception {
-		Class<?> returnClass = ctx.getOperationMethod().getReturnType();
+		Class<?> returnClass = ctx.getReturnType();
 		if(Collection.class.isAssignableFrom(returnClass) 
 				|| returnClass.isArray() 
 				|| Map.class.isAssignableFrom(returnClass)) {
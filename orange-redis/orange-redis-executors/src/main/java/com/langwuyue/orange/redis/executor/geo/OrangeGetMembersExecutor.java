@@ -68,7 +68,7 @@ public class OrangeGetMembersExecutor extends OrangeRedisAbstractExecutor {
 		OrangeRedisContext ctx, 
 		List<GeoEntry> entries
 	) throws Exception {
-		Class<?> returnClass = ctx.getOperationMethod().getReturnType();
+		Class<?> returnClass = ctx.getReturnType();
 		if(Collection.class.isAssignableFrom(returnClass) || returnClass.isArray()) {
 			return toCollectionOrArray(ctx,entries);
 		}else if(Map.class.isAssignableFrom(returnClass)) {
@@ -96,7 +96,7 @@ public class OrangeGetMembersExecutor extends OrangeRedisAbstractExecutor {
 		OrangeRedisContext ctx, 
 		List<GeoEntry> entries
 	) throws Exception {
-		Type[] types = OrangeReflectionUtils.getMapActaulTypeArguments(ctx.getOperationMethod().getGenericReturnType());
+		Type[] types = OrangeReflectionUtils.getMapActaulTypeArguments(ctx.getGenericReturnType());
 		Class argumentClass = OrangeReflectionUtils.getRawType(types[1]);
 		Class keyClass = OrangeReflectionUtils.getRawType(types[0]);
 		Field[] fields = argumentClass.getDeclaredFields();
@@ -134,7 +134,7 @@ public class OrangeGetMembersExecutor extends OrangeRedisAbstractExecutor {
 			}
 		}
 		
-		Class<?> returnClass = ctx.getOperationMethod().getReturnType();
+		Class<?> returnClass = ctx.getReturnType();
 		Map map = OrangeReflectionUtils.newMap(returnClass);
 		for(GeoEntry entry : entries) {
 			Object obj = argumentClass.getConstructor().newInstance();
@@ -158,7 +158,7 @@ public class OrangeGetMembersExecutor extends OrangeRedisAbstractExecutor {
 		OrangeRedisContext ctx, 
 		List<GeoEntry> entries
 	) throws Exception {
-		Type returnArgumentType = OrangeReflectionUtils.getCollectionOrArrayArgumentType(ctx.getOperationMethod().getGenericReturnType());
+		Type returnArgumentType = OrangeReflectionUtils.getCollectionOrArrayArgumentType(ctx.getGenericReturnType());
 		Class<?> argumentClass = getRawType(returnArgumentType);
 		Field[] fields = argumentClass.getDeclaredFields();
 		Field latitudeField = null;
@@ -185,7 +185,7 @@ public class OrangeGetMembersExecutor extends OrangeRedisAbstractExecutor {
 					)
 			);
 		}
-		Class<?> returnClass = ctx.getOperationMethod().getReturnType();
+		Class<?> returnClass = ctx.getReturnType();
 		Object instance = getArrayOrCollectionInstance(returnClass, entries.size());
 		if(instance instanceof Collection) {
 			Collection collection = (Collection) instance;
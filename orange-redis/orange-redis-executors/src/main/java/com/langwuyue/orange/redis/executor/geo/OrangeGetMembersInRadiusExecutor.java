@@ -57,11 +57,11 @@ public class OrangeGetMembersInRadiusExecutor extends OrangeRedisAbstractExecuto
 
 	@Override
 	public Object execute(OrangeRedisContext context) throws Exception {
-		Class returnClass = context.getOperationMethod().getReturnType();
+		Class returnClass = context.getReturnType();
 		Field valueField = null;
 		Field latitudeField = null;
 		Field longitudeField = null;
-		Type returnType = context.getOperationMethod().getGenericReturnType();
+		Type returnType = context.getGenericReturnType();
 		if(Map.class.isAssignableFrom(returnClass)) {
 			Type keyType = OrangeReflectionUtils.getMapKeyType(returnType);
 			Class keyClass = OrangeReflectionUtils.getRawType(keyType);
@@ -52,7 +52,7 @@ public class OrangeAddByMemberAnnotationExecutor extends OrangeRedisAbstractExec
 		Map map = ctx.getMember();
 		Entry entry = (Entry) map.entrySet().iterator().next();
 		this.operations.putMember(context.getRedisKey().getValue(), entry.getKey(), entry.getValue(), ctx.getKeyType(), ctx.getValueType());
-		Class<?> returnClass = context.getOperationMethod().getReturnType();
+		Class<?> returnClass = context.getReturnType();
 		if(returnClass == Boolean.class || returnClass == boolean.class) {
 			return Boolean.TRUE;	
 		}
@@ -49,7 +49,7 @@ public class OrangeAddMemberExecutor extends OrangeRedisAbstractExecutor {
 	public Object execute(OrangeRedisContext context) throws Exception {
 		OrangeHashKeyValueContext ctx = (OrangeHashKeyValueContext) context;
 		this.operations.putMember(context.getRedisKey().getValue(), ctx.getHashKey(), ctx.getValue(), ctx.getKeyType(), ctx.getValueType());
-		Class<?> returnClass = context.getOperationMethod().getReturnType();
+		Class<?> returnClass = context.getReturnType();
 		if(returnClass == Boolean.class || returnClass == boolean.class) {
 			return Boolean.TRUE;	
 		}
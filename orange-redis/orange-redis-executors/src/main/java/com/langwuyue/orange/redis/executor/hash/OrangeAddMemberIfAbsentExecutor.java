@@ -89,7 +89,7 @@ public class OrangeAddMemberIfAbsentExecutor extends OrangeRedisAbstractExecutor
 		
 		notifyListeners(context,success,member);
 		
-		Class<?> returnClass = context.getOperationMethod().getReturnType();
+		Class<?> returnClass = context.getReturnType();
 		if(returnClass == Boolean.class || returnClass == boolean.class) {
 			return success == null ? Boolean.FALSE : success;	
 		}
@@ -20,7 +20,6 @@ package com.langwuyue.orange.redis.executor.hash;
 
 import java.lang.annotation.Annotation;
 import java.util.Collection;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -28,18 +27,23 @@ import java.util.Map.Entry;
 import java.util.Set;
 
 import com.langwuyue.orange.redis.OrangeRedisIfAbsentException;
+import com.langwuyue.orange.redis.RedisValueTypeEnum;
 import com.langwuyue.orange.redis.annotation.AddMembers;
 import com.langwuyue.orange.redis.annotation.ContinueOnFailure;
 import com.langwuyue.orange.redis.annotation.IfAbsent;
 import com.langwuyue.orange.redis.annotation.Multiple;
 import com.langwuyue.orange.redis.context.OrangeRedisContext;
+import com.langwuyue.orange.redis.executor.OrangeAddMembersIfAbsentBatch;
 import com.langwuyue.orange.redis.executor.OrangeRedisAbstractExecutor;
 import com.langwuyue.orange.redis.executor.hash.context.OrangeAddMembersIfAbsentContext;
 import com.langwuyue.orange.redis.listener.OrangeRedisMultipleSetIfAbsentListener;
+import com.langwuyue.orange.redis.executor.script.ScriptConstants;
 import com.langwuyue.orange.redis.listener.hash.OrangRemoveMembersFailedEvent;
 import com.langwuyue.orange.redis.listener.hash.OrangeAddMembersIfAbsentEvent;
+import com.langwuyue.orange.redis.logger.OrangeRedisLogger;
 import com.langwuyue.orange.redis.mapping.OrangeRedisExecutorIdGenerator;
 import com.langwuyue.orange.redis.operations.OrangeRedisHashOperations;
+import com.langwuyue.orange.redis.operations.OrangeRedisScriptOperations;
 import com.langwuyue.orange.redis.utils.OrangeCollectionUtils;
 
 /**
@@ -48,62 +52,85 @@ import com.langwuyue.orange.redis.utils.OrangeCollectionUtils;
  */
 public class OrangeAddMembersIfAbsentExecutor extends OrangeRedisAbstractExecutor {
 	
+	/**
+	 * Script for production
+	 */
+	private static final String LUA_SCRIPT = String.join("\n",
+	    "local key = KEYS[1];",
+	    "local continueOnFailure = ARGV[1] == '1';",
+	    "local flags = {};",
+	    "for i = 3, #ARGV, 2 do",
+	    "    local added = redis.call('HSETNX', key, ARGV[i], ARGV[i + 1]);",
+	    "    flags[#flags + 1] = tostring(added);",
+	    "    if added == 0 and not continueOnFailure then",
+	    "        break;",
+	    "    end;",
+	    "end;",
+	    "return table.concat(flags);"
+	);
+	
+	/**
+	 * Script for debug
+	 */
+	private static final String LUA_SCRIPT_DEBUG = String.join("\n",
+		"local traceId = tostring(ARGV[2]);",
+		"redis.log(redis.LOG_NOTICE, string.format('traceId: %s, HASH OrangeAddMembersIfAbsentExecutor executing', traceId));",
+	    "local key = KEYS[1];",
+	    "redis.log(redis.LOG_NOTICE, string.format('traceId: %s, key: %s', traceId, tostring(key)));",
+	    "local continueOnFailure = ARGV[1] == '1';",
+	    "redis.log(redis.LOG_NOTICE, string.format('traceId: %s, continueOnFailure: %s', traceId, tostring(continueOnFailure)));",
+	    "local flags = {};",
+	    "for i = 3, #ARGV, 2 do",
+	    "    local added = redis.call('HSETNX', key, ARGV[i], ARGV[i + 1]);",
+	    "    redis.log(redis.LOG_NOTICE, string.format('traceId: %s, hashKey: %s, added: %s', traceId, tostring(ARGV[i]), tostring(added)));",
+	    "    flags[#flags + 1] = tostring(added);",
+	    "    if added == 0 and not continueOnFailure then",
+	    "        break;",
+	    "    end;",
+	    "end;",
+	    "return table.concat(flags);"
+	);
+	
 	private OrangeRedisHashOperations operations;
 	
+	private OrangeRedisScriptOperations scriptOperations;
+	
 	private Collection<OrangeRedisMultipleSetIfAbsentListener> listeners;
+	
+	private OrangeRedisLogger logger;
 
 	public OrangeAddMembersIfAbsentExecutor(
+		OrangeRedisScriptOperations scriptOperations,
 		OrangeRedisHashOperations operations,
 		OrangeRedisExecutorIdGenerator idGenerator,
-		Collection<OrangeRedisMultipleSetIfAbsentListener> listeners
+		Collection<OrangeRedisMultipleSetIfAbsentListener> listeners,
+		OrangeRedisLogger logger
 	) {
 		super(idGenerator);
+		this.scriptOperations = scriptOperations;
+		this.scriptOperations.register(LUA_SCRIPT, LUA_SCRIPT_DEBUG);
 		this.operations = operations;
 		this.listeners = listeners;
+		this.logger = logger;
 	}
 
 	@Override
 	public Object execute(OrangeRedisContext context) throws Exception {
 		OrangeAddMembersIfAbsentContext ctx = (OrangeAddMembersIfAbsentContext) context;
-		Set<Object> successEntries = new LinkedHashSet<>();
-		Map<Object,Exception> failedEntries = new LinkedHashMap<>();
-		Set<Object> unknownEnties = new LinkedHashSet<>();
-		Set<Object> successHashKeys = new LinkedHashSet<>();
-		boolean continueOnFailure = ctx.continueOnFailure();
-		ctx.forEach((t,o) -> {
-			Map map = (Map) t; 
-			Entry entry = (Entry) map.entrySet().iterator().next();
-			if(!continueOnFailure && !failedEntries.isEmpty()) {
-				unknownEnties.add(o);
-				return;
-			}
-			
-			try {
-				Boolean success = this.operations.putIfAbsent(
-						ctx.getRedisKey().getValue(), 
-						entry.getKey(), 
-						entry.getValue(), 
-						ctx.getKeyType(), 
-						ctx.getValueType()
-				);
-				if(success != null && success.booleanValue()) {
-					successEntries.add(o);
-					successHashKeys.add(entry.getKey());
-				}else{
-					throw new OrangeRedisIfAbsentException("False returned");
-				}
-			}catch (Exception e) {
-				// The operation may have been interrupted by a client timeout or network error, but it was actually completed successfully.
-				if(!(e instanceof OrangeRedisIfAbsentException)) {
-					unknownEnties.add(o);
-				}
-				failedEntries.put(o,e);
-			}
-		});
+		OrangeAddMembersIfAbsentBatch batch = new OrangeAddMembersIfAbsentBatch();
+		batch.execute(ctx, (members,continueOnFailure) -> executeIfAbsent(ctx, members, continueOnFailure));
 		
-		if(successEntries.isEmpty() && unknownEnties.isEmpty() && failedEntries.isEmpty()) {
+		if(batch.isEmpty()) {
 			return null;
 		}
+		
+		Set<Object> successEntries = batch.getSuccessEntries();
+		Map<Object,Exception> failedEntries = batch.getFailedEntries();
+		Set<Object> unknownEnties = batch.getUnknownEntries();
+		Set<Object> successHashKeys = new LinkedHashSet<>();
+		for(Object member : batch.getSuccessMembers()) {
+			successHashKeys.add(getEntry(member).getKey());
+		}
 		try {
 			this.listeners.forEach(t -> 
 				t.onCompleted(
@@ -123,6 +150,41 @@ public class OrangeAddMembersIfAbsentExecutor extends OrangeRedisAbstractExecuto
 		return null;
 	}
 	
+	private String executeIfAbsent(OrangeAddMembersIfAbsentContext ctx, List<Object> members, boolean continueOnFailure) throws Exception {
+		int size = members.size();
+		Object[] args = new Object[size * 2 + 2];
+		RedisValueTypeEnum[] argsValueTypes = new RedisValueTypeEnum[size * 2 + 2];
+		args[0] = continueOnFailure ? "1" : "0";
+		argsValueTypes[0] = RedisValueTypeEnum.STRING;
+		// Id for trace 
+		args[1] = this.logger.getTraceId() == null ? ScriptConstants.NIL : this.logger.getTraceId();
+		argsValueTypes[1] = RedisValueTypeEnum.STRING;
+		for(int i = 0; i < size; i++) {
+			Entry entry = getEntry(members.get(i));
+			args[i * 2 + 2] = entry.getKey();
+			argsValueTypes[i * 2 + 2] = ctx.getKeyType();
+			args[i * 2 + 3] = entry.getValue();
+			argsValueTypes[i * 2 + 3] = ctx.getValueType();
+		}
+		// Change script when debug is enabled.
+		String script = LUA_SCRIPT;
+		if(this.logger.isDebugEnabled()) {
+			script = LUA_SCRIPT_DEBUG;
+		}
+		return (String) this.scriptOperations.execute(
+			script, 
+			argsValueTypes, 
+			RedisValueTypeEnum.STRING, 
+			String.class, 
+			OrangeCollectionUtils.asList(ctx.getRedisKey().getValue()), 
+			args
+		);
+	}
+	
+	private Entry getEntry(Object member) {
+		return (Entry) ((Map) member).entrySet().iterator().next();
+	}
+	
 	private void removeMembers(
 		OrangeAddMembersIfAbsentContext ctx,
 		Set<Object> successEntries,
@@ -25,8 +25,10 @@ import com.langwuyue.orange.redis.annotation.global.SetExpiration;
 import com.langwuyue.orange.redis.context.OrangeRedisContext;
 import com.langwuyue.orange.redis.context.OrangeRedisContext.Key;
 import com.langwuyue.orange.redis.listener.OrangeRedisMultipleSetIfAbsentListener;
+import com.langwuyue.orange.redis.logger.OrangeRedisLogger;
 import com.langwuyue.orange.redis.mapping.OrangeRedisExecutorIdGenerator;
 import com.langwuyue.orange.redis.operations.OrangeRedisHashOperations;
+import com.langwuyue.orange.redis.operations.OrangeRedisScriptOperations;
 
 /**
  * @author Liang.Zhong
@@ -35,11 +37,13 @@ import com.langwuyue.orange.redis.operations.OrangeRedisHashOperations;
 public class OrangeAddMembersIfAbsentWithExpirationExecutor extends OrangeAddMembersIfAbsentExecutor {
 	
 	public OrangeAddMembersIfAbsentWithExpirationExecutor(
+		OrangeRedisScriptOperations scriptOperations,
 		OrangeRedisHashOperations operations,
 		OrangeRedisExecutorIdGenerator idGenerator,
-		List<OrangeRedisMultipleSetIfAbsentListener> listeners
+		List<OrangeRedisMultipleSetIfAbsentListener> listeners,
+		OrangeRedisLogger logger
 	) {
-		super(operations,idGenerator,listeners);
+		super(scriptOperations,operations,idGenerator,listeners,logger);
 	}
 	
 	@Override
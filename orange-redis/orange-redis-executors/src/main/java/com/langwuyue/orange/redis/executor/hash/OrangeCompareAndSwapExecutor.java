@@ -92,6 +92,46 @@ public class OrangeCompareAndSwapExecutor extends OrangeRedisAbstractExecutor {
 	    "    return '0';" ,
 	    "end;"
     );
+	/**
+	 * Script for production, compare and swap a member of each key, {@code ARGV} holds hashKey, expected and newValue of each key.
+	 */
+	private static final String BATCH_CAS_LUA_SCRIPT = String.join("\n",
+		"local flags = {};" ,
+		"for i = 1, #KEYS do" ,
+		"    local hashKey = ARGV[(i - 1) * 3 + 1];" ,
+		"    local expected = ARGV[(i - 1) * 3 + 2];" ,
+		"    local newValue = ARGV[(i - 1) * 3 + 3];" ,
+		"    local currentValue = redis.call('HGET', KEYS[i], hashKey);" ,
+		"    if currentValue ~= nil and currentValue == expected then" ,
+		"        redis.call('HSET', KEYS[i], hashKey, newValue);" ,
+		"        flags[i] = '1';" ,
+		"    else" ,
+		"        flags[i] = '0';" ,
+		"    end;" ,
+		"end;" ,
+		"return table.concat(flags);"
+	);
+	/**
+	 * Script for debug
+	 */
+	private static final String BATCH_CAS_LUA_SCRIPT_DEBUG = String.join("\n",
+		"redis.log(redis.LOG_NOTICE, string.format('hash OrangeCompareAndSwapExecutor batch executing, keys: %s', tostring(#KEYS)));",
+		"local flags = {};" ,
+		"for i = 1, #KEYS do" ,
+		"    local hashKey = ARGV[(i - 1) * 3 + 1];" ,
+		"    local expected = ARGV[(i - 1) * 3 + 2];" ,
+		"    local newValue = ARGV[(i - 1) * 3 + 3];" ,
+		"    local currentValue = redis.call('HGET', KEYS[i], hashKey);" ,
+		"    redis.log(redis.LOG_NOTICE, string.format('key: %s, hashKey: %s, expected: %s, currentValue: %s, newValue: %s', tostring(KEYS[i]), tostring(hashKey), tostring(expected), tostring(currentValue), tostring(newValue)));",
+		"    if currentValue ~= nil and currentValue == expected then" ,
+		"        redis.call('HSET', KEYS[i], hashKey, newValue);" ,
+		"        flags[i] = '1';" ,
+		"    else" ,
+		"        flags[i] = '0';" ,
+		"    end;" ,
+		"end;" ,
+		"return table.concat(flags);"
+	);
 	private OrangeRedisScriptOperations scriptOperations;
 	
 	private OrangeRedisLogger logger;
@@ -99,6 +139,7 @@ public class OrangeCompareAndSwapExecutor extends OrangeRedisAbstractExecutor {
 	public OrangeCompareAndSwapExecutor(OrangeRedisScriptOperations scriptOperations,OrangeRedisExecutorIdGenerator idGenerator,OrangeRedisLogger logger) {
 		super(idGenerator);
 		this.scriptOperations = scriptOperations;
+		this.scriptOperations.register(CAS_LUA_SCRIPT, CAS_LUA_SCRIPT_DEBUG, BATCH_CAS_LUA_SCRIPT, BATCH_CAS_LUA_SCRIPT_DEBUG);
 		this.logger = logger;
 	}
 
@@ -146,6 +187,23 @@ public class OrangeCompareAndSwapExecutor extends OrangeRedisAbstractExecutor {
 		return "1".equals(result);
 	}
 
+	/**
+	 * Compare and swap a member of each key with one script call per group of keys.
+	 * Members must be present, the expected and new values can not be {@code null}.
+	 * 
+	 * @param args hashKey, expected value and new value of each key in order
+	 * @param argsValueTypes value type of each argument
+	 * @return the result of each key in order, {@code null} if the call of the group of the key failed
+	 */
+	public Boolean[] doCAS(List<String> keys, Object[] args, RedisValueTypeEnum[] argsValueTypes) throws Exception {
+		// Change script when debug is enabled.
+		String script = BATCH_CAS_LUA_SCRIPT;
+		if(this.logger.isDebugEnabled()) {
+			script = BATCH_CAS_LUA_SCRIPT_DEBUG;
+		}
+		return this.scriptOperations.executeForEachKey(script, 3, argsValueTypes, keys, args);
+	}
+
 	@Override
 	protected List<Class<? extends Annotation>> getSupportedAnnotationClasses() {
 		return OrangeCollectionUtils.asList(RedisValue.class,CAS.class,RedisOldValue.class,HashKey.class);
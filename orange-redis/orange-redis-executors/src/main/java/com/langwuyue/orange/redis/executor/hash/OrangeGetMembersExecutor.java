@@ -65,9 +65,9 @@ public class OrangeGetMembersExecutor extends OrangeRedisAbstractExecutor {
 
 	@Override
 	public Object execute(OrangeRedisContext context) throws Exception {
-		Class returnClass = context.getOperationMethod().getReturnType();
+		Class returnClass = context.getReturnType();
 		if(Map.class.isAssignableFrom(returnClass)) {
-			Type[] types = OrangeReflectionUtils.getMapActaulTypeArguments(context.getOperationMethod().getGenericReturnType());
+			Type[] types = OrangeReflectionUtils.getMapActaulTypeArguments(context.getGenericReturnType());
 			Type keyType = types[0];
 			Type valueType = types[1];
 			return doGet(context,keyType,valueType);
@@ -147,6 +147,6 @@ public class OrangeGetMembersExecutor extends OrangeRedisAbstractExecutor {
 	}
 	
 	protected Type getReturnArgumentType(OrangeRedisContext context){
-		return OrangeReflectionUtils.getCollectionOrArrayArgumentType(context.getOperationMethod().getGenericReturnType());
+		return OrangeReflectionUtils.getCollectionOrArrayArgumentType(context.getGenericReturnType());
 	}
 }
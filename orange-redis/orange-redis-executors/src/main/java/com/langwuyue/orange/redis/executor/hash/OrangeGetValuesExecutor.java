@@ -72,9 +72,9 @@ public class OrangeGetValuesExecutor extends OrangeRedisGetAbstractExecutor {
 	
 	@Override
 	protected Type getReturnArgumentType(OrangeRedisContext context) {
-		Class<?> returnType = context.getOperationMethod().getReturnType();
+		Class<?> returnType = context.getReturnType();
 		if(Map.class.isAssignableFrom(returnType)) {
-			Type genericType = context.getOperationMethod().getGenericReturnType();
+			Type genericType = context.getGenericReturnType();
 			return OrangeReflectionUtils.getMapActaulTypeArguments(genericType)[1];
 		} else {
 			return super.getReturnArgumentType(context);	
@@ -88,7 +88,7 @@ public class OrangeGetValuesExecutor extends OrangeRedisGetAbstractExecutor {
 		Type returnArgumentType, 
 		Field field
 	)throws Exception {
-		Class<?> returnClass = context.getOperationMethod().getReturnType();
+		Class<?> returnClass = context.getReturnType();
 		if(Map.class.isAssignableFrom(returnClass)) {
 			OrangeHashKeysContext ctx = (OrangeHashKeysContext) context;
 			Map map = OrangeReflectionUtils.newMap(returnClass);
@@ -68,7 +68,7 @@ public class OrangeHasKeysExecutor extends OrangeRedisAbstractExecutor {
 	public Object execute(OrangeRedisContext context) throws Exception {
 		OrangeHashKeysContext ctx = (OrangeHashKeysContext) context;
 		List keys = ctx.getHashKeys();
-		Class returnClass = ctx.getOperationMethod().getReturnType();
+		Class returnClass = ctx.getReturnType();
 		if(Map.class.isAssignableFrom(returnClass)) {
 			Map map = OrangeReflectionUtils.newMap(returnClass);
 			doExecute(ctx,map::put);
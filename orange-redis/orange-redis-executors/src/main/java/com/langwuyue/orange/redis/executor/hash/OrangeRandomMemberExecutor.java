@@ -89,11 +89,11 @@ public class OrangeRandomMemberExecutor extends OrangeGetMembersExecutor {
 
 	@Override
 	protected Type getReturnArgumentType(OrangeRedisContext context) {
-		Class returnClass = context.getOperationMethod().getReturnType();
+		Class returnClass = context.getReturnType();
 		if(Collection.class.isAssignableFrom(returnClass) || returnClass.isArray()) {
 			return super.getReturnArgumentType(context);
 		}
-		return context.getOperationMethod().getGenericReturnType();
+		return context.getGenericReturnType();
 	}
 
 	@Override
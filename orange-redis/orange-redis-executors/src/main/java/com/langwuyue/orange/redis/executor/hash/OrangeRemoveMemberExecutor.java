@@ -61,7 +61,7 @@ public class OrangeRemoveMemberExecutor extends OrangeRedisAbstractExecutor {
 				ctx.getKeyType(), 
 				ctx.getHashKey()
 		);
-		Class<?> returnClass = context.getOperationMethod().getReturnType();
+		Class<?> returnClass = context.getReturnType();
 		if(returnClass == Boolean.class || returnClass == boolean.class) {
 			return result != null && result > 0;	
 		}
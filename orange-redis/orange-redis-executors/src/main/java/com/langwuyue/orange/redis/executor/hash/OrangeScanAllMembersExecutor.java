@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.redis.executor.hash;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+
+import com.langwuyue.orange.redis.RedisValueTypeEnum;
+import com.langwuyue.orange.redis.annotation.Count;
+import com.langwuyue.orange.redis.annotation.GetMembers;
+import com.langwuyue.orange.redis.annotation.ScanPattern;
+import com.langwuyue.orange.redis.context.OrangeRedisContext;
+import com.langwuyue.orange.redis.executor.OrangeRedisAbstractExecutor;
+import com.langwuyue.orange.redis.executor.OrangeScanIterator;
+import com.langwuyue.orange.redis.executor.OrangeScanIterator.Page;
+import com.langwuyue.orange.redis.executor.hash.context.OrangeScanHashContext;
+import com.langwuyue.orange.redis.mapping.OrangeRedisExecutorIdGenerator;
+import com.langwuyue.orange.redis.operations.OrangeRedisHashOperations;
+import com.langwuyue.orange.redis.operations.OrangeRedisHashOperations.ScanResults;
+import com.langwuyue.orange.redis.utils.OrangeCollectionUtils;
+
+/**
+ * Streams all members whose hash keys match the pattern as {@link Map.Entry}, {@code @Count} members are read with each {@code HSCAN}.
+ * 
+ * @author Liang.Zhong
+ * @since 1.0.0
+ * @see OrangeScanIterator
+ */
+public class OrangeScanAllMembersExecutor extends OrangeRedisAbstractExecutor {
+	
+	private OrangeRedisHashOperations operations;
+
+	public OrangeScanAllMembersExecutor(OrangeRedisHashOperations operations,OrangeRedisExecutorIdGenerator idGenerator) {
+		super(idGenerator);
+		this.operations = operations;
+	}
+
+	@Override
+	protected List<Class<? extends Annotation>> getSupportedAnnotationClasses() {
+		return OrangeCollectionUtils.asList(GetMembers.class,ScanPattern.class,Count.class);
+	}
+
+	@Override
+	public Class<? extends OrangeRedisContext> getContextClass() {
+		return OrangeScanHashContext.class;
+	}
+
+	@Override
+	public Object execute(OrangeRedisContext context) throws Exception {
+		OrangeScanHashContext ctx = (OrangeScanHashContext) context;
+		String key = context.getRedisKey().getValue();
+		String pattern = ctx.getPattern();
+		Integer count = ctx.getCount();
+		RedisValueTypeEnum hashKeyType = ctx.getKeyType();
+		RedisValueTypeEnum hashValueType = ctx.getValueType();
+		Type[] types = OrangeScanIterator.getEntryTypes(context.getGenericReturnType());
+		return OrangeScanIterator.toReturnValue(context.getReturnType(), cursor -> {
+			ScanResults scanResults = this.operations.scan(key, pattern, count, cursor, hashKeyType, hashValueType, types[0], types[1]);
+			return new Page<>(scanResults.getMembers().entrySet(), scanResults.getCursor());
+		});
+	}
+
+	@Override
+	public boolean isLazy() {
+		return true;
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.redis.executor.hash;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+
+import com.langwuyue.orange.redis.annotation.Count;
+import com.langwuyue.orange.redis.annotation.GetMembers;
+import com.langwuyue.orange.redis.annotation.ScanCursor;
+import com.langwuyue.orange.redis.annotation.ScanPattern;
+import com.langwuyue.orange.redis.context.OrangeRedisContext;
+import com.langwuyue.orange.redis.executor.OrangeRedisAbstractExecutor;
+import com.langwuyue.orange.redis.executor.hash.context.OrangeScanHashContext;
+import com.langwuyue.orange.redis.mapping.OrangeRedisExecutorIdGenerator;
+import com.langwuyue.orange.redis.operations.OrangeRedisHashOperations;
+import com.langwuyue.orange.redis.operations.OrangeRedisHashOperations.ScanResults;
+import com.langwuyue.orange.redis.utils.OrangeCollectionUtils;
+import com.langwuyue.orange.redis.utils.OrangeReflectionUtils;
+
+/**
+ * <h3>Reads one page of {@code HSCAN} from the cursor returned by the previous page.</h3>
+ * <p>
+ * The return value is a map holding the next cursor, {@code 0} once the iteration is completed, and the members of the page.
+ * </p>
+ * 
+ * @author Liang.Zhong
+ * @since 1.0.0
+ */
+public class OrangeScanMembersExecutor extends OrangeRedisAbstractExecutor {
+	
+	private OrangeRedisHashOperations operations;
+
+	public OrangeScanMembersExecutor(OrangeRedisHashOperations operations,OrangeRedisExecutorIdGenerator idGenerator) {
+		super(idGenerator);
+		this.operations = operations;
+	}
+
+	@Override
+	protected List<Class<? extends Annotation>> getSupportedAnnotationClasses() {
+		return OrangeCollectionUtils.asList(GetMembers.class,ScanPattern.class,Count.class,ScanCursor.class);
+	}
+
+	@Override
+	public Class<? extends OrangeRedisContext> getContextClass() {
+		return OrangeScanHashContext.class;
+	}
+
+	@Override
+	public Object execute(OrangeRedisContext context) throws Exception {
+		OrangeScanHashContext ctx = (OrangeScanHashContext) context;
+		Type pageType = OrangeReflectionUtils.getMapValueType(context.getGenericReturnType());
+		Type[] types = OrangeReflectionUtils.getMapActaulTypeArguments(pageType);
+		ScanResults scanResults = this.operations.scan(
+			context.getRedisKey().getValue(), 
+			ctx.getPattern(), 
+			ctx.getCount(), 
+			ctx.getCursor(), 
+			ctx.getKeyType(), 
+			ctx.getValueType(), 
+			types[0], 
+			types[1]
+		);
+		Map page = OrangeReflectionUtils.newMap(OrangeReflectionUtils.getRawType(pageType));
+		page.putAll(scanResults.getMembers());
+		Map<Long,Map> results = OrangeReflectionUtils.newMap(context.getReturnType());
+		results.put(scanResults.getCursor(), page);
+		return results;
+	}
+}
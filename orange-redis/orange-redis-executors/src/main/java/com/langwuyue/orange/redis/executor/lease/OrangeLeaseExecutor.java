@@ -0,0 +1,356 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.redis.executor.lease;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import com.langwuyue.orange.redis.OrangeRedisIfAbsentException;
+import com.langwuyue.orange.redis.RedisValueTypeEnum;
+import com.langwuyue.orange.redis.annotation.AutoRenew;
+import com.langwuyue.orange.redis.context.OrangeRedisContext;
+import com.langwuyue.orange.redis.context.OrangeRedisContext.Key;
+import com.langwuyue.orange.redis.executor.OrangeRedisAbstractExecutor;
+import com.langwuyue.orange.redis.executor.lease.context.OrangeLeaseContext;
+import com.langwuyue.orange.redis.executor.multiplelocks.OrangeExpirationTimeAutoInitializer;
+import com.langwuyue.orange.redis.listener.OrangeRedisSetIfAbsentListener;
+import com.langwuyue.orange.redis.logger.OrangeRedisLogger;
+import com.langwuyue.orange.redis.mapping.OrangeRedisExecutorIdGenerator;
+import com.langwuyue.orange.redis.operations.OrangeRedisScriptOperations;
+import com.langwuyue.orange.redis.timer.OrangeLeaseRenewTask;
+import com.langwuyue.orange.redis.timer.OrangeRenewTimerWheel;
+import com.langwuyue.orange.redis.utils.OrangeCollectionUtils;
+import com.langwuyue.orange.redis.utils.OrangeReflectionUtils;
+
+/**
+ * <h3>Executor of the locks held by several holders at the same time, the read-write locks and the semaphores.</h3>
+ * <p>
+ * The holders are the fields of the hash of the key, the value of a field is the deadline of the lease of its holder, 
+ * in milliseconds of the Redis server clock. Expired leases are dropped before a lease is acquired, 
+ * so a holder which is gone blocks the others no longer than the expiration time of the key.
+ * The key itself lives as long as its longest lease.
+ * </p>
+ * <p>
+ * [Acquire] -> [Notify listeners]  (listeners process business logic, the lease is renewed meanwhile)-> [Release]
+ * </p>
+ *
+ * @author Liang.Zhong
+ * @since 1.0.0
+ */
+public abstract class OrangeLeaseExecutor extends OrangeRedisAbstractExecutor {
+	
+	/**
+	 * Field of the hash holding the mode of a read-write lock, it is not a holder.
+	 */
+	protected static final String MODE_FIELD = "mode";
+	
+	/**
+	 * The scripts write after reading {@code TIME}, which is non-deterministic. 
+	 * Before Redis 5 this is rejected unless the effects of the script are replicated instead of the script itself.
+	 */
+	private static final String REPLICATE_COMMANDS_LUA_SCRIPT = "redis.replicate_commands();";
+	
+	/**
+	 * Head of the acquire scripts, {@code now} is the time of the server and {@code holders} the number of unexpired leases.
+	 */
+	protected static final String PRUNE_LUA_SCRIPT = String.join("\n",
+		REPLICATE_COMMANDS_LUA_SCRIPT,
+		"local time = redis.call('TIME');" ,
+		"local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000);" ,
+		"local fields = redis.call('HGETALL', KEYS[1]);" ,
+		"local holders = 0;" ,
+		"for i = 1, #fields, 2 do" ,
+		"    if fields[i] ~= '" + MODE_FIELD + "' then" ,
+		"        if tonumber(fields[i + 1]) <= now then" ,
+		"            redis.call('HDEL', KEYS[1], fields[i]);" ,
+		"        else" ,
+		"            holders = holders + 1;" ,
+		"        end;" ,
+		"    end;" ,
+		"end;" ,
+		"if holders == 0 then" ,
+		"    redis.call('DEL', KEYS[1]);" ,
+		"end;"
+	);
+	
+	/**
+	 * Extend the lease of the holder in {@code ARGV[1]} by {@code ARGV[2]} milliseconds, the key lives at least as long as the lease.
+	 */
+	protected static final String HOLD_LUA_SCRIPT = String.join("\n",
+		"redis.call('HSET', KEYS[1], ARGV[1], tostring(now + tonumber(ARGV[2])));" ,
+		"if redis.call('PTTL', KEYS[1]) < tonumber(ARGV[2]) then" ,
+		"    redis.call('PEXPIRE', KEYS[1], ARGV[2]);" ,
+		"end;" ,
+		"return '1';"
+	);
+	
+	/**
+	 * Extend each unexpired lease, {@code ARGV} holds the owner and the expiration time in milliseconds of each key.
+	 */
+	private static final String RENEW_LEASES_LUA_SCRIPT = String.join("\n",
+		"local time = redis.call('TIME');" ,
+		"local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000);" ,
+		"local flags = {};" ,
+		"for i = 1, #KEYS do" ,
+		"    local deadline = redis.call('HGET', KEYS[i], ARGV[i * 2 - 1]);" ,
+		"    local expiration = tonumber(ARGV[i * 2]);" ,
+		"    if deadline and tonumber(deadline) > now then" ,
+		"        redis.call('HSET', KEYS[i], ARGV[i * 2 - 1], tostring(now + expiration));" ,
+		"        if redis.call('PTTL', KEYS[i]) < expiration then" ,
+		"            redis.call('PEXPIRE', KEYS[i], expiration);" ,
+		"        end;" ,
+		"        flags[i] = '1';" ,
+		"    else" ,
+		"        flags[i] = '0';" ,
+		"    end;" ,
+		"end;" ,
+		"return table.concat(flags);"
+	);
+	/**
+	 * Script for production
+	 */
+	private static final String RENEW_LUA_SCRIPT = String.join("\n",
+		REPLICATE_COMMANDS_LUA_SCRIPT,
+		RENEW_LEASES_LUA_SCRIPT
+	);
+	/**
+	 * Script for debug
+	 */
+	private static final String RENEW_LUA_SCRIPT_DEBUG = String.join("\n",
+		REPLICATE_COMMANDS_LUA_SCRIPT,
+		"redis.log(redis.LOG_NOTICE, string.format('OrangeLeaseExecutor renewing, keys: %s, args: %s', table.concat(KEYS, ','), table.concat(ARGV, ',')));",
+		RENEW_LEASES_LUA_SCRIPT
+	);
+	
+	/**
+	 * Script for production, drop the lease of the owner in {@code ARGV[1]}, and the key once no holder is left.
+	 */
+	private static final String RELEASE_LUA_SCRIPT = String.join("\n",
+		"if redis.call('HDEL', KEYS[1], ARGV[1]) == 0 then" ,
+		"    return '0';" ,
+		"end;" ,
+		"if redis.call('HLEN', KEYS[1]) == 1 and redis.call('HEXISTS', KEYS[1], '" + MODE_FIELD + "') == 1 then" ,
+		"    redis.call('DEL', KEYS[1]);" ,
+		"end;" ,
+		"return '1';"
+	);
+	/**
+	 * Script for debug
+	 */
+	private static final String RELEASE_LUA_SCRIPT_DEBUG = String.join("\n",
+		"redis.log(redis.LOG_NOTICE, string.format('OrangeLeaseExecutor releasing, key: %s, owner: %s', tostring(KEYS[1]), tostring(ARGV[1])));",
+		RELEASE_LUA_SCRIPT
+	);
+	
+	private OrangeRedisScriptOperations scriptOperations;
+	
+	private Collection<OrangeRedisSetIfAbsentListener> listeners;
+	
+	private OrangeRenewTimerWheel renewTimerWheel;
+	
+	private OrangeExpirationTimeAutoInitializer expirationTimeAutoInitializer;
+	
+	private OrangeRedisLogger logger;
+
+	protected OrangeLeaseExecutor(
+		OrangeRedisScriptOperations scriptOperations,
+		OrangeRedisExecutorIdGenerator idGenerator,
+		Collection<OrangeRedisSetIfAbsentListener> listeners,
+		OrangeRenewTimerWheel renewTimerWheel,
+		OrangeExpirationTimeAutoInitializer expirationTimeAutoInitializer,
+		OrangeRedisLogger logger
+	) {
+		super(idGenerator);
+		this.scriptOperations = scriptOperations;
+		this.listeners = listeners;
+		this.renewTimerWheel = renewTimerWheel;
+		this.expirationTimeAutoInitializer = expirationTimeAutoInitializer;
+		this.logger = logger;
+		this.scriptOperations.register(
+			getAcquireScript(), 
+			RENEW_LUA_SCRIPT, 
+			RENEW_LUA_SCRIPT_DEBUG, 
+			RELEASE_LUA_SCRIPT, 
+			RELEASE_LUA_SCRIPT_DEBUG
+		);
+	}
+
+	@Override
+	public Object execute(OrangeRedisContext context) throws Exception {
+		OrangeLeaseContext ctx = (OrangeLeaseContext) context;
+		OrangeLeaseRenewTask task = null;
+		try {
+			task = acquire(ctx);
+		}catch (Exception e) {
+			// The operation may have been interrupted by a client timeout or network error, but it was actually completed successfully.
+			listeners.forEach(t -> 
+				t.onFailure(
+					context.getRedisKey().getOriginalKey(),
+					newFailedEvent(ctx, e)
+				)
+			);
+		}
+		
+		if(task != null) {
+			notifyListeners(ctx, task);
+		}
+		
+		return returnValue(context, task != null);
+	}
+	
+	private OrangeLeaseRenewTask acquire(OrangeLeaseContext ctx) throws Exception {
+		Key key = ctx.getRedisKey();
+		AutoRenew autoRenew = ctx.getAutoRenew();
+		if(autoRenew.autoInitKeyExpirationTime()) {
+			key = this.expirationTimeAutoInitializer.init(key, autoRenew.threshold());
+		}
+		String owner = getOwner(ctx);
+		long expirationMillis = key.getExpirationTimeUnit().toMillis(key.getExpirationTime());
+		Object[] args = getAcquireArgs(ctx, owner, expirationMillis);
+		RedisValueTypeEnum[] argsValueTypes = new RedisValueTypeEnum[args.length];
+		argsValueTypes[0] = RedisValueTypeEnum.STRING;
+		for(int i = 1; i < args.length; i++) {
+			argsValueTypes[i] = RedisValueTypeEnum.LONG;
+		}
+		Object result = this.scriptOperations.execute(
+			getAcquireScript(), 
+			argsValueTypes, 
+			RedisValueTypeEnum.STRING, 
+			String.class, 
+			OrangeCollectionUtils.asList(key.getValue()), 
+			args
+		);
+		if(!"1".equals(result)) {
+			throw new OrangeRedisIfAbsentException("False returned");
+		}
+		OrangeLeaseRenewTask task = new OrangeLeaseRenewTask(key, this, owner, autoRenew.threshold());
+		this.renewTimerWheel.addRenewTask(task);
+		return task;
+	}
+	
+	private void notifyListeners(OrangeLeaseContext ctx, OrangeLeaseRenewTask task) {
+		String originalKey = ctx.getRedisKey().getOriginalKey();
+		boolean released = false;
+		Exception releaseFailedException = null;
+		try {
+			listeners.forEach(t -> t.onSuccess(originalKey, newEvent(ctx)));
+		}finally {
+			task.setRemove(true);
+			try {
+				released = release(task.getKey().getValue(), getOwner(ctx));
+			}catch (Exception e) {
+				// Warning, maybe a network error causes the removal to fail.
+				// Also, maybe Redis Client timeout, but the operation success.
+				releaseFailedException = e;
+			}
+		}
+		
+		if(released) {
+			return;
+		}
+		
+		final Object event = releaseFailedException == null ? 
+				newFailedEvent(ctx, "The lease was expired before it was released") : 
+				newFailedEvent(ctx, releaseFailedException);
+		listeners.forEach(t -> t.onRemoveFailed(originalKey, event));
+	}
+	
+	private boolean release(String key, String owner) throws Exception {
+		String script = RELEASE_LUA_SCRIPT;
+		if(this.logger.isDebugEnabled()) {
+			script = RELEASE_LUA_SCRIPT_DEBUG;
+		}
+		Object result = this.scriptOperations.execute(
+			script, 
+			new RedisValueTypeEnum[] {RedisValueTypeEnum.STRING}, 
+			RedisValueTypeEnum.STRING, 
+			String.class, 
+			OrangeCollectionUtils.asList(key), 
+			owner
+		);
+		return "1".equals(result);
+	}
+
+	/**
+	 * Extend the unexpired leases with one script call per group of keys.
+	 * 
+	 * @param ownersAndExpirationMillis the owner and the expiration time in milliseconds of each key in order
+	 * @return the result of each key in order, false if the lease was expired, 
+	 * {@code null} if the call of the group of the key failed
+	 */
+	public Boolean[] doRenew(List<String> keys, Object[] ownersAndExpirationMillis) throws Exception {
+		RedisValueTypeEnum[] argsValueTypes = new RedisValueTypeEnum[ownersAndExpirationMillis.length];
+		for(int i = 0; i < argsValueTypes.length; i += 2) {
+			argsValueTypes[i] = RedisValueTypeEnum.STRING;
+			argsValueTypes[i + 1] = RedisValueTypeEnum.LONG;
+		}
+		// Change script when debug is enabled.
+		String script = RENEW_LUA_SCRIPT;
+		if(this.logger.isDebugEnabled()) {
+			script = RENEW_LUA_SCRIPT_DEBUG;
+		}
+		return this.scriptOperations.executeForEachKey(script, 2, argsValueTypes, keys, ownersAndExpirationMillis);
+	}
+
+	protected Object returnValue(OrangeRedisContext context, boolean acquired) {
+		Class<?> returnClass = context.getReturnType();
+		if(returnClass == Boolean.class || returnClass == boolean.class) {
+			return acquired;
+		}
+		if(OrangeReflectionUtils.isInteger(returnClass)) {
+			return acquired ? 1 : 0;
+		}
+		return null;
+	}
+	
+	/**
+	 * The owner of the lease is unique per acquisition, it starts with the trace id when there is one.
+	 */
+	protected String getOwner(OrangeLeaseContext ctx) {
+		String owner = ctx.getOwner();
+		if(owner == null) {
+			String traceId = logger.getTraceId();
+			String id = UUID.randomUUID().toString();
+			owner = traceId != null && !traceId.isEmpty() ? traceId + ":" + id : id;
+			ctx.setOwner(owner);
+		}
+		return owner;
+	}
+	
+	/**
+	 * The script acquiring the lease, it starts with {@link #PRUNE_LUA_SCRIPT} and returns {@code '1'} once the lease is acquired.
+	 */
+	protected abstract String getAcquireScript();
+	
+	/**
+	 * Arguments of the acquire script, the owner comes first, the others are numbers.
+	 */
+	protected abstract Object[] getAcquireArgs(OrangeLeaseContext ctx, String owner, long expirationMillis);
+	
+	protected abstract Object newEvent(OrangeLeaseContext ctx);
+	
+	protected abstract Object newFailedEvent(OrangeLeaseContext ctx, Exception exception);
+	
+	protected abstract Object newFailedEvent(OrangeLeaseContext ctx, String reason);
+
+	protected OrangeRedisLogger getLogger() {
+		return logger;
+	}
+}
@@ -106,6 +106,7 @@ public class OrangeCompareAndSwapExecutor extends OrangeRedisAbstractExecutor {
 	public OrangeCompareAndSwapExecutor(OrangeRedisScriptOperations scriptOperations,OrangeRedisExecutorIdGenerator idGenerator,OrangeRedisLogger logger) {
 		super(idGenerator);
 		this.scriptOperations = scriptOperations;
+		this.scriptOperations.register(CAS_LUA_SCRIPT, CAS_LUA_SCRIPT_DEBUG);
 		this.logger = logger;
 	}
 
@@ -49,7 +49,7 @@ public class OrangePushMemberOnLeftOfPivotExecutor extends OrangeRedisAbstractEx
 	public Object execute(OrangeRedisContext context) throws Exception {
 		OrangePivotValueContext ctx = (OrangePivotValueContext) context;
 		Long result = this.operations.leftPush(context.getRedisKey().getValue(), ctx.getPivot(), ctx.getValue(),ctx.getValueType());
-		Class<?> returnClass = context.getOperationMethod().getReturnType();
+		Class<?> returnClass = context.getReturnType();
 		if(returnClass == Boolean.class || returnClass == boolean.class) {
 			return result != null && result > 0;	
 		}
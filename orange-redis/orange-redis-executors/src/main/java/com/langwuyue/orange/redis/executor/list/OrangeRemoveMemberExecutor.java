@@ -53,7 +53,7 @@ public class OrangeRemoveMemberExecutor extends OrangeRedisAbstractExecutor {
 			ctx.getValue(), 
 			context.getValueType()
 		);
-		Class<?> returnClass = context.getOperationMethod().getReturnType();
+		Class<?> returnClass = context.getReturnType();
 		if(returnClass == Boolean.class || returnClass == boolean.class) {
 			return result != null && result > 0;	
 		}
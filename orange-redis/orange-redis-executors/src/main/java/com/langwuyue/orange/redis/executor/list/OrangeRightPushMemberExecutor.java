@@ -48,7 +48,7 @@ public class OrangeRightPushMemberExecutor extends OrangeRedisAbstractExecutor {
 	public Object execute(OrangeRedisContext context) throws Exception {
 		OrangeRedisValueContext ctx = (OrangeRedisValueContext) context;
 		Long result = this.operations.rightPush(context.getRedisKey().getValue(), ctx.getValueType(), ctx.getValue());
-		Class<?> returnClass = context.getOperationMethod().getReturnType();
+		Class<?> returnClass = context.getReturnType();
 		if(returnClass == Boolean.class || returnClass == boolean.class) {
 			return result != null && result > 0;	
 		}
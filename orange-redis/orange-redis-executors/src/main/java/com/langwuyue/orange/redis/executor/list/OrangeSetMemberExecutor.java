@@ -57,7 +57,7 @@ public class OrangeSetMemberExecutor extends OrangeRedisAbstractExecutor {
 //			throw new OrangeRedisException("Index out of range, cannot execute set command.");
 //		}
 		this.operations.set(context.getRedisKey().getValue(), ctx.getIndex(), ctx.getValue(), ctx.getValueType());
-		Class<?> returnClass = context.getOperationMethod().getReturnType();
+		Class<?> returnClass = context.getReturnType();
 		if(returnClass == Boolean.class || returnClass == boolean.class) {
 			return Boolean.TRUE;	
 		}
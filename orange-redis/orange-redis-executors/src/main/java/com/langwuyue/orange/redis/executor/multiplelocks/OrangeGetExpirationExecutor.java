@@ -82,9 +82,9 @@ public class OrangeGetExpirationExecutor extends OrangeRedisGetAbstractExecutor
 	
 	@Override
 	protected Type getReturnArgumentType(OrangeRedisContext context) {
-		Class<?> returnType = context.getOperationMethod().getReturnType();
+		Class<?> returnType = context.getReturnType();
 		if(Map.class.isAssignableFrom(returnType)) {
-			Type genericType = context.getOperationMethod().getGenericReturnType();
+			Type genericType = context.getGenericReturnType();
 			return OrangeReflectionUtils.getMapActaulTypeArguments(genericType)[1];
 		} else {
 			return super.getReturnArgumentType(context);	
@@ -98,7 +98,7 @@ public class OrangeGetExpirationExecutor extends OrangeRedisGetAbstractExecutor
 		Type returnArgumentType, 
 		Field field
 	)throws Exception {
-		Class<?> returnClass = context.getOperationMethod().getReturnType();
+		Class<?> returnClass = context.getReturnType();
 		if(Map.class.isAssignableFrom(returnClass)) {
 			OrangeMultipleLocksGetExpirationsContext ctx = (OrangeMultipleLocksGetExpirationsContext) context;
 			Map map = OrangeReflectionUtils.newMap(returnClass);
@@ -98,6 +98,42 @@ public class OrangeMultipleLocksExecutor extends OrangeRedisAbstractExecutor {
 	    "    return '0';",
 	    "end;"
 	);
+	/**
+	 * Script for production, acquire all locks or none of them.
+	 * {@code ARGV[1]} is the current time, followed by the hash key and the deadline of each lock.
+	 * Returns a flag per lock, {@code '1'} acquired, {@code '0'} held by another owner, {@code '2'} free but not acquired.
+	 */
+	private static final String ATOMIC_MULTI_LOCK_LUA_SCRIPT = String.join("\n",
+		"local key = KEYS[1];",
+		"local currentTime = tonumber(ARGV[1]);",
+		"local flags = {};",
+		"local free = true;",
+		"for i = 2, #ARGV, 2 do",
+		"    local currentValue = redis.call('HGET', key, ARGV[i]);",
+		"    if (currentValue == nil or currentValue == false) or (tonumber(currentValue) < currentTime) then",
+		"        flags[#flags + 1] = '2';",
+		"    else",
+		"        flags[#flags + 1] = '0';",
+		"        free = false;",
+		"    end;",
+		"end;",
+		"if not free then",
+		"    return table.concat(flags);",
+		"end;",
+		"for i = 2, #ARGV, 2 do",
+		"    redis.call('HSET', key, ARGV[i], ARGV[i + 1]);",
+		"    flags[i / 2] = '1';",
+		"end;",
+		"return table.concat(flags);"
+	);
+	/**
+	 * Script for debug
+	 */
+	private static final String ATOMIC_MULTI_LOCK_LUA_SCRIPT_DEBUG = String.join("\n",
+		"redis.log(redis.LOG_NOTICE, string.format('OrangeMultipleLocksExecutor executing atomically, key: %s, locks: %d', tostring(KEYS[1]), (#ARGV - 1) / 2));",
+		ATOMIC_MULTI_LOCK_LUA_SCRIPT
+	);
+	
 	private OrangeRedisScriptOperations scriptOperations;
 	
 	private OrangeRedisHashOperations operations;
@@ -123,6 +159,12 @@ public class OrangeMultipleLocksExecutor extends OrangeRedisAbstractExecutor {
 	) {
 		super(idGenerator);
 		this.scriptOperations = scriptOperations;
+		this.scriptOperations.register(
+			MULTI_LOCK_LUA_SCRIPT, 
+			MULTI_LOCK_LUA_SCRIPT_DEBUG, 
+			ATOMIC_MULTI_LOCK_LUA_SCRIPT, 
+			ATOMIC_MULTI_LOCK_LUA_SCRIPT_DEBUG
+		);
 		this.operations = operations;
 		this.listeners = listeners;
 		this.renewTimerWheel = wheel;
@@ -134,24 +176,75 @@ public class OrangeMultipleLocksExecutor extends OrangeRedisAbstractExecutor {
 	@Override
 	public Object execute(OrangeRedisContext context) throws Exception {
 		OrangeMultipleLocksContext ctx = (OrangeMultipleLocksContext) context;
+		MultipleLocks multipleLocks = ctx.getMultipleLocks();
 		doLock(
 			(OrangeRedisIterableContext)context,
 			context.getRedisKey(),
 			ctx.getAutoRenew().autoInitKeyExpirationTime(),
 			ctx.getAutoRenew().threshold(),
 			context.getValueType(),
-			context.getArgs()
+			context.getArgs(),
+			multipleLocks != null && multipleLocks.atomic()
 		);
 		return null;
 	}
 	
 	public void doLock(OrangeRedisIterableContext ctx,Key redisKey,boolean autoInitKeyExpirationTime,int threshold, RedisValueTypeEnum valueType, Object[] args) {
+		doLock(ctx, redisKey, autoInitKeyExpirationTime, threshold, valueType, args, false);
+	}
+	
+	/**
+	 * @param atomic true if all locks are acquired with one script call, either all of them or none of them
+	 */
+	public void doLock(OrangeRedisIterableContext ctx,Key redisKey,boolean autoInitKeyExpirationTime,int threshold, RedisValueTypeEnum valueType, Object[] args, boolean atomic) {
 		Set<Object> successEntries = new LinkedHashSet<>();
 		Set<Object> successMembers = new LinkedHashSet<>();
 		Map<Object,Exception> failedEntries = new LinkedHashMap<>();
 		Set<Object> unknownEnties = new LinkedHashSet<>();
-		boolean continueOnFailure = ctx.continueOnFailure();
 		List<OrangeRenewTask> renewTasks = new ArrayList<>();
+		if(atomic) {
+			doLockAtomically(ctx, redisKey, autoInitKeyExpirationTime, threshold, valueType, successEntries, successMembers, failedEntries, unknownEnties, renewTasks);
+		}else{
+			doLockOneByOne(ctx, redisKey, autoInitKeyExpirationTime, threshold, valueType, successEntries, successMembers, failedEntries, unknownEnties, renewTasks);
+		}
+		
+		if(successEntries.isEmpty() && !unknownEnties.isEmpty() && failedEntries.isEmpty()) {
+			return;
+		}
+		
+		try {
+			this.listeners.forEach(t -> 
+				t.onCompleted(
+					redisKey.getOriginalKey(),
+					new OrangeMultipleLocksEvent(
+						args,
+						successEntries,
+						failedEntries,
+						unknownEnties
+					)
+				)
+			);
+		}finally {
+			// Remove auto renew tasks
+			renewTasks.forEach(t -> t.setRemove(true));
+			// Release locks
+			releaseLocks(successMembers,successEntries,failedEntries,unknownEnties,redisKey,valueType,args);
+		}
+	}
+	
+	private void doLockOneByOne(
+		OrangeRedisIterableContext ctx,
+		Key redisKey,
+		boolean autoInitKeyExpirationTime,
+		int threshold, 
+		RedisValueTypeEnum valueType,
+		Set<Object> successEntries,
+		Set<Object> successMembers,
+		Map<Object,Exception> failedEntries,
+		Set<Object> unknownEnties,
+		List<OrangeRenewTask> renewTasks
+	) {
+		boolean continueOnFailure = ctx.continueOnFailure();
 		ctx.forEach((t,o) -> {
 			if(!continueOnFailure && !failedEntries.isEmpty()) {
 				unknownEnties.add(o);
@@ -188,28 +281,89 @@ public class OrangeMultipleLocksExecutor extends OrangeRedisAbstractExecutor {
 				failedEntries.put(o, e);
 			}
 		});
-		
-		if(successEntries.isEmpty() && !unknownEnties.isEmpty() && failedEntries.isEmpty()) {
+	}
+	
+	/**
+	 * One script call checks every lock and sets the deadlines of all of them only when none is held,
+	 * the result of each lock is still reported.
+	 */
+	private void doLockAtomically(
+		OrangeRedisIterableContext ctx,
+		Key redisKey,
+		boolean autoInitKeyExpirationTime,
+		int threshold, 
+		RedisValueTypeEnum valueType,
+		Set<Object> successEntries,
+		Set<Object> successMembers,
+		Map<Object,Exception> failedEntries,
+		Set<Object> unknownEnties,
+		List<OrangeRenewTask> renewTasks
+	) {
+		Key key = redisKey;
+		if(autoInitKeyExpirationTime) {
+			key = this.expirationTimeAutoInitializer.init(key, threshold);
+			redisKey.setExpirationTime(key.getExpirationTime());
+			redisKey.setExpirationTimeUnit(key.getExpirationTimeUnit());
+		}
+		List<Object> entries = new ArrayList<>();
+		List<OrangeRenewTask> tasks = new ArrayList<>();
+		final Key lockKey = key;
+		ctx.forEach((t,o) -> {
+			entries.add(o);
+			tasks.add(new OrangeRenewTask(lockKey, this.casExecutor, t, valueType, threshold));
+		});
+		if(tasks.isEmpty()) {
 			return;
 		}
-		
+		int size = tasks.size();
+		Object[] args = new Object[size * 2 + 1];
+		RedisValueTypeEnum[] argsValueTypes = new RedisValueTypeEnum[args.length];
+		args[0] = tasks.get(0).getStartMillis();
+		argsValueTypes[0] = RedisValueTypeEnum.LONG;
+		for(int i = 0; i < size; i++) {
+			OrangeRenewTask task = tasks.get(i);
+			args[i * 2 + 1] = task.getValue();
+			argsValueTypes[i * 2 + 1] = valueType;
+			args[i * 2 + 2] = task.getDeadlineMillis();
+			argsValueTypes[i * 2 + 2] = RedisValueTypeEnum.LONG;
+		}
+		// Change script when debug is enabled.
+		String script = ATOMIC_MULTI_LOCK_LUA_SCRIPT;
+		if(this.logger.isDebugEnabled()) {
+			script = ATOMIC_MULTI_LOCK_LUA_SCRIPT_DEBUG;
+		}
+		String flags;
 		try {
-			this.listeners.forEach(t -> 
-				t.onCompleted(
-					redisKey.getOriginalKey(),
-					new OrangeMultipleLocksEvent(
-						args,
-						successEntries,
-						failedEntries,
-						unknownEnties
-					)
-				)
+			flags = (String) scriptOperations.execute(
+				script, 
+				argsValueTypes, 
+				RedisValueTypeEnum.STRING, 
+				String.class, 
+				OrangeCollectionUtils.asList(lockKey.getValue()), 
+				args
 			);
-		}finally {
-			// Remove auto renew tasks
-			renewTasks.forEach(t -> t.setRemove(true));
-			// Release locks
-			releaseLocks(successMembers,successEntries,failedEntries,unknownEnties,redisKey,valueType,args);
+		}catch (Exception e) {
+			// The operation may have been interrupted by a client timeout or network error, but it was actually completed successfully.
+			for(Object entry : entries) {
+				unknownEnties.add(entry);
+				failedEntries.put(entry, e);
+			}
+			return;
+		}
+		for(int i = 0; i < size; i++) {
+			Object entry = entries.get(i);
+			char flag = flags != null && i < flags.length() ? flags.charAt(i) : '0';
+			if(flag == '1') {
+				OrangeRenewTask task = tasks.get(i);
+				successEntries.add(entry);
+				successMembers.add(task.getValue());
+				renewTimerWheel.addRenewTask(task);
+				renewTasks.add(task);
+			}else if(flag == '2') {
+				failedEntries.put(entry, new OrangeRedisIfAbsentException("Not acquired, because other locks are held"));
+			}else{
+				failedEntries.put(entry, new OrangeRedisIfAbsentException("False returned"));
+			}
 		}
 	}
 	
@@ -23,6 +23,7 @@ import java.lang.reflect.Method;
 import com.langwuyue.orange.redis.RedisValueTypeEnum;
 import com.langwuyue.orange.redis.annotation.AutoRenew;
 import com.langwuyue.orange.redis.annotation.OrangeRedisOperationArg;
+import com.langwuyue.orange.redis.annotation.multiplelocks.MultipleLocks;
 import com.langwuyue.orange.redis.context.OrangeRedisMultipleValueContext;
 import com.langwuyue.orange.redis.context.builder.OrangeMethodAnnotationHandler;
 
@@ -34,6 +35,9 @@ public class OrangeMultipleLocksContext extends OrangeRedisMultipleValueContext
 	
 	@OrangeRedisOperationArg(binding = AutoRenew.class, valueHandler = OrangeMethodAnnotationHandler.class)
 	private AutoRenew autoRenew;
+	
+	@OrangeRedisOperationArg(binding = MultipleLocks.class, valueHandler = OrangeMethodAnnotationHandler.class)
+	private MultipleLocks multipleLocks;
 
 	public OrangeMultipleLocksContext(
 		Class<?> operationOwner, 
@@ -48,4 +52,8 @@ public class OrangeMultipleLocksContext extends OrangeRedisMultipleValueContext
 	public AutoRenew getAutoRenew() {
 		return autoRenew;
 	}
+
+	public MultipleLocks getMultipleLocks() {
+		return multipleLocks;
+	}
 }
@@ -49,7 +49,7 @@ public class OrangeLuaScriptExecutor extends OrangeRedisAbstractExecutor {
 	@Override
 	public Object execute(OrangeRedisContext context) throws Exception {
 		OrangeScriptContext ctx = (OrangeScriptContext) context;
-		Class<?> returnClass = ctx.getOperationMethod().getReturnType();
+		Class<?> returnClass = ctx.getReturnType();
 		Field[] fields = returnClass.getDeclaredFields();
 		Field valueField = null;
 		for(Field field : fields) {
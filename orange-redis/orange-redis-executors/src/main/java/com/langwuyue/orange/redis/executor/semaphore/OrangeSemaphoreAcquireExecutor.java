@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.redis.executor.semaphore;
+
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.List;
+
+import com.langwuyue.orange.redis.annotation.AutoRenew;
+import com.langwuyue.orange.redis.annotation.global.SetExpiration;
+import com.langwuyue.orange.redis.annotation.semaphore.Acquire;
+import com.langwuyue.orange.redis.context.OrangeRedisContext;
+import com.langwuyue.orange.redis.executor.lease.OrangeLeaseExecutor;
+import com.langwuyue.orange.redis.executor.lease.context.OrangeLeaseContext;
+import com.langwuyue.orange.redis.executor.multiplelocks.OrangeExpirationTimeAutoInitializer;
+import com.langwuyue.orange.redis.executor.semaphore.context.OrangeSemaphoreContext;
+import com.langwuyue.orange.redis.listener.OrangeRedisSetIfAbsentListener;
+import com.langwuyue.orange.redis.listener.semaphore.OrangeSemaphoreEvent;
+import com.langwuyue.orange.redis.listener.semaphore.OrangeSemaphoreFailedEvent;
+import com.langwuyue.orange.redis.logger.OrangeRedisLogger;
+import com.langwuyue.orange.redis.mapping.OrangeRedisExecutorIdGenerator;
+import com.langwuyue.orange.redis.operations.OrangeRedisScriptOperations;
+import com.langwuyue.orange.redis.timer.OrangeRenewTimerWheel;
+import com.langwuyue.orange.redis.utils.OrangeCollectionUtils;
+
+/**
+ * Acquire a permit of the semaphore, only when less than {@link Acquire#permits()} holders have one.
+ * 
+ * @author Liang.Zhong
+ * @since 1.0.0
+ */
+public class OrangeSemaphoreAcquireExecutor extends OrangeLeaseExecutor {
+	
+	/**
+	 * {@code ARGV[3]} holds the number of permits
+	 */
+	private static final String ACQUIRE_LUA_SCRIPT = String.join("\n",
+		PRUNE_LUA_SCRIPT,
+		"if holders >= tonumber(ARGV[3]) then" ,
+		"    return '0';" ,
+		"end;" ,
+		HOLD_LUA_SCRIPT
+	);
+
+	public OrangeSemaphoreAcquireExecutor(
+		OrangeRedisScriptOperations scriptOperations,
+		OrangeRedisExecutorIdGenerator idGenerator,
+		Collection<OrangeRedisSetIfAbsentListener> listeners,
+		OrangeRenewTimerWheel renewTimerWheel,
+		OrangeExpirationTimeAutoInitializer expirationTimeAutoInitializer,
+		OrangeRedisLogger logger
+	) {
+		super(scriptOperations, idGenerator, listeners, renewTimerWheel, expirationTimeAutoInitializer, logger);
+	}
+
+	@Override
+	protected String getAcquireScript() {
+		return ACQUIRE_LUA_SCRIPT;
+	}
+
+	@Override
+	protected Object[] getAcquireArgs(OrangeLeaseContext ctx, String owner, long expirationMillis) {
+		return new Object[] {owner, expirationMillis, (long) getPermits(ctx)};
+	}
+
+	@Override
+	protected Object newEvent(OrangeLeaseContext ctx) {
+		return new OrangeSemaphoreEvent(ctx.getArgs(), getOwner(ctx), getPermits(ctx));
+	}
+
+	@Override
+	protected Object newFailedEvent(OrangeLeaseContext ctx, Exception exception) {
+		return new OrangeSemaphoreFailedEvent(ctx.getArgs(), getOwner(ctx), getPermits(ctx), exception);
+	}
+
+	@Override
+	protected Object newFailedEvent(OrangeLeaseContext ctx, String reason) {
+		return new OrangeSemaphoreFailedEvent(ctx.getArgs(), getOwner(ctx), getPermits(ctx), reason);
+	}
+	
+	private int getPermits(OrangeLeaseContext ctx) {
+		return ((OrangeSemaphoreContext) ctx).getAcquire().permits();
+	}
+
+	@Override
+	public Class<? extends OrangeRedisContext> getContextClass() {
+		return OrangeSemaphoreContext.class;
+	}
+
+	@Override
+	protected List<Class<? extends Annotation>> getSupportedAnnotationClasses() {
+		return OrangeCollectionUtils.asList(Acquire.class, AutoRenew.class, SetExpiration.class);
+	}
+}
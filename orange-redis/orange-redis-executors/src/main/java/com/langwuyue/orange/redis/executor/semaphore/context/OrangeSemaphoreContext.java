@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.redis.executor.semaphore.context;
+
+import java.lang.reflect.Method;
+
+import com.langwuyue.orange.redis.RedisValueTypeEnum;
+import com.langwuyue.orange.redis.annotation.OrangeRedisOperationArg;
+import com.langwuyue.orange.redis.annotation.semaphore.Acquire;
+import com.langwuyue.orange.redis.context.builder.OrangeMethodAnnotationHandler;
+import com.langwuyue.orange.redis.executor.lease.context.OrangeLeaseContext;
+
+/**
+ * @author Liang.Zhong
+ * @since 1.0.0
+ */
+public class OrangeSemaphoreContext extends OrangeLeaseContext {
+	
+	@OrangeRedisOperationArg(binding = Acquire.class, valueHandler = OrangeMethodAnnotationHandler.class)
+	private Acquire acquire;
+
+	public OrangeSemaphoreContext(
+		Class<?> operationOwner, 
+		Method operationMethod, 
+		Object[] args, 
+		Key redisKey,
+		RedisValueTypeEnum valueType
+	) {
+		super(operationOwner, operationMethod, args, redisKey, valueType);
+	}
+
+	public Acquire getAcquire() {
+		return acquire;
+	}
+}
@@ -98,6 +98,7 @@ public class OrangeAddMemberIfAbsentExecutor extends OrangeRedisAbstractExecutor
 	) {
 		super(idGenerator);
 		this.scriptOperations = scriptOperations;
+		this.scriptOperations.register(LUA_SCRIPT, LUA_SCRIPT_DEBUG);
 		this.operations = operations;
 		this.listeners = listeners;
 		this.logger = logger;
@@ -20,18 +20,20 @@ package com.langwuyue.orange.redis.executor.set;
 
 import java.lang.annotation.Annotation;
 import java.util.Collection;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import com.langwuyue.orange.redis.OrangeRedisIfAbsentException;
+import com.langwuyue.orange.redis.RedisValueTypeEnum;
 import com.langwuyue.orange.redis.annotation.AddMembers;
 import com.langwuyue.orange.redis.annotation.ContinueOnFailure;
 import com.langwuyue.orange.redis.annotation.IfAbsent;
 import com.langwuyue.orange.redis.annotation.Multiple;
 import com.langwuyue.orange.redis.context.OrangeRedisContext;
+import com.langwuyue.orange.redis.executor.OrangeAddMembersIfAbsentBatch;
+import com.langwuyue.orange.redis.executor.script.ScriptConstants;
 import com.langwuyue.orange.redis.executor.set.context.OrangeAddMembersIfAbsentContext;
 import com.langwuyue.orange.redis.listener.OrangeRedisMultipleSetIfAbsentListener;
 import com.langwuyue.orange.redis.listener.set.OrangRemoveMembersFailedEvent;
@@ -48,8 +50,49 @@ import com.langwuyue.orange.redis.utils.OrangeCollectionUtils;
  */
 public class OrangeAddMembersIfAbsentExecutor extends OrangeAddMemberIfAbsentExecutor {
 
+	/**
+	 * Script for production
+	 */
+	private static final String LUA_SCRIPT = String.join("\n",
+	    "local key = KEYS[1];",
+	    "local continueOnFailure = ARGV[1] == '1';",
+	    "local flags = {};",
+	    "for i = 3, #ARGV do",
+	    "    local added = redis.call('SADD', key, ARGV[i]);",
+	    "    flags[#flags + 1] = tostring(added);",
+	    "    if added == 0 and not continueOnFailure then",
+	    "        break;",
+	    "    end;",
+	    "end;",
+	    "return table.concat(flags);"
+	);
+	
+	/**
+	 * Script for debug
+	 */
+	private static final String LUA_SCRIPT_DEBUG = String.join("\n",
+		"local traceId = tostring(ARGV[2]);",
+		"redis.log(redis.LOG_NOTICE, string.format('traceId: %s, SET OrangeAddMembersIfAbsentExecutor executing', traceId));",
+	    "local key = KEYS[1];",
+	    "redis.log(redis.LOG_NOTICE, string.format('traceId: %s, key: %s', traceId, tostring(key)));",
+	    "local continueOnFailure = ARGV[1] == '1';",
+	    "redis.log(redis.LOG_NOTICE, string.format('traceId: %s, continueOnFailure: %s', traceId, tostring(continueOnFailure)));",
+	    "local flags = {};",
+	    "for i = 3, #ARGV do",
+	    "    local added = redis.call('SADD', key, ARGV[i]);",
+	    "    redis.log(redis.LOG_NOTICE, string.format('traceId: %s, member: %s, added: %s', traceId, tostring(ARGV[i]), tostring(added)));",
+	    "    flags[#flags + 1] = tostring(added);",
+	    "    if added == 0 and not continueOnFailure then",
+	    "        break;",
+	    "    end;",
+	    "end;",
+	    "return table.concat(flags);"
+	);
+
 	private Collection<OrangeRedisMultipleSetIfAbsentListener> listeners;
 	
+	private OrangeRedisLogger logger;
+	
 	public OrangeAddMembersIfAbsentExecutor(
 		OrangeRedisScriptOperations scriptOperations,
 		OrangeRedisSetOperations operations,
@@ -58,43 +101,25 @@ public class OrangeAddMembersIfAbsentExecutor extends OrangeAddMemberIfAbsentExe
 		OrangeRedisLogger logger
 	) {
 		super(scriptOperations,operations,idGenerator,null,logger);
+		scriptOperations.register(LUA_SCRIPT, LUA_SCRIPT_DEBUG);
 		this.listeners = listeners;
+		this.logger = logger;
 	}
 
 	@Override
 	public Object execute(OrangeRedisContext context) throws Exception {
 		OrangeAddMembersIfAbsentContext ctx = (OrangeAddMembersIfAbsentContext)context;
-		Set<Object> successEntries = new LinkedHashSet<>();
-		Set<Object> successMembers = new LinkedHashSet<>();
-		Map<Object,Exception> failedEntries = new LinkedHashMap<>();
-		Set<Object> unknownEnties = new LinkedHashSet<>();
-		boolean continueOnFailure = ctx.continueOnFailure();
-		ctx.forEach((t,o) -> {
-			if(!continueOnFailure && !failedEntries.isEmpty()) {
-				unknownEnties.add(o);
-				return;
-			}
-			try {
-				Boolean success = executeIfAbsent(ctx,t);
-				if(success != null && success.booleanValue()) {
-					successEntries.add(o);
-					successMembers.add(t);
-				}else{
-					throw new OrangeRedisIfAbsentException("False returned");
-				}
-			}catch (Exception e) {
-				// The operation may have been interrupted by a client timeout or network error, but it was actually completed successfully.
-				if(!(e instanceof OrangeRedisIfAbsentException)) {
-					unknownEnties.add(o);
-				}
-				failedEntries.put(o, e);
-			}
-		});
+		OrangeAddMembersIfAbsentBatch batch = new OrangeAddMembersIfAbsentBatch();
+		batch.execute(ctx, (members,continueOnFailure) -> executeIfAbsent(ctx, members, continueOnFailure));
 		
-		if(successEntries.isEmpty() && unknownEnties.isEmpty() && failedEntries.isEmpty()) {
+		if(batch.isEmpty()) {
 			return null;
 		}
 		
+		Set<Object> successEntries = batch.getSuccessEntries();
+		Set<Object> successMembers = new LinkedHashSet<>(batch.getSuccessMembers());
+		Map<Object,Exception> failedEntries = batch.getFailedEntries();
+		Set<Object> unknownEnties = batch.getUnknownEntries();
 		try {
 			this.listeners.forEach(t -> 
 				t.onCompleted(
@@ -113,6 +138,34 @@ public class OrangeAddMembersIfAbsentExecutor extends OrangeAddMemberIfAbsentExe
 		return null;
 	}
 	
+	private String executeIfAbsent(OrangeRedisContext ctx, List<Object> members, boolean continueOnFailure) throws Exception {
+		int size = members.size();
+		Object[] args = new Object[size + 2];
+		RedisValueTypeEnum[] argsValueTypes = new RedisValueTypeEnum[size + 2];
+		args[0] = continueOnFailure ? "1" : "0";
+		argsValueTypes[0] = RedisValueTypeEnum.STRING;
+		// Id for trace 
+		args[1] = this.logger.getTraceId() == null ? ScriptConstants.NIL : this.logger.getTraceId();
+		argsValueTypes[1] = RedisValueTypeEnum.STRING;
+		for(int i = 0; i < size; i++) {
+			args[i + 2] = members.get(i);
+			argsValueTypes[i + 2] = ctx.getValueType();
+		}
+		// Change script when debug is enabled.
+		String script = LUA_SCRIPT;
+		if(this.logger.isDebugEnabled()) {
+			script = LUA_SCRIPT_DEBUG;
+		}
+		return (String) getScriptOperations().execute(
+			script, 
+			argsValueTypes, 
+			RedisValueTypeEnum.STRING, 
+			String.class, 
+			OrangeCollectionUtils.asList(ctx.getRedisKey().getValue()), 
+			args
+		);
+	}
+	
 	private void removeMembers(
 		OrangeAddMembersIfAbsentContext ctx,
 		Set<Object> successEntries,
@@ -66,7 +66,7 @@ public class OrangePopMemberExecutor extends OrangeRedisGetAbstractExecutor {
 		if(result == null) {
 			return result;
 		}
-		Class<?> returnClass = context.getOperationMethod().getReturnType();
+		Class<?> returnClass = context.getReturnType();
 		if(returnClass.isArray() || Collection.class.isAssignableFrom(returnClass)) {
 			return result;	
 		}
@@ -78,12 +78,12 @@ public class OrangePopMemberExecutor extends OrangeRedisGetAbstractExecutor {
 	
 	@Override
 	protected Type getReturnArgumentType(OrangeRedisContext context) {
-		Class<?> returnClass = context.getOperationMethod().getReturnType();
+		Class<?> returnClass = context.getReturnType();
 		if(returnClass.isArray() || Collection.class.isAssignableFrom(returnClass)) {
 			return super.getReturnArgumentType(context);	
 		}
 		else{
-			return context.getOperationMethod().getGenericReturnType();
+			return context.getGenericReturnType();
 		}
 	}
 
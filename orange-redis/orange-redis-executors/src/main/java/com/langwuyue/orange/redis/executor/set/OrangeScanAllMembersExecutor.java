@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.redis.executor.set;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.List;
+
+import com.langwuyue.orange.redis.RedisValueTypeEnum;
+import com.langwuyue.orange.redis.annotation.Count;
+import com.langwuyue.orange.redis.annotation.GetMembers;
+import com.langwuyue.orange.redis.annotation.ScanPattern;
+import com.langwuyue.orange.redis.context.OrangeRedisContext;
+import com.langwuyue.orange.redis.context.OrangeRedisScanContext;
+import com.langwuyue.orange.redis.executor.OrangeRedisAbstractExecutor;
+import com.langwuyue.orange.redis.executor.OrangeScanIterator;
+import com.langwuyue.orange.redis.executor.OrangeScanIterator.Page;
+import com.langwuyue.orange.redis.mapping.OrangeRedisExecutorIdGenerator;
+import com.langwuyue.orange.redis.operations.OrangeRedisSetOperations;
+import com.langwuyue.orange.redis.operations.OrangeRedisSetOperations.ScanResults;
+import com.langwuyue.orange.redis.utils.OrangeCollectionUtils;
+
+/**
+ * Streams all members matching the pattern, {@code @Count} members are read with each {@code SSCAN}.
+ * 
+ * @author Liang.Zhong
+ * @since 1.0.0
+ * @see OrangeScanIterator
+ */
+public class OrangeScanAllMembersExecutor extends OrangeRedisAbstractExecutor {
+	
+	private OrangeRedisSetOperations operations;
+
+	public OrangeScanAllMembersExecutor(OrangeRedisSetOperations operations,OrangeRedisExecutorIdGenerator idGenerator) {
+		super(idGenerator);
+		this.operations = operations;
+	}
+
+	@Override
+	protected List<Class<? extends Annotation>> getSupportedAnnotationClasses() {
+		return OrangeCollectionUtils.asList(GetMembers.class,ScanPattern.class,Count.class);
+	}
+
+	@Override
+	public Object execute(OrangeRedisContext context) throws Exception {
+		OrangeRedisScanContext ctx = (OrangeRedisScanContext) context;
+		String key = context.getRedisKey().getValue();
+		String pattern = ctx.getPattern();
+		Integer count = ctx.getCount();
+		RedisValueTypeEnum valueType = context.getValueType();
+		Type elementType = OrangeScanIterator.getElementType(context.getGenericReturnType());
+		return OrangeScanIterator.toReturnValue(context.getReturnType(), cursor -> {
+			ScanResults scanResults = this.operations.scanByCursor(key, pattern, count, cursor, valueType, elementType);
+			return new Page<>(scanResults.getMembers(), scanResults.getCursor());
+		});
+	}
+
+	@Override
+	public Class<? extends OrangeRedisContext> getContextClass() {
+		return OrangeRedisScanContext.class;
+	}
+
+	@Override
+	public boolean isLazy() {
+		return true;
+	}
+}
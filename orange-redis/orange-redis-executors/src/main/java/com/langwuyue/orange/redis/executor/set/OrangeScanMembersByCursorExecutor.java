@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.redis.executor.set;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.List;
+
+import com.langwuyue.orange.redis.annotation.Count;
+import com.langwuyue.orange.redis.annotation.GetMembers;
+import com.langwuyue.orange.redis.annotation.ScanCursor;
+import com.langwuyue.orange.redis.annotation.ScanPattern;
+import com.langwuyue.orange.redis.context.OrangeRedisContext;
+import com.langwuyue.orange.redis.context.OrangeRedisScanContext;
+import com.langwuyue.orange.redis.mapping.OrangeRedisExecutorIdGenerator;
+import com.langwuyue.orange.redis.operations.OrangeRedisSetOperations;
+import com.langwuyue.orange.redis.operations.OrangeRedisSetOperations.ScanResults;
+import com.langwuyue.orange.redis.utils.OrangeCollectionUtils;
+
+/**
+ * <h3>Reads one page of {@code SSCAN} from the cursor returned by the previous page.</h3>
+ * <p>
+ * The page costs only itself whatever the position of the page is,
+ * the returned map holds the next cursor, {@code 0} once the iteration is completed.
+ * </p>
+ * 
+ * @author Liang.Zhong
+ * @since 1.0.0
+ */
+public class OrangeScanMembersByCursorExecutor extends OrangeScanMembersExecutor {
+	
+	private OrangeRedisSetOperations operations;
+
+	public OrangeScanMembersByCursorExecutor(OrangeRedisSetOperations operations,OrangeRedisExecutorIdGenerator idGenerator) {
+		super(operations,idGenerator);
+		this.operations = operations;
+	}
+
+	@Override
+	protected List<Class<? extends Annotation>> getSupportedAnnotationClasses() {
+		return OrangeCollectionUtils.asList(GetMembers.class,ScanPattern.class,Count.class,ScanCursor.class);
+	}
+
+	@Override
+	protected Collection doGet(OrangeRedisContext context, Field valueField, Type returnArgumentType) throws Exception {
+		OrangeRedisScanContext ctx = (OrangeRedisScanContext) context;
+		ScanResults scanResults = this.operations.scanByCursor(
+			context.getRedisKey().getValue(), 
+			ctx.getPattern(),
+			ctx.getCount(),
+			ctx.getCursor(),
+			context.getValueType(), 
+			valueField == null ? returnArgumentType : valueField.getGenericType()
+		);
+		if(scanResults == null) {
+			return null;
+		}
+		return OrangeCollectionUtils.asList(scanResults);
+	}
+
+	@Override
+	public Class<? extends OrangeRedisContext> getContextClass() {
+		return OrangeRedisScanContext.class;
+	}
+}
@@ -87,7 +87,7 @@ public class OrangeScanMembersExecutor extends OrangeRedisGetAbstractExecutor {
 		}
 		List list = (List) result;
 		ScanResults scanResults = (ScanResults)list.get(0);
-		Class<?> returnClass = context.getOperationMethod().getReturnType();
+		Class<?> returnClass = context.getReturnType();
 		if(returnClass == Map.class || returnClass.isAssignableFrom(LinkedHashMap.class)) {
 			Map<Long,Set<Object>> map = new LinkedHashMap<>();
 			map.put(scanResults.getCursor(), scanResults.getMembers());
@@ -103,9 +103,9 @@ public class OrangeScanMembersExecutor extends OrangeRedisGetAbstractExecutor {
 	
 	@Override
 	protected Type getReturnArgumentType(OrangeRedisContext context){
-		Class<?> returnClass = context.getOperationMethod().getReturnType();
+		Class<?> returnClass = context.getReturnType();
 		if(returnClass == Map.class || returnClass.isAssignableFrom(LinkedHashMap.class)) {
-			Type mapValueType = OrangeReflectionUtils.getMapValueType(context.getOperationMethod().getGenericReturnType());
+			Type mapValueType = OrangeReflectionUtils.getMapValueType(context.getGenericReturnType());
 			return OrangeReflectionUtils.getCollectionOrArrayArgumentType(mapValueType);
 		}
 		return super.getReturnArgumentType(context);
@@ -22,11 +22,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import com.langwuyue.orange.redis.OrangeRedisException;
+import com.langwuyue.orange.redis.RedisValueTypeEnum;
 import com.langwuyue.orange.redis.executor.multiplelocks.OrangeExpirationTimeAutoInitializer;
 import com.langwuyue.orange.redis.listener.OrangeRedisMultipleSetIfAbsentListener;
 import com.langwuyue.orange.redis.logger.OrangeRedisLogger;
@@ -35,6 +37,7 @@ import com.langwuyue.orange.redis.operations.OrangeRedisScriptOperations;
 import com.langwuyue.orange.redis.operations.OrangeRedisSetOperations;
 import com.langwuyue.orange.redis.operations.OrangeRedisZSetOperations;
 import com.langwuyue.orange.redis.timer.OrangeRenewTimerWheel;
+import com.langwuyue.orange.redis.utils.OrangeCollectionUtils;
 
 /**
  * @author Liang.Zhong
@@ -44,6 +47,40 @@ public class OrangeRedisDefaultTransactionManager implements OrangeRedisTransact
 	
 	private static final ThreadLocal<List<OrangeTransactionCommitInfo>> TRANSACTION_INFOS = new ThreadLocal<>();
 	
+	/**
+	 * The version of the transaction key serialized into {@code ARGV[4]}, it is replaced with the allocated version by the script.
+	 */
+	private static final long VERSION_PLACEHOLDER = Long.MIN_VALUE;
+	
+	/**
+	 * Script for production, allocate the version, write the value and register the transaction for GC and timeout callback.
+	 * KEYS: the transaction key, the GC registry, the uncommitted registry, the callback metric.
+	 * ARGV: the next version field, the version prefix, the value, the transaction key with the placeholder version, 
+	 * the placeholder, the score, the callback metric, the transaction key name.
+	 * Returns {@code nil} without writing anything if the placeholder is not found, the transaction key may be compressed.
+	 */
+	private static final String WRITE_LUA_SCRIPT = String.join("\n",
+		"local s, e = string.find(ARGV[4], ARGV[5], 1, true);",
+		"if not s then",
+		"    return nil;",
+		"end;",
+		"local version = tostring(redis.call('HINCRBY', KEYS[1], ARGV[1], 1));",
+		"redis.call('HSET', KEYS[1], ARGV[2] .. version, ARGV[3]);",
+		"redis.call('SADD', KEYS[2], ARGV[8]);",
+		"local member = string.sub(ARGV[4], 1, s - 1) .. version .. string.sub(ARGV[4], e + 1);",
+		"redis.call('ZADD', KEYS[3], ARGV[6], member);",
+		"redis.call('HSET', KEYS[4], member, ARGV[7]);",
+		"return version;"
+	);
+	
+	/**
+	 * Script for debug
+	 */
+	private static final String WRITE_LUA_SCRIPT_DEBUG = String.join("\n",
+		"redis.log(redis.LOG_NOTICE, string.format('OrangeRedisDefaultTransactionManager writing, key: %s', tostring(KEYS[1])));",
+		WRITE_LUA_SCRIPT
+	);
+	
 	private OrangeRedisTransactionGarbageCollector transactionGC;
 	
 	private OrangeRedisTransactionTimeoutCallbackExecutor transactionTimeoutCallbackExecutor;
@@ -52,6 +89,10 @@ public class OrangeRedisDefaultTransactionManager implements OrangeRedisTransact
 	
 	private boolean enabled = false;
 	
+	private boolean scriptedWrite = false;
+	
+	private OrangeRedisScriptOperations scriptOperations;
+	
 	private OrangeRedisLogger logger;
 	
 	public OrangeRedisDefaultTransactionManager(
@@ -71,6 +112,9 @@ public class OrangeRedisDefaultTransactionManager implements OrangeRedisTransact
 		if(!this.enabled) {
 			return;
 		}
+		this.scriptedWrite = properties.isScriptedWrite();
+		this.scriptOperations = scriptOperations;
+		this.scriptOperations.register(WRITE_LUA_SCRIPT, WRITE_LUA_SCRIPT_DEBUG);
 		// Commit executor mapping for auto commit
 		this.proccessorNameMap = new HashMap<>();
 		namedProcessorExecutorMap.forEach((k,v) -> this.proccessorNameMap.put(v, k));
@@ -84,7 +128,7 @@ public class OrangeRedisDefaultTransactionManager implements OrangeRedisTransact
 			logger
 		);
 		this.transactionGC = new OrangeRedisTransactionGarbageCollector(
-			operations,
+			scriptOperations,
 			setOperations,
 			properties,
 			logger,
@@ -117,17 +161,41 @@ public class OrangeRedisDefaultTransactionManager implements OrangeRedisTransact
 		if(infos == null) {
 			return;
 		}
-		for(OrangeTransactionCommitInfo info : infos) {
-			OrangeTransactionCommitProcessor processor = info.getProcessor();
-			OrangeRedisTransactionKey transactionKey = info.getTransactionKey();
-			// Note: This code runs successfully even if the timeout callback returns a failure first.
-			boolean success = processor.getCommitExecutor().commit(transactionKey.getKey(), transactionKey.getVersion());
-			if(!success) {
-				this.logger.warn("Failed to commit Redis transaction {},maybe higher version committed already.", transactionKey);
+		try {
+			// Commit the keys of a processor together, usually all keys have the same processor.
+			Map<OrangeTransactionCommitProcessor, List<OrangeRedisTransactionKey>> processorKeysMap = new LinkedHashMap<>();
+			for(OrangeTransactionCommitInfo info : infos) {
+				processorKeysMap.computeIfAbsent(info.getProcessor(), k -> new ArrayList<>()).add(info.getTransactionKey());
 			}
-			this.transactionTimeoutCallbackExecutor.remove(info.getTransactionKey());
+			List<OrangeRedisTransactionKey> completedKeys = new ArrayList<>(infos.size());
+			for(Map.Entry<OrangeTransactionCommitProcessor, List<OrangeRedisTransactionKey>> entry : processorKeysMap.entrySet()) {
+				List<OrangeRedisTransactionKey> transactionKeys = entry.getValue();
+				int size = transactionKeys.size();
+				List<String> keys = new ArrayList<>(size);
+				List<Long> versions = new ArrayList<>(size);
+				for(OrangeRedisTransactionKey transactionKey : transactionKeys) {
+					keys.add(transactionKey.getKey());
+					versions.add(transactionKey.getVersion());
+				}
+				// Note: This code runs successfully even if the timeout callback returns a failure first.
+				Boolean[] results = entry.getKey().getCommitExecutor().commit(keys, versions);
+				for(int i = 0; i < size; i++) {
+					OrangeRedisTransactionKey transactionKey = transactionKeys.get(i);
+					if(results[i] == null) {
+						// Keep it in the registry, the timeout callback will commit it.
+						this.logger.warn("Failed to commit Redis transaction {}, it will be handled by the timeout callback.", transactionKey);
+						continue;
+					}
+					if(!results[i]) {
+						this.logger.warn("Failed to commit Redis transaction {},maybe higher version committed already.", transactionKey);
+					}
+					completedKeys.add(transactionKey);
+				}
+			}
+			this.transactionTimeoutCallbackExecutor.remove(completedKeys);
+		}finally {
+			TRANSACTION_INFOS.remove();
 		}
-		TRANSACTION_INFOS.remove();
 	}
 	
 	public void alreadyCommittedManually() throws Exception {
@@ -163,13 +231,89 @@ public class OrangeRedisDefaultTransactionManager implements OrangeRedisTransact
 		OrangeTransactionCommitProcessor processor,
 		OrangeRedisTransactionKey transactionKey
 	) throws Exception {
-		if(!this.enabled) {
-			throw new OrangeRedisException("Invalid operation, transactions has been disabled. To enable, set `orange.redis.transaction.enabled=true` in application.yml");
-		}
+		checkEnabled();
 		this.transactionGC.register(transactionKey.getKey());
 		transactionKey.setTxBeginTime(System.currentTimeMillis());
 		transactionKey.setTxType(this.proccessorNameMap.get(processor));
 		this.transactionTimeoutCallbackExecutor.register(transactionKey);
+		addTransactionInfo(processor, transactionKey);
+	}
+	
+	/**
+	 * Allocate the version, write the value of the version and save the transaction information with one script call,
+	 * instead of the commands sent by the set executor and {@link #saveTransactionInfo(OrangeTransactionCommitProcessor, OrangeRedisTransactionKey)}.
+	 * 
+	 * @param transactionKey the key, the origin key and the value are required, the version is set by this method
+	 * @return the version, {@code null} if nothing was written because the scripted write is disabled or can not be used, 
+	 * the caller must write the value and save the transaction information by commands then.
+	 * @throws Exception
+	 */
+	public Long writeAndSaveTransactionInfo(
+		OrangeTransactionCommitProcessor processor,
+		OrangeRedisTransactionKey transactionKey,
+		Object value,
+		RedisValueTypeEnum valueType
+	) throws Exception {
+		checkEnabled();
+		if(!this.scriptedWrite) {
+			return null;
+		}
+		transactionKey.setVersion(VERSION_PLACEHOLDER);
+		transactionKey.setTxBeginTime(System.currentTimeMillis());
+		transactionKey.setTxType(this.proccessorNameMap.get(processor));
+		// Change script when debug is enabled.
+		String script = WRITE_LUA_SCRIPT;
+		if(this.logger.isDebugEnabled()) {
+			script = WRITE_LUA_SCRIPT_DEBUG;
+		}
+		Long version = (Long) this.scriptOperations.execute(
+			script, 
+			new RedisValueTypeEnum[] {
+				RedisValueTypeEnum.STRING,
+				RedisValueTypeEnum.STRING,
+				valueType,
+				RedisValueTypeEnum.JSON,
+				RedisValueTypeEnum.STRING,
+				RedisValueTypeEnum.DOUBLE,
+				RedisValueTypeEnum.JSON,
+				RedisValueTypeEnum.STRING
+			},
+			RedisValueTypeEnum.LONG,
+			Long.class,
+			OrangeCollectionUtils.asList(
+				transactionKey.getKey(),
+				this.transactionGC.getGcRegistry(),
+				this.transactionTimeoutCallbackExecutor.getRegistry(),
+				this.transactionTimeoutCallbackExecutor.getCallbackMetric()
+			),
+			OrangeRedisTransactionKeyConstants.NEXT_VERSION,
+			OrangeRedisTransactionKeyConstants.VERSION_PREFIX,
+			value,
+			transactionKey,
+			String.valueOf(VERSION_PLACEHOLDER),
+			this.transactionTimeoutCallbackExecutor.computeScore(transactionKey.getTxBeginTime()),
+			this.transactionTimeoutCallbackExecutor.newMetric(),
+			transactionKey.getKey()
+		);
+		if(version == null) {
+			this.logger.debug("The transaction key {} can not be written by script, it is written by commands.", transactionKey.getKey());
+			return null;
+		}
+		transactionKey.setVersion(version);
+		addTransactionInfo(processor, transactionKey);
+		return version;
+	}
+	
+	private void checkEnabled() {
+		if(!this.enabled) {
+			throw new OrangeRedisException("Invalid operation, transactions has been disabled. To enable, set `orange.redis.transaction.enabled=true` in application.yml");
+		}
+	}
+	
+	private void addTransactionInfo(
+		OrangeTransactionCommitProcessor processor,
+		OrangeRedisTransactionKey transactionKey
+	) {
 		List<OrangeTransactionCommitInfo> infos = TRANSACTION_INFOS.get();
 		if(infos == null) {
 			infos = new ArrayList<>();
@@ -212,6 +356,13 @@ public class OrangeRedisDefaultTransactionManager implements OrangeRedisTransact
 		}
 	}
 	
+	/**
+	 * @return {@code null} if transactions are disabled
+	 */
+	public OrangeRedisTransactionTimeoutCallbackExecutor getTransactionTimeoutCallbackExecutor() {
+		return transactionTimeoutCallbackExecutor;
+	}
+	
 	public Set<Object> getDeadTransaction() throws Exception {
 		if(!this.enabled) {
 			return new HashSet<>();
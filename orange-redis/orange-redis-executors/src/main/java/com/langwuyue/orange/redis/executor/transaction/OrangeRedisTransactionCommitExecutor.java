@@ -18,6 +18,8 @@
  */
 package com.langwuyue.orange.redis.executor.transaction;
 
+import java.util.List;
+
 /**
  * @author Liang.Zhong
  * @since 1.0.0
@@ -25,4 +27,18 @@ package com.langwuyue.orange.redis.executor.transaction;
 public interface OrangeRedisTransactionCommitExecutor {
 	
 	boolean commit(String key,Long version) throws Exception;
+	
+	/**
+	 * Commit many keys at once.
+	 * 
+	 * @return the result of each key in order, {@code null} if the commit of the key failed
+	 */
+	default Boolean[] commit(List<String> keys, List<Long> versions) throws Exception {
+		int size = keys.size();
+		Boolean[] results = new Boolean[size];
+		for(int i = 0; i < size; i++) {
+			results[i] = commit(keys.get(i), versions.get(i));
+		}
+		return results;
+	}
 }
@@ -18,7 +18,10 @@
  */
 package com.langwuyue.orange.redis.executor.transaction;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -35,7 +38,7 @@ import com.langwuyue.orange.redis.listener.multiplelocks.OrangeMultipleLocksEven
 import com.langwuyue.orange.redis.listener.multiplelocks.OrangeMultipleLocksRemoveFailedEvent;
 import com.langwuyue.orange.redis.listener.multiplelocks.OrangeRedisMultipleLocksListener;
 import com.langwuyue.orange.redis.logger.OrangeRedisLogger;
-import com.langwuyue.orange.redis.operations.OrangeRedisHashOperations;
+import com.langwuyue.orange.redis.operations.OrangeRedisScriptOperations;
 import com.langwuyue.orange.redis.operations.OrangeRedisSetOperations;
 import com.langwuyue.orange.redis.operations.OrangeRedisSetOperations.ScanResults;
 import com.langwuyue.orange.redis.registry.OrangeRedisKeyRegistry;
@@ -48,9 +51,66 @@ public class OrangeRedisTransactionGarbageCollector implements Runnable, OrangeR
 	
 	private static final String TRANSACTION_GC_KEY_REGISTRY = "orange:transaction:gc:keys:registry:";
 	
+	/**
+	 * Bound of the historical versions removed by one script call whatever the number of keys is, 
+	 * the versions left are removed by the next passes.
+	 */
+	private static final long MAX_VERSIONS_PER_CALL = 10000L;
+	
+	/**
+	 * Script for production, clear the historical versions of many keys with one call.
+	 * {@code ARGV[1]} is {@link #MAX_VERSIONS_PER_CALL}, shared by all keys of the call.
+	 * Returns a flag per key, {@code '1'} the key is cleared or invalid and can be removed from the GC registry, 
+	 * {@code '0'} some versions are left for the next pass, or the key is not visited once the bound is reached.
+	 */
+	private static final String CLEAR_LUA_SCRIPT = String.join("\n",
+		"local budget = tonumber(ARGV[1]);",
+		"local flags = {};",
+		"for i = 1, #KEYS do",
+		"    local key = KEYS[i];",
+		"    flags[i] = '0';",
+		"    if budget > 0 then",
+		"        flags[i] = '1';",
+		"        local version = redis.call('HGET', key, '" + OrangeRedisTransactionKeyConstants.CURRENT_VERSION + "');",
+		"        if version then",
+		"            local current = tonumber(redis.call('HGET', key, '" + OrangeRedisTransactionKeyConstants.CLEAR_OLD_VERSION_CURSOR + "') or '0');",
+		"            local target = tonumber(version);",
+		"            if target - current > budget then",
+		"                target = current + budget;",
+		"                flags[i] = '0';",
+		"            end;",
+		"            local fields = {};",
+		"            for v = current, target - 1 do",
+		"                fields[#fields + 1] = '" + OrangeRedisTransactionKeyConstants.VERSION_PREFIX + "' .. v;",
+		"                if #fields >= 1000 then",
+		"                    redis.call('HDEL', key, unpack(fields));",
+		"                    fields = {};",
+		"                end;",
+		"            end;",
+		"            if #fields > 0 then",
+		"                redis.call('HDEL', key, unpack(fields));",
+		"            end;",
+		"            if target > current then",
+		"                redis.call('HSET', key, '" + OrangeRedisTransactionKeyConstants.CLEAR_OLD_VERSION_CURSOR + "', target);",
+		"                budget = budget - (target - current);",
+		"            end;",
+		"        end;",
+		"    end;",
+		"end;",
+		"return table.concat(flags);"
+	);
+	
+	/**
+	 * Script for debug
+	 */
+	private static final String CLEAR_LUA_SCRIPT_DEBUG = String.join("\n",
+		"redis.log(redis.LOG_NOTICE, string.format('OrangeRedisTransactionGarbageCollector clearing %d keys', #KEYS));",
+		CLEAR_LUA_SCRIPT
+	);
+	
 	private ScheduledExecutorService executorService;
 	
-	private OrangeRedisHashOperations operations;
+	private OrangeRedisScriptOperations scriptOperations;
 	
 	private OrangeRedisSetOperations setOperations;
 	
@@ -67,7 +127,7 @@ public class OrangeRedisTransactionGarbageCollector implements Runnable, OrangeR
 	private OrangeRedisTransactionTimeoutCallbackExecutor transactionTimeoutCallbackExecutor;
 	
 	public OrangeRedisTransactionGarbageCollector(
-		OrangeRedisHashOperations operations, 
+		OrangeRedisScriptOperations scriptOperations, 
 		OrangeRedisSetOperations setOperations,
 		OrangeRedisTransactionProperties properties,
 		OrangeRedisLogger logger,
@@ -76,7 +136,8 @@ public class OrangeRedisTransactionGarbageCollector implements Runnable, OrangeR
 		super();
 		// A single schedule thread.
 		this.executorService = Executors.newScheduledThreadPool(1,new OrangeTransactionGarbageCollectorThreadFactory());
-		this.operations = operations;
+		this.scriptOperations = scriptOperations;
+		this.scriptOperations.register(CLEAR_LUA_SCRIPT, CLEAR_LUA_SCRIPT_DEBUG);
 		this.properties = properties;
 		this.setOperations = setOperations;
 		this.cursor = 0;
@@ -114,6 +175,10 @@ public class OrangeRedisTransactionGarbageCollector implements Runnable, OrangeR
 		this.setOperations.add(this.gcRegistry, RedisValueTypeEnum.STRING, key);
 	}
 	
+	String getGcRegistry() {
+		return gcRegistry;
+	}
+	
 	@Override
 	public void onCompleted(OrangeMultipleLocksEvent event) {
 		try {
@@ -150,62 +215,59 @@ public class OrangeRedisTransactionGarbageCollector implements Runnable, OrangeR
 		}
 	}
 	
+	/**
+	 * Clear the historical versions page by page until the time budget is used up or all keys of the registry are scanned.
+	 * The next pass continues from the cursor where this pass stopped.
+	 */
 	private void clear() throws Exception {
 		if(this.setOperations == null) {
 			return;
 		}
+		long deadline = System.nanoTime() + this.properties.getGcTimeBudget().toNanos();
+		do {
+			clearPage();
+			if(this.cursor == 0) {
+				logger.debug("Transaction GC completed key scanning");
+				return;
+			}
+		}while(System.nanoTime() < deadline);
+		logger.debug("Transaction GC used up the time budget, it will continue from the cursor {} next time", this.cursor);
+	}
+	
+	private void clearPage() throws Exception {
 		// Scan keys
-		ScanResults results = this.setOperations.scan(this.gcRegistry, "*", 1000, this.cursor, RedisValueTypeEnum.STRING, String.class);
-		if(results == null || results.getMembers().isEmpty()) {
-			logger.debug("Transaction GC completed key scanning");
-			// Reset cursor.
-			this.cursor = 1;
+		ScanResults results = this.setOperations.scanByCursor(this.gcRegistry, "*", this.properties.getGcScanCount(), this.cursor, RedisValueTypeEnum.STRING, String.class);
+		// The next page continues from the cursor replied by the server, the cursor 0 starts a new iteration.
+		this.cursor = results.getCursor();
+		if(results.getMembers().isEmpty()) {
 			return;
 		}
-		// Set for collecting invalid keys, the invalid keys will be removed at last.
-		Set<String> invalidKeys = new LinkedHashSet<>();
-		Set<Object> keys = results.getMembers();
-		for(Object keyObject : keys) {
-			String key = (String)keyObject;
-			logger.debug("Transaction GC is clearing the history versions of {}.", key);
-			
-			// Get current version
-			Object result = this.operations.get(key, OrangeRedisTransactionKeyConstants.CURRENT_VERSION, RedisValueTypeEnum.STRING, RedisValueTypeEnum.LONG, Long.class);
-			if(result == null) {
-				invalidKeys.add(key);
-				logger.debug("The key({}) of Transaction GC is invalid.", key);
-				continue;
-			}
-			
-			// Get cursor position of this key
-			Long version = (Long) result;
-			result = this.operations.get(key, OrangeRedisTransactionKeyConstants.CLEAR_OLD_VERSION_CURSOR, RedisValueTypeEnum.STRING, RedisValueTypeEnum.LONG, Long.class);
-			Long current = 0L;
-			if(result != null) {
-				current = (Long) result;
-			}
-			
-			// Generate version keys before current version.
-			Object[] hashKeys = new Object[(int)(version-current)];
-			for(int i = 0; current < version; current++,i++) {
-				hashKeys[i] = OrangeRedisTransactionKeyConstants.VERSION_PREFIX+current;
-			}
-			
-			// Clear history versions
-			logger.debug("The key's({}) history versions({}) will be clear by Transaction GC.", key, hashKeys);
-			Long removed = this.operations.removeMembers(key, RedisValueTypeEnum.STRING, hashKeys);
-			logger.debug("Transaction GC was cleared {} history versions of {}.", removed, key);
-			
-			// Update cursor position of this key for the next cleanup cycle.
-			this.operations.putMember(key, OrangeRedisTransactionKeyConstants.CLEAR_OLD_VERSION_CURSOR, current, RedisValueTypeEnum.STRING, RedisValueTypeEnum.LONG);
-			invalidKeys.add(key);
+		List<String> keys = new ArrayList<>(results.getMembers().size());
+		for(Object key : results.getMembers()) {
+			keys.add((String) key);
+		}
+		// Change script when debug is enabled.
+		String script = CLEAR_LUA_SCRIPT;
+		if(this.logger.isDebugEnabled()) {
+			script = CLEAR_LUA_SCRIPT_DEBUG;
 		}
+		// The historical versions of the whole page are cleared by one script call per slot, each call removes at most MAX_VERSIONS_PER_CALL versions.
+		Object[] args = new Object[keys.size()];
+		Arrays.fill(args, MAX_VERSIONS_PER_CALL);
+		RedisValueTypeEnum[] argsValueTypes = new RedisValueTypeEnum[args.length];
+		Arrays.fill(argsValueTypes, RedisValueTypeEnum.LONG);
+		Boolean[] cleared = this.scriptOperations.executeForEachKey(script, 1, argsValueTypes, keys, args);
 		
-		// Remove invalid keys from GC keys registry.
-		this.setOperations.remove(this.gcRegistry, RedisValueTypeEnum.STRING, invalidKeys.toArray());
-		if(results.getCursor() != 0) {
-			// Update the cursor position for the next iteration of SCAN.
-			this.cursor = results.getCursor();
+		// Cleared and invalid keys are removed from GC keys registry, they are registered again by the next write.
+		Set<String> clearedKeys = new LinkedHashSet<>();
+		for(int i = 0; i < cleared.length; i++) {
+			if(Boolean.TRUE.equals(cleared[i])) {
+				clearedKeys.add(keys.get(i));
+			}
+		}
+		logger.debug("Transaction GC cleared the history versions of {} keys.", clearedKeys.size());
+		if(!clearedKeys.isEmpty()) {
+			this.setOperations.remove(this.gcRegistry, RedisValueTypeEnum.STRING, clearedKeys.toArray());
 		}
 	}
 	
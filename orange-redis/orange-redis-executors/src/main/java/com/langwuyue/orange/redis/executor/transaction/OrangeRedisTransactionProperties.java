@@ -36,6 +36,16 @@ public class OrangeRedisTransactionProperties {
 	 */
     private Duration gcThreadPeriod = Duration.ofMinutes(10);
     
+    /**
+     * Time budget of clearing historical versions in a GC pass, the next pass continues from where this one stopped.
+     */
+    private Duration gcTimeBudget = Duration.ofMinutes(1);
+    
+    /**
+     * Keys of the GC registry read by a page of SCAN, the historical versions of a page are cleared together.
+     */
+    private int gcScanCount = 1000;
+    
     /**
      * The delay before first execution after the transaction callback thread is ready.
      */
@@ -62,6 +72,18 @@ public class OrangeRedisTransactionProperties {
      */
     private int timeoutCallbackTimes = 294;
     
+    /**
+     * Timed out transactions are split into partitions by the hash of the key, each partition is locked and handled by one worker.
+     * It must be the same on all nodes of the service.
+     */
+    private int timeoutCallbackPartitions = 16;
+    
+    /**
+     * Workers claiming and handling the partitions, each worker claims the free partitions one at a time until none is left 
+     * or the callback period ends.
+     */
+    private int timeoutCallbackThreads = 4;
+    
     /**
      * Dead transaction retention threshold:
      * - Transactions no retry attempts
@@ -76,6 +98,13 @@ public class OrangeRedisTransactionProperties {
     private String serviceName;
     
     private boolean enabled = true;
+    
+    /**
+     * Write the value and register the transaction with one script call instead of five commands.
+     * Only enable it on a standalone or sentinel Redis, on Redis Cluster the transaction key 
+     * and the registries of the service are in different slots and the script is rejected.
+     */
+    private boolean scriptedWrite = false;
 
 	public Duration getGcThreadInitialDelay() {
 		return gcThreadInitialDelay;
@@ -156,4 +185,44 @@ public class OrangeRedisTransactionProperties {
 	public void setEnabled(boolean enabled) {
 		this.enabled = enabled;
 	}
+
+	public boolean isScriptedWrite() {
+		return scriptedWrite;
+	}
+
+	public void setScriptedWrite(boolean scriptedWrite) {
+		this.scriptedWrite = scriptedWrite;
+	}
+
+	public int getTimeoutCallbackPartitions() {
+		return timeoutCallbackPartitions;
+	}
+
+	public void setTimeoutCallbackPartitions(int timeoutCallbackPartitions) {
+		this.timeoutCallbackPartitions = timeoutCallbackPartitions;
+	}
+
+	public int getTimeoutCallbackThreads() {
+		return timeoutCallbackThreads;
+	}
+
+	public void setTimeoutCallbackThreads(int timeoutCallbackThreads) {
+		this.timeoutCallbackThreads = timeoutCallbackThreads;
+	}
+
+	public Duration getGcTimeBudget() {
+		return gcTimeBudget;
+	}
+
+	public void setGcTimeBudget(Duration gcTimeBudget) {
+		this.gcTimeBudget = gcTimeBudget;
+	}
+
+	public int getGcScanCount() {
+		return gcScanCount;
+	}
+
+	public void setGcScanCount(int gcScanCount) {
+		this.gcScanCount = gcScanCount;
+	}
 }
@@ -21,15 +21,26 @@ package com.langwuyue.orange.redis.executor.transaction;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiConsumer;
 
 import com.langwuyue.orange.redis.OrangeRedisException;
@@ -53,12 +64,17 @@ import com.langwuyue.orange.redis.utils.OrangeReflectionUtils;
  * <h3>Transaction timeout callback executor</h3>
  * 1. Callback when transaction timeout
  * 2. Clear dead transaction
+ * <p>
+ * Timed out transactions are split into partitions by the hash of the key, each partition is locked as a whole.
+ * Each run the workers of a node claim the free partitions one at a time until none is left or the callback period ends, 
+ * a partition locked by another node is skipped, so that the backlog is shared by the nodes of the service.
+ * </p>
  * 
  * 
  * @author Liang.Zhong
  * @since 1.0.0
  */
-public class OrangeRedisTransactionTimeoutCallbackExecutor implements Runnable, OrangeRedisMultipleLocksListener,OrangeRedisIterableContext {
+public class OrangeRedisTransactionTimeoutCallbackExecutor implements Runnable, OrangeRedisMultipleLocksListener {
 	
 	private static final String UNCOMMITTED_TRANSACTION_KEYS_REGISTRY = "orange:transaction:uncommit:keys:registry:";
 	
@@ -86,6 +102,21 @@ public class OrangeRedisTransactionTimeoutCallbackExecutor implements Runnable,
 	
 	private Map<String,OrangeTransactionCommitProcessor> namedProcessorExecutorMap;
 	
+	/**
+	 * Workers claiming and handling the partitions.
+	 */
+	private ExecutorService workers;
+	
+	private volatile int backlog;
+	
+	private final AtomicInteger activePartitions = new AtomicInteger();
+	
+	private final LongAdder handled = new LongAdder();
+	
+	private final LongAdder errors = new LongAdder();
+	
+	private final LongAdder handleNanos = new LongAdder();
+	
 	public OrangeRedisTransactionTimeoutCallbackExecutor(
 		OrangeRedisZSetOperations operations,
 		OrangeRedisHashOperations hashOperations,
@@ -104,6 +135,10 @@ public class OrangeRedisTransactionTimeoutCallbackExecutor implements Runnable,
 		
 		// A single schedule thread.
 		this.executorService = Executors.newScheduledThreadPool(1, new OrangeTransactionTimeoutCallbackExecutorThreadFactory());
+		this.workers = Executors.newFixedThreadPool(
+			Math.max(1, properties.getTimeoutCallbackThreads()), 
+			new OrangeTransactionTimeoutCallbackWorkerThreadFactory()
+		);
 		
 		// Different service has different key
 		this.registry = UNCOMMITTED_TRANSACTION_KEYS_REGISTRY + properties.getServiceName();
@@ -139,18 +174,69 @@ public class OrangeRedisTransactionTimeoutCallbackExecutor implements Runnable,
 				return;
 			}
 			logger.debug("Transaction timeout callback is executing now.");
-			this.runner.run(OrangeRedisTransactionDaemonRunner.CALLBACK,this,this.properties.getTimeoutCallbackPeriod().toMillis());
+			claimAndHandle();
 			logger.debug("Transaction timeout callback done.");
-		} catch (Exception e) {
+		}catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			logger.warn("Transaction timeout callback is interrupted");
+		}catch (Exception e) {
 			logger.error("Transaction timeout callback execute error", e);
 		}
 	}
 	
+	/**
+	 * Every worker claims the partitions left one by one until none is left or the callback period ends.
+	 */
+	private void claimAndHandle() throws Exception {
+		Queue<OrangeTransactionTimeoutPartition> partitions = getTimeoutPartitions();
+		if(partitions.isEmpty()) {
+			return;
+		}
+		long period = this.properties.getTimeoutCallbackPeriod().toMillis();
+		long start = System.currentTimeMillis();
+		long deadline = start + period;
+		logger.info("Transaction timeout callback begin");
+		int threads = Math.min(Math.max(1, this.properties.getTimeoutCallbackThreads()), partitions.size());
+		List<Future<?>> futures = new ArrayList<>();
+		for(int i = 0; i < threads; i++) {
+			futures.add(this.workers.submit(() -> claim(partitions, deadline, period)));
+		}
+		for(Future<?> future : futures) {
+			try {
+				future.get();
+			}catch (ExecutionException e) {
+				logger.error("Transaction timeout callback execute error", e.getCause());
+			}
+		}
+		long cost = System.currentTimeMillis() - start;
+		logger.info("Transaction timeout callback finished in {}ms, {} partitions left to the next run", cost, partitions.size());
+		if(cost >= period) {
+			this.logger.warn("Transaction timeout callback execution time {}ms > Transaction timeout callback interval {}ms.", cost, period);
+		}
+	}
+	
+	/**
+	 * Lock and handle one partition at a time, the partition is handled by the calling worker in {@link #onCompleted(OrangeMultipleLocksEvent)}.
+	 */
+	private void claim(Queue<OrangeTransactionTimeoutPartition> partitions, long deadline, long period) {
+		OrangeTransactionTimeoutPartition partition;
+		while(System.currentTimeMillis() < deadline && (partition = partitions.poll()) != null) {
+			try {
+				this.runner.run(OrangeRedisTransactionDaemonRunner.CALLBACK, partition, period);
+			}catch (Exception e) {
+				logger.error(String.format("Transaction timeout callback of the partition %s error", partition.getIndex()), e);
+			}
+		}
+	}
+	
 	public void destory() {
 		if(this.executorService != null) {
 			this.logger.info("Transaction callback thread pool is shutting down now");
 			this.executorService.shutdown();
 		}
+		if(this.workers != null) {
+			this.workers.shutdown();
+		}
 	}
 	
 	/**
@@ -177,16 +263,39 @@ public class OrangeRedisTransactionTimeoutCallbackExecutor implements Runnable,
 		this.operations.add(this.registry, entries, RedisValueTypeEnum.JSON);
 		
 		// Save metric data, include callback times and whether the notification was sent when the callback exceeded the maximum retry attempts.
+		this.hashOperations.putMember(this.callbackMetric, transactionKey, newMetric(), RedisValueTypeEnum.JSON, RedisValueTypeEnum.JSON);
+	}
+	
+	OrangeTransactionTimeoutCallbackMetric newMetric() {
 		OrangeTransactionTimeoutCallbackMetric metric = new OrangeTransactionTimeoutCallbackMetric();
 		metric.setCallbackedTimes(0);
 		metric.setIsWarn(0);
-		this.hashOperations.putMember(this.callbackMetric, transactionKey, metric, RedisValueTypeEnum.JSON, RedisValueTypeEnum.JSON);
+		return metric;
+	}
+	
+	String getRegistry() {
+		return registry;
+	}
+	
+	String getCallbackMetric() {
+		return callbackMetric;
 	}
 	
 	public void remove(OrangeRedisTransactionKey transactionKey) throws Exception {
+		remove(Collections.singletonList(transactionKey));
+	}
+	
+	/**
+	 * Remove many transaction keys with one command per registry.
+	 */
+	public void remove(Collection<OrangeRedisTransactionKey> transactionKeys) throws Exception {
+		if(transactionKeys.isEmpty()) {
+			return;
+		}
+		Object[] members = transactionKeys.toArray();
 		// Remove metric first, then all the data will be removed permanently, even after the service restart.
-		this.hashOperations.removeMembers(this.callbackMetric, RedisValueTypeEnum.JSON, transactionKey);
-		this.operations.remove(this.registry, RedisValueTypeEnum.JSON, transactionKey);
+		this.hashOperations.removeMembers(this.callbackMetric, RedisValueTypeEnum.JSON, members);
+		this.operations.remove(this.registry, RedisValueTypeEnum.JSON, members);
 	}
 	
 	/**
@@ -200,7 +309,7 @@ public class OrangeRedisTransactionTimeoutCallbackExecutor implements Runnable,
 	 * @param transactionKey
 	 * @return
 	 */
-	private Double computeScore(long millis) {
+	Double computeScore(long millis) {
 		return new BigDecimal(millis+"").divide(new BigDecimal("1000"), 3, RoundingMode.HALF_UP).doubleValue();
 	}
 	
@@ -215,6 +324,65 @@ public class OrangeRedisTransactionTimeoutCallbackExecutor implements Runnable,
 		}
 	}
 	
+	static class OrangeTransactionTimeoutCallbackWorkerThreadFactory implements ThreadFactory {
+		
+		private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+		@Override
+		public Thread newThread(Runnable r) {
+			int seq = threadNumber.getAndIncrement();
+			return new Thread(r, "orange-redis-tx-timeout-worker-" + seq);
+		}
+	}
+	
+	/**
+	 * Timed out transactions of a partition, the partition is locked as a whole.
+	 */
+	static class OrangeTransactionTimeoutPartition implements OrangeRedisIterableContext {
+		
+		private final int index;
+		
+		private final LockKey lockKey;
+		
+		private final List<OrangeRedisTransactionKey> transactionKeys = new ArrayList<>();
+		
+		OrangeTransactionTimeoutPartition(int index, String serviceName) {
+			this.index = index;
+			this.lockKey = new LockKey();
+			this.lockKey.setLockType(OrangeRedisTransactionDaemonRunner.CALLBACK);
+			this.lockKey.setServiceName(serviceName);
+			this.lockKey.setLockMetaData(index);
+		}
+		
+		@Override
+		public void forEach(BiConsumer action) {
+			action.accept(lockKey, this);
+		}
+
+		@Override
+		public Object[] toArray() {
+			throw new OrangeRedisException("Not support!");
+		}
+
+		@Override
+		public boolean continueOnFailure() {
+			return true;
+		}
+
+		int getIndex() {
+			return index;
+		}
+
+		List<OrangeRedisTransactionKey> getTransactionKeys() {
+			return transactionKeys;
+		}
+
+		@Override
+		public String toString() {
+			return "OrangeTransactionTimeoutPartition [index=" + index + ", size=" + transactionKeys.size() + "]";
+		}
+	}
+	
 	public static class OrangeTransactionTimeoutCallbackMetric {
 		
 		private int isWarn;
@@ -246,114 +414,134 @@ public class OrangeRedisTransactionTimeoutCallbackExecutor implements Runnable,
 				return;
 			}
 			if(event.getSuccessMembers().isEmpty()) {
-				logger.debug("Transaction timeout callback executor access failed, maybe another server node is running now.");
+				logger.debug("Transaction timeout callback partition access failed, maybe another server node is handling it now.");
 				return;
 			}
-			long start = System.currentTimeMillis();
-			logger.info("Transaction timeout callback begin");
-			for(Object uncommittedKey : event.getSuccessMembers()) {
-				// Get transaction timeout callback info from Redis.
-				OrangeRedisTransactionKey transactionKey = (OrangeRedisTransactionKey)uncommittedKey;
-				OrangeTransactionTimeoutCallbackMetric metric = (OrangeTransactionTimeoutCallbackMetric) this.hashOperations.get(
-					this.callbackMetric, 
-					transactionKey, 
-					RedisValueTypeEnum.JSON, 
-					RedisValueTypeEnum.JSON, 
-					OrangeTransactionTimeoutCallbackMetric.class
-				);
-				if(metric == null) {
-					/*
-					 * During the previous committing cycle:
-					 * 1. The 'remove' method was called
-					 * 2. The service restarted before the method completed.
-					 */
-					logger.debug("The key's({}) transaction timeout callback metric is not found.", transactionKey);
-					
-					// Remove again.
-					remove(transactionKey);
-					continue;
-				}
-				
-				if(metric.getCallbackedTimes() > this.properties.getTimeoutCallbackTimes()) {
-					// Callback exceeded the maximum retry attempts.
-					warning(transactionKey,metric,"The key's({}) transaction timeout callback exceeded the maximum retry attempts. Please verify the callback logic and manually commit the transaction if necessary.",transactionKey);
-					// remove(transactionKey);
-					continue;
-				}
-				
-				// Compute expected callback time
-				metric.setCallbackedTimes(metric.getCallbackedTimes() + 1);
-				long expectedCallbackTime = (metric.getCallbackedTimes() * this.properties.getTimeoutCallbackPeriod().toMillis()) 
-																	   + this.properties.getTimeoutThreshold().toMillis() 
-																	   + transactionKey.getTxBeginTime();
-				
-				if(expectedCallbackTime > System.currentTimeMillis()) {
-					// Timing not right
-					continue;
-				}
-				
-				// Get callback by the origin key
-				OrangeRedisTransactionTimeoutListener listener = this.callbacks.get(transactionKey.getOriginKey());
-				if(listener == null) {
-					warning(transactionKey,metric,"The key's({}) transaction timeout callback is not found. Please commit this transaction manually.",transactionKey);
-					continue;
-				}
-				
-				// Get value type from callback
-				Type valueType = this.valueTypeMap.get(listener);
-				if(valueType == null) {
-					valueType = String.class;
-				}
-				
-				// Get processor
-				OrangeTransactionCommitProcessor processor = this.namedProcessorExecutorMap.get(transactionKey.getTxType());
-				if(processor == null) {
-					warning(transactionKey,metric,"No transaction commit handler was found for the key ({}) . Please commit this transaction manually.",transactionKey);
-					continue;
-				}
-				
-				//Get uncommitted value for callback.
-				Object uncommittedValue = processor.getTransactionSnapshotGetExecutor().get(
-					transactionKey.getKey(), 
-					transactionKey.getVersion(), 
-					getValueTypeEnum(valueType), 
-					valueType
-				);
-				
-				// Callback
-				OrangeRedisTransactionState state = listener.callback(transactionKey,uncommittedValue,metric);
-				
-				// Handle transaction sate.
-				if(state == OrangeRedisTransactionState.FAILED) {
-					// Clear key from transaction keys registry
-					remove(transactionKey);
-					continue;
-				}
-				else if(state == OrangeRedisTransactionState.UNKNOW) {
-					// Update callback times
-					updateMetric(transactionKey,metric);	
-					continue;
-				}
-				
-				// Commit
-				boolean isCommitted = processor.getCommitExecutor().commit(transactionKey.getKey(), transactionKey.getVersion());
-				if(isCommitted) {
-					logger.debug("The key({}) commit version {} successfully.", transactionKey.getKey(), transactionKey.getVersion());
-					remove(transactionKey);
-				}else{
-					warning(transactionKey,metric,"The transaction of the key({}) commit failed.Please contact maintainer and report this issue",transactionKey);
-				}
-			}
-			long cost = System.currentTimeMillis() - start;
-			logger.info("Transaction timeout callback finished in {}ms", cost);
-			if(cost >= this.properties.getTimeoutCallbackPeriod().toMillis()) {
-				this.logger.warn("Transaction timeout callback execution time {}ms > Transaction timeout callback interval {}ms.", cost, this.properties.getTimeoutCallbackPeriod().toMillis());
+			// The partition stays locked until it is handled.
+			for(Object member : event.getSuccessMembers()) {
+				handle((OrangeTransactionTimeoutPartition) member);
 			}
-		} catch (Exception e) {
+		}catch (Exception e) {
 			 logger.error("Transaction timeout callback execute error", e);
 		}
 	}
 	
+	private void handle(OrangeTransactionTimeoutPartition partition) {
+		this.activePartitions.incrementAndGet();
+		try {
+			for(OrangeRedisTransactionKey transactionKey : partition.getTransactionKeys()) {
+				long start = System.nanoTime();
+				try {
+					handle(transactionKey);
+				}catch (Exception e) {
+					this.errors.increment();
+					logger.error(String.format("Transaction timeout callback of the key(%s) error", transactionKey), e);
+				}finally {
+					this.handled.increment();
+					this.handleNanos.add(System.nanoTime() - start);
+				}
+			}
+		}finally {
+			this.activePartitions.decrementAndGet();
+		}
+	}
+	
+	/**
+	 * Handle a timed out transaction, it is called by a worker while the partition of the key is locked.
+	 */
+	private void handle(OrangeRedisTransactionKey transactionKey) throws Exception {
+		// Get transaction timeout callback info from Redis.
+		OrangeTransactionTimeoutCallbackMetric metric = (OrangeTransactionTimeoutCallbackMetric) this.hashOperations.get(
+			this.callbackMetric, 
+			transactionKey, 
+			RedisValueTypeEnum.JSON, 
+			RedisValueTypeEnum.JSON, 
+			OrangeTransactionTimeoutCallbackMetric.class
+		);
+		if(metric == null) {
+			/*
+			 * During the previous committing cycle:
+			 * 1. The 'remove' method was called
+			 * 2. The service restarted before the method completed.
+			 */
+			logger.debug("The key's({}) transaction timeout callback metric is not found.", transactionKey);
+			
+			// Remove again.
+			remove(transactionKey);
+			return;
+		}
+		
+		if(metric.getCallbackedTimes() > this.properties.getTimeoutCallbackTimes()) {
+			// Callback exceeded the maximum retry attempts.
+			warning(transactionKey,metric,"The key's({}) transaction timeout callback exceeded the maximum retry attempts. Please verify the callback logic and manually commit the transaction if necessary.",transactionKey);
+			// remove(transactionKey);
+			return;
+		}
+		
+		// Compute expected callback time
+		metric.setCallbackedTimes(metric.getCallbackedTimes() + 1);
+		long expectedCallbackTime = (metric.getCallbackedTimes() * this.properties.getTimeoutCallbackPeriod().toMillis()) 
+															   + this.properties.getTimeoutThreshold().toMillis() 
+															   + transactionKey.getTxBeginTime();
+		
+		if(expectedCallbackTime > System.currentTimeMillis()) {
+			// Timing not right
+			return;
+		}
+		
+		// Get callback by the origin key
+		OrangeRedisTransactionTimeoutListener listener = this.callbacks.get(transactionKey.getOriginKey());
+		if(listener == null) {
+			warning(transactionKey,metric,"The key's({}) transaction timeout callback is not found. Please commit this transaction manually.",transactionKey);
+			return;
+		}
+		
+		// Get value type from callback
+		Type valueType = this.valueTypeMap.get(listener);
+		if(valueType == null) {
+			valueType = String.class;
+		}
+		
+		// Get processor
+		OrangeTransactionCommitProcessor processor = this.namedProcessorExecutorMap.get(transactionKey.getTxType());
+		if(processor == null) {
+			warning(transactionKey,metric,"No transaction commit handler was found for the key ({}) . Please commit this transaction manually.",transactionKey);
+			return;
+		}
+		
+		//Get uncommitted value for callback.
+		Object uncommittedValue = processor.getTransactionSnapshotGetExecutor().get(
+			transactionKey.getKey(), 
+			transactionKey.getVersion(), 
+			getValueTypeEnum(valueType), 
+			valueType
+		);
+		
+		// Callback
+		OrangeRedisTransactionState state = listener.callback(transactionKey,uncommittedValue,metric);
+		
+		// Handle transaction sate.
+		if(state == OrangeRedisTransactionState.FAILED) {
+			// Clear key from transaction keys registry
+			remove(transactionKey);
+			return;
+		}
+		else if(state == OrangeRedisTransactionState.UNKNOW) {
+			// Update callback times
+			updateMetric(transactionKey,metric);	
+			return;
+		}
+		
+		// Commit
+		boolean isCommitted = processor.getCommitExecutor().commit(transactionKey.getKey(), transactionKey.getVersion());
+		if(isCommitted) {
+			logger.debug("The key({}) commit version {} successfully.", transactionKey.getKey(), transactionKey.getVersion());
+			remove(transactionKey);
+		}else{
+			warning(transactionKey,metric,"The transaction of the key({}) commit failed.Please contact maintainer and report this issue",transactionKey);
+		}
+	}
+
 	private void warning(OrangeRedisTransactionKey transactionKey,OrangeTransactionTimeoutCallbackMetric metric, String message, Object... args) throws Exception {
 		if(metric.getIsWarn() <= 0) {
 			// Print warning log.
@@ -391,32 +579,32 @@ public class OrangeRedisTransactionTimeoutCallbackExecutor implements Runnable,
 		return RedisValueTypeEnum.JSON;
 	}
 	
-	@Override
-	public void forEach(BiConsumer action) {
-		try {
-			// Get all uncommitted keys from Redis.
-			Set<Object> uncommittedKeys = getTimeoutTransactinKeys();
-			for(Object uncommittedKey : uncommittedKeys) {
-				// Get lock for handling this uncommitted key
-				LockKey lockKey = new LockKey();
-				lockKey.setLockType(OrangeRedisTransactionDaemonRunner.CALLBACK);
-				lockKey.setServiceName(this.properties.getServiceName());
-				lockKey.setLockMetaData(uncommittedKey);;
-				action.accept(lockKey, uncommittedKey);
+	/**
+	 * Split the timed out transactions into partitions by the hash of the key, the partitions are queued in random order 
+	 * so that the nodes of the service start with different partitions.
+	 */
+	private Queue<OrangeTransactionTimeoutPartition> getTimeoutPartitions() throws Exception {
+		// Get all uncommitted keys from Redis.
+		Set<Object> uncommittedKeys = getTimeoutTransactinKeys();
+		this.backlog = uncommittedKeys.size();
+		int partitionCount = Math.max(1, this.properties.getTimeoutCallbackPartitions());
+		OrangeTransactionTimeoutPartition[] partitions = new OrangeTransactionTimeoutPartition[partitionCount];
+		for(Object uncommittedKey : uncommittedKeys) {
+			OrangeRedisTransactionKey transactionKey = (OrangeRedisTransactionKey) uncommittedKey;
+			int index = Math.floorMod(transactionKey.getKey().hashCode(), partitionCount);
+			if(partitions[index] == null) {
+				partitions[index] = new OrangeTransactionTimeoutPartition(index, this.properties.getServiceName());
 			}
-		}catch (Exception e) {
-			throw new OrangeRedisException("Transaction timeout callback execute error",e);
+			partitions[index].getTransactionKeys().add(transactionKey);
 		}
-	}
-
-	@Override
-	public Object[] toArray() {
-		throw new OrangeRedisException("Not support!");
-	}
-
-	@Override
-	public boolean continueOnFailure() {
-		return true;
+		List<OrangeTransactionTimeoutPartition> nonEmpty = new ArrayList<>();
+		for(OrangeTransactionTimeoutPartition partition : partitions) {
+			if(partition != null) {
+				nonEmpty.add(partition);
+			}
+		}
+		Collections.shuffle(nonEmpty, ThreadLocalRandom.current());
+		return new ConcurrentLinkedQueue<>(nonEmpty);
 	}
 	
 	/**
@@ -460,6 +648,32 @@ public class OrangeRedisTransactionTimeoutCallbackExecutor implements Runnable,
 		);
 	}
 
+	/**
+	 * Number of timed out transactions found by the last run.
+	 */
+	public int getBacklog() {
+		return backlog;
+	}
+	
+	/**
+	 * Number of partitions being handled by the workers of this node.
+	 */
+	public int getActivePartitions() {
+		return activePartitions.get();
+	}
+	
+	public long getHandledCount() {
+		return handled.sum();
+	}
+	
+	public long getErrorCount() {
+		return errors.sum();
+	}
+	
+	public long getHandleNanos() {
+		return handleNanos.sum();
+	}
+
 	public Set<Object> getDeadTransaction() throws Exception {
 		long beginTime = System.currentTimeMillis() - this.properties.getTimeoutThreshold().toMillis() 
 													- (this.properties.getTimeoutCallbackPeriod().toMillis() * this.properties.getTimeoutCallbackTimes()) 
@@ -19,6 +19,7 @@
 package com.langwuyue.orange.redis.executor.transaction.value;
 
 import java.lang.annotation.Annotation;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -107,6 +108,34 @@ public class OrangeTransactionCommitExecutor extends OrangeRedisAbstractExecutor
 	    "    end;",
 	    "end;"
 	);
+	/**
+	 * Script for production, commit many keys, {@code ARGV[i]} is the version of {@code KEYS[i]}.
+	 * Returns a flag per key, {@code '1'} committed, {@code '0'} the version does not exist or a higher version is committed already.
+	 */
+	private static final String BATCH_COMMIT_LUA_SCRIPT = String.join("\n",
+		"local flags = {};",
+		"for i = 1, #KEYS do",
+		"    local key = KEYS[i];",
+		"    local newValue = ARGV[i];",
+		"    flags[i] = '0';",
+		"    if redis.call('HEXISTS', key, '" + OrangeRedisTransactionKeyConstants.VERSION_PREFIX + "' .. newValue) == 1 then",
+		"        local currentValue = redis.call('HGET', key, '" + OrangeRedisTransactionKeyConstants.CURRENT_VERSION + "');",
+		"        if (currentValue == nil or currentValue == false) or (tonumber(currentValue) < tonumber(newValue)) then",
+		"            redis.call('HSET', key, '" + OrangeRedisTransactionKeyConstants.CURRENT_VERSION + "', newValue);",
+		"            flags[i] = '1';",
+		"        end;",
+		"    end;",
+		"end;",
+		"return table.concat(flags);"
+	);
+	/**
+	 * Script for debug
+	 */
+	private static final String BATCH_COMMIT_LUA_SCRIPT_DEBUG = String.join("\n",
+		"redis.log(redis.LOG_NOTICE, string.format('VALUE Transaction OrangeTransactionCommitExecutor committing %d keys', #KEYS));",
+		BATCH_COMMIT_LUA_SCRIPT
+	);
+	
 	private OrangeRedisScriptOperations scriptOperations;
 	
 	private OrangeRedisDefaultTransactionManager transactionManager;
@@ -120,6 +149,12 @@ public class OrangeTransactionCommitExecutor extends OrangeRedisAbstractExecutor
 	) {
 		super(idGenerator);
 		this.scriptOperations = scriptOperations;
+		this.scriptOperations.register(
+			COMMIT_LUA_SCRIPT, 
+			COMMIT_LUA_SCRIPT_DEBUG, 
+			BATCH_COMMIT_LUA_SCRIPT, 
+			BATCH_COMMIT_LUA_SCRIPT_DEBUG
+		);
 		this.logger = logger;
 	}
 
@@ -171,6 +206,21 @@ public class OrangeTransactionCommitExecutor extends OrangeRedisAbstractExecutor
 		return "1".equals(result);
 	}
 
+	/**
+	 * Commit the keys with one script call per slot, the transaction manager is not notified.
+	 */
+	@Override
+	public Boolean[] commit(List<String> keys, List<Long> versions) throws Exception {
+		RedisValueTypeEnum[] argsValueTypes = new RedisValueTypeEnum[versions.size()];
+		Arrays.fill(argsValueTypes, RedisValueTypeEnum.LONG);
+		// Change script when debug is enabled.
+		String script = BATCH_COMMIT_LUA_SCRIPT;
+		if(this.logger.isDebugEnabled()) {
+			script = BATCH_COMMIT_LUA_SCRIPT_DEBUG;
+		}
+		return this.scriptOperations.executeForEachKey(script, 1, argsValueTypes, keys, versions.toArray());
+	}
+
 	public void setTransactionManager(OrangeRedisDefaultTransactionManager transactionManager) {
 		this.transactionManager = transactionManager;
 	}
@@ -101,6 +101,7 @@ public class OrangeTransactionGetExecutor extends OrangeRedisGetOneAbstractExecu
 	) {
 		super(idGenerator);
 		this.scriptOperations = scriptOperations;
+		this.scriptOperations.register(GET_LUA_SCRIPT, GET_LUA_SCRIPT_DEBUG);
 		this.transactionManager = transactionManager;
 		this.logger = logger;
 	}
@@ -63,11 +63,16 @@ public class OrangeTransactionSetExecutor extends OrangeRedisAbstractExecutor {
 	public Object execute(OrangeRedisContext context) throws Exception {
 		OrangeRedisValueContext ctx = (OrangeRedisValueContext) context;
 		String key = context.getRedisKey().getValue();
-		Long version = this.hashOperations.increment(key, OrangeRedisTransactionKeyConstants.NEXT_VERSION, 1L, RedisValueTypeEnum.STRING);
-		this.hashOperations.putMember(key, OrangeRedisTransactionKeyConstants.VERSION_PREFIX + version, ctx.getValue(), RedisValueTypeEnum.STRING, context.getValueType());
 		OrangeRedisTransactionKey transactionKey = new OrangeRedisTransactionKey();
 		transactionKey.setKey(key);
 		transactionKey.setOriginKey(ctx.getRedisKey().getOriginalKey());
+		// One round trip inside the database transaction.
+		Long version = this.transactionManager.writeAndSaveTransactionInfo(this.processor, transactionKey, ctx.getValue(), context.getValueType());
+		if(version != null) {
+			return version;
+		}
+		version = this.hashOperations.increment(key, OrangeRedisTransactionKeyConstants.NEXT_VERSION, 1L, RedisValueTypeEnum.STRING);
+		this.hashOperations.putMember(key, OrangeRedisTransactionKeyConstants.VERSION_PREFIX + version, ctx.getValue(), RedisValueTypeEnum.STRING, context.getValueType());
 		transactionKey.setVersion(version);
 		this.transactionManager.saveTransactionInfo(this.processor,transactionKey);
 		return version;
@@ -98,6 +98,7 @@ public class OrangeCompareAndSwapExecutor extends OrangeRedisAbstractExecutor {
 	public OrangeCompareAndSwapExecutor(OrangeRedisScriptOperations operations,OrangeRedisExecutorIdGenerator idGenerator,OrangeRedisLogger logger) {
 		super(idGenerator);
 		this.operations = operations;
+		this.operations.register(CAS_LUA_SCRIPT, CAS_LUA_SCRIPT_DEBUG);
 		this.logger = logger;
 	}
 
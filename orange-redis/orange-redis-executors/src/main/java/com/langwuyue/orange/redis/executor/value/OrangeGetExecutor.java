@@ -43,7 +43,7 @@ public class OrangeGetExecutor extends OrangeRedisAbstractExecutor {
 
 	@Override
 	public Object execute(OrangeRedisContext context) throws Exception {
-		return this.operations.get(context.getRedisKey().getValue(), context.getValueType(), context.getOperationMethod().getGenericReturnType());
+		return this.operations.get(context.getRedisKey().getValue(), context.getValueType(), context.getGenericReturnType());
 	}
 
 	@Override
@@ -48,7 +48,7 @@ public class OrangeSetExecutor extends OrangeRedisAbstractExecutor {
 	public Object execute(OrangeRedisContext context) throws Exception {
 		OrangeRedisValueContext ctx = (OrangeRedisValueContext)context;
 		this.operations.set(ctx.getRedisKey().getValue(),ctx.getValue(),ctx.getValueType());
-		Class<?> returnClass = context.getOperationMethod().getReturnType();
+		Class<?> returnClass = context.getReturnType();
 		if(returnClass == Boolean.class || returnClass == boolean.class) {
 			return Boolean.TRUE;	
 		}
@@ -85,7 +85,7 @@ public class OrangeSetIfAbsentExecutor extends OrangeRedisAbstractExecutor {
 	}
 
 	protected Object returnValue(OrangeRedisContext context,Object result) {
-		Class<?> returnClass = context.getOperationMethod().getReturnType();
+		Class<?> returnClass = context.getReturnType();
 		if(returnClass == Boolean.class || returnClass == boolean.class) {
 			return result == null ? Boolean.FALSE : result;	
 		}
@@ -111,7 +111,7 @@ public class OrangeSetIfAbsentExecutor extends OrangeRedisAbstractExecutor {
 		}finally {
 			try {
 				if(isDeleteInTheEnd(ctx,result)) {
-					Boolean deleted = operations.delete(ctx.getRedisKey().getValue());	
+					Boolean deleted = delete(ctx);	
 					delFailed = deleted == null || !deleted.booleanValue(); 
 				}
 			}catch (Exception e) {
@@ -136,6 +136,10 @@ public class OrangeSetIfAbsentExecutor extends OrangeRedisAbstractExecutor {
 		);
 	}
 	
+	protected Boolean delete(OrangeRedisValueContext ctx) throws Exception {
+		return operations.delete(ctx.getRedisKey().getValue());
+	}
+	
 	protected boolean isDeleteInTheEnd(OrangeRedisContext context,Object result) {
 		OrangeRedisValueIfAbsentContext ctx = (OrangeRedisValueIfAbsentContext)context;
 		return ctx.isDeleteInTheEnd() && result != null && (Boolean)result;
@@ -19,12 +19,17 @@
 package com.langwuyue.orange.redis.executor.value;
 
 import java.lang.annotation.Annotation;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 import com.langwuyue.orange.redis.OrangeRedisIfAbsentException;
 import com.langwuyue.orange.redis.RedisValueTypeEnum;
 import com.langwuyue.orange.redis.annotation.AutoRenew;
+import com.langwuyue.orange.redis.annotation.Timeout;
 import com.langwuyue.orange.redis.annotation.global.SetExpiration;
 import com.langwuyue.orange.redis.annotation.value.Lock;
 import com.langwuyue.orange.redis.context.OrangeRedisContext;
@@ -35,6 +40,8 @@ import com.langwuyue.orange.redis.executor.value.context.OrangeValueLockAutoRene
 import com.langwuyue.orange.redis.listener.OrangeRedisSetIfAbsentListener;
 import com.langwuyue.orange.redis.logger.OrangeRedisLogger;
 import com.langwuyue.orange.redis.mapping.OrangeRedisExecutorIdGenerator;
+import com.langwuyue.orange.redis.operations.OrangeRedisLockWaiter;
+import com.langwuyue.orange.redis.operations.OrangeRedisScriptOperations;
 import com.langwuyue.orange.redis.operations.OrangeRedisValueOperations;
 import com.langwuyue.orange.redis.timer.OrangeRenewTimerWheel;
 import com.langwuyue.orange.redis.timer.OrangeValueLockRenewTask;
@@ -45,6 +52,77 @@ import com.langwuyue.orange.redis.utils.OrangeCollectionUtils;
  * @since 1.0.0
  */
 public class OrangeValueLockAutoRenewExpirationExecutor extends OrangeSetIfAbsentExecutor {
+	/**
+	 * Script for production, reset the expiration time of each key still held by its owner, 
+	 * {@code ARGV} holds the owner and the expiration time in milliseconds of each key.
+	 */
+	private static final String RENEW_LUA_SCRIPT = String.join("\n",
+		"local flags = {};" ,
+		"for i = 1, #KEYS do" ,
+		"    if redis.call('GET', KEYS[i]) == ARGV[i * 2 - 1] then" ,
+		"        flags[i] = tostring(redis.call('PEXPIRE', KEYS[i], ARGV[i * 2]));" ,
+		"    else" ,
+		"        flags[i] = '0';" ,
+		"    end;" ,
+		"end;" ,
+		"return table.concat(flags);"
+	);
+	/**
+	 * Script for debug
+	 */
+	private static final String RENEW_LUA_SCRIPT_DEBUG = String.join("\n",
+		"redis.log(redis.LOG_NOTICE, string.format('value OrangeValueLockAutoRenewExpirationExecutor renewing, keys: %s', tostring(#KEYS)));",
+		"local flags = {};" ,
+		"for i = 1, #KEYS do" ,
+		"    local owner = redis.call('GET', KEYS[i]);" ,
+		"    if owner == ARGV[i * 2 - 1] then" ,
+		"        flags[i] = tostring(redis.call('PEXPIRE', KEYS[i], ARGV[i * 2]));" ,
+		"    else" ,
+		"        flags[i] = '0';" ,
+		"    end;" ,
+		"    redis.log(redis.LOG_NOTICE, string.format('key: %s, owner: %s, holder: %s, expiration: %s, renewed: %s', tostring(KEYS[i]), tostring(ARGV[i * 2 - 1]), tostring(owner), tostring(ARGV[i * 2]), flags[i]));",
+		"end;" ,
+		"return table.concat(flags);"
+	);
+	/**
+	 * Script for production, delete the key only if it is still held by the owner in {@code ARGV[1]}, 
+	 * then wake the callers waiting for the lock through the channel in {@code ARGV[2]}.
+	 */
+	private static final String RELEASE_LUA_SCRIPT = String.join("\n",
+		"if redis.call('GET', KEYS[1]) == ARGV[1] then" ,
+		"    local deleted = redis.call('DEL', KEYS[1]);" ,
+		"    if deleted == 1 then" ,
+		"        redis.call('PUBLISH', ARGV[2], '1');" ,
+		"    end;" ,
+		"    return tostring(deleted);" ,
+		"end;" ,
+		"return '0';"
+	);
+	/**
+	 * Script for debug
+	 */
+	private static final String RELEASE_LUA_SCRIPT_DEBUG = String.join("\n",
+		"local holder = redis.call('GET', KEYS[1]);" ,
+		"redis.log(redis.LOG_NOTICE, string.format('value OrangeValueLockAutoRenewExpirationExecutor releasing, key: %s, owner: %s, holder: %s', tostring(KEYS[1]), tostring(ARGV[1]), tostring(holder)));",
+		"if holder == ARGV[1] then" ,
+		"    local deleted = redis.call('DEL', KEYS[1]);" ,
+		"    if deleted == 1 then" ,
+		"        local receivers = redis.call('PUBLISH', ARGV[2], '1');" ,
+		"        redis.log(redis.LOG_NOTICE, string.format('channel: %s, receivers: %s', tostring(ARGV[2]), tostring(receivers)));",
+		"    end;" ,
+		"    return tostring(deleted);" ,
+		"end;" ,
+		"return '0';"
+	);
+	
+	/**
+	 * Bounds of the backoff between two tries while waiting for the lock, in milliseconds.
+	 */
+	private static final long MIN_BACKOFF_MILLIS = 50;
+	
+	private static final long MAX_BACKOFF_MILLIS = 1000;
+	
+	private OrangeRedisScriptOperations scriptOperations;
 	
 	private OrangeRenewTimerWheel renewTimerWheel;
 	
@@ -54,6 +132,7 @@ public class OrangeValueLockAutoRenewExpirationExecutor extends OrangeSetIfAbsen
 
 	public OrangeValueLockAutoRenewExpirationExecutor(
 		OrangeRedisValueOperations operations,
+		OrangeRedisScriptOperations scriptOperations,
 		OrangeRedisExecutorIdGenerator idGenerator,
 		Collection<OrangeRedisSetIfAbsentListener> listeners,
 		OrangeRenewTimerWheel renewTimerWheel,
@@ -61,6 +140,8 @@ public class OrangeValueLockAutoRenewExpirationExecutor extends OrangeSetIfAbsen
 		OrangeRedisLogger logger
 	) {
 		super(operations, idGenerator, listeners);
+		this.scriptOperations = scriptOperations;
+		this.scriptOperations.register(RENEW_LUA_SCRIPT, RENEW_LUA_SCRIPT_DEBUG, RELEASE_LUA_SCRIPT, RELEASE_LUA_SCRIPT_DEBUG);
 		this.renewTimerWheel = renewTimerWheel;
 		this.expirationTimeAutoInitializer = expirationTimeAutoInitializer;
 		this.logger = logger;
@@ -68,11 +149,14 @@ public class OrangeValueLockAutoRenewExpirationExecutor extends OrangeSetIfAbsen
 
 	@Override
 	protected boolean isDeleteInTheEnd(OrangeRedisContext context, Object result) {
-		if(result == null) {
+		if(result == null || !((Boolean) result).booleanValue()) {
 			return false;
 		}
-		OrangeValueLockRenewTask task = (OrangeValueLockRenewTask)result;
-		task.setRemove(true);
+		// Stop renewing before the lock is released
+		OrangeValueLockRenewTask task = ((OrangeValueLockAutoRenewContext) context).getRenewTask();
+		if(task != null) {
+			task.setRemove(true);
+		}
 		return true;
 	}
 
@@ -86,11 +170,20 @@ public class OrangeValueLockAutoRenewExpirationExecutor extends OrangeSetIfAbsen
 		}
 		OrangeValueLockRenewTask task = new OrangeValueLockRenewTask(
 			key,
-			getOperations(),
+			this,
 			getValue(ctx),
 			RedisValueTypeEnum.STRING,
 			autoRenew.threshold()
 		);
+		if(!tryLock(key, ctx) && !waitLock(key, ctx)) {
+			throw new OrangeRedisIfAbsentException("False returned");
+		}
+		ctx.setRenewTask(task);
+		renewTimerWheel.addRenewTask(task);
+		return task;
+	}
+	
+	private boolean tryLock(Key key, OrangeValueLockAutoRenewContext ctx) throws Exception {
 		Boolean result = this.getOperations().setIfAbsent(
 			key.getValue(), 
 			getValue(ctx), 
@@ -98,14 +191,88 @@ public class OrangeValueLockAutoRenewExpirationExecutor extends OrangeSetIfAbsen
 			key.getExpirationTimeUnit(), 
 			RedisValueTypeEnum.STRING
 		);
-		if(result == null || !result.booleanValue()) {
-			throw new OrangeRedisIfAbsentException("False returned");
-		}
-		renewTimerWheel.addRenewTask(task);
-		return task;
+		return result != null && result.booleanValue();
 	}
 	
+	/**
+	 * Wait for the releases of the lock until the lock is acquired or the wait time of {@link Lock} is elapsed.
+	 * The subscription to the release channel takes effect asynchronously, 
+	 * a release published before it does is only covered by the backoff between two tries.
+	 */
+	private boolean waitLock(Key key, OrangeValueLockAutoRenewContext ctx) throws Exception {
+		Lock lock = ctx.getLock();
+		Timeout waitTime = lock == null ? null : lock.waitTime();
+		if(waitTime == null || waitTime.value() <= 0) {
+			return false;
+		}
+		long deadline = System.nanoTime() + waitTime.unit().toNanos(waitTime.value());
+		try(OrangeRedisLockWaiter waiter = this.getOperations().subscribeRelease(key.getValue())) {
+			for(int attempt = 0; ; attempt++) {
+				if(tryLock(key, ctx)) {
+					return true;
+				}
+				long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+				if(remaining <= 0) {
+					return false;
+				}
+				waiter.await(Math.min(remaining, backoff(attempt)), TimeUnit.MILLISECONDS);
+			}
+		}catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw e;
+		}
+	}
 	
+	/**
+	 * Exponential backoff with full jitter, so that the waiters missing a release do not retry at the same time.
+	 */
+	private static long backoff(int attempt) {
+		long max = MIN_BACKOFF_MILLIS << Math.min(attempt, 5);
+		return ThreadLocalRandom.current().nextLong(MIN_BACKOFF_MILLIS, Math.min(max, MAX_BACKOFF_MILLIS) + 1);
+	}
+
+	/**
+	 * Reset the expiration time of the keys still held by their owners, with one script call per group of keys.
+	 * 
+	 * @param ownersAndExpirationMillis the owner and the expiration time in milliseconds of each key in order
+	 * @return the result of each key in order, false if the key is held by another owner, 
+	 * {@code null} if the call of the group of the key failed
+	 */
+	public Boolean[] doRenew(List<String> keys, Object[] ownersAndExpirationMillis) throws Exception {
+		RedisValueTypeEnum[] argsValueTypes = new RedisValueTypeEnum[ownersAndExpirationMillis.length];
+		for(int i = 0; i < argsValueTypes.length; i += 2) {
+			argsValueTypes[i] = RedisValueTypeEnum.STRING;
+			argsValueTypes[i + 1] = RedisValueTypeEnum.LONG;
+		}
+		// Change script when debug is enabled.
+		String script = RENEW_LUA_SCRIPT;
+		if(this.logger.isDebugEnabled()) {
+			script = RENEW_LUA_SCRIPT_DEBUG;
+		}
+		return this.scriptOperations.executeForEachKey(script, 2, argsValueTypes, keys, ownersAndExpirationMillis);
+	}
+
+	/**
+	 * Delete the key only if it is still held by the caller, a lock expired and acquired by another owner is kept.
+	 * The release is published by the script only when the key is deleted.
+	 */
+	@Override
+	protected Boolean delete(OrangeRedisValueContext ctx) throws Exception {
+		String script = RELEASE_LUA_SCRIPT;
+		if(this.logger.isDebugEnabled()) {
+			script = RELEASE_LUA_SCRIPT_DEBUG;
+		}
+		Object result = this.scriptOperations.execute(
+			script, 
+			new RedisValueTypeEnum[] {RedisValueTypeEnum.STRING, RedisValueTypeEnum.STRING}, 
+			RedisValueTypeEnum.STRING, 
+			String.class, 
+			OrangeCollectionUtils.asList(ctx.getRedisKey().getValue()), 
+			getValue(ctx),
+			this.getOperations().getReleaseChannel(ctx.getRedisKey().getValue())
+		);
+		return "1".equals(result);
+	}
 
 	@Override
 	protected Object returnValue(OrangeRedisContext context, Object result) {
@@ -127,9 +294,19 @@ public class OrangeValueLockAutoRenewExpirationExecutor extends OrangeSetIfAbsen
 		return OrangeCollectionUtils.asList(Lock.class, AutoRenew.class,SetExpiration.class);
 	}
 
+	/**
+	 * The owner of the lock is unique per acquisition, it starts with the trace id when there is one.
+	 */
 	@Override
 	protected Object getValue(OrangeRedisValueContext ctx) {
-		String traceId = logger.getTraceId();
-		return traceId != null && !traceId.isEmpty() ? traceId : "1";
+		OrangeValueLockAutoRenewContext lockCtx = (OrangeValueLockAutoRenewContext) ctx;
+		String owner = lockCtx.getOwner();
+		if(owner == null) {
+			String traceId = logger.getTraceId();
+			String id = UUID.randomUUID().toString();
+			owner = traceId != null && !traceId.isEmpty() ? traceId + ":" + id : id;
+			lockCtx.setOwner(owner);
+		}
+		return owner;
 	}
 }
@@ -23,8 +23,10 @@ import java.lang.reflect.Method;
 import com.langwuyue.orange.redis.RedisValueTypeEnum;
 import com.langwuyue.orange.redis.annotation.AutoRenew;
 import com.langwuyue.orange.redis.annotation.OrangeRedisOperationArg;
+import com.langwuyue.orange.redis.annotation.value.Lock;
 import com.langwuyue.orange.redis.context.OrangeRedisValueContext;
 import com.langwuyue.orange.redis.context.builder.OrangeMethodAnnotationHandler;
+import com.langwuyue.orange.redis.timer.OrangeValueLockRenewTask;
 
 /**
  * @author Liang.Zhong
@@ -34,6 +36,13 @@ public class OrangeValueLockAutoRenewContext extends OrangeRedisValueContext {
 	
 	@OrangeRedisOperationArg(binding = AutoRenew.class, valueHandler = OrangeMethodAnnotationHandler.class)
 	private AutoRenew autoRenew;
+	
+	@OrangeRedisOperationArg(binding = Lock.class, valueHandler = OrangeMethodAnnotationHandler.class)
+	private Lock lock;
+	
+	private String owner;
+	
+	private OrangeValueLockRenewTask renewTask;
 
 	public OrangeValueLockAutoRenewContext(
 		Class<?> operationOwner, 
@@ -48,4 +57,30 @@ public class OrangeValueLockAutoRenewContext extends OrangeRedisValueContext {
 	public AutoRenew getAutoRenew() {
 		return autoRenew;
 	}
+
+	public Lock getLock() {
+		return lock;
+	}
+
+	/**
+	 * The value identifying the holder of the lock, {@code null} before the lock is tried.
+	 */
+	public String getOwner() {
+		return owner;
+	}
+
+	public void setOwner(String owner) {
+		this.owner = owner;
+	}
+
+	/**
+	 * The task renewing the lock, {@code null} if the lock is not acquired.
+	 */
+	public OrangeValueLockRenewTask getRenewTask() {
+		return renewTask;
+	}
+
+	public void setRenewTask(OrangeValueLockRenewTask renewTask) {
+		this.renewTask = renewTask;
+	}
 }
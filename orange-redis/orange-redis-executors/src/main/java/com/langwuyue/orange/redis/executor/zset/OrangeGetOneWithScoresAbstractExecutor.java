@@ -42,7 +42,7 @@ public abstract class OrangeGetOneWithScoresAbstractExecutor extends OrangeGetWi
 		if(result == null) {
 			return result;
 		}
-		Class<?> returnClass = context.getOperationMethod().getReturnType();
+		Class<?> returnClass = context.getReturnType();
 		if(returnClass.isArray() 
 				|| Collection.class.isAssignableFrom(returnClass) 
 				|| Map.class.isAssignableFrom(returnClass)) {
@@ -56,22 +56,22 @@ public abstract class OrangeGetOneWithScoresAbstractExecutor extends OrangeGetWi
 
 	@Override
 	protected Type getReturnArgumentType(OrangeRedisContext context) {
-		Class<?> returnClass = context.getOperationMethod().getReturnType();
+		Class<?> returnClass = context.getReturnType();
 		if(returnClass.isArray() 
 				|| Collection.class.isAssignableFrom(returnClass) 
 				|| Map.class.isAssignableFrom(returnClass)) {
 			return super.getReturnArgumentType(context);	
 		}
 		else{
-			return context.getOperationMethod().getGenericReturnType();
+			return context.getGenericReturnType();
 		}
 	}
 	
 	@Override
 	protected Object toReturnValue(OrangeRedisContext context, Collection result, Type returnArgumentType, Field field) throws Exception {
-		Class<?> returnClass = context.getOperationMethod().getReturnType();
+		Class<?> returnClass = context.getReturnType();
 		if(Map.class.isAssignableFrom(returnClass)) {
-			Class<?> valueType = getMapValueType(context.getOperationMethod().getGenericReturnType());
+			Class<?> valueType = getMapValueType(context.getGenericReturnType());
 			return toMap(valueType,result,field,returnArgumentType,returnClass);
 		}else{
 			Type genericType = this.getReturnArgumentType(context);
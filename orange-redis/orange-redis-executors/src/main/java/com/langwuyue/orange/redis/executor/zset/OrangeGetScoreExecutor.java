@@ -51,7 +51,7 @@ public class OrangeGetScoreExecutor extends OrangeRedisAbstractExecutor {
 			return null;
 		}
 		Double result = results.get(0);
-		Class returnClass = context.getOperationMethod().getReturnType();
+		Class returnClass = context.getReturnType();
 		if(returnClass == Long.class || returnClass == long.class) {
 			return result.longValue();
 		}
@@ -65,14 +65,14 @@ public class OrangeGetScoresExecutor extends OrangeRedisAbstractExecutor {
 		if(results == null || results.isEmpty()) {
 			return null;
 		}
-		Class returnClass = context.getOperationMethod().getReturnType();
+		Class returnClass = context.getReturnType();
 		if(returnClass.isAssignableFrom(ArrayList.class)) {
-			Type returnArgumentType = OrangeReflectionUtils.getCollectionOrArrayArgumentType(context.getOperationMethod().getGenericReturnType());
+			Type returnArgumentType = OrangeReflectionUtils.getCollectionOrArrayArgumentType(context.getGenericReturnType());
 			Class<?> argumentClass = OrangeReflectionUtils.getRawType(returnArgumentType);
 			return toList(argumentClass,results, values);
 		}
 		else if(returnClass.isArray()) {
-			Type returnArgumentType = OrangeReflectionUtils.getCollectionOrArrayArgumentType(context.getOperationMethod().getGenericReturnType());
+			Type returnArgumentType = OrangeReflectionUtils.getCollectionOrArrayArgumentType(context.getGenericReturnType());
 			Class<?> argumentClass = OrangeReflectionUtils.getRawType(returnArgumentType);
 			return toArray(argumentClass,results, values);
 		}
@@ -93,7 +93,7 @@ public class OrangeGetScoresExecutor extends OrangeRedisAbstractExecutor {
 	}
 	
 	private Map toMap(OrangeRedisContext ctx, List<Object> originValues, Class returnClass, List<Double> results) {
-		Type mapValueType = OrangeReflectionUtils.getMapValueType(ctx.getOperationMethod().getGenericReturnType());
+		Type mapValueType = OrangeReflectionUtils.getMapValueType(ctx.getGenericReturnType());
 		Class mapValueClass = OrangeReflectionUtils.getRawType(mapValueType);
 		int len = originValues.size();
 		if(mapValueClass == Long.class) {
@@ -47,9 +47,9 @@ public abstract class OrangeGetWithScoresAbstractExecutor extends OrangeRedisGet
 	
 	@Override
 	protected Type getReturnArgumentType(OrangeRedisContext context) {
-		Class<?> returnType = context.getOperationMethod().getReturnType();
+		Class<?> returnType = context.getReturnType();
 		if(Map.class.isAssignableFrom(returnType)) {
-			Type genericType = context.getOperationMethod().getGenericReturnType();
+			Type genericType = context.getGenericReturnType();
 			return OrangeReflectionUtils.getMapActaulTypeArguments(genericType)[0];
 		} else {
 			Type genericType = super.getReturnArgumentType(context);
@@ -63,9 +63,9 @@ public abstract class OrangeGetWithScoresAbstractExecutor extends OrangeRedisGet
 
 	@Override
 	protected Object toReturnValue(OrangeRedisContext context, Collection result, Type returnArgumentType, Field field) throws Exception {
-		Class<?> returnClass = context.getOperationMethod().getReturnType();
+		Class<?> returnClass = context.getReturnType();
 		if(Map.class.isAssignableFrom(returnClass)) {
-			Class<?> valueType = getMapValueType(context.getOperationMethod().getGenericReturnType());
+			Class<?> valueType = getMapValueType(context.getGenericReturnType());
 			return toMap(valueType,result,field,returnArgumentType,returnClass);
 		}else{
 			Type genericType = super.getReturnArgumentType(context);
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.redis.executor.zset;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.langwuyue.orange.redis.RedisValueTypeEnum;
+import com.langwuyue.orange.redis.annotation.Count;
+import com.langwuyue.orange.redis.annotation.GetMembers;
+import com.langwuyue.orange.redis.annotation.ScanPattern;
+import com.langwuyue.orange.redis.annotation.zset.WithScores;
+import com.langwuyue.orange.redis.context.OrangeRedisContext;
+import com.langwuyue.orange.redis.context.OrangeRedisScanContext;
+import com.langwuyue.orange.redis.executor.OrangeRedisAbstractExecutor;
+import com.langwuyue.orange.redis.executor.OrangeScanIterator;
+import com.langwuyue.orange.redis.executor.OrangeScanIterator.Page;
+import com.langwuyue.orange.redis.mapping.OrangeRedisExecutorIdGenerator;
+import com.langwuyue.orange.redis.operations.OrangeRedisZSetOperations;
+import com.langwuyue.orange.redis.operations.OrangeRedisZSetOperations.ScanResults;
+import com.langwuyue.orange.redis.operations.OrangeRedisZSetOperations.ZSetEntry;
+import com.langwuyue.orange.redis.utils.OrangeCollectionUtils;
+
+/**
+ * Streams all members matching the pattern with their scores as {@link Map.Entry}, {@code @Count} members are read with each {@code ZSCAN}.
+ * 
+ * @author Liang.Zhong
+ * @since 1.0.0
+ * @see OrangeScanIterator
+ */
+public class OrangeScanAllMembersExecutor extends OrangeRedisAbstractExecutor {
+	
+	private OrangeRedisZSetOperations operations;
+
+	public OrangeScanAllMembersExecutor(OrangeRedisZSetOperations operations,OrangeRedisExecutorIdGenerator idGenerator) {
+		super(idGenerator);
+		this.operations = operations;
+	}
+
+	@Override
+	protected List<Class<? extends Annotation>> getSupportedAnnotationClasses() {
+		return OrangeCollectionUtils.asList(GetMembers.class,WithScores.class,ScanPattern.class,Count.class);
+	}
+
+	@Override
+	public Class<? extends OrangeRedisContext> getContextClass() {
+		return OrangeRedisScanContext.class;
+	}
+
+	@Override
+	public Object execute(OrangeRedisContext context) throws Exception {
+		OrangeRedisScanContext ctx = (OrangeRedisScanContext) context;
+		String key = context.getRedisKey().getValue();
+		String pattern = ctx.getPattern();
+		Integer count = ctx.getCount();
+		RedisValueTypeEnum valueType = ctx.getValueType();
+		Type memberType = OrangeScanIterator.getEntryTypes(context.getGenericReturnType())[0];
+		return OrangeScanIterator.toReturnValue(context.getReturnType(), cursor -> {
+			ScanResults scanResults = this.operations.scan(key, pattern, count, cursor, valueType, memberType);
+			List<Map.Entry<Object,Double>> entries = new ArrayList<>(scanResults.getMembers().size());
+			for(ZSetEntry entry : scanResults.getMembers()) {
+				entries.add(new SimpleImmutableEntry<>(entry.getValue(), entry.getScore()));
+			}
+			return new Page<>(entries, scanResults.getCursor());
+		});
+	}
+
+	@Override
+	public boolean isLazy() {
+		return true;
+	}
+}
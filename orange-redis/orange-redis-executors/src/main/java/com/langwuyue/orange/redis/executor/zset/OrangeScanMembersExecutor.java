@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.redis.executor.zset;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+
+import com.langwuyue.orange.redis.annotation.Count;
+import com.langwuyue.orange.redis.annotation.GetMembers;
+import com.langwuyue.orange.redis.annotation.ScanCursor;
+import com.langwuyue.orange.redis.annotation.ScanPattern;
+import com.langwuyue.orange.redis.annotation.zset.WithScores;
+import com.langwuyue.orange.redis.context.OrangeRedisContext;
+import com.langwuyue.orange.redis.context.OrangeRedisScanContext;
+import com.langwuyue.orange.redis.executor.OrangeRedisAbstractExecutor;
+import com.langwuyue.orange.redis.mapping.OrangeRedisExecutorIdGenerator;
+import com.langwuyue.orange.redis.operations.OrangeRedisZSetOperations;
+import com.langwuyue.orange.redis.operations.OrangeRedisZSetOperations.ScanResults;
+import com.langwuyue.orange.redis.operations.OrangeRedisZSetOperations.ZSetEntry;
+import com.langwuyue.orange.redis.utils.OrangeCollectionUtils;
+import com.langwuyue.orange.redis.utils.OrangeReflectionUtils;
+
+/**
+ * <h3>Reads one page of {@code ZSCAN} from the cursor returned by the previous page.</h3>
+ * <p>
+ * The return value is a map holding the next cursor, {@code 0} once the iteration is completed, and the members of the page with their scores.
+ * </p>
+ * 
+ * @author Liang.Zhong
+ * @since 1.0.0
+ */
+public class OrangeScanMembersExecutor extends OrangeRedisAbstractExecutor {
+	
+	private OrangeRedisZSetOperations operations;
+
+	public OrangeScanMembersExecutor(OrangeRedisZSetOperations operations,OrangeRedisExecutorIdGenerator idGenerator) {
+		super(idGenerator);
+		this.operations = operations;
+	}
+
+	@Override
+	protected List<Class<? extends Annotation>> getSupportedAnnotationClasses() {
+		return OrangeCollectionUtils.asList(GetMembers.class,WithScores.class,ScanPattern.class,Count.class,ScanCursor.class);
+	}
+
+	@Override
+	public Class<? extends OrangeRedisContext> getContextClass() {
+		return OrangeRedisScanContext.class;
+	}
+
+	@Override
+	public Object execute(OrangeRedisContext context) throws Exception {
+		OrangeRedisScanContext ctx = (OrangeRedisScanContext) context;
+		Type pageType = OrangeReflectionUtils.getMapValueType(context.getGenericReturnType());
+		ScanResults scanResults = this.operations.scan(
+			context.getRedisKey().getValue(), 
+			ctx.getPattern(), 
+			ctx.getCount(), 
+			ctx.getCursor(), 
+			ctx.getValueType(), 
+			OrangeReflectionUtils.getMapKeyType(pageType)
+		);
+		Map page = OrangeReflectionUtils.newMap(OrangeReflectionUtils.getRawType(pageType));
+		for(ZSetEntry entry : scanResults.getMembers()) {
+			page.put(entry.getValue(), entry.getScore());
+		}
+		Map<Long,Map> results = OrangeReflectionUtils.newMap(context.getReturnType());
+		results.put(scanResults.getCursor(), page);
+		return results;
+	}
+}
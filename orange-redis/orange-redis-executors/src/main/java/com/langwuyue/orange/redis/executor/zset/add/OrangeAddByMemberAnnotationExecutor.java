@@ -53,7 +53,7 @@ public class OrangeAddByMemberAnnotationExecutor extends OrangeRedisAbstractExec
 		entries.add(ctx.getMember());
 		Long result = this.operations.add(ctx.getRedisKey().getValue(), entries, context.getValueType());
 		
-		Class<?> returnClass = context.getOperationMethod().getReturnType();
+		Class<?> returnClass = context.getReturnType();
 		if(returnClass == Boolean.class || returnClass == boolean.class) {
 			return result != null && result > 0;	
 		}
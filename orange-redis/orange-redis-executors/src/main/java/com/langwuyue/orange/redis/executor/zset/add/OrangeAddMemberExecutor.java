@@ -53,7 +53,7 @@ public class OrangeAddMemberExecutor extends OrangeRedisAbstractExecutor {
 		Set<ZSetEntry> entries = new LinkedHashSet<>();
 		entries.add(new ZSetEntry(ctx.getValue(), ctx.getScore()));
 		Long result = this.operations.add(ctx.getRedisKey().getValue(), entries, context.getValueType());
-		Class<?> returnClass = context.getOperationMethod().getReturnType();
+		Class<?> returnClass = context.getReturnType();
 		if(returnClass == Boolean.class || returnClass == boolean.class) {
 			return result != null && result > 0;	
 		}
@@ -26,7 +26,9 @@ import com.langwuyue.orange.redis.annotation.global.SetExpiration;
 import com.langwuyue.orange.redis.context.OrangeRedisContext;
 import com.langwuyue.orange.redis.context.OrangeRedisContext.Key;
 import com.langwuyue.orange.redis.listener.OrangeRedisMultipleSetIfAbsentListener;
+import com.langwuyue.orange.redis.logger.OrangeRedisLogger;
 import com.langwuyue.orange.redis.mapping.OrangeRedisExecutorIdGenerator;
+import com.langwuyue.orange.redis.operations.OrangeRedisScriptOperations;
 import com.langwuyue.orange.redis.operations.OrangeRedisZSetOperations;
 
 /**
@@ -36,11 +38,13 @@ import com.langwuyue.orange.redis.operations.OrangeRedisZSetOperations;
 public class OrangeAddMembersIfAbsentWithExpirationExecutor extends OrangeAddMembersIfAbsentExecutor {
 
 	public OrangeAddMembersIfAbsentWithExpirationExecutor(
+		OrangeRedisScriptOperations scriptOperations,
 		OrangeRedisZSetOperations operations,
 		OrangeRedisExecutorIdGenerator idGenerator,
-		Collection<OrangeRedisMultipleSetIfAbsentListener> listeners
+		Collection<OrangeRedisMultipleSetIfAbsentListener> listeners,
+		OrangeRedisLogger logger
 	) {
-		super(operations,idGenerator,listeners);
+		super(scriptOperations,operations,idGenerator,listeners,logger);
 	}
 	
 
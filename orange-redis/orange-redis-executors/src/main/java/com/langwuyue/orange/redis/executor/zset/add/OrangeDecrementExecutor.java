@@ -50,7 +50,7 @@ public class OrangeDecrementExecutor extends OrangeRedisAbstractExecutor {
 		if(result == null) {
 			return null;
 		}
-		Class returnClass = context.getOperationMethod().getReturnType();
+		Class returnClass = context.getReturnType();
 		if(returnClass == Long.class || returnClass == long.class) {
 			return result.longValue();
 		}
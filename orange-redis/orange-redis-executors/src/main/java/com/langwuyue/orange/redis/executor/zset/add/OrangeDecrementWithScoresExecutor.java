@@ -48,7 +48,7 @@ public class OrangeDecrementWithScoresExecutor extends OrangeRedisAbstractExecut
 	public Object execute(OrangeRedisContext context) throws Exception {
 		OrangeScoreContext ctx = (OrangeScoreContext) context;
 		Double result = this.operations.incrementScore(ctx.getRedisKey().getValue(), ctx.getValue(), -(ctx.getScore()), context.getValueType());
-		Class returnClass = context.getOperationMethod().getReturnType();
+		Class returnClass = context.getReturnType();
 		if(returnClass == Long.class || returnClass == long.class) {
 			return result.longValue();
 		}
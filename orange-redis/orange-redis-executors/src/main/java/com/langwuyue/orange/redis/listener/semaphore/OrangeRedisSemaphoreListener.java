@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.redis.listener.semaphore;
+
+import com.langwuyue.orange.redis.listener.OrangeRedisSetIfAbsentListener;
+
+/**
+ * The business logic runs in {@link #onSuccess(Object)} while the permit is held, the permit is released once all listeners are completed.
+ * 
+ * @author Liang.Zhong
+ * @since 1.0.0
+ */
+public interface OrangeRedisSemaphoreListener extends OrangeRedisSetIfAbsentListener<OrangeSemaphoreEvent,OrangeSemaphoreFailedEvent,OrangeSemaphoreFailedEvent> {
+
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.redis.listener.semaphore;
+
+/**
+ * @author Liang.Zhong
+ * @since 1.0.0
+ */
+public class OrangeSemaphoreFailedEvent extends OrangeSemaphoreEvent {
+	
+	private Exception exception;
+	
+	private String reason;
+	
+	public OrangeSemaphoreFailedEvent(Object[] args, String owner, int permits, Exception exception) {
+		super(args, owner, permits);
+		this.exception = exception;
+		this.reason = exception == null ? null : exception.getMessage();
+	}
+	
+	public OrangeSemaphoreFailedEvent(Object[] args, String owner, int permits, String reason) {
+		super(args, owner, permits);
+		this.reason = reason;
+	}
+
+	public Exception getException() {
+		return exception;
+	}
+
+	public String getReason() {
+		return reason;
+	}
+}
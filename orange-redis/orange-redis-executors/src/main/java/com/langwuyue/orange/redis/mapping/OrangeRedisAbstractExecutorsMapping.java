@@ -22,9 +22,9 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.langwuyue.orange.redis.OrangeRedisException;
 import com.langwuyue.orange.redis.annotation.KeyVariable;
@@ -67,9 +67,10 @@ public abstract class OrangeRedisAbstractExecutorsMapping implements OrangeRedis
 	) {
 		this.generator = generator;
 		this.executors = new ArrayList<>();
-		this.executorsMap = new LinkedHashMap<>();
-		this.methodExecutorMap = new LinkedHashMap<>();
-		this.extendMethodMap = new LinkedHashMap<>();
+		this.executorsMap = new ConcurrentHashMap<>();
+		// Filled while client proxies are created and read by every request thread afterwards
+		this.methodExecutorMap = new ConcurrentHashMap<>();
+		this.extendMethodMap = new ConcurrentHashMap<>();
 		this.logger = logger;
 		registerExecutors(executors,operations,generator,scriptOperations,listeners,multipleListeners,logger);
 		buildExecutorsMap();
@@ -52,7 +52,7 @@ public abstract class OrangeRedisExecutorIdAbstractGenerator implements OrangeRe
 		long id = 0;
 		for(Class<? extends Annotation> annotationClass : supportedClasses) {
 			long index = getSupportedAnnotationIndex(annotationClass);
-			id = id ^ (1 << index);
+			id = id ^ (1L << index);
 		}
 		return id;
 	}
@@ -37,6 +37,8 @@ import com.langwuyue.orange.redis.annotation.Random;
 import com.langwuyue.orange.redis.annotation.RedisOldValue;
 import com.langwuyue.orange.redis.annotation.RedisValue;
 import com.langwuyue.orange.redis.annotation.RemoveMembers;
+import com.langwuyue.orange.redis.annotation.ScanCursor;
+import com.langwuyue.orange.redis.annotation.ScanPattern;
 import com.langwuyue.orange.redis.annotation.hash.GetHashKeys;
 import com.langwuyue.orange.redis.annotation.hash.GetHashValueLength;
 import com.langwuyue.orange.redis.annotation.hash.GetHashValues;
@@ -73,6 +75,8 @@ public class OrangeRedisHashExecutorIdGenerator extends OrangeRedisExecutorIdAbs
 		supportedAnnotationClasses.add(Member.class);
 		supportedAnnotationClasses.add(HasKeys.class);
 		supportedAnnotationClasses.add(Distinct.class);
+		supportedAnnotationClasses.add(ScanPattern.class);
+		supportedAnnotationClasses.add(ScanCursor.class);
 	
 	}
 }
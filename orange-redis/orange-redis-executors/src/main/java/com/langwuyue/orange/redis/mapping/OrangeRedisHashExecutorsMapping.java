@@ -50,6 +50,8 @@ import com.langwuyue.orange.redis.executor.hash.OrangeRandomMemberExecutor;
 import com.langwuyue.orange.redis.executor.hash.OrangeRandomMembersExecutor;
 import com.langwuyue.orange.redis.executor.hash.OrangeRemoveMemberExecutor;
 import com.langwuyue.orange.redis.executor.hash.OrangeRemoveMembersExecutor;
+import com.langwuyue.orange.redis.executor.hash.OrangeScanAllMembersExecutor;
+import com.langwuyue.orange.redis.executor.hash.OrangeScanMembersExecutor;
 import com.langwuyue.orange.redis.listener.OrangeRedisMultipleSetIfAbsentListener;
 import com.langwuyue.orange.redis.listener.OrangeRedisSetIfAbsentListener;
 import com.langwuyue.orange.redis.logger.OrangeRedisLogger;
@@ -93,7 +95,7 @@ public class OrangeRedisHashExecutorsMapping extends OrangeRedisAbstractExecutor
 		executors.add(new OrangeAddMemberIfAbsentExecutor(hashOperations,generator,listeners));
 		//executors.add(new OrangeAddMemberIfAbsentWithExpirationExecutor(hashOperations,generator));
 		executors.add(new OrangeAddMembersExecutor(hashOperations,generator,logger));
-		executors.add(new OrangeAddMembersIfAbsentExecutor(hashOperations,generator,multipleListeners));
+		executors.add(new OrangeAddMembersIfAbsentExecutor(scriptOperations,hashOperations,generator,multipleListeners,logger));
 		//executors.add(new OrangeAddMembersIfAbsentWithExpirationExecutor(hashOperations,generator));
 		executors.add(new OrangeCompareAndSwapExecutor(scriptOperations,generator,logger));
 		executors.add(new OrangeCountExecutor(hashOperations,generator));
@@ -118,6 +120,8 @@ public class OrangeRedisHashExecutorsMapping extends OrangeRedisAbstractExecutor
 		executors.add(new OrangeRandomAndDistinctMembersExecutor(hashOperations,generator));
 		executors.add(new OrangeAdIfAbsentByMemberAnnotationExecutor(hashOperations,generator,listeners));
 		executors.add(new OrangeRandomAndDistinctKeysExecutor(hashOperations,generator));
+		executors.add(new OrangeScanMembersExecutor(hashOperations,generator));
+		executors.add(new OrangeScanAllMembersExecutor(hashOperations,generator));
 	}
 
 	@Override
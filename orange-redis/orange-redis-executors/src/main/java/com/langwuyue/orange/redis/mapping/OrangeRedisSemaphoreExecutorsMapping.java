@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.redis.mapping;
+
+import java.util.Collection;
+
+import com.langwuyue.orange.redis.executor.multiplelocks.OrangeExpirationTimeAutoInitializer;
+import com.langwuyue.orange.redis.executor.semaphore.OrangeSemaphoreAcquireExecutor;
+import com.langwuyue.orange.redis.listener.OrangeRedisMultipleSetIfAbsentListener;
+import com.langwuyue.orange.redis.listener.OrangeRedisSetIfAbsentListener;
+import com.langwuyue.orange.redis.logger.OrangeRedisLogger;
+import com.langwuyue.orange.redis.operations.OrangeRedisOperations;
+import com.langwuyue.orange.redis.operations.OrangeRedisScriptOperations;
+import com.langwuyue.orange.redis.template.semaphore.SemaphoreOperationsTemplate;
+import com.langwuyue.orange.redis.timer.OrangeRenewTimerWheel;
+
+/**
+ * @author Liang.Zhong
+ * @since 1.0.0
+ */
+public class OrangeRedisSemaphoreExecutorsMapping extends OrangeRedisAbstractExecutorsMapping {
+	
+	public OrangeRedisSemaphoreExecutorsMapping(
+		OrangeRedisOperations operations,
+		OrangeRedisSemaphoreExecutorIdGenerator generator,
+		Collection<OrangeRedisSetIfAbsentListener> listeners,
+		OrangeRedisScriptOperations scriptOperations,
+		Collection<OrangeRedisMultipleSetIfAbsentListener> multipleListeners,
+		OrangeRenewTimerWheel renewTimerWheel,
+		OrangeExpirationTimeAutoInitializer expirationTimeAutoInitializer,
+		OrangeRedisLogger logger
+	) {
+		super(operations,generator,scriptOperations,listeners,multipleListeners,logger);
+		this.registerExecutors(new OrangeSemaphoreAcquireExecutor(
+			scriptOperations,
+			generator,
+			listeners,
+			renewTimerWheel,
+			expirationTimeAutoInitializer,
+			logger
+		));
+	}
+
+	@Override
+	protected Class<?> getTemplateClass() {
+		return SemaphoreOperationsTemplate.class;
+	}
+}
@@ -35,6 +35,7 @@ import com.langwuyue.orange.redis.annotation.Random;
 import com.langwuyue.orange.redis.annotation.RedisOldValue;
 import com.langwuyue.orange.redis.annotation.RedisValue;
 import com.langwuyue.orange.redis.annotation.RemoveMembers;
+import com.langwuyue.orange.redis.annotation.ScanCursor;
 import com.langwuyue.orange.redis.annotation.ScanPattern;
 import com.langwuyue.orange.redis.annotation.set.IsMembers;
 import com.langwuyue.orange.redis.annotation.zset.PageNo;
@@ -64,6 +65,7 @@ public class OrangeRedisSetExecutorIdGenerator extends OrangeRedisExecutorIdAbst
 		supportedAnnotationClasses.add(CAS.class);
 		supportedAnnotationClasses.add(RedisOldValue.class);
 		supportedAnnotationClasses.add(ScanPattern.class);
+		supportedAnnotationClasses.add(ScanCursor.class);
 		supportedAnnotationClasses.add(PageNo.class);
 	
 	}
@@ -38,6 +38,8 @@ import com.langwuyue.orange.redis.executor.set.OrangeRandomGetMemberExecutor;
 import com.langwuyue.orange.redis.executor.set.OrangeRandomGetMembersExecutor;
 import com.langwuyue.orange.redis.executor.set.OrangeRemoveMemberExecutor;
 import com.langwuyue.orange.redis.executor.set.OrangeRemoveMembersExecutor;
+import com.langwuyue.orange.redis.executor.set.OrangeScanAllMembersExecutor;
+import com.langwuyue.orange.redis.executor.set.OrangeScanMembersByCursorExecutor;
 import com.langwuyue.orange.redis.executor.set.OrangeScanMembersExecutor;
 import com.langwuyue.orange.redis.listener.OrangeRedisMultipleSetIfAbsentListener;
 import com.langwuyue.orange.redis.listener.OrangeRedisSetIfAbsentListener;
@@ -93,6 +95,8 @@ public class OrangeRedisSetExecutorsMapping extends OrangeRedisAbstractExecutors
 		executors.add(new OrangeRemoveMembersExecutor(setOperations,generator,logger));
 		executors.add(new OrangeCompareAndSwapExecutor(scriptOperations,generator,logger));
 		executors.add(new OrangeScanMembersExecutor(setOperations,generator));
+		executors.add(new OrangeScanMembersByCursorExecutor(setOperations,generator));
+		executors.add(new OrangeScanAllMembersExecutor(setOperations,generator));
 	}
 
 	@Override
@@ -63,6 +63,7 @@ public class OrangeRedisValueExecutorsMapping extends OrangeRedisAbstractExecuto
 		super(operations,generator,scriptOperations,listeners,multipleListeners,logger);
 		this.registerExecutors(new OrangeValueLockAutoRenewExpirationExecutor(
 				operations,
+				scriptOperations,
 				generator,
 				listeners,
 				renewTimerWheel,
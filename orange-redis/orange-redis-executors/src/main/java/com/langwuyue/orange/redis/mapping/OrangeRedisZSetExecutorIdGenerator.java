@@ -39,6 +39,8 @@ import com.langwuyue.orange.redis.annotation.PopMembers;
 import com.langwuyue.orange.redis.annotation.Random;
 import com.langwuyue.orange.redis.annotation.RedisValue;
 import com.langwuyue.orange.redis.annotation.RemoveMembers;
+import com.langwuyue.orange.redis.annotation.ScanCursor;
+import com.langwuyue.orange.redis.annotation.ScanPattern;
 import com.langwuyue.orange.redis.annotation.StartIndex;
 import com.langwuyue.orange.redis.annotation.Timeout;
 import com.langwuyue.orange.redis.annotation.TimeoutValue;
@@ -101,6 +103,8 @@ public class OrangeRedisZSetExecutorIdGenerator extends OrangeRedisExecutorIdAbs
 		supportedAnnotationClasses.add(Multiple.class);
 		supportedAnnotationClasses.add(ContinueOnFailure.class);
 		supportedAnnotationClasses.add(OldScore.class);
+		supportedAnnotationClasses.add(ScanPattern.class);
+		supportedAnnotationClasses.add(ScanCursor.class);
 	
 	}
 }
@@ -37,6 +37,8 @@ import com.langwuyue.orange.redis.executor.zset.OrangeRemoveMemberExecutor;
 import com.langwuyue.orange.redis.executor.zset.OrangeRemoveMembersExecutor;
 import com.langwuyue.orange.redis.executor.zset.OrangeReverseRankExecutor;
 import com.langwuyue.orange.redis.executor.zset.OrangeReverseRanksExecutor;
+import com.langwuyue.orange.redis.executor.zset.OrangeScanAllMembersExecutor;
+import com.langwuyue.orange.redis.executor.zset.OrangeScanMembersExecutor;
 import com.langwuyue.orange.redis.executor.zset.add.OrangeAddByMemberAnnotationExecutor;
 import com.langwuyue.orange.redis.executor.zset.add.OrangeAddIfAbsentByMemberAnnotationExecutor;
 import com.langwuyue.orange.redis.executor.zset.add.OrangeAddMemberExecutor;
@@ -156,7 +158,7 @@ public class OrangeRedisZSetExecutorsMapping extends OrangeRedisAbstractExecutor
 		executors.add(new OrangeAddMemberExecutor(zSetOperations,generator));
 		executors.add(new OrangeAddMemberIfAbsentExecutor(zSetOperations,generator,listeners));
 		executors.add(new OrangeAddMembersExecutor(zSetOperations,generator,logger));
-		executors.add(new OrangeAddMembersIfAbsentExecutor(zSetOperations,generator,multipleListeners));
+		executors.add(new OrangeAddMembersIfAbsentExecutor(scriptOperations,zSetOperations,generator,multipleListeners,logger));
 		//executors.add(new OrangeAddMembersIfAbsentWithExpirationExecutor(zSetOperations,generator,multipleListeners));
 		executors.add(new OrangeCompareAndSwapExecutor(scriptOperations,generator,logger));
 		executors.add(new OrangeDecrementExecutor(zSetOperations,generator));
@@ -246,6 +248,8 @@ public class OrangeRedisZSetExecutorsMapping extends OrangeRedisAbstractExecutor
 		executors.add(new OrangeReverseRankExecutor(zSetOperations,generator));
 		executors.add(new OrangeReverseRanksExecutor(zSetOperations,generator,logger));
 		executors.add(new OrangeCountExecutor(zSetOperations,generator));
+		executors.add(new OrangeScanMembersExecutor(zSetOperations,generator));
+		executors.add(new OrangeScanAllMembersExecutor(zSetOperations,generator));
 	}
 
 	@Override
@@ -136,4 +136,37 @@ public interface OrangeRedisHashOperations extends OrangeRedisOperations {
 
 	List<Object> getAllValues(String key, RedisValueTypeEnum valueType, Type returnType) throws Exception;
 
+	/**
+	 * Read one page of {@code HSCAN}, the returned cursor is the cursor replied by the server, {@code 0} once the iteration is completed.
+	 */
+	ScanResults scan(
+		String key, 
+		String pattern, 
+		Integer count, 
+		long cursor, 
+		RedisValueTypeEnum hashKeyType,
+		RedisValueTypeEnum hashValueType, 
+		Type keyType, 
+		Type valueType
+	) throws Exception;
+	
+	public static class ScanResults {
+		
+		private Map<Object,Object> members;
+		
+		private long cursor;
+		
+		public ScanResults(Map<Object,Object> members, long cursor) {
+			super();
+			this.members = members;
+			this.cursor = cursor;
+		}
+		public Map<Object,Object> getMembers() {
+			return members;
+		}
+		public long getCursor() {
+			return cursor;
+		}
+	}
+
 }
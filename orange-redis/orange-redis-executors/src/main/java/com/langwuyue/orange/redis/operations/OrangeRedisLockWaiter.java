@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.redis.operations;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h3>Subscription to the releases of a lock.</h3>
+ * <p>
+ * The subscription takes effect asynchronously, releases published before it does are not received 
+ * and are only covered by the backoff of the callers between two tries of the lock. 
+ * A release received while {@link #await(long, TimeUnit)} is not called wakes the next call immediately.
+ * </p>
+ *
+ * @author Liang.Zhong
+ * @since 1.0.0
+ */
+public interface OrangeRedisLockWaiter extends AutoCloseable {
+	
+	/**
+	 * Wait until the lock is released or the timeout elapses.
+	 * 
+	 * @return true if the lock was released, false if the timeout elapsed
+	 */
+	boolean await(long timeout, TimeUnit unit) throws InterruptedException;
+	
+	/**
+	 * Unsubscribe the releases of the lock.
+	 */
+	@Override
+	void close();
+}
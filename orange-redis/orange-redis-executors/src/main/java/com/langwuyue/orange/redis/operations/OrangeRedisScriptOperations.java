@@ -30,6 +30,11 @@ import com.langwuyue.orange.redis.RedisValueTypeEnum;
  */
 public interface OrangeRedisScriptOperations {
 
+	/**
+	 * Register scripts which are going to be executed, so that they can be loaded before the first execution.
+	 */
+	void register(String... scripts);
+
 	Object execute(
 		String script, 
 		Map<Object, RedisValueTypeEnum> argsValueTypes, 
@@ -38,5 +43,34 @@ public interface OrangeRedisScriptOperations {
 		List<String> keys,
 		Object... args
 	) throws Exception;
+	
+	/**
+	 * Same as {@link #execute(String, Map, RedisValueTypeEnum, Type, List, Object...)}, but the value type of an argument is given by its position,
+	 * so that equal arguments can be serialized with different value types. Arguments whose value type is {@code null} are passed as they are.
+	 */
+	Object execute(
+		String script, 
+		RedisValueTypeEnum[] argsValueTypes, 
+		RedisValueTypeEnum returnValueType,
+		Type returnType, 
+		List<String> keys,
+		Object... args
+	) throws Exception;
+	
+	/**
+	 * Execute the script once per group of keys instead of once per key.
+	 * The script receives the keys of a group in {@code KEYS} and {@code argsPerKey} arguments of each key in {@code ARGV},
+	 * in the order of the keys, and returns a flag per key, {@code '1'} for success.
+	 * Keys of a group are in the same slot when Redis is a cluster.
+	 * 
+	 * @return the result of each key in order, {@code null} if the call of the group of the key failed
+	 */
+	Boolean[] executeForEachKey(
+		String script,
+		int argsPerKey,
+		RedisValueTypeEnum[] argsValueTypes,
+		List<String> keys,
+		Object... args
+	) throws Exception;
 
 }
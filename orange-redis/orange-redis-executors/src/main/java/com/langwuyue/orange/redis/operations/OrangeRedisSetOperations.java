@@ -64,6 +64,11 @@ public interface OrangeRedisSetOperations extends OrangeRedisOperations {
 	
 	ScanResults scan(String key, String pattern, Integer count, Long pageNo, RedisValueTypeEnum valueType, Type returnType) throws Exception;
 	
+	/**
+	 * Read one page of {@code SSCAN}, the returned cursor is the cursor replied by the server, {@code 0} once the iteration is completed.
+	 */
+	ScanResults scanByCursor(String key, String pattern, Integer count, long cursor, RedisValueTypeEnum valueType, Type returnType) throws Exception;
+	
 	public static class ScanResults {
 		
 		private Set<Object> members;
@@ -44,5 +44,15 @@ public interface OrangeRedisValueOperations extends OrangeRedisOperations {
 	Boolean setIfAbsent(String key, Object value, RedisValueTypeEnum valueType) throws Exception;
 
 	Object get(String key, RedisValueTypeEnum valueType, Type genericReturnType) throws Exception;
+	
+	/**
+	 * Subscribe the releases of the lock of the key, the waiter must be closed once the caller stops waiting.
+	 */
+	OrangeRedisLockWaiter subscribeRelease(String key);
+	
+	/**
+	 * The channel the releases of the lock of the key are published to.
+	 */
+	String getReleaseChannel(String key);
 
 }
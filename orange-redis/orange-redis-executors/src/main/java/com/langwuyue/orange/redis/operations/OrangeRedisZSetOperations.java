@@ -145,6 +145,30 @@ public interface OrangeRedisZSetOperations extends OrangeRedisOperations {
 
 	Long intersectAndStore(String referenceKey, Collection<String> comparisonKeys, String storeTo) throws Exception;
 	
+	/**
+	 * Read one page of {@code ZSCAN}, the returned cursor is the cursor replied by the server, {@code 0} once the iteration is completed.
+	 */
+	ScanResults scan(String key, String pattern, Integer count, long cursor, RedisValueTypeEnum valueType, Type returnType) throws Exception;
+	
+	public static class ScanResults {
+		
+		private Set<ZSetEntry> members;
+		
+		private long cursor;
+		
+		public ScanResults(Set<ZSetEntry> members, long cursor) {
+			super();
+			this.members = members;
+			this.cursor = cursor;
+		}
+		public Set<ZSetEntry> getMembers() {
+			return members;
+		}
+		public long getCursor() {
+			return cursor;
+		}
+	}
+	
 	public static class CASZSetEntry extends ZSetEntry {
 
 		@OldScore
@@ -33,6 +33,7 @@ public class OrangeAutoRenewProperties {
 	 * The duration of each tick in the timing wheel, defining the minimum time resolution.
 	 * 
 	 * <p>Example: If set to 1000ms, the wheel can schedule tasks with 1000ms precision.
+	 * Sub-second durations such as 50ms or 100ms are supported for locks with short expiration time.
 	 * 
 	 */
 	private Duration tickDuration = Duration.ofSeconds(1);
@@ -51,6 +52,13 @@ public class OrangeAutoRenewProperties {
 	 */
 	private int wheelSize = 60;
 	
+	/**
+	 * The number of levels of the hierarchical timing wheel, must be greater than 1.
+	 * Each bucket of a level spans a whole revolution of the level below,
+	 * so the wheel covers {@code tickDuration * wheelSize ^ levels} without walking long-lived tasks on every revolution.
+	 */
+	private int levels = 4;
+	
 	private boolean enabled = true;
 
 	public Duration getTickDuration() {
@@ -69,6 +77,14 @@ public class OrangeAutoRenewProperties {
 		this.wheelSize = wheelSize;
 	}
 
+	public int getLevels() {
+		return levels;
+	}
+
+	public void setLevels(int levels) {
+		this.levels = levels;
+	}
+
 	public Duration getAutoInitValue() {
 		return autoInitValue;
 	}
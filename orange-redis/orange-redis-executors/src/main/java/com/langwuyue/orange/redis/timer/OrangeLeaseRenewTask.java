@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.redis.timer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.langwuyue.orange.redis.RedisValueTypeEnum;
+import com.langwuyue.orange.redis.context.OrangeRedisContext.Key;
+import com.langwuyue.orange.redis.executor.lease.OrangeLeaseExecutor;
+
+/**
+ * Renew the lease of a holder of a read-write lock or a semaphore.
+ * 
+ * @author Liang.Zhong
+ * @since 1.0.0
+ */
+public class OrangeLeaseRenewTask extends OrangeRenewTask {
+	
+	private OrangeLeaseExecutor renewExecutor;
+	
+	public OrangeLeaseRenewTask(
+		Key key,
+		OrangeLeaseExecutor renewExecutor,
+		String owner,
+		int threshold
+	) {
+		super(key, null, owner, RedisValueTypeEnum.STRING, threshold);
+		this.renewExecutor = renewExecutor;
+	}
+	
+	@Override
+	public boolean finish() throws Exception {
+		if(isRemove()) {
+			return false;
+		}
+		Boolean[] results = this.renewExecutor.doRenew(
+			Collections.singletonList(this.getKey().getValue()), 
+			new Object[] {this.getValue(), this.getExpirationMillis()}
+		);
+		return results[0] != null && results[0].booleanValue();
+	}
+	
+	/**
+	 * All leases are renewed by the same script, whatever the kind of their executor.
+	 */
+	@Override
+	public Object getRenewGroup() {
+		return OrangeLeaseRenewTask.class;
+	}
+	
+	@Override
+	public Boolean[] finish(List<OrangeRenewTask> tasks) throws Exception {
+		int size = tasks.size();
+		List<String> keys = new ArrayList<>(size);
+		Object[] ownersAndExpirationMillis = new Object[size * 2];
+		for(int i = 0; i < size; i++) {
+			OrangeRenewTask task = tasks.get(i);
+			keys.add(task.getKey().getValue());
+			ownersAndExpirationMillis[i * 2] = task.getValue();
+			ownersAndExpirationMillis[i * 2 + 1] = task.getExpirationMillis();
+		}
+		return this.renewExecutor.doRenew(keys, ownersAndExpirationMillis);
+	}
+}
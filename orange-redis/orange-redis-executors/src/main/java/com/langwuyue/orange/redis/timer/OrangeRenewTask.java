@@ -18,6 +18,9 @@
  */
 package com.langwuyue.orange.redis.timer;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import com.langwuyue.orange.redis.RedisValueTypeEnum;
 import com.langwuyue.orange.redis.context.OrangeRedisContext.Key;
 import com.langwuyue.orange.redis.executor.hash.OrangeCompareAndSwapExecutor;
@@ -28,7 +31,7 @@ import com.langwuyue.orange.redis.executor.hash.OrangeCompareAndSwapExecutor;
  */
 public class OrangeRenewTask {
 	
-	private boolean remove;
+	private volatile boolean remove;
 	
 	private OrangeCompareAndSwapExecutor executor;
 	
@@ -46,9 +49,9 @@ public class OrangeRenewTask {
 	
 	private long expirationMillis;
 	
-	private long round;
+	private long expireTick;
 	
-	private OrangeTaskLink link;
+	private volatile OrangeTaskLink link;
 	
 	private OrangeRenewTask next;
 	
@@ -100,8 +103,45 @@ public class OrangeRenewTask {
 		);
 	}
 
+	/**
+	 * Tasks with the same group are renewed together by {@link #finish(List)} of any of them.
+	 */
+	public Object getRenewGroup() {
+		return this.executor;
+	}
+	
+	/**
+	 * Renew the tasks of the group of this task with one script call per slot instead of one call per task.
+	 * 
+	 * @return the result of each task in order, {@code null} if the renewal of the task failed
+	 */
+	public Boolean[] finish(List<OrangeRenewTask> tasks) throws Exception {
+		int size = tasks.size();
+		List<String> keys = new ArrayList<>(size);
+		Object[] args = new Object[size * 3];
+		RedisValueTypeEnum[] argsValueTypes = new RedisValueTypeEnum[size * 3];
+		for(int i = 0; i < size; i++) {
+			OrangeRenewTask task = tasks.get(i);
+			keys.add(task.key.getValue());
+			args[i * 3] = task.value;
+			argsValueTypes[i * 3] = task.valueType;
+			args[i * 3 + 1] = task.deadlineMillis;
+			argsValueTypes[i * 3 + 1] = RedisValueTypeEnum.LONG;
+			args[i * 3 + 2] = task.computeDeadlineMillis();
+			argsValueTypes[i * 3 + 2] = RedisValueTypeEnum.LONG;
+		}
+		return this.executor.doCAS(keys, args, argsValueTypes);
+	}
+
+	/**
+	 * A removed task is unlinked from the timing wheel right away, it will not be renewed any more.
+	 */
 	public void setRemove(boolean remove) {
 		this.remove = remove;
+		OrangeTaskLink link = this.link;
+		if(remove && link != null) {
+			link.cancel(this);
+		}
 	}
 
 	public long getStartMillis() {
@@ -140,12 +180,12 @@ public class OrangeRenewTask {
 		return expirationMillis;
 	}
 
-	public long getRound() {
-		return round;
+	public long getExpireTick() {
+		return expireTick;
 	}
 
-	void setRound(long round) {
-		this.round = round;
+	void setExpireTick(long expireTick) {
+		this.expireTick = expireTick;
 	}
 
 	void setExecutor(OrangeCompareAndSwapExecutor executor) {
@@ -208,7 +248,7 @@ public class OrangeRenewTask {
 	public String toString() {
 		return "OrangeRenewTask [remove=" + remove + ", executor=" + executor + ", key=" + key + ", valueType="
 				+ valueType + ", value=" + value + ", deadlineMillis=" + deadlineMillis + ", startMillis=" + startMillis
-				+ ", renewThreshold=" + renewThreshold + ", expirationMillis=" + expirationMillis + ", round=" + round
+				+ ", renewThreshold=" + renewThreshold + ", expirationMillis=" + expirationMillis + ", expireTick=" + expireTick
 				+ "]";
 	}
 	
@@ -18,55 +18,84 @@
  */
 package com.langwuyue.orange.redis.timer;
 
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.List;
+import java.util.Map;
 
 import com.langwuyue.orange.redis.OrangeRedisException;
 import com.langwuyue.orange.redis.logger.OrangeRedisLogger;
 
 /**
+ * <h3>Hierarchical timing wheel for auto-renewal.</h3>
+ * <p>
+ * Level 0 has {@code wheelSize} buckets of one tick each, every upper level has {@code wheelSize} buckets
+ * which each span a whole revolution of the level below. A task is linked to the lowest level that can hold its deadline,
+ * and the bucket of an upper level is cascaded into the lower levels when the wheel below has turned to it.
+ * So a tick only touches the tasks which are due or cascaded, tasks with long renew thresholds are not walked on every revolution.
+ * </p>
+ * <p>
+ * Adding and cancelling a task are O(1), both link or unlink the task directly under the lock of the wheel.
+ * Renewed tasks are linked again for their next renewal without going through a queue.
+ * </p>
+ * 
  * @author Liang.Zhong
  * @since 1.0.0
  */
 public class OrangeRenewTimerWorker implements Runnable {
 	
-	private static final long MIN_TICK_DURATION_MILLIS = 1000;
+	private final Object lock = new Object();
 	
 	private int wheelSize;
 	
-	private LinkedBlockingQueue<OrangeRenewTask> newTaskQueue = new LinkedBlockingQueue<>();
+	private OrangeTaskLink[][] wheels;
 	
-	private OrangeTaskLink[] wheel;
+	/**
+	 * Ticks spanned by one bucket of each level
+	 */
+	private long[] spans;
 	
+	/**
+	 * The next tick to process
+	 */
 	private long tick;
 	
 	private long tickDuration;
 	
 	private long startTime;
 	
-	private int maxPollSizePerRound;
-	
 	private OrangeRedisLogger logger;
 	
-	private boolean destory = false;
+	private volatile boolean destory = false;
 	
 	public OrangeRenewTimerWorker(OrangeAutoRenewProperties properties,OrangeRedisLogger logger) {
-		// Init timer wheel
 		this.wheelSize = properties.getWheelSize();
-		this.wheel = new OrangeTaskLink[wheelSize];
-		for (int i = 0; i < wheelSize; i++) {
-			this.wheel[i] = new OrangeTaskLink(logger);
+		if(this.wheelSize < 2) {
+			throw new OrangeRedisException("The property 'wheelSize' must be greater than 1");
+		}
+		int levels = properties.getLevels();
+		if(levels < 2) {
+			throw new OrangeRedisException("The property 'levels' must be greater than 1");
 		}
 		
 		// Check tick duration
 		this.tickDuration = properties.getTickDuration().toMillis();
-		if (this.tickDuration >= Long.MAX_VALUE / wheelSize) {
-            throw new OrangeRedisException(String.format("The property 'tickDuration' must less than %s", Long.MAX_VALUE / wheelSize));
-        }
-        if (this.tickDuration < MIN_TICK_DURATION_MILLIS) {
-            this.tickDuration = MIN_TICK_DURATION_MILLIS;
-        }
-        
-		this.maxPollSizePerRound = wheelSize * 1000;
+		if(this.tickDuration <= 0) {
+			throw new OrangeRedisException("The property 'tickDuration' must be at least 1ms");
+		}
+		
+		// Init timer wheels
+		this.wheels = new OrangeTaskLink[levels][wheelSize];
+		this.spans = new long[levels];
+		long span = 1;
+		for (int level = 0; level < levels; level++) {
+			if (span > Long.MAX_VALUE / wheelSize / this.tickDuration) {
+				throw new OrangeRedisException(String.format("The timing wheel with %s levels of %s buckets is too large, decrease 'levels' or 'wheelSize'", levels, wheelSize));
+			}
+			this.spans[level] = span;
+			for (int i = 0; i < wheelSize; i++) {
+				this.wheels[level][i] = new OrangeTaskLink(this.lock, logger);
+			}
+			span *= wheelSize;
+		}
 		this.logger = logger;
 	}
 
@@ -80,22 +109,12 @@ public class OrangeRenewTimerWorker implements Runnable {
 			try {
 				
 				this.logger.debug("Getting next tick, current tick is {} ", this.tick - 1);
-				int tick = getNextTick();
+				long tick = getNextTick();
 				this.logger.debug("The tick for auto-renew is {}", tick);
 				
 				long start = System.currentTimeMillis();
 				
-				// Move new tasks to timer wheel. 
-				newTaskQueue2Wheel();
-				
-				// Get link of current tick
-				OrangeTaskLink link = this.wheel[tick];
-				
-				// Finish task
-				link.expire((t) -> {
-					this.logger.debug("{} auto-renew successfully", t);
-					this.newTaskQueue.add(t);
-				});
+				process(tick);
 				
 				this.logger.debug("The tick {} for auto-renew done", tick);
 				
@@ -115,38 +134,91 @@ public class OrangeRenewTimerWorker implements Runnable {
 		}
 	}
 	
-	private int getNextTick() throws InterruptedException {
+	/**
+	 * Renew the tasks due at the tick.
+	 * <p>
+	 * The due bucket is drained under the same lock which advances the tick, 
+	 * a task linked to that bucket afterwards is due one revolution later and must not be renewed by this tick.
+	 * </p>
+	 */
+	void process(long tick) throws Exception {
+		OrangeTaskLink link;
+		Map<Object, List<OrangeRenewTask>> groups;
+		synchronized (this.lock) {
+			// Move tasks of upper levels which fall into this tick down.
+			cascade(tick);
+			link = this.wheels[0][(int)(tick % this.wheelSize)];
+			groups = link.drainGroups();
+			this.tick = tick + 1;
+		}
+		
+		// Finish task
+		link.expire(groups, (t) -> {
+			this.logger.debug("{} auto-renew successfully", t);
+			schedule(t);
+		});
+	}
+	
+	/**
+	 * The bucket with the index of the level, for tests.
+	 */
+	OrangeTaskLink getBucket(int level, int index) {
+		return this.wheels[level][index];
+	}
+	
+	private long getNextTick() throws InterruptedException {
 		long tick = this.tick;
 		long diff = (tick * this.tickDuration) - (System.currentTimeMillis() - this.startTime);
-		if(diff <= 0) {
-			++this.tick;
-			return (int)(tick % this.wheelSize);
+		if(diff > 0) {
+			Thread.sleep(diff);
 		}
-		Thread.sleep(diff);
-		++this.tick;
-		return (int)(tick % this.wheelSize);
+		return tick;
 	}
-
-	private void newTaskQueue2Wheel() {
-		this.logger.debug("Scheduling new tasks into the timing wheel");
-		for(int i = 0; i < this.maxPollSizePerRound; i++) {
-			OrangeRenewTask task = this.newTaskQueue.poll();
-			if(task == null) {
-				break;
+	
+	/**
+	 * Cascade from the highest level, so that tasks moved into a lower bucket that is due at this tick are cascaded again.
+	 */
+	private void cascade(long tick) {
+		for (int level = this.spans.length - 1; level > 0; level--) {
+			long span = this.spans[level];
+			if (tick % span != 0) {
+				continue;
 			}
+			this.wheels[level][(int)((tick / span) % this.wheelSize)].drain(t -> link(t, tick));
+		}
+	}
+	
+	/**
+	 * Link the task to the bucket of its expire tick, must hold the lock.
+	 */
+	private void link(OrangeRenewTask task, long currentTick) {
+		long expireTick = Math.max(task.getExpireTick(), currentTick);
+		long delay = expireTick - currentTick;
+		int top = this.spans.length - 1;
+		int level = 0;
+		while (level < top && delay >= this.spans[level + 1]) {
+			level++;
+		}
+		long span = this.spans[level];
+		if (delay >= span * this.wheelSize) {
+			// Beyond the top level, park it in the farthest bucket and link it again when that bucket is cascaded.
+			expireTick = currentTick + span * this.wheelSize - 1;
+		}
+		int index = (int)((expireTick / span) % this.wheelSize);
+		this.wheels[level][index].add(task);
+		this.logger.debug("{} successfully added to bucket with index {} of level {}", task, index, level);
+	}
+	
+	private void schedule(OrangeRenewTask task) {
+		long ticks = Math.max(1, task.getRenewThreshold() / this.tickDuration);
+		synchronized (this.lock) {
 			if(task.isRemove()) {
 				this.logger.debug("{} was removed already, skip it.", task);
-				continue;
+				return;
 			}
-			int tick = (int)(task.getRenewThreshold()/this.tickDuration);
-			int round = tick / this.wheelSize;
-			task.setRound(round);
-			int index = (int)((tick + this.tick - 1) % this.wheelSize);
-			OrangeTaskLink link = this.wheel[index];
-			link.add(task);
-			this.logger.debug("{} successfully added to bucket with index {}", task, index);
+			task.setExpireTick(this.tick + ticks - 1);
+			link(task, this.tick);
 		}
-		this.logger.debug("All new tasks have been scheduled into the timing wheel");
 	}
 	
 	public boolean addTask(OrangeRenewTask task) {
@@ -155,8 +227,9 @@ public class OrangeRenewTimerWorker implements Runnable {
 			this.logger.debug("Task's 'renewThreshold' is less equals than zero, ignore this task.\n Task:{}",task);
 			return false;
 		}
-		this.logger.debug("Adding a task to the pending queue.\n Task:{}",task);
-		return this.newTaskQueue.add(task);
+		this.logger.debug("Adding a task to the timing wheel.\n Task:{}",task);
+		schedule(task);
+		return true;
 	}
 	
 	public void destory() {
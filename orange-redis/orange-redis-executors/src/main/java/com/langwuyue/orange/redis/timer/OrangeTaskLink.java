@@ -18,11 +18,21 @@
  */
 package com.langwuyue.orange.redis.timer;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 
 import com.langwuyue.orange.redis.logger.OrangeRedisLogger;
 
 /**
+ * Bucket of the timing wheel.
+ * <p>
+ * All links of a wheel share the same lock, tasks are linked, unlinked and moved between links only while holding it,
+ * so a task can be cancelled in O(1) from any thread.
+ * </p>
+ * 
  * @author Liang.Zhong
  * @since 1.0.0
  */
@@ -32,10 +42,13 @@ public class OrangeTaskLink {
 	
     private OrangeRenewTask tail;
     
+    private Object lock;
+    
     private OrangeRedisLogger logger;
     
-    public OrangeTaskLink(OrangeRedisLogger logger) {
+    public OrangeTaskLink(Object lock, OrangeRedisLogger logger) {
 		super();
+		this.lock = lock;
 		this.logger = logger;
 	}
 
@@ -51,24 +64,65 @@ public class OrangeTaskLink {
         }
     }
 
-    public void expire(Consumer<OrangeRenewTask> consumer) throws Exception {
+    /**
+     * Unlink all tasks of this link, tasks which are not removed are handed to the consumer.
+     */
+    public void drain(Consumer<OrangeRenewTask> consumer) {
         OrangeRenewTask task = head;
         while (task != null) {
-            OrangeRenewTask next = task.getNext();
-            if (task.getRound() <= 0) {
-                remove(task);
-                if(task.finish()) {
-                	consumer.accept(task);
-                }
-            } else if (task.isRemove()) {
-                remove(task);
-            } else {
-                task.setRound(task.getRound() - 1);
+            OrangeRenewTask next = remove(task);
+            if (!task.isRemove()) {
+                consumer.accept(task);
             }
             task = next;
         }
     }
 
+    /**
+     * Unlink all tasks of this link grouped by their renew groups, must hold the lock.
+     */
+    public Map<Object, List<OrangeRenewTask>> drainGroups() {
+        Map<Object, List<OrangeRenewTask>> groups = new LinkedHashMap<>();
+        drain(task -> groups.computeIfAbsent(task.getRenewGroup(), k -> new ArrayList<>()).add(task));
+        return groups;
+    }
+
+    /**
+     * Renew the tasks drained from this link, tasks of the same renew group are renewed together,
+     * so the cost of a tick grows with the number of groups and slots rather than the number of tasks.
+     * The renewal runs without holding the lock, tasks can be added or cancelled meanwhile.
+     */
+    public void expire(Map<Object, List<OrangeRenewTask>> groups, Consumer<OrangeRenewTask> consumer) throws Exception {
+        for (List<OrangeRenewTask> group : groups.values()) {
+            Boolean[] results;
+            try {
+                results = group.get(0).finish(group);
+            } catch (Exception e) {
+                this.logger.error(String.format("Auto renew %s tasks error", group.size()), e);
+                continue;
+            }
+            int size = group.size();
+            for (int i = 0; i < size; i++) {
+                OrangeRenewTask renewed = group.get(i);
+                if (Boolean.TRUE.equals(results[i]) && !renewed.isRemove()) {
+                    consumer.accept(renewed);
+                }
+            }
+        }
+    }
+
+    /**
+     * Unlink the task from the link it currently belongs to.
+     */
+    public void cancel(OrangeRenewTask task) {
+        synchronized (lock) {
+            OrangeTaskLink link = task.getLink();
+            if (link != null) {
+                link.remove(task);
+            }
+        }
+    }
+
     public OrangeRenewTask remove(OrangeRenewTask task) {
     	this.logger.debug("Removing {}", task);
         OrangeRenewTask next = task.getNext();
@@ -18,9 +18,13 @@
  */
 package com.langwuyue.orange.redis.timer;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import com.langwuyue.orange.redis.RedisValueTypeEnum;
 import com.langwuyue.orange.redis.context.OrangeRedisContext.Key;
-import com.langwuyue.orange.redis.operations.OrangeRedisValueOperations;
+import com.langwuyue.orange.redis.executor.value.OrangeValueLockAutoRenewExpirationExecutor;
 
 /**
  * @author Liang.Zhong
@@ -28,17 +32,17 @@ import com.langwuyue.orange.redis.operations.OrangeRedisValueOperations;
  */
 public class OrangeValueLockRenewTask extends OrangeRenewTask {
 	
-	private OrangeRedisValueOperations operations;
+	private OrangeValueLockAutoRenewExpirationExecutor renewExecutor;
 	
 	public OrangeValueLockRenewTask(
 		Key key,
-		OrangeRedisValueOperations operations,
+		OrangeValueLockAutoRenewExpirationExecutor renewExecutor,
 		Object value,
 		RedisValueTypeEnum valueType,
 		int threshold
 	) {
 		super(key, null, value, valueType, threshold);
-		this.operations = operations;
+		this.renewExecutor = renewExecutor;
 	}
 	
 	@Override
@@ -46,6 +50,29 @@ public class OrangeValueLockRenewTask extends OrangeRenewTask {
 		if(isRemove()) {
 			return false;
 		}
-		return this.operations.expire(this.getKey().getValue(), this.getKey().getExpirationTime(), this.getKey().getExpirationTimeUnit());
+		Boolean[] results = this.renewExecutor.doRenew(
+			Collections.singletonList(this.getKey().getValue()), 
+			new Object[] {this.getValue(), this.getExpirationMillis()}
+		);
+		return results[0] != null && results[0].booleanValue();
+	}
+	
+	@Override
+	public Object getRenewGroup() {
+		return this.renewExecutor;
+	}
+	
+	@Override
+	public Boolean[] finish(List<OrangeRenewTask> tasks) throws Exception {
+		int size = tasks.size();
+		List<String> keys = new ArrayList<>(size);
+		Object[] ownersAndExpirationMillis = new Object[size * 2];
+		for(int i = 0; i < size; i++) {
+			OrangeRenewTask task = tasks.get(i);
+			keys.add(task.getKey().getValue());
+			ownersAndExpirationMillis[i * 2] = task.getValue();
+			ownersAndExpirationMillis[i * 2 + 1] = task.getExpirationMillis();
+		}
+		return this.renewExecutor.doRenew(keys, ownersAndExpirationMillis);
 	}
 }
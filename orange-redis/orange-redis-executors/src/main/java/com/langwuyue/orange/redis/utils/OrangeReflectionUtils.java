@@ -92,24 +92,31 @@ public abstract class OrangeReflectionUtils {
 	
 	public static void setFieldValue(Field field, Object obj, Object value) {
 		try {
-			field.setAccessible(true);
+			makeAccessible(field);
 			field.set(obj,value);
 		} catch (Exception e) {
 			
 			throw new OrangeRedisException(String.format("The field %s of %s is not accessible.", obj.getClass(),field), e);
-		}finally {
-			field.setAccessible(false);
 		}
 	}
 	
 	public static Object getFieldValue(Field field, Object obj) {
 		try {
-			field.setAccessible(true);
+			makeAccessible(field);
 			return field.get(obj);
 		} catch (Exception e) {
 			throw new OrangeRedisException(String.format("The field %s of %s is not accessible.", obj.getClass(),field), e);
-		}finally {
-			field.setAccessible(false);
+		}
+	}
+	
+	/**
+	 * The accessible flag is kept once set, since toggling it on every access 
+	 * costs more than the access itself on hot paths.
+	 */
+	@SuppressWarnings("deprecation")
+	private static void makeAccessible(Field field) {
+		if(!field.isAccessible()) {
+			field.setAccessible(true);
 		}
 	}
 	
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.redis.context.builder;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.langwuyue.orange.redis.RedisValueTypeEnum;
+import com.langwuyue.orange.redis.annotation.OrangeRedisKey;
+import com.langwuyue.orange.redis.annotation.Timeout;
+import com.langwuyue.orange.redis.context.OrangeRedisContext;
+import com.langwuyue.orange.redis.context.OrangeRedisContext.Key;
+import com.langwuyue.orange.redis.executor.OrangeRedisExecutor;
+import com.langwuyue.orange.redis.logger.OrangeRedisDefaultLogger;
+import com.langwuyue.orange.redis.mapping.OrangeRedisValueExecutorIdGenerator;
+import com.langwuyue.orange.redis.mapping.OrangeRedisValueExecutorsMapping;
+import com.langwuyue.orange.redis.operations.OrangeRedisScriptOperations;
+import com.langwuyue.orange.redis.template.value.JSONOperationsTemplate;
+
+/**
+ * Compares building a context through the reflective builder with building it from a compiled {@link OrangeRedisInvocationPlan}.
+ *
+ * @author Liang.Zhong
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrangeRedisInvocationPlanBenchmark {
+
+	@OrangeRedisKey(key = "orange:benchmark:value", expirationTime = @Timeout(value = 1, unit = TimeUnit.HOURS))
+	public interface ValueClient extends JSONOperationsTemplate<String> {}
+
+	private OrangeRedisValueExecutorsMapping mapping;
+
+	private OrangeOperationArgHandlerMapping operationArgHandlerMapping;
+
+	private Map<Method,OrangeRedisInvocationPlan> plans;
+
+	private Method getValue;
+
+	private Method setValue;
+
+	private Key key;
+
+	private Object[] noArgs;
+
+	private Object[] valueArgs;
+
+	@Setup
+	public void setup() throws Exception {
+		this.mapping = new OrangeRedisValueExecutorsMapping(
+			null,
+			new OrangeRedisValueExecutorIdGenerator(),
+			new ArrayList<>(),
+			new NoopScriptOperations(),
+			new ArrayList<>(),
+			null,
+			null,
+			new OrangeRedisDefaultLogger()
+		);
+		Map<Class<? extends OrangeOperationArgHandler>, OrangeOperationArgHandler> valueHandlerMap = new HashMap<>();
+		valueHandlerMap.put(OrangeOperationArgSimpleHandler.class, new OrangeOperationArgSimpleHandler());
+		valueHandlerMap.put(OrangeOperationArgMultipleHandler.class, new OrangeOperationArgMultipleHandler());
+		valueHandlerMap.put(OrangeMethodAnnotationHandler.class, new OrangeMethodAnnotationHandler());
+		valueHandlerMap.put(OrangeOperationArgAnnotationHandler.class, new OrangeOperationArgAnnotationHandler());
+		valueHandlerMap.put(OrangeArgAndAnnotationToMapHandler.class, new OrangeArgAndAnnotationToMapHandler());
+		this.operationArgHandlerMapping = new OrangeOperationArgHandlerMapping(this.mapping, ValueClient.class, valueHandlerMap);
+		this.operationArgHandlerMapping.buildMapping();
+		this.plans = new HashMap<>();
+		Class<?>[] constructorParameterTypes = new OrangeRedisContextBuilder().getContextConstructorParameterTypes();
+		for(Method method : ValueClient.class.getMethods()) {
+			this.plans.put(method, OrangeRedisInvocationPlan.compile(
+				method,
+				this.mapping.getActualMethod(method),
+				this.mapping.getExecutor(method),
+				constructorParameterTypes,
+				this.operationArgHandlerMapping
+			));
+		}
+		this.getValue = ValueClient.class.getMethod("getValue");
+		this.setValue = ValueClient.class.getMethod("setValue", Object.class);
+		this.key = new Key("orange:benchmark:value", "orange:benchmark:value", 1, TimeUnit.HOURS);
+		this.noArgs = new Object[0];
+		this.valueArgs = new Object[] {"value"};
+	}
+
+	@Benchmark
+	public OrangeRedisContext getValueReflective() throws Exception {
+		return reflective(this.getValue, this.noArgs);
+	}
+
+	@Benchmark
+	public OrangeRedisContext getValuePlan() throws Exception {
+		return plan(this.getValue, this.noArgs);
+	}
+
+	@Benchmark
+	public OrangeRedisContext setValueReflective() throws Exception {
+		return reflective(this.setValue, this.valueArgs);
+	}
+
+	@Benchmark
+	public OrangeRedisContext setValuePlan() throws Exception {
+		return plan(this.setValue, this.valueArgs);
+	}
+
+	private OrangeRedisContext reflective(Method method, Object[] args) throws Exception {
+		OrangeRedisExecutor executor = this.mapping.getExecutor(method);
+		return new OrangeRedisContextBuilder()
+				.contextClass(executor.getContextClass())
+				.operationArgHandlerMapping(this.operationArgHandlerMapping)
+				.args(args)
+				.actualMethod(this.mapping.getActualMethod(method))
+				.operationMethod(method)
+				.operationOwner(ValueClient.class)
+				.redisKey(this.key)
+				.valueType(RedisValueTypeEnum.STRING)
+				.build();
+	}
+
+	private OrangeRedisContext plan(Method method, Object[] args) throws Exception {
+		OrangeRedisInvocationPlan plan = this.plans.get(method);
+		return new OrangeRedisContextBuilder()
+				.contextClass(plan.getExecutor().getContextClass())
+				.plan(plan)
+				.args(args)
+				.operationMethod(method)
+				.operationOwner(ValueClient.class)
+				.redisKey(this.key)
+				.valueType(RedisValueTypeEnum.STRING)
+				.build();
+	}
+
+	private static class NoopScriptOperations implements OrangeRedisScriptOperations {
+
+		@Override
+		public void register(String... scripts) {}
+
+		@Override
+		public Object execute(
+			String script,
+			Map<Object, RedisValueTypeEnum> argsValueTypes,
+			RedisValueTypeEnum returnValueType,
+			Type returnType,
+			List<String> keys,
+			Object... args
+		) {
+			return null;
+		}
+
+		@Override
+		public Object execute(
+			String script,
+			RedisValueTypeEnum[] argsValueTypes,
+			RedisValueTypeEnum returnValueType,
+			Type returnType,
+			List<String> keys,
+			Object... args
+		) {
+			return null;
+		}
+
+		@Override
+		public Boolean[] executeForEachKey(
+			String script,
+			int argsPerKey,
+			RedisValueTypeEnum[] argsValueTypes,
+			List<String> keys,
+			Object... args
+		) {
+			return new Boolean[keys.size()];
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(
+			new OptionsBuilder()
+				.include(OrangeRedisInvocationPlanBenchmark.class.getSimpleName())
+				.build()
+		).run();
+	}
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.redis.executor.value;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.langwuyue.orange.redis.RedisValueTypeEnum;
+import com.langwuyue.orange.redis.annotation.AutoRenew;
+import com.langwuyue.orange.redis.annotation.value.Lock;
+import com.langwuyue.orange.redis.context.OrangeRedisContext.Key;
+import com.langwuyue.orange.redis.executor.value.context.OrangeValueLockAutoRenewContext;
+import com.langwuyue.orange.redis.listener.OrangeRedisSetIfAbsentListener;
+import com.langwuyue.orange.redis.listener.value.OrangeRedisValueSetIfAbsentListener;
+import com.langwuyue.orange.redis.listener.value.OrangeRemoveFailedEvent;
+import com.langwuyue.orange.redis.listener.value.OrangeSetIfAbsentFailedEvent;
+import com.langwuyue.orange.redis.listener.value.OrangeSetIfAbsentSuccessEvent;
+import com.langwuyue.orange.redis.logger.OrangeRedisDefaultLogger;
+import com.langwuyue.orange.redis.mapping.OrangeRedisValueExecutorIdGenerator;
+import com.langwuyue.orange.redis.operations.OrangeRedisScriptOperations;
+import com.langwuyue.orange.redis.operations.OrangeRedisValueOperations;
+import com.langwuyue.orange.redis.timer.OrangeAutoRenewProperties;
+import com.langwuyue.orange.redis.timer.OrangeRenewTimerWheel;
+
+/**
+ * Acquire and release a lock against an in-memory store standing for Redis.
+ * 
+ * @author Liang.Zhong
+ * @since 1.0.0
+ */
+public class OrangeValueLockAutoRenewExpirationExecutorTest {
+	
+	private final Map<String, Object> store = new ConcurrentHashMap<>();
+	
+	private OrangeRenewTimerWheel renewTimerWheel;
+	
+	private OrangeValueLockAutoRenewExpirationExecutor executor;
+	
+	private Object ownerWhileLocked;
+	
+	private boolean removeFailed;
+
+	@Before
+	public void setUp() {
+		renewTimerWheel = new OrangeRenewTimerWheel(new OrangeAutoRenewProperties(), new OrangeRedisDefaultLogger());
+		OrangeRedisValueSetIfAbsentListener listener = new OrangeRedisValueSetIfAbsentListener() {
+			@Override
+			public void onSuccess(OrangeSetIfAbsentSuccessEvent event) {
+				ownerWhileLocked = store.get("orange:lock:test");
+			}
+			
+			@Override
+			public void onFailure(OrangeSetIfAbsentFailedEvent event) {
+			}
+			
+			@Override
+			public void onRemoveFailed(OrangeRemoveFailedEvent event) {
+				removeFailed = true;
+			}
+		};
+		executor = new OrangeValueLockAutoRenewExpirationExecutor(
+			valueOperations(),
+			scriptOperations(),
+			new OrangeRedisValueExecutorIdGenerator(),
+			Collections.<OrangeRedisSetIfAbsentListener>singletonList(listener),
+			renewTimerWheel,
+			null,
+			new OrangeRedisDefaultLogger()
+		);
+	}
+	
+	@After
+	public void tearDown() {
+		renewTimerWheel.destory();
+	}
+
+	@Test
+	public void testReleaseInTheEnd() throws Exception {
+		OrangeValueLockAutoRenewContext ctx = newContext("orange:lock:test");
+		Object result = executor.execute(ctx);
+		
+		assertEquals(Boolean.TRUE, result);
+		assertEquals(ctx.getOwner(), ownerWhileLocked);
+		assertFalse(store.containsKey("orange:lock:test"));
+		assertFalse(removeFailed);
+		assertNotNull(ctx.getRenewTask());
+		assertTrue(ctx.getRenewTask().isRemove());
+	}
+
+	@Test
+	public void testKeepLockHeldByAnother() throws Exception {
+		store.put("orange:lock:test", "another");
+		OrangeValueLockAutoRenewContext ctx = newContext("orange:lock:test");
+		Object result = executor.execute(ctx);
+		
+		assertEquals(Boolean.FALSE, result);
+		assertEquals("another", store.get("orange:lock:test"));
+	}
+	
+	@Lock
+	@AutoRenew(autoInitKeyExpirationTime = false)
+	public Boolean lock() {
+		return null;
+	}
+	
+	private OrangeValueLockAutoRenewContext newContext(String key) throws Exception {
+		Method method = getClass().getMethod("lock");
+		OrangeValueLockAutoRenewContext ctx = new OrangeValueLockAutoRenewContext(
+			getClass(),
+			method,
+			new Object[0],
+			new Key(key, key, 30, TimeUnit.SECONDS),
+			RedisValueTypeEnum.STRING
+		);
+		setField(ctx, "autoRenew", method.getAnnotation(AutoRenew.class));
+		setField(ctx, "lock", method.getAnnotation(Lock.class));
+		return ctx;
+	}
+	
+	private static void setField(Object target, String name, Object value) throws Exception {
+		Field field = OrangeValueLockAutoRenewContext.class.getDeclaredField(name);
+		field.setAccessible(true);
+		field.set(target, value);
+	}
+	
+	/**
+	 * {@code SET NX} on the store.
+	 */
+	private OrangeRedisValueOperations valueOperations() {
+		return (OrangeRedisValueOperations) Proxy.newProxyInstance(
+			getClass().getClassLoader(), 
+			new Class<?>[] {OrangeRedisValueOperations.class}, 
+			(proxy, method, args) -> {
+				if("setIfAbsent".equals(method.getName())) {
+					return store.putIfAbsent((String) args[0], args[1]) == null;
+				}
+				if("getReleaseChannel".equals(method.getName())) {
+					return "orange:lock:released:" + args[0];
+				}
+				throw new UnsupportedOperationException(method.getName());
+			}
+		);
+	}
+	
+	/**
+	 * Compare-and-delete of the release script on the store.
+	 */
+	private OrangeRedisScriptOperations scriptOperations() {
+		return (OrangeRedisScriptOperations) Proxy.newProxyInstance(
+			getClass().getClassLoader(), 
+			new Class<?>[] {OrangeRedisScriptOperations.class}, 
+			(proxy, method, args) -> {
+				if("register".equals(method.getName())) {
+					return null;
+				}
+				if("execute".equals(method.getName())) {
+					String key = (String) ((List<?>) args[4]).get(0);
+					Object owner = ((Object[]) args[5])[0];
+					return store.remove(key, owner) ? "1" : "0";
+				}
+				throw new UnsupportedOperationException(method.getName());
+			}
+		);
+	}
+}
@@ -19,6 +19,7 @@
 package com.langwuyue.orange.redis.timer;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import com.langwuyue.orange.redis.RedisValueTypeEnum;
@@ -57,6 +58,15 @@ public class OrangeRenewTaskTest extends OrangeRenewTask {
 		return true;
 	}
 	
+	@Override
+	public Boolean[] finish(List<OrangeRenewTask> tasks) throws Exception {
+		Boolean[] results = new Boolean[tasks.size()];
+		for(int i = 0; i < results.length; i++) {
+			results[i] = tasks.get(i).finish();
+		}
+		return results;
+	}
+	
 	public static void main(String[] args) throws InterruptedException{
 		OrangeAutoRenewProperties props = new OrangeAutoRenewProperties();
 		props.setWheelSize(60);
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.redis.timer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.langwuyue.orange.redis.context.OrangeRedisContext.Key;
+import com.langwuyue.orange.redis.logger.OrangeRedisDefaultLogger;
+
+/**
+ * Drive the timing wheel tick by tick with 3 levels of 4 buckets, 
+ * a bucket of level 1 spans 4 ticks, a bucket of level 2 spans 16 ticks and the wheel covers 64 ticks.
+ * 
+ * @author Liang.Zhong
+ * @since 1.0.0
+ */
+public class OrangeRenewTimerWorkerTest {
+	
+	private static final int WHEEL_SIZE = 4;
+	
+	private OrangeRenewTimerWorker worker;
+	
+	private long tick;
+	
+	@Before
+	public void setUp() {
+		OrangeAutoRenewProperties properties = new OrangeAutoRenewProperties();
+		properties.setTickDuration(Duration.ofMillis(1));
+		properties.setWheelSize(WHEEL_SIZE);
+		properties.setLevels(3);
+		worker = new OrangeRenewTimerWorker(properties, new OrangeRedisDefaultLogger());
+	}
+	
+	@Test
+	public void tasksAreLinkedToTheLevelOfTheirDelay() throws Exception {
+		RecordingTask level0 = add(4);
+		RecordingTask level1 = add(5);
+		RecordingTask level2 = add(17);
+		
+		// Expire ticks are 3, 4 and 16
+		assertSame(worker.getBucket(0, 3), level0.getLink());
+		assertSame(worker.getBucket(1, 1), level1.getLink());
+		assertSame(worker.getBucket(2, 1), level2.getLink());
+		
+		runUntil(20);
+		assertEquals(ticks(3), level0.fired);
+		assertEquals(ticks(4), level1.fired);
+		assertEquals(ticks(16), level2.fired);
+	}
+	
+	@Test
+	public void tasksAreCascadedAtLevelBoundaries() throws Exception {
+		// Expire tick 21, level 2 until tick 16, level 1 until tick 20
+		RecordingTask task = add(22);
+		assertSame(worker.getBucket(2, 1), task.getLink());
+		
+		runUntil(15);
+		assertSame(worker.getBucket(2, 1), task.getLink());
+		
+		runUntil(16);
+		assertSame(worker.getBucket(1, 1), task.getLink());
+		
+		runUntil(19);
+		assertSame(worker.getBucket(1, 1), task.getLink());
+		
+		runUntil(20);
+		assertSame(worker.getBucket(0, 1), task.getLink());
+		assertTrue(task.fired.isEmpty());
+		
+		runUntil(21);
+		assertEquals(ticks(21), task.fired);
+	}
+	
+	@Test
+	public void tasksBeyondTheTopLevelAreParkedUntilTheirTick() throws Exception {
+		RecordingTask task = add(150);
+		
+		runUntil(148);
+		assertTrue(task.fired.isEmpty());
+		
+		runUntil(149);
+		assertEquals(ticks(149), task.fired);
+	}
+	
+	@Test
+	public void renewedTasksAreLinkedForTheirNextRenewal() throws Exception {
+		RecordingTask task = add(6);
+		task.renewed = true;
+		
+		runUntil(20);
+		assertEquals(ticks(5, 11, 17), task.fired);
+	}
+	
+	@Test
+	public void removedTasksAreUnlinkedBeforeTheirTick() throws Exception {
+		RecordingTask task = add(17);
+		runUntil(10);
+		
+		task.setRemove(true);
+		assertNull(task.getLink());
+		
+		runUntil(40);
+		assertTrue(task.fired.isEmpty());
+	}
+	
+	@Test
+	public void tasksAddedToTheDrainedBucketWaitOneRevolution() throws Exception {
+		RecordingTask late = newTask(WHEEL_SIZE);
+		RecordingTask task = add(1);
+		task.onFinish = () -> worker.addTask(late);
+		
+		// The late task is linked to bucket 0 of level 0 while tick 0 renews it
+		runUntil(0);
+		assertEquals(ticks(0), task.fired);
+		assertSame(worker.getBucket(0, 0), late.getLink());
+		assertTrue(late.fired.isEmpty());
+		
+		runUntil(3);
+		assertTrue(late.fired.isEmpty());
+		
+		runUntil(4);
+		assertEquals(ticks(4), late.fired);
+	}
+	
+	private RecordingTask add(long ticks) {
+		RecordingTask task = newTask(ticks);
+		assertTrue(worker.addTask(task));
+		return task;
+	}
+	
+	private RecordingTask newTask(long ticks) {
+		RecordingTask task = new RecordingTask();
+		task.setRenewThreshold(ticks);
+		return task;
+	}
+	
+	private void runUntil(long lastTick) throws Exception {
+		for(; tick <= lastTick; tick++) {
+			worker.process(tick);
+		}
+	}
+	
+	private static List<Long> ticks(long... ticks) {
+		List<Long> list = new ArrayList<>();
+		for(long tick : ticks) {
+			list.add(tick);
+		}
+		return list;
+	}
+	
+	private class RecordingTask extends OrangeRenewTask {
+		
+		private final List<Long> fired = new ArrayList<>();
+		
+		private boolean renewed;
+		
+		private Runnable onFinish;
+		
+		RecordingTask() {
+			super(new Key("test", "test", 1, TimeUnit.SECONDS), null, null, null, 2);
+		}
+		
+		@Override
+		public Object getRenewGroup() {
+			return this;
+		}
+		
+		@Override
+		public Boolean[] finish(List<OrangeRenewTask> tasks) throws Exception {
+			fired.add(tick);
+			if(onFinish != null) {
+				onFinish.run();
+			}
+			return new Boolean[] {renewed};
+		}
+	}
+}
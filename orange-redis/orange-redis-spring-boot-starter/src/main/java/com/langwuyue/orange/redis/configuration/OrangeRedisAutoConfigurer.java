@@ -18,6 +18,7 @@
  */
 package com.langwuyue.orange.redis.configuration;
 
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -29,6 +30,7 @@ import com.langwuyue.orange.redis.executor.multiplelocks.OrangeDefaultExpiration
 import com.langwuyue.orange.redis.executor.multiplelocks.OrangeExpirationTimeAutoInitializer;
 import com.langwuyue.orange.redis.logger.OrangeRedisDefaultLogger;
 import com.langwuyue.orange.redis.logger.OrangeRedisLogger;
+import com.langwuyue.orange.redis.operations.OrangeRedisScriptRegistry;
 import com.langwuyue.orange.redis.timer.OrangeRenewTimerWheel;
 
 /**
@@ -64,6 +66,29 @@ class OrangeRedisAutoConfigurer {
 		return new OrangeRedisDefaultLogger();
 	}
 	
+	/**
+	 * Load the scripts registered by the executors once all clients are created.
+	 */
+	@Bean
+	SmartInitializingSingleton newOrangeRedisScriptPreloader() {
+		return () -> {
+			OrangeRedisScriptRegistry scriptRegistry = OrangeRedisClientAbstractFactoryBean.getScriptRegistry();
+			if(scriptRegistry != null) {
+				scriptRegistry.preload();
+			}
+		};
+	}
+	
+	@Bean
+	OrangeRedisPubSub newOrangeRedisPubSub(OrangeRedisConnectionConfiguration configuration) {
+		return new OrangeRedisPubSub(configuration);
+	}
+	
+	@Bean
+	OrangeRedisNearCacheInvalidator newOrangeRedisNearCacheInvalidator(OrangeRedisPubSub pubSub, OrangeRedisProperties properties, OrangeRedisLogger logger) {
+		return new OrangeRedisNearCacheInvalidator(pubSub, properties.getKeyPrefix(), logger);
+	}
+	
 	@Bean
 	@ConditionalOnMissingBean
 	OrangeRedisDefaultCircuitBreaker newOrangeRedisDefaultCircuitBreaker() {
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.redis.configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.langwuyue.orange.redis.OrangeRedisException;
+
+/**
+ * <h3>Batch of Orange client calls.</h3>
+ * <p>
+ * Calls queued in a batch are dispatched together by {@link #flush()} or {@link #close()}: 
+ * each call is handed to the async thread pool of the clients and runs its usual commands, nothing is pipelined. 
+ * Independent operations of different clients are then in flight at the same time, 
+ * the batch costs about one round trip per call divided by the size of the pool instead of one round trip per call.
+ * </p>
+ * <p>
+ * Any client call can be queued with {@link #submit(Callable)}. Client methods returning {@code CompletableFuture}
+ * or {@code CompletionStage} which are called by the thread owning an open batch are queued automatically.
+ * </p>
+ * 
+ * <pre>
+ * try (OrangeRedisBatch batch = OrangeRedisBatch.open()) {
+ *     CompletableFuture&lt;User&gt; user = batch.submit(() -&gt; userClient.getValue());
+ *     CompletableFuture&lt;Long&gt; rank = batch.submit(() -&gt; rankClient.getRank("orange"));
+ * }
+ * </pre>
+ * <p>
+ * Queued calls are only executed when the batch is flushed, so waiting for one of them inside the batch would block forever. 
+ * {@code get()} and {@code join()} of the futures returned by the batch fail fast with {@link OrangeRedisException} until the batch is flushed, 
+ * the stages derived from them with {@code thenApply} and the like are not checked and must not be waited for before the batch is flushed either.
+ * </p>
+ * <p>
+ * A batch belongs to the thread opening it and must not be shared. 
+ * It cannot be flushed by the threads of the async thread pool, which would wait for the calls queued behind them. 
+ * Operations of transaction clients are rejected when they are dispatched by a batch, 
+ * their transaction infos are bound to the calling thread and would never be committed.
+ * </p>
+ *
+ * @author Liang.Zhong
+ * @since 1.0.0
+ */
+public class OrangeRedisBatch implements AutoCloseable {
+	
+	private static final ThreadLocal<OrangeRedisBatch> CURRENT = new ThreadLocal<>();
+	
+	/**
+	 * Set while a queued call is executed.
+	 */
+	private static final ThreadLocal<Boolean> DISPATCHING = new ThreadLocal<>();
+	
+	private final OrangeRedisBatch previous;
+	
+	private List<Runnable> pending = new ArrayList<>();
+	
+	private List<CompletableFuture<?>> futures = new ArrayList<>();
+	
+	private OrangeRedisBatch(OrangeRedisBatch previous) {
+		this.previous = previous;
+	}
+	
+	/**
+	 * Open a batch for the current thread, it replaces the open batch of the thread until it is closed.
+	 */
+	public static OrangeRedisBatch open() {
+		OrangeRedisBatch batch = new OrangeRedisBatch(CURRENT.get());
+		CURRENT.set(batch);
+		return batch;
+	}
+	
+	static OrangeRedisBatch current() {
+		return CURRENT.get();
+	}
+	
+	/**
+	 * Whether the current thread is executing a call dispatched by a batch.
+	 */
+	static boolean isDispatching() {
+		return DISPATCHING.get() != null;
+	}
+	
+	/**
+	 * Queue a call, it is executed when the batch is flushed.
+	 */
+	public <T> CompletableFuture<T> submit(Callable<T> call) {
+		CompletableFuture<T> future = new OrangeRedisBatchFuture<>();
+		this.pending.add(() -> {
+			Boolean dispatching = DISPATCHING.get();
+			DISPATCHING.set(Boolean.TRUE);
+			try {
+				future.complete(call.call());
+			}catch (Throwable e) {
+				future.completeExceptionally(e);
+			}finally {
+				if(dispatching == null) {
+					DISPATCHING.remove();
+				}
+			}
+		});
+		this.futures.add(future);
+		return future;
+	}
+	
+	/**
+	 * Dispatch all queued calls at once and wait until all of them are completed.
+	 * Failures are reported by the futures of the calls.
+	 */
+	public void flush() {
+		if(this.pending.isEmpty()) {
+			return;
+		}
+		if(OrangeRedisClientAbstractFactoryBean.isAsyncThread()) {
+			throw new OrangeRedisException("A batch cannot be flushed by a thread of the async thread pool, it would wait for the calls queued behind it");
+		}
+		List<Runnable> pending = this.pending;
+		List<CompletableFuture<?>> futures = this.futures;
+		this.pending = new ArrayList<>();
+		this.futures = new ArrayList<>();
+		for(CompletableFuture<?> future : futures) {
+			((OrangeRedisBatchFuture<?>) future).dispatched = true;
+		}
+		ExecutorService executor = OrangeRedisClientAbstractFactoryBean.getAsyncExecutor();
+		for(Runnable call : pending) {
+			executor.execute(call);
+		}
+		CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).exceptionally(e -> null).join();
+	}
+	
+	/**
+	 * Flush the batch and restore the batch which was open before.
+	 */
+	@Override
+	public void close() {
+		try {
+			flush();
+		}finally {
+			if(this.previous == null) {
+				CURRENT.remove();
+			}else{
+				CURRENT.set(this.previous);
+			}
+		}
+	}
+	
+	public int size() {
+		return this.pending.size();
+	}
+	
+	/**
+	 * Future of a queued call, waiting for it before the batch is flushed fails instead of blocking forever.
+	 */
+	private static class OrangeRedisBatchFuture<T> extends CompletableFuture<T> {
+		
+		private volatile boolean dispatched;
+		
+		@Override
+		public T get() throws InterruptedException, ExecutionException {
+			checkDispatched();
+			return super.get();
+		}
+		
+		@Override
+		public T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+			checkDispatched();
+			return super.get(timeout, unit);
+		}
+		
+		@Override
+		public T join() {
+			checkDispatched();
+			return super.join();
+		}
+		
+		private void checkDispatched() {
+			if(!this.dispatched && !isDone()) {
+				throw new OrangeRedisException("The call is queued in an open batch, flush or close the batch before waiting for its result");
+			}
+		}
+	}
+}
@@ -21,7 +21,14 @@ package com.langwuyue.orange.redis.configuration;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Proxy;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.FactoryBean;
@@ -35,13 +42,16 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 import com.langwuyue.orange.redis.OrangeRedisCircuitBreaker;
 import com.langwuyue.orange.redis.OrangeRedisException;
 import com.langwuyue.orange.redis.RedisValueTypeEnum;
+import com.langwuyue.orange.redis.annotation.NearCache;
 import com.langwuyue.orange.redis.annotation.OrangeRedisKey;
 import com.langwuyue.orange.redis.context.builder.OrangeOperationArgHandler;
 import com.langwuyue.orange.redis.context.builder.OrangeOperationArgHandlerMapping;
+import com.langwuyue.orange.redis.executor.OrangeRedisExecutor;
 import com.langwuyue.orange.redis.listener.OrangeRedisMultipleSetIfAbsentListener;
 import com.langwuyue.orange.redis.listener.OrangeRedisSetIfAbsentListener;
 import com.langwuyue.orange.redis.logger.OrangeRedisLogger;
 import com.langwuyue.orange.redis.mapping.OrangeRedisExecutorsMapping;
+import com.langwuyue.orange.redis.operations.OrangeRedisScriptRegistry;
 import com.langwuyue.orange.redis.registry.OrangeRedisKeyRegistry;
 import com.langwuyue.orange.redis.util.OrangeStringTemlateUtils;
 
@@ -55,6 +65,17 @@ public abstract class OrangeRedisClientAbstractFactoryBean implements FactoryBea
 	
 	private static OrangeRedisSerializer redisSerializer;
 	
+	private static OrangeRedisScriptRegistry scriptRegistry;
+	
+	private static ExecutorService asyncExecutor;
+	
+	/**
+	 * Set on the threads of {@link #asyncExecutor}.
+	 */
+	private static final ThreadLocal<Boolean> ASYNC_THREAD = new ThreadLocal<>();
+	
+	private static OrangeRedisSingleFlight singleFlight;
+	
 	private Class<?> operationOwner;
 	
 	private OrangeRedisKey redisKey;
@@ -94,6 +115,30 @@ public abstract class OrangeRedisClientAbstractFactoryBean implements FactoryBea
 		this.operationArgHandlerMapping = getOrangeOperationArgHandlerMapping(valueHandlerMap);
 		this.operationArgHandlerMapping.buildMapping();
 		this.invocationHandler = getInvocationHandler();
+		initNearCache();
+	}
+	
+	private void initNearCache() {
+		NearCache nearCache = this.operationOwner.getAnnotation(NearCache.class);
+		if(nearCache == null) {
+			return;
+		}
+		Set<Class<? extends OrangeRedisExecutor>> cacheableExecutors = getNearCacheableExecutors();
+		if(cacheableExecutors.isEmpty() || !(this.invocationHandler instanceof OrangeRedisClientInvocationHandler)) {
+			throw new OrangeRedisException(String.format("@%s is only supported by value and hash clients, found on %s", NearCache.class.getSimpleName(), this.operationOwner));
+		}
+		OrangeRedisNearCacheInvalidator invalidator = this.applicationContext.getBean(OrangeRedisNearCacheInvalidator.class);
+		invalidator.subscribe();
+		((OrangeRedisClientInvocationHandler) this.invocationHandler).setNearCache(
+			new OrangeRedisNearCache(this.operationOwner, nearCache, cacheableExecutors, invalidator)
+		);
+	}
+	
+	/**
+	 * Executors whose results can be cached by {@code @NearCache}, empty if the client does not support near caches.
+	 */
+	protected Set<Class<? extends OrangeRedisExecutor>> getNearCacheableExecutors() {
+		return Collections.emptySet();
 	}
 	
 	protected OrangeOperationArgHandlerMapping getOrangeOperationArgHandlerMapping(Map<Class<? extends OrangeOperationArgHandler>, OrangeOperationArgHandler> valueHandlerMap) {
@@ -177,11 +222,50 @@ public abstract class OrangeRedisClientAbstractFactoryBean implements FactoryBea
 			OrangeRedisClientAbstractFactoryBean.redisTemplate = template;
 		}
 		if(OrangeRedisClientAbstractFactoryBean.redisSerializer == null) {
-			OrangeRedisClientAbstractFactoryBean.redisSerializer = new OrangeRedisSerializer(StringRedisSerializer.UTF_8,this.configuration.getObjectMapper());
+			OrangeRedisProperties.Compression compression = this.properties.getCompression();
+			OrangeRedisSerializer serializer = new OrangeRedisSerializer(
+				StringRedisSerializer.UTF_8,
+				this.configuration.getObjectMapper(),
+				new OrangeRedisCompressor(compression.getLevel()),
+				compression.isEnabled() ? compression.getThreshold() : 0
+			);
+			applicationContext.getBeanProvider(OrangeRedisCodec.class).orderedStream().forEach(serializer::registerCodec);
+			OrangeRedisClientAbstractFactoryBean.redisSerializer = serializer;
 		}
 		this.logger = applicationContext.getBean(OrangeRedisLogger.class);
+		if(OrangeRedisClientAbstractFactoryBean.scriptRegistry == null) {
+			OrangeRedisClientAbstractFactoryBean.scriptRegistry = new OrangeRedisScriptRegistry(OrangeRedisClientAbstractFactoryBean.redisTemplate,this.logger);
+		}
+		if(OrangeRedisClientAbstractFactoryBean.singleFlight == null && this.properties.getSingleFlight().isEnabled()) {
+			OrangeRedisClientAbstractFactoryBean.singleFlight = new OrangeRedisSingleFlight();
+		}
+		if(OrangeRedisClientAbstractFactoryBean.asyncExecutor == null) {
+			OrangeRedisClientAbstractFactoryBean.asyncExecutor = newAsyncExecutor(this.properties.getAsync());
+		}
 		this.circuitBreaker = applicationContext.getBean(getCircuitBreakerClass());
 	}
+	
+	private static ExecutorService newAsyncExecutor(OrangeRedisProperties.Async async) {
+		AtomicInteger counter = new AtomicInteger();
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(
+			async.getPoolSize(),
+			async.getPoolSize(),
+			60,
+			TimeUnit.SECONDS,
+			new LinkedBlockingQueue<>(async.getQueueCapacity()),
+			r -> {
+				Thread thread = new Thread(() -> {
+					ASYNC_THREAD.set(Boolean.TRUE);
+					r.run();
+				}, "orange-redis-async-" + counter.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			},
+			new ThreadPoolExecutor.CallerRunsPolicy()
+		);
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
 
 	ApplicationContext getApplicationContext() {
 		return applicationContext;
@@ -231,6 +315,32 @@ public abstract class OrangeRedisClientAbstractFactoryBean implements FactoryBea
 		return redisSerializer;
 	}
 	
+	static OrangeRedisCompressor getCompressor() {
+		return redisSerializer == null ? null : redisSerializer.getCompressor();
+	}
+	
+	static OrangeRedisScriptRegistry getScriptRegistry() {
+		return OrangeRedisClientAbstractFactoryBean.scriptRegistry;
+	}
+	
+	/**
+	 * @return {@code null} if {@code orange.redis.single-flight.enabled} is not set
+	 */
+	static OrangeRedisSingleFlight getSingleFlight() {
+		return OrangeRedisClientAbstractFactoryBean.singleFlight;
+	}
+	
+	static ExecutorService getAsyncExecutor() {
+		return OrangeRedisClientAbstractFactoryBean.asyncExecutor;
+	}
+	
+	/**
+	 * Whether the current thread belongs to the async thread pool of the clients.
+	 */
+	static boolean isAsyncThread() {
+		return ASYNC_THREAD.get() != null;
+	}
+	
 	public int getActiveRequestCount() {
 		if(!(this.invocationHandler instanceof OrangeRedisClientInvocationHandler)) {
 			return -1;
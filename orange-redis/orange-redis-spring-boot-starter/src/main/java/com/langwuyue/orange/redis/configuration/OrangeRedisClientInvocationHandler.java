@@ -18,25 +18,52 @@
  */
 package com.langwuyue.orange.redis.configuration;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import com.langwuyue.orange.redis.OrangeRedisCircuitBreaker;
 import com.langwuyue.orange.redis.OrangeRedisException;
 import com.langwuyue.orange.redis.OrangeRedisState;
 import com.langwuyue.orange.redis.RedisValueTypeEnum;
+import com.langwuyue.orange.redis.annotation.Compression;
+import com.langwuyue.orange.redis.annotation.GetMembers;
+import com.langwuyue.orange.redis.annotation.GetSize;
 import com.langwuyue.orange.redis.annotation.OrangeRedisKey;
+import com.langwuyue.orange.redis.annotation.Random;
 import com.langwuyue.orange.redis.annotation.Timeout;
+import com.langwuyue.orange.redis.annotation.global.GetExpiration;
+import com.langwuyue.orange.redis.annotation.hash.GetHashKeys;
+import com.langwuyue.orange.redis.annotation.hash.GetHashValueLength;
+import com.langwuyue.orange.redis.annotation.hash.GetHashValues;
+import com.langwuyue.orange.redis.annotation.hash.HasKeys;
+import com.langwuyue.orange.redis.annotation.value.GetValue;
 import com.langwuyue.orange.redis.context.OrangeRedisContext;
 import com.langwuyue.orange.redis.context.OrangeRedisContext.Key;
 import com.langwuyue.orange.redis.context.builder.OrangeOperationArgHandlerMapping;
 import com.langwuyue.orange.redis.context.builder.OrangeRedisContextBuilder;
+import com.langwuyue.orange.redis.context.builder.OrangeRedisInvocationPlan;
+import com.langwuyue.orange.redis.context.builder.OrangeRedisInvocationPlan.AsyncType;
 import com.langwuyue.orange.redis.executor.OrangeRedisExecutor;
 import com.langwuyue.orange.redis.mapping.OrangeRedisExecutorsMapping;
 import com.langwuyue.orange.redis.registry.OrangeSlowOperationRegistry;
 import com.langwuyue.orange.redis.util.OrangeStringTemlateUtils;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 /**
  * @author Liang.Zhong
  * @since 1.0.0
@@ -45,6 +72,20 @@ public class OrangeRedisClientInvocationHandler implements InvocationHandler {
 	
 	private static AtomicInteger ACTIVE_REQUEST_COUNTER = new AtomicInteger(0);
 	
+	/**
+	 * Operations which never change the key.
+	 */
+	private static final List<Class<? extends Annotation>> READ_ANNOTATIONS = Arrays.asList(
+		GetValue.class,
+		GetMembers.class,
+		GetSize.class,
+		GetExpiration.class,
+		GetHashKeys.class,
+		GetHashValues.class,
+		GetHashValueLength.class,
+		HasKeys.class
+	);
+	
 	private OrangeRedisKey redisKey;
 	
 	private Class<?> operationOwner;
@@ -59,6 +100,39 @@ public class OrangeRedisClientInvocationHandler implements InvocationHandler {
 	
 	private OrangeRedisProperties properties;
 	
+	private final Map<Method,OrangeRedisInvocationPlan> plans;
+	
+	private final String originKey;
+	
+	/**
+	 * Compression threshold of {@code @Compression} of the client, {@code null} if the global compression is applied.
+	 */
+	private final Integer compressionThreshold;
+	
+	private OrangeRedisNearCache nearCache;
+	
+	/**
+	 * Operations whose results are cached by the near cache.
+	 */
+	private Set<Method> cachedMethods = Collections.emptySet();
+	
+	/**
+	 * Operations which drop the cached results of their key.
+	 */
+	private Set<Method> invalidatingMethods = Collections.emptySet();
+	
+	private final OrangeRedisSingleFlight singleFlight;
+	
+	/**
+	 * Reads coalesced by the single flight, empty if {@code orange.redis.single-flight.enabled} is not set.
+	 */
+	private final Set<Method> coalescedMethods;
+	
+	/**
+	 * Meters of the operations, resolved once the meter registry is bound.
+	 */
+	private volatile Map<Method, OrangeRedisMethodMeters> meters;
+	
 	public OrangeRedisClientInvocationHandler(
 		Class<?> operationOwner,
 		OrangeRedisExecutorsMapping mapping,
@@ -75,6 +149,74 @@ public class OrangeRedisClientInvocationHandler implements InvocationHandler {
 		this.valueType = valueType;
 		this.circuitBreaker = circuitBreaker;
 		this.properties = properties;
+		this.originKey = redisKey != null ? getOriginKey(redisKey.key()) : null;
+		this.compressionThreshold = getCompressionThreshold(operationOwner, properties);
+		this.plans = compilePlans();
+		this.singleFlight = OrangeRedisClientAbstractFactoryBean.getSingleFlight();
+		this.coalescedMethods = this.singleFlight == null ? Collections.emptySet() : getCoalescedMethods();
+	}
+	
+	/**
+	 * Random reads are not coalesced since their results differ by design, 
+	 * nor lazy results since their iteration cannot be shared.
+	 */
+	private Set<Method> getCoalescedMethods() {
+		Set<Method> methods = new HashSet<>();
+		for(Map.Entry<Method, OrangeRedisInvocationPlan> entry : this.plans.entrySet()) {
+			OrangeRedisInvocationPlan plan = entry.getValue();
+			Method actualMethod = plan.getActualMethod();
+			Class<?> returnType = plan.getReturnType();
+			boolean lazy = Stream.class.isAssignableFrom(returnType) 
+					|| Iterator.class.isAssignableFrom(returnType) 
+					|| (Iterable.class.isAssignableFrom(returnType) && !Collection.class.isAssignableFrom(returnType));
+			if(isRead(actualMethod) && !actualMethod.isAnnotationPresent(Random.class) && !lazy) {
+				methods.add(entry.getKey());
+			}
+		}
+		return methods;
+	}
+	
+	private static boolean isRead(Method actualMethod) {
+		for(Class<? extends Annotation> annotation : READ_ANNOTATIONS) {
+			if(actualMethod.isAnnotationPresent(annotation)) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Resolves the executors and compiles the invocation plans of all operations once, 
+	 * so that unsupported operations fail at startup. The map is read-only afterwards.
+	 * 
+	 * <p>
+	 * Note that {@link java.lang.reflect.Proxy} passes its own copies of {@link Method}, 
+	 * so the map is keyed by method equality rather than identity.
+	 * </p>
+	 */
+	protected Map<Method,OrangeRedisInvocationPlan> compilePlans() {
+		Map<Method,OrangeRedisInvocationPlan> plans = new HashMap<>();
+		Class<?>[] constructorParameterTypes = newBuilder().getContextConstructorParameterTypes();
+		for(Method method : this.operationOwner.getMethods()) {
+			OrangeRedisExecutor executor = this.mapping.getExecutor(method);
+			this.mapping.getLogger().debug("Got a executor {} for method {}", executor.getClass(), method);
+			plans.put(method, OrangeRedisInvocationPlan.compile(
+				method, 
+				this.mapping.getActualMethod(method), 
+				executor, 
+				constructorParameterTypes,
+				this.operationArgHandlerMapping
+			));
+		}
+		return Collections.unmodifiableMap(plans);
+	}
+	
+	protected OrangeRedisInvocationPlan getPlan(Method method) {
+		OrangeRedisInvocationPlan plan = this.plans.get(method);
+		if(plan == null) {
+			throw new OrangeRedisException(String.format("Operation [%s] not support! Operation Owner: %s", method, this.operationOwner));
+		}
+		return plan;
 	}
 	
 	@Override
@@ -82,20 +224,66 @@ public class OrangeRedisClientInvocationHandler implements InvocationHandler {
 		if(Object.class.equals(method.getDeclaringClass())) {
 			return method.invoke(this, args);
 		}
+		// Get executor
+		OrangeRedisInvocationPlan plan = getPlan(method);
+		if(!plan.isAsync()) {
+			return invoke(plan, method, args);
+		}
+		// Release the calling thread, the executor is run by the async thread pool.
+		if(plan.getAsyncType() != AsyncType.FUTURE) {
+			return OrangeRedisReactiveAdapter.adapt(plan.getAsyncType(), () -> invokeAsync(plan, method, args));
+		}
+		OrangeRedisBatch batch = OrangeRedisBatch.current();
+		if(batch != null) {
+			return batch.submit(() -> invokeAsync(plan, method, args));
+		}
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				return invokeAsync(plan, method, args);
+			}catch (Exception e) {
+				throw new CompletionException(e);
+			}
+		}, OrangeRedisClientAbstractFactoryBean.getAsyncExecutor());
+	}
+	
+	private Object invokeAsync(OrangeRedisInvocationPlan plan, Method method, Object[] args) throws Exception {
+		try {
+			return invoke(plan, method, args);
+		}catch (Exception | Error e) {
+			throw e;
+		}catch (Throwable e) {
+			throw new OrangeRedisException(String.format("Execution Error! %n Operation Owner: %s %n Operation : %s", this.operationOwner,method),e);
+		}
+	}
+	
+	protected Object invoke(OrangeRedisInvocationPlan plan, Method method, Object[] args) throws Throwable {
 		OrangeRedisContext context = null;
+		OrangeRedisMethodMeters methodMeters = null;
+		long startNanos = 0;
+		long[] payload = null;
+		long bytesOut = 0;
+		long bytesIn = 0;
+		boolean succeeded = false;
 		try {
 			
 			long start = System.currentTimeMillis();
 			if(properties.getMetrics().getEnabled().booleanValue()) {
 				ACTIVE_REQUEST_COUNTER.incrementAndGet();
+				methodMeters = getMethodMeters(method);
+				if(methodMeters != null) {
+					startNanos = System.nanoTime();
+					payload = OrangeRedisSerializer.getPayloadBytes();
+					if(payload != null) {
+						bytesOut = payload[0];
+						bytesIn = payload[1];
+					}
+				}
 			}
 			
-			// Get executor
-			OrangeRedisExecutor executor = this.mapping.getExecutor(method);
-			this.mapping.getLogger().debug("Got a executor {} for method {}", executor.getClass(), method);
+			OrangeRedisExecutor executor = plan.getExecutor();
 			
 			// Build context
-			context = createContextBuilder(executor,method,args).build();
+			context = createContextBuilder(plan,method,args).build();
 			
 			// Circuit Breaker​​ 
 			if(this.circuitBreaker != null && OrangeRedisState.isOutOfService()) {
@@ -105,11 +293,21 @@ public class OrangeRedisClientInvocationHandler implements InvocationHandler {
 					method, 
 					args
 				);
+				if(methodMeters != null) {
+					methodMeters.shortCircuit();
+					methodMeters = null;
+				}
 				return null;
 			}
 			
 			// Executing
-			Object result = executor.execute(context);
+			Object result;
+			if(this.nearCache == null && this.coalescedMethods.isEmpty()) {
+				result = execute(executor, context);
+			}else{
+				result = executeShared(executor, context, method, args);
+			}
+			succeeded = true;
 			if(!this.properties.getSlowOperation().isEnabled()) {
 				return result;
 			}
@@ -147,21 +345,108 @@ public class OrangeRedisClientInvocationHandler implements InvocationHandler {
 			if(properties.getMetrics().getEnabled().booleanValue()) {
 				ACTIVE_REQUEST_COUNTER.decrementAndGet();
 			}
+			if(methodMeters != null) {
+				methodMeters.record(System.nanoTime() - startNanos, succeeded);
+				if(payload != null) {
+					methodMeters.payload(payload[0] - bytesOut, payload[1] - bytesIn);
+				}
+			}
+		}
+	}
+	
+	private OrangeRedisMethodMeters getMethodMeters(Method method) {
+		Map<Method, OrangeRedisMethodMeters> meters = this.meters;
+		if(meters == null) {
+			MeterRegistry registry = OrangeRedisMethodMeters.getRegistry();
+			if(registry == null) {
+				return null;
+			}
+			// Registering the same meters again by a racing thread returns the registered ones.
+			meters = OrangeRedisMethodMeters.resolve(registry, this.operationOwner, this.plans);
+			this.meters = meters;
+		}
+		return meters.get(method);
+	}
+	
+	/**
+	 * Execute through the near cache and the single flight, a read missing the near cache can still be coalesced.
+	 */
+	private Object executeShared(OrangeRedisExecutor executor, OrangeRedisContext context, Method method, Object[] args) throws Exception {
+		String key = context.getRedisKey().getValue();
+		if(this.nearCache != null && this.cachedMethods.contains(method)) {
+			return this.nearCache.get(key, method, args, () -> read(executor, context, method, key, args));
+		}
+		if(this.nearCache == null || !this.invalidatingMethods.contains(method)) {
+			return read(executor, context, method, key, args);
+		}
+		try {
+			return execute(executor, context);
+		}finally {
+			// The key may have been changed even if the operation failed
+			this.nearCache.invalidate(key);
+		}
+	}
+	
+	private Object read(OrangeRedisExecutor executor, OrangeRedisContext context, Method method, String key, Object[] args) throws Exception {
+		if(!this.coalescedMethods.contains(method)) {
+			return execute(executor, context);
+		}
+		return this.singleFlight.execute(method, key, args, () -> execute(executor, context));
+	}
+	
+	/**
+	 * Cache the results of the read operations supported by the near cache, other operations but reads drop the cached results of their key.
+	 */
+	void setNearCache(OrangeRedisNearCache nearCache) {
+		Set<Method> cachedMethods = new HashSet<>();
+		Set<Method> invalidatingMethods = new HashSet<>();
+		for(Map.Entry<Method, OrangeRedisInvocationPlan> entry : this.plans.entrySet()) {
+			OrangeRedisInvocationPlan plan = entry.getValue();
+			if(nearCache.isCacheable(plan.getExecutor())) {
+				cachedMethods.add(entry.getKey());
+			}else if(!isRead(plan.getActualMethod())) {
+				invalidatingMethods.add(entry.getKey());
+			}
+		}
+		this.cachedMethods = cachedMethods;
+		this.invalidatingMethods = invalidatingMethods;
+		this.nearCache = nearCache;
+	}
+	
+	private Object execute(OrangeRedisExecutor executor, OrangeRedisContext context) throws Exception {
+		if(this.compressionThreshold == null) {
+			return executor.execute(context);
+		}
+		Integer previous = OrangeRedisSerializer.setClientCompressionThreshold(this.compressionThreshold);
+		try {
+			return executor.execute(context);
+		}finally {
+			OrangeRedisSerializer.setClientCompressionThreshold(previous);
+		}
+	}
+	
+	private static Integer getCompressionThreshold(Class<?> operationOwner, OrangeRedisProperties properties) {
+		Compression compression = operationOwner.getAnnotation(Compression.class);
+		if(compression == null) {
+			return null;
+		}
+		if(!compression.enabled()) {
+			return 0;
 		}
+		return compression.threshold() > 0 ? compression.threshold() : properties.getCompression().getThreshold();
 	}
 	
 	protected OrangeRedisContextBuilder newBuilder() {
 		return new OrangeRedisContextBuilder();
 	}
 	
-	protected OrangeRedisContextBuilder createContextBuilder(OrangeRedisExecutor executor,Method method, Object[] args) throws Exception {
-		Method actualMethod = this.mapping.getActualMethod(method);
-		Class<? extends OrangeRedisContext> contextClass = executor.getContextClass();
+	protected OrangeRedisContextBuilder createContextBuilder(OrangeRedisInvocationPlan plan,Method method, Object[] args) throws Exception {
 		OrangeRedisContextBuilder builder = newBuilder();
-		builder.contextClass(contextClass);
+		builder.plan(plan);
+		builder.contextClass(plan.getContextClass());
 		builder.operationArgHandlerMapping(this.operationArgHandlerMapping);
 		builder.args(args);
-		builder.actualMethod(actualMethod);
+		builder.actualMethod(plan.getActualMethod());
 		builder.operationMethod(method);
 		builder.operationOwner(this.operationOwner);
 		builder.redisKey(getKey(method,args));
@@ -170,11 +455,10 @@ public class OrangeRedisClientInvocationHandler implements InvocationHandler {
 	}
 	
 	protected Key getKey(Method method,Object[] args) {
-		String originKey = getOriginKey(this.redisKey.key());
-		String key = OrangeStringTemlateUtils.getString(originKey, method, args);
+		String key = OrangeStringTemlateUtils.getString(this.originKey, method, args);
 		Timeout timeout = this.redisKey.expirationTime();
 		return new OrangeRedisContext.Key(
-			originKey,
+			this.originKey,
 			key, 
 			timeout.value(), 
 			timeout.unit()
@@ -37,7 +37,9 @@ import com.langwuyue.orange.redis.annotation.geo.OrangeRedisGeoClient;
 import com.langwuyue.orange.redis.annotation.hash.OrangeRedisHashClient;
 import com.langwuyue.orange.redis.annotation.list.OrangeRedisListClient;
 import com.langwuyue.orange.redis.annotation.multiplelocks.OrangeRedisMultipleLocksClient;
+import com.langwuyue.orange.redis.annotation.rwlock.OrangeRedisReadWriteLockClient;
 import com.langwuyue.orange.redis.annotation.script.OrangeRedisScriptClient;
+import com.langwuyue.orange.redis.annotation.semaphore.OrangeRedisSemaphoreClient;
 import com.langwuyue.orange.redis.annotation.set.OrangeRedisSetClient;
 import com.langwuyue.orange.redis.annotation.transaction.OrangeRedisTransactionClient;
 import com.langwuyue.orange.redis.annotation.value.OrangeRedisValueClient;
@@ -121,6 +123,14 @@ class OrangeRedisClientScannerRegistrar implements ImportBeanDefinitionRegistrar
 			OrangeRedisScriptClient.class, 
 			OrangeRedisScriptClientFactoryBean.class
 		);
+		configuration.config(
+			OrangeRedisReadWriteLockClient.class, 
+			OrangeRedisReadWriteLockClientFactoryBean.class
+		);
+		configuration.config(
+			OrangeRedisSemaphoreClient.class, 
+			OrangeRedisSemaphoreClientFactoryBean.class
+		);
 		
 		configuration.config(new OrangeOperationArgSimpleHandler());
 		configuration.config(new OrangeOperationArgMultipleHandler());
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.redis.configuration;
+
+import java.lang.reflect.Type;
+
+import com.langwuyue.orange.redis.RedisValueTypeEnum;
+
+/**
+ * <h3>Codec of the values of a {@link RedisValueTypeEnum}.</h3>
+ * <p>
+ * {@code JSON} is encoded by Jackson by default, {@code SMILE} and {@code CBOR} are encoded by Jackson 
+ * when {@code jackson-dataformat-smile} or {@code jackson-dataformat-cbor} is on the classpath.
+ * Spring beans of this interface are registered to all clients, 
+ * a bean replaces the default codec of its value type, {@code BINARY} values require a bean.
+ * </p>
+ * <p>
+ * Implementations must be thread-safe.
+ * </p>
+ *
+ * @author Liang.Zhong
+ * @since 1.0.0
+ */
+public interface OrangeRedisCodec {
+	
+	/**
+	 * The value type encoded by this codec, {@code STRING}, {@code LONG} and {@code DOUBLE} are not supported.
+	 */
+	RedisValueTypeEnum getValueType();
+	
+	byte[] encode(Object value) throws Exception;
+	
+	/**
+	 * @param type the declared type of the value in the client method
+	 */
+	Object decode(byte[] bytes, Type type) throws Exception;
+}
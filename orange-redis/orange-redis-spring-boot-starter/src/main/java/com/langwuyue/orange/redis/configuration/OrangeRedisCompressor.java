@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.redis.configuration;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * <h3>GZIP compression of large values.</h3>
+ * <p>
+ * The GZIP header is the marker of compressed values: 
+ * JSON and Smile documents never start with it and it is not a well-formed CBOR item, 
+ * so a value is decompressed when read only if it starts with the header.
+ * </p>
+ * <p>
+ * One compressor is shared by all clients, it records the bytes and the time spent for the metrics.
+ * </p>
+ *
+ * @author Liang.Zhong
+ * @since 1.0.0
+ */
+public class OrangeRedisCompressor {
+	
+	private static final byte GZIP_MAGIC_0 = (byte) 0x1f;
+	
+	private static final byte GZIP_MAGIC_1 = (byte) 0x8b;
+	
+	private static final int BUFFER_SIZE = 8192;
+	
+	private final int level;
+	
+	private final LongAdder compressions = new LongAdder();
+	
+	private final LongAdder uncompressedBytes = new LongAdder();
+	
+	private final LongAdder compressedBytes = new LongAdder();
+	
+	private final LongAdder compressNanos = new LongAdder();
+	
+	private final LongAdder decompressions = new LongAdder();
+	
+	private final LongAdder decompressNanos = new LongAdder();
+	
+	/**
+	 * @param level deflate level, from {@code 1} (best speed) to {@code 9} (best compression)
+	 */
+	public OrangeRedisCompressor(int level) {
+		this.level = level;
+	}
+	
+	public static boolean isCompressed(byte[] bytes) {
+		return bytes != null && bytes.length > 2 && bytes[0] == GZIP_MAGIC_0 && bytes[1] == GZIP_MAGIC_1;
+	}
+
+	/**
+	 * @return the compressed bytes, or the given bytes if they are not smaller once compressed
+	 */
+	public byte[] compress(byte[] bytes) throws IOException {
+		long start = System.nanoTime();
+		ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+		try (OutputStream gzip = new LevelGZIPOutputStream(out, level)) {
+			gzip.write(bytes);
+		}
+		byte[] compressed = out.toByteArray();
+		compressNanos.add(System.nanoTime() - start);
+		compressions.increment();
+		uncompressedBytes.add(bytes.length);
+		if(compressed.length >= bytes.length) {
+			compressedBytes.add(bytes.length);
+			return bytes;
+		}
+		compressedBytes.add(compressed.length);
+		return compressed;
+	}
+	
+	public byte[] decompress(byte[] bytes) throws IOException {
+		long start = System.nanoTime();
+		ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length * 4);
+		try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(bytes), BUFFER_SIZE)) {
+			byte[] buffer = new byte[BUFFER_SIZE];
+			int n;
+			while((n = gzip.read(buffer)) != -1) {
+				out.write(buffer, 0, n);
+			}
+		}
+		decompressNanos.add(System.nanoTime() - start);
+		decompressions.increment();
+		return out.toByteArray();
+	}
+	
+	public long getCompressionCount() {
+		return compressions.sum();
+	}
+	
+	public long getUncompressedBytes() {
+		return uncompressedBytes.sum();
+	}
+	
+	public long getCompressedBytes() {
+		return compressedBytes.sum();
+	}
+	
+	public double getCompressNanos() {
+		return compressNanos.sum();
+	}
+	
+	public long getDecompressionCount() {
+		return decompressions.sum();
+	}
+	
+	public double getDecompressNanos() {
+		return decompressNanos.sum();
+	}
+	
+	/**
+	 * Compressed size divided by the original size of all compressed values, {@code 1} before any compression.
+	 */
+	public double getCompressionRatio() {
+		long uncompressed = uncompressedBytes.sum();
+		return uncompressed == 0 ? 1D : (double) compressedBytes.sum() / uncompressed;
+	}
+	
+	private static class LevelGZIPOutputStream extends GZIPOutputStream {
+		
+		LevelGZIPOutputStream(OutputStream out, int level) throws IOException {
+			super(out, BUFFER_SIZE);
+			this.def.setLevel(level);
+		}
+	}
+}
@@ -20,7 +20,10 @@ package com.langwuyue.orange.redis.configuration;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.langwuyue.orange.redis.OrangeRedisCircuitBreaker;
 import com.langwuyue.orange.redis.annotation.OrangeRedisKey;
@@ -28,10 +31,11 @@ import com.langwuyue.orange.redis.context.OrangeRedisContext.Key;
 import com.langwuyue.orange.redis.context.builder.OrangeCrossKeysOperationArgHandlerMapping;
 import com.langwuyue.orange.redis.context.builder.OrangeOperationArgHandlerMapping;
 import com.langwuyue.orange.redis.context.builder.OrangeRedisContextBuilder;
+import com.langwuyue.orange.redis.context.builder.OrangeRedisInvocationPlan;
 import com.langwuyue.orange.redis.context.builder.OrangeRedisCrossKeysContextBuilder;
-import com.langwuyue.orange.redis.executor.OrangeRedisExecutor;
 import com.langwuyue.orange.redis.mapping.OrangeRedisExecutorsMapping;
 import com.langwuyue.orange.redis.util.OrangeStringTemlateUtils;
+import com.langwuyue.orange.redis.util.OrangeStringTemplate;
 
 /**
  * @author Liang.Zhong
@@ -39,6 +43,10 @@ import com.langwuyue.orange.redis.util.OrangeStringTemlateUtils;
  */
 public class OrangeRedisCrossKeysClientInvocationHandler extends OrangeRedisClientInvocationHandler {
 	
+	private final Map<Method,List<OrangeStringTemplate>> keyTemplates;
+	
+	private final Map<Method,OrangeStringTemplate> storeToTemplates;
+	
 	public OrangeRedisCrossKeysClientInvocationHandler(
 		Class<?> operationOwner,
 		OrangeRedisExecutorsMapping mapping,
@@ -47,6 +55,31 @@ public class OrangeRedisCrossKeysClientInvocationHandler extends OrangeRedisClie
 		OrangeRedisProperties properties
 	) {
 		super(operationOwner, mapping, null, operationArgHandlerMapping,null,circuitBreaker​​,properties);
+		OrangeCrossKeysOperationArgHandlerMapping crossKeysMapping = (OrangeCrossKeysOperationArgHandlerMapping) operationArgHandlerMapping;
+		Map<Method,List<OrangeStringTemplate>> keyTemplates = new HashMap<>();
+		Map<Method,OrangeStringTemplate> storeToTemplates = new HashMap<>();
+		for(Method method : operationOwner.getMethods()) {
+			List<Class<?>> keyClasses = crossKeysMapping.getKeyClasses(method);
+			if(keyClasses == null) {
+				continue;
+			}
+			List<OrangeStringTemplate> templates = new ArrayList<>(keyClasses.size());
+			for(Class<?> keyClass : keyClasses) {
+				templates.add(compileKey(keyClass, method));
+			}
+			keyTemplates.put(method, templates);
+			Class<?> storeTo = crossKeysMapping.getStoreTo(method);
+			if(storeTo != null) {
+				storeToTemplates.put(method, compileKey(storeTo, method));
+			}
+		}
+		this.keyTemplates = Collections.unmodifiableMap(keyTemplates);
+		this.storeToTemplates = Collections.unmodifiableMap(storeToTemplates);
+	}
+	
+	private OrangeStringTemplate compileKey(Class<?> keyClass, Method method) {
+		OrangeRedisKey redisKey = keyClass.getAnnotation(OrangeRedisKey.class);
+		return OrangeStringTemlateUtils.compile(getOriginKey(redisKey.key()), method);
 	}
 
 	@Override
@@ -59,31 +92,26 @@ public class OrangeRedisCrossKeysClientInvocationHandler extends OrangeRedisClie
 		return null;
 	}
 	
-	protected OrangeRedisContextBuilder createContextBuilder(OrangeRedisExecutor executor,Method method, Object[] args) throws Exception {
-		OrangeRedisCrossKeysContextBuilder builder = (OrangeRedisCrossKeysContextBuilder)super.createContextBuilder(executor, method, args);
+	protected OrangeRedisContextBuilder createContextBuilder(OrangeRedisInvocationPlan plan,Method method, Object[] args) throws Exception {
+		OrangeRedisCrossKeysContextBuilder builder = (OrangeRedisCrossKeysContextBuilder)super.createContextBuilder(plan, method, args);
 		builder.keys(getKeys(method,args));
 		builder.storeTo(getStoreTo(method,args));
 		return builder;
 	}
 	
 	private String getStoreTo(Method method, Object[] args) {
-		OrangeCrossKeysOperationArgHandlerMapping mapping = (OrangeCrossKeysOperationArgHandlerMapping)this.getOperationArgHandlerMapping();
-		Class<?> keyClass = mapping.getStoreTo(method);
-		if(keyClass == null) {
+		OrangeStringTemplate template = this.storeToTemplates.get(method);
+		if(template == null) {
 			return null;
 		}
-		OrangeRedisKey redisKey = keyClass.getAnnotation(OrangeRedisKey.class);
-		return OrangeStringTemlateUtils.getString(getOriginKey(redisKey.key()), method, args);
+		return template.getString(args);
 	}
 
 	private List<String> getKeys(Method method, Object[] args) {
-		OrangeCrossKeysOperationArgHandlerMapping mapping = (OrangeCrossKeysOperationArgHandlerMapping)this.getOperationArgHandlerMapping();
-		List<Class<?>> keyClasses = mapping.getKeyClasses(method);
-		List<String> keys = new ArrayList<>();
-		for(Class<?> keyClass : keyClasses) {
-			OrangeRedisKey redisKey = keyClass.getAnnotation(OrangeRedisKey.class);
-			String key = OrangeStringTemlateUtils.getString(getOriginKey(redisKey.key()), method, args);
-			keys.add(key);
+		List<OrangeStringTemplate> templates = this.keyTemplates.get(method);
+		List<String> keys = new ArrayList<>(templates.size());
+		for(OrangeStringTemplate template : templates) {
+			keys.add(template.getString(args));
 		}
 		return keys;
 	}
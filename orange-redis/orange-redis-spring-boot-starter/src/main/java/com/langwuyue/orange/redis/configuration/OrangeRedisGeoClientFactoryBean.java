@@ -65,7 +65,7 @@ public class OrangeRedisGeoClientFactoryBean extends OrangeRedisClientAbstractFa
 			getLogger()
 		);
 		OrangeRedisScriptOperations scriptOperations = new OrangeRedisDefaultScriptOperations(
-			this.getRedisTemplate(), 
+			getScriptRegistry(), 
 			getRedisSerializer(),
 			getLogger()
 		);
@@ -96,7 +96,7 @@ public class OrangeRedisGeoCrossKeyClientFactoryBean extends OrangeRedisClientAb
 		}
 		OrangeRedisGeoOperations operations = new OrangeRedisDefaultGeoOperations(this.getRedisTemplate(), getRedisSerializer(),getLogger());
 		OrangeRedisScriptOperations scriptOperations = new OrangeRedisDefaultScriptOperations(
-			this.getRedisTemplate(), 
+			getScriptRegistry(), 
 			getRedisSerializer(),
 			getLogger()
 		);
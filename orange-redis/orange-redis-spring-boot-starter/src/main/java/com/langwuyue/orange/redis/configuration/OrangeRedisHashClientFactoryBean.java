@@ -20,9 +20,12 @@ package com.langwuyue.orange.redis.configuration;
 
 import java.lang.reflect.InvocationHandler;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 
@@ -31,6 +34,11 @@ import com.langwuyue.orange.redis.OrangeRedisDefaultCircuitBreaker;
 import com.langwuyue.orange.redis.OrangeRedisException;
 import com.langwuyue.orange.redis.RedisValueTypeEnum;
 import com.langwuyue.orange.redis.annotation.hash.OrangeRedisHashClient;
+import com.langwuyue.orange.redis.executor.OrangeRedisExecutor;
+import com.langwuyue.orange.redis.executor.hash.OrangeGetAllValuesExecutor;
+import com.langwuyue.orange.redis.executor.hash.OrangeGetMembersExecutor;
+import com.langwuyue.orange.redis.executor.hash.OrangeGetValueExecutor;
+import com.langwuyue.orange.redis.executor.hash.OrangeGetValuesExecutor;
 import com.langwuyue.orange.redis.listener.OrangeIfAbsentListenerProxy;
 import com.langwuyue.orange.redis.listener.OrangeRedisMultipleSetIfAbsentListener;
 import com.langwuyue.orange.redis.listener.OrangeRedisSetIfAbsentListener;
@@ -70,10 +78,11 @@ public class OrangeRedisHashClientFactoryBean extends OrangeRedisClientAbstractF
 		OrangeRedisHashOperations operations = new OrangeRedisDefaultHashOperations(
 			this.getRedisTemplate(), 
 			getRedisSerializer(),
+			getScriptRegistry(),
 			getLogger()
 		);
 		OrangeRedisScriptOperations scriptOperations = new OrangeRedisDefaultScriptOperations(
-			this.getRedisTemplate(), 
+			getScriptRegistry(), 
 			getRedisSerializer(),
 			getLogger()
 		);
@@ -102,6 +111,16 @@ public class OrangeRedisHashClientFactoryBean extends OrangeRedisClientAbstractF
 		);
 	}
 	
+	@Override
+	protected Set<Class<? extends OrangeRedisExecutor>> getNearCacheableExecutors() {
+		return new HashSet<>(Arrays.asList(
+			OrangeGetValueExecutor.class,
+			OrangeGetValuesExecutor.class,
+			OrangeGetAllValuesExecutor.class,
+			OrangeGetMembersExecutor.class
+		));
+	}
+	
 	@Override
 	protected Collection<OrangeRedisMultipleSetIfAbsentListener> getMultipleListener() {
 		Map<String, OrangeRedisHashAddMembersIfAbsentListener> beanMap = this.getApplicationContext().getBeansOfType(OrangeRedisHashAddMembersIfAbsentListener.class);
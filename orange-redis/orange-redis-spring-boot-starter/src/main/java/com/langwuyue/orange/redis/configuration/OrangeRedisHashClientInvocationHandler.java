@@ -25,8 +25,8 @@ import com.langwuyue.orange.redis.RedisValueTypeEnum;
 import com.langwuyue.orange.redis.annotation.OrangeRedisKey;
 import com.langwuyue.orange.redis.context.builder.OrangeOperationArgHandlerMapping;
 import com.langwuyue.orange.redis.context.builder.OrangeRedisContextBuilder;
+import com.langwuyue.orange.redis.context.builder.OrangeRedisInvocationPlan;
 import com.langwuyue.orange.redis.context.builder.OrangeRedisHashContextBuilder;
-import com.langwuyue.orange.redis.executor.OrangeRedisExecutor;
 import com.langwuyue.orange.redis.mapping.OrangeRedisExecutorsMapping;
 
 /**
@@ -58,11 +58,11 @@ public class OrangeRedisHashClientInvocationHandler extends OrangeRedisClientInv
 
 	@Override
 	protected OrangeRedisContextBuilder createContextBuilder(
-		OrangeRedisExecutor executor, 
+		OrangeRedisInvocationPlan plan, 
 		Method method, 
 		Object[] args
 	) throws Exception {
-		OrangeRedisContextBuilder builder = super.createContextBuilder(executor, method, args);
+		OrangeRedisContextBuilder builder = super.createContextBuilder(plan, method, args);
 		((OrangeRedisHashContextBuilder)builder).keyType(this.keyType);
 		return builder;
 	}
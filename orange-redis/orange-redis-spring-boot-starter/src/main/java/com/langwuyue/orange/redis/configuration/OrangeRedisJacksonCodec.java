@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.redis.configuration;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.langwuyue.orange.redis.RedisValueTypeEnum;
+
+/**
+ * <p>
+ * Jackson codec of a textual or binary format.
+ * Readers and writers are resolved once per type and reused, 
+ * so reading a collection does not resolve the element type for every element.
+ * The cached types are the types declared by client methods, they are bounded by the number of the methods.
+ * </p>
+ *
+ * @author Liang.Zhong
+ * @since 1.0.0
+ */
+public class OrangeRedisJacksonCodec implements OrangeRedisCodec {
+	
+	private static final String SMILE_FACTORY = "com.fasterxml.jackson.dataformat.smile.SmileFactory";
+	
+	private static final String CBOR_FACTORY = "com.fasterxml.jackson.dataformat.cbor.CBORFactory";
+	
+	private final RedisValueTypeEnum valueType;
+	
+	private final ObjectMapper objectMapper;
+	
+	private final Map<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+	
+	private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+	
+	public OrangeRedisJacksonCodec(RedisValueTypeEnum valueType, ObjectMapper objectMapper) {
+		this.valueType = valueType;
+		this.objectMapper = objectMapper;
+	}
+	
+	/**
+	 * Smile codec configured like the JSON object mapper.
+	 * 
+	 * @return {@code null} if {@code jackson-dataformat-smile} is absent
+	 */
+	public static OrangeRedisJacksonCodec smile(ObjectMapper jsonMapper) {
+		return binary(RedisValueTypeEnum.SMILE, SMILE_FACTORY, jsonMapper);
+	}
+	
+	/**
+	 * CBOR codec configured like the JSON object mapper.
+	 * 
+	 * @return {@code null} if {@code jackson-dataformat-cbor} is absent
+	 */
+	public static OrangeRedisJacksonCodec cbor(ObjectMapper jsonMapper) {
+		return binary(RedisValueTypeEnum.CBOR, CBOR_FACTORY, jsonMapper);
+	}
+	
+	private static OrangeRedisJacksonCodec binary(RedisValueTypeEnum valueType, String factoryClassName, ObjectMapper jsonMapper) {
+		JsonFactory factory;
+		try {
+			factory = (JsonFactory) Class.forName(factoryClassName, true, OrangeRedisJacksonCodec.class.getClassLoader()).getConstructor().newInstance();
+		}catch (ReflectiveOperationException | LinkageError e) {
+			return null;
+		}
+		ObjectMapper objectMapper = new ObjectMapper(factory);
+		// Share the features, date format and inclusion of the JSON mapper, modules are not copied by configs and are discovered again.
+		objectMapper.setConfig(jsonMapper.getSerializationConfig());
+		objectMapper.setConfig(jsonMapper.getDeserializationConfig());
+		objectMapper.findAndRegisterModules();
+		return new OrangeRedisJacksonCodec(valueType, objectMapper);
+	}
+
+	@Override
+	public RedisValueTypeEnum getValueType() {
+		return valueType;
+	}
+
+	@Override
+	public byte[] encode(Object value) throws Exception {
+		if(value == null) {
+			return objectMapper.writeValueAsBytes(null);
+		}
+		return getWriter(value.getClass()).writeValueAsBytes(value);
+	}
+
+	@Override
+	public Object decode(byte[] bytes, Type type) throws Exception {
+		return getReader(type).readValue(bytes);
+	}
+	
+	private ObjectReader getReader(Type type) {
+		ObjectReader reader = readers.get(type);
+		if(reader == null) {
+			reader = readers.computeIfAbsent(type, t -> objectMapper.readerFor(objectMapper.getTypeFactory().constructType(t)));
+		}
+		return reader;
+	}
+	
+	private ObjectWriter getWriter(Class<?> type) {
+		ObjectWriter writer = writers.get(type);
+		if(writer == null) {
+			writer = writers.computeIfAbsent(type, objectMapper::writerFor);
+		}
+		return writer;
+	}
+}
@@ -65,7 +65,7 @@ public class OrangeRedisListClientFactoryBean extends OrangeRedisClientAbstractF
 			getLogger()
 		);
 		OrangeRedisScriptOperations scriptOperations = new OrangeRedisDefaultScriptOperations(
-			this.getRedisTemplate(), 
+			getScriptRegistry(), 
 			getRedisSerializer(),
 			getLogger()
 		);
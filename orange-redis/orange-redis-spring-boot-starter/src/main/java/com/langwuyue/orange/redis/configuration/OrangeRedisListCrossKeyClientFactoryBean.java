@@ -100,7 +100,7 @@ public class OrangeRedisListCrossKeyClientFactoryBean extends OrangeRedisClientA
 			getLogger()
 		);
 		OrangeRedisScriptOperations scriptOperations = new OrangeRedisDefaultScriptOperations(
-			this.getRedisTemplate(), 
+			getScriptRegistry(), 
 			getRedisSerializer(),
 			getLogger()
 		);
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.redis.configuration;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.langwuyue.orange.redis.context.builder.OrangeRedisInvocationPlan;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * <h3>Meters of a client method.</h3>
+ * <p>
+ * The meters are tagged by the client interface, the method and the executor, they are resolved once per method,
+ * so that recording an invocation neither looks up the registry nor allocates.
+ * </p>
+ *
+ * @author Liang.Zhong
+ * @since 1.0.0
+ */
+public class OrangeRedisMethodMeters {
+	
+	private static volatile MeterRegistry registry;
+	
+	private final Timer success;
+	
+	private final Timer error;
+	
+	private final Counter shortCircuits;
+	
+	private final DistributionSummary bytesOut;
+	
+	private final DistributionSummary bytesIn;
+	
+	private OrangeRedisMethodMeters(MeterRegistry registry, Tags tags) {
+		this.success = timer(registry, tags.and("outcome", "success"));
+		this.error = timer(registry, tags.and("outcome", "error"));
+		this.shortCircuits = Counter.builder("redis.client.short.circuits")
+			.description("Number of client method calls rejected by the circuit breaker")
+			.tags(tags)
+			.register(registry);
+		this.bytesOut = DistributionSummary.builder("redis.client.payload")
+			.description("Bytes serialized by a client method call")
+			.baseUnit("bytes")
+			.tags(tags.and("direction", "out"))
+			.register(registry);
+		this.bytesIn = DistributionSummary.builder("redis.client.payload")
+			.description("Bytes deserialized by a client method call")
+			.baseUnit("bytes")
+			.tags(tags.and("direction", "in"))
+			.register(registry);
+	}
+	
+	private static Timer timer(MeterRegistry registry, Tags tags) {
+		return Timer.builder("redis.client.operation")
+			.description("Latency of client method calls")
+			.tags(tags)
+			.publishPercentiles(0.5, 0.95, 0.99)
+			.publishPercentileHistogram()
+			.register(registry);
+	}
+	
+	/**
+	 * Bind the registry the meters are registered to, the payload of the client methods is measured from now on.
+	 */
+	static void bindRegistry(MeterRegistry registry) {
+		OrangeRedisMethodMeters.registry = registry;
+		OrangeRedisSerializer.setPayloadMeasured(registry != null);
+	}
+	
+	/**
+	 * @return {@code null} if the registry is not bound yet
+	 */
+	static MeterRegistry getRegistry() {
+		return registry;
+	}
+	
+	/**
+	 * Resolve the meters of all methods of a client.
+	 */
+	static Map<Method, OrangeRedisMethodMeters> resolve(
+		MeterRegistry registry, 
+		Class<?> operationOwner, 
+		Map<Method, OrangeRedisInvocationPlan> plans
+	) {
+		Map<Method, OrangeRedisMethodMeters> meters = new HashMap<>();
+		plans.forEach((method, plan) -> {
+			Tags tags = Tags.of(
+				"client", operationOwner.getName(),
+				"method", method.getName(),
+				"executor", plan.getExecutor().getClass().getSimpleName()
+			);
+			meters.put(method, new OrangeRedisMethodMeters(registry, tags));
+		});
+		return Collections.unmodifiableMap(meters);
+	}
+	
+	void record(long nanos, boolean succeeded) {
+		(succeeded ? this.success : this.error).record(nanos, TimeUnit.NANOSECONDS);
+	}
+	
+	void shortCircuit() {
+		this.shortCircuits.increment();
+	}
+	
+	void payload(long out, long in) {
+		this.bytesOut.record(out);
+		this.bytesIn.record(in);
+	}
+}
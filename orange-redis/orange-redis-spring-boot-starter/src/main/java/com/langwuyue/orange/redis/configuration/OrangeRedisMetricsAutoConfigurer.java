@@ -18,13 +18,22 @@
  */
 package com.langwuyue.orange.redis.configuration;
 
+import java.util.concurrent.TimeUnit;
+
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Configuration;
 
+import com.langwuyue.orange.redis.executor.transaction.OrangeRedisDefaultTransactionManager;
+import com.langwuyue.orange.redis.executor.transaction.OrangeRedisTransactionTimeoutCallbackExecutor;
+import com.langwuyue.orange.redis.operations.OrangeRedisScriptRegistry;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
 
 /**
  * @author Liang.Zhong
@@ -50,9 +59,93 @@ public class OrangeRedisMetricsAutoConfigurer implements SmartInitializingSingle
 	public void afterSingletonsInstantiated() {
         MeterRegistry registry = registryProvider.getIfAvailable();
         if (registry != null) {
+            OrangeRedisMethodMeters.bindRegistry(registry);
             Gauge.builder("redis.active.request", factoryBean, OrangeRedisTransactionClientFactoryBean::getActiveRequestCount)
                 .description("Number of active requests")
                 .register(registry);
+            OrangeRedisDefaultTransactionManager transactionManager = factoryBean.getTransactionManger();
+            OrangeRedisTransactionTimeoutCallbackExecutor timeoutCallbackExecutor = transactionManager == null ? null : transactionManager.getTransactionTimeoutCallbackExecutor();
+            if (timeoutCallbackExecutor != null) {
+                Gauge.builder("redis.transaction.timeout.backlog", timeoutCallbackExecutor, OrangeRedisTransactionTimeoutCallbackExecutor::getBacklog)
+                    .description("Number of timed out transactions found by the last timeout callback run")
+                    .register(registry);
+                Gauge.builder("redis.transaction.timeout.partitions.active", timeoutCallbackExecutor, OrangeRedisTransactionTimeoutCallbackExecutor::getActivePartitions)
+                    .description("Number of timed out transaction partitions being handled by this node")
+                    .register(registry);
+                FunctionTimer.builder("redis.transaction.timeout.handle", timeoutCallbackExecutor, OrangeRedisTransactionTimeoutCallbackExecutor::getHandledCount, OrangeRedisTransactionTimeoutCallbackExecutor::getHandleNanos, TimeUnit.NANOSECONDS)
+                    .description("Timed out transactions handled by this node and the time spent")
+                    .register(registry);
+                FunctionCounter.builder("redis.transaction.timeout.errors", timeoutCallbackExecutor, OrangeRedisTransactionTimeoutCallbackExecutor::getErrorCount)
+                    .description("Number of timed out transactions whose handling failed")
+                    .register(registry);
+            }
+            OrangeRedisScriptRegistry scriptRegistry = OrangeRedisClientAbstractFactoryBean.getScriptRegistry();
+            if (scriptRegistry != null) {
+                FunctionCounter.builder("redis.script.hits", scriptRegistry, OrangeRedisScriptRegistry::getHitCount)
+                    .description("Number of scripts executed by EVALSHA without reloading")
+                    .register(registry);
+                FunctionCounter.builder("redis.script.reloads", scriptRegistry, OrangeRedisScriptRegistry::getReloadCount)
+                    .description("Number of SCRIPT LOAD executions")
+                    .register(registry);
+                FunctionCounter.builder("redis.script.noscript", scriptRegistry, OrangeRedisScriptRegistry::getNoScriptCount)
+                    .description("Number of NOSCRIPT replies")
+                    .register(registry);
+            }
+            OrangeRedisCompressor compressor = OrangeRedisClientAbstractFactoryBean.getCompressor();
+            if (compressor != null) {
+                Gauge.builder("redis.compression.ratio", compressor, OrangeRedisCompressor::getCompressionRatio)
+                    .description("Compressed size divided by the original size of the compressed values")
+                    .register(registry);
+                FunctionCounter.builder("redis.compression.bytes.in", compressor, OrangeRedisCompressor::getUncompressedBytes)
+                    .description("Number of bytes before compression")
+                    .baseUnit("bytes")
+                    .register(registry);
+                FunctionCounter.builder("redis.compression.bytes.out", compressor, OrangeRedisCompressor::getCompressedBytes)
+                    .description("Number of bytes written after compression")
+                    .baseUnit("bytes")
+                    .register(registry);
+                FunctionTimer.builder("redis.compression.compress", compressor, OrangeRedisCompressor::getCompressionCount, OrangeRedisCompressor::getCompressNanos, TimeUnit.NANOSECONDS)
+                    .description("Time spent compressing values")
+                    .register(registry);
+                FunctionTimer.builder("redis.compression.decompress", compressor, OrangeRedisCompressor::getDecompressionCount, OrangeRedisCompressor::getDecompressNanos, TimeUnit.NANOSECONDS)
+                    .description("Time spent decompressing values")
+                    .register(registry);
+            }
+            OrangeRedisSingleFlight singleFlight = OrangeRedisClientAbstractFactoryBean.getSingleFlight();
+            if (singleFlight != null) {
+                FunctionCounter.builder("redis.single.flight.executions", singleFlight, OrangeRedisSingleFlight::getExecutionCount)
+                    .description("Number of coalescable reads sent to Redis")
+                    .register(registry);
+                FunctionCounter.builder("redis.single.flight.coalesced", singleFlight, OrangeRedisSingleFlight::getCoalescedCount)
+                    .description("Number of reads which shared the result of an identical read in flight")
+                    .register(registry);
+                Gauge.builder("redis.single.flight.in.flight", singleFlight, OrangeRedisSingleFlight::getInFlightCount)
+                    .description("Number of coalescable reads in flight")
+                    .register(registry);
+            }
+            for (OrangeRedisNearCache nearCache : OrangeRedisNearCache.getCaches()) {
+                Tags tags = Tags.of("client", nearCache.getOperationOwner().getName());
+                FunctionCounter.builder("redis.near.cache.hits", nearCache, OrangeRedisNearCache::getHitCount)
+                    .description("Number of reads served by the near cache")
+                    .tags(tags)
+                    .register(registry);
+                FunctionCounter.builder("redis.near.cache.misses", nearCache, OrangeRedisNearCache::getMissCount)
+                    .description("Number of reads not found in the near cache")
+                    .tags(tags)
+                    .register(registry);
+                FunctionCounter.builder("redis.near.cache.invalidations", nearCache, OrangeRedisNearCache::getInvalidationCount)
+                    .description("Number of keys dropped from the near cache because they were written")
+                    .tags(tags)
+                    .register(registry);
+                FunctionCounter.builder("redis.near.cache.evictions", nearCache, OrangeRedisNearCache::getEvictionCount)
+                    .description("Number of results evicted from the near cache because it was full")
+                    .tags(tags)
+                    .register(registry);
+                Gauge.builder("redis.near.cache.size", nearCache, OrangeRedisNearCache::getSize)
+                    .description("Number of results in the near cache")
+                    .tags(tags)
+                    .register(registry);
+            }
         }
 	}
 }
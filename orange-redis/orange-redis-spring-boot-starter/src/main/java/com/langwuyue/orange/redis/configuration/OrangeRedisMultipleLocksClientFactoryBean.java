@@ -75,9 +75,9 @@ public class OrangeRedisMultipleLocksClientFactoryBean extends OrangeRedisClient
 			return EXECUTORS_MAPPING;
 		}
 		RedisTemplate<String, byte[]> template = this.getRedisTemplate();
-		OrangeRedisHashOperations operations = new OrangeRedisDefaultHashOperations(template, getRedisSerializer(),getLogger());
+		OrangeRedisHashOperations operations = new OrangeRedisDefaultHashOperations(template, getRedisSerializer(),getScriptRegistry(),getLogger());
 		OrangeRedisScriptOperations scriptOperations = new OrangeRedisDefaultScriptOperations(
-			this.getRedisTemplate(), 
+			getScriptRegistry(), 
 			getRedisSerializer(),
 			getLogger()
 		);
@@ -0,0 +1,319 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.redis.configuration;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.langwuyue.orange.redis.annotation.NearCache;
+import com.langwuyue.orange.redis.executor.OrangeRedisExecutor;
+
+/**
+ * <h3>Near cache of a client annotated with {@link NearCache}.</h3>
+ * <p>
+ * Results are cached per Redis key, then per operation and arguments, so that all results of a key are dropped together.
+ * Changes of a key go through {@link ConcurrentHashMap#compute} of the key, which keeps the size exact.
+ * Results are evicted in the order they were cached once the size exceeds the maximum, and dropped when they are expired.
+ * </p>
+ * <p>
+ * A result read while its key was being invalidated is returned but not cached, 
+ * otherwise a value read before a write could be cached after the write was invalidated.
+ * Each key counts its invalidations and the reads in progress, so the invalidations of other keys never prevent caching.
+ * </p>
+ *
+ * @author Liang.Zhong
+ * @since 1.0.0
+ */
+public class OrangeRedisNearCache {
+	
+	private static final List<OrangeRedisNearCache> CACHES = new CopyOnWriteArrayList<>();
+	
+	private static final Object NULL = new Object();
+	
+	private final Class<?> operationOwner;
+	
+	private final Set<Class<? extends OrangeRedisExecutor>> cacheableExecutors;
+	
+	private final int maximumSize;
+	
+	private final long expirationNanos;
+	
+	private final OrangeRedisNearCacheInvalidator invalidator;
+	
+	private final Map<String, Results> entries = new ConcurrentHashMap<>();
+	
+	private final ConcurrentLinkedQueue<Entry> order = new ConcurrentLinkedQueue<>();
+	
+	private final AtomicInteger size = new AtomicInteger();
+	
+	/**
+	 * Length of {@link #order}, which still holds the results dropped by invalidations or expirations until they are polled.
+	 */
+	private final AtomicInteger queued = new AtomicInteger();
+	
+	private final LongAdder hits = new LongAdder();
+	
+	private final LongAdder misses = new LongAdder();
+	
+	private final LongAdder invalidations = new LongAdder();
+	
+	private final LongAdder evictions = new LongAdder();
+	
+	public OrangeRedisNearCache(
+		Class<?> operationOwner,
+		NearCache nearCache,
+		Set<Class<? extends OrangeRedisExecutor>> cacheableExecutors,
+		OrangeRedisNearCacheInvalidator invalidator
+	) {
+		this.operationOwner = operationOwner;
+		this.cacheableExecutors = cacheableExecutors;
+		this.maximumSize = nearCache.maximumSize();
+		this.expirationNanos = nearCache.expirationTime().unit().toNanos(nearCache.expirationTime().value());
+		this.invalidator = invalidator;
+		CACHES.add(this);
+	}
+	
+	/**
+	 * Drop the cached results of the key in all near caches, it is called when an invalidation is received.
+	 */
+	static void invalidateAll(String key) {
+		for(OrangeRedisNearCache cache : CACHES) {
+			cache.invalidateLocally(key);
+		}
+	}
+	
+	static List<OrangeRedisNearCache> getCaches() {
+		return Collections.unmodifiableList(CACHES);
+	}
+	
+	public boolean isCacheable(OrangeRedisExecutor executor) {
+		return cacheableExecutors.contains(executor.getClass());
+	}
+	
+	/**
+	 * @return the cached result of the operation, or the result of the loader which is cached if the key was not invalidated meanwhile
+	 */
+	public Object get(String key, Method method, Object[] args, Callable<Object> loader) throws Exception {
+		List<Object> operation = operation(method, args);
+		Results results = entries.get(key);
+		Entry entry = results == null ? null : results.entries.get(operation);
+		if(entry != null) {
+			if(System.nanoTime() - entry.cachedAt < expirationNanos) {
+				hits.increment();
+				return entry.value == NULL ? null : entry.value;
+			}
+			remove(entry);
+		}
+		misses.increment();
+		long readVersion = beginRead(key);
+		Object value;
+		try {
+			value = loader.call();
+		}catch (Exception | Error e) {
+			endRead(key, null, readVersion);
+			throw e;
+		}
+		endRead(key, new Entry(key, operation, value == null ? NULL : value), readVersion);
+		return value;
+	}
+	
+	/**
+	 * Register a read of the key, the results of the key are kept until the read is ended.
+	 * 
+	 * @return the version of the key when the read begins
+	 */
+	private long beginRead(String key) {
+		long[] readVersion = new long[1];
+		entries.compute(key, (k, results) -> {
+			if(results == null) {
+				results = new Results();
+			}
+			results.reads++;
+			readVersion[0] = results.version;
+			return results;
+		});
+		return readVersion[0];
+	}
+	
+	/**
+	 * End a read of the key, the result is cached only if the key was not invalidated since the read began.
+	 * 
+	 * @param entry {@code null} if the read failed
+	 */
+	private void endRead(String key, Entry entry, long readVersion) {
+		boolean[] cached = new boolean[1];
+		entries.compute(key, (k, results) -> {
+			// The results of a key are kept while a read is in progress
+			results.reads--;
+			if(entry != null && results.version == readVersion) {
+				if(results.entries.put(entry.operation, entry) == null) {
+					size.incrementAndGet();
+				}
+				cached[0] = true;
+			}
+			return results.isUnused() ? null : results;
+		});
+		if(!cached[0]) {
+			return;
+		}
+		order.offer(entry);
+		queued.incrementAndGet();
+		trim();
+	}
+	
+	/**
+	 * Drop the cached results of the key written by the client, and broadcast the write to the other instances.
+	 */
+	public void invalidate(String key) {
+		invalidateLocally(key);
+		invalidator.publish(key);
+	}
+	
+	private void invalidateLocally(String key) {
+		entries.computeIfPresent(key, (k, results) -> {
+			if(!results.entries.isEmpty()) {
+				size.addAndGet(-results.entries.size());
+				results.entries.clear();
+				invalidations.increment();
+			}
+			// The reads in progress are not cached
+			results.version++;
+			return results.isUnused() ? null : results;
+		});
+	}
+	
+	private void trim() {
+		while(size.get() > maximumSize || queued.get() > 2L * maximumSize) {
+			Entry eldest = order.poll();
+			if(eldest == null) {
+				break;
+			}
+			queued.decrementAndGet();
+			if(size.get() <= maximumSize) {
+				// Only trimming the dropped results, a cached result is queued again
+				if(isCached(eldest)) {
+					order.offer(eldest);
+					queued.incrementAndGet();
+				}
+				continue;
+			}
+			if(remove(eldest)) {
+				evictions.increment();
+			}
+		}
+	}
+	
+	private boolean isCached(Entry entry) {
+		Results results = entries.get(entry.key);
+		return results != null && results.entries.get(entry.operation) == entry;
+	}
+	
+	private boolean remove(Entry entry) {
+		boolean[] removed = new boolean[1];
+		entries.computeIfPresent(entry.key, (k, results) -> {
+			if(results.entries.remove(entry.operation, entry)) {
+				size.decrementAndGet();
+				removed[0] = true;
+			}
+			return results.isUnused() ? null : results;
+		});
+		return removed[0];
+	}
+	
+	private static List<Object> operation(Method method, Object[] args) {
+		if(args == null || args.length == 0) {
+			return Collections.singletonList(method);
+		}
+		List<Object> operation = new ArrayList<>(args.length + 1);
+		operation.add(method);
+		operation.addAll(Arrays.asList(args));
+		return operation;
+	}
+	
+	public Class<?> getOperationOwner() {
+		return operationOwner;
+	}
+	
+	public int getSize() {
+		return size.get();
+	}
+	
+	public long getHitCount() {
+		return hits.sum();
+	}
+	
+	public long getMissCount() {
+		return misses.sum();
+	}
+	
+	public long getInvalidationCount() {
+		return invalidations.sum();
+	}
+	
+	public long getEvictionCount() {
+		return evictions.sum();
+	}
+	
+	/**
+	 * Cached results of a key, the counters are guarded by {@link ConcurrentHashMap#compute} of the key.
+	 */
+	private static class Results {
+		
+		private final Map<List<Object>, Entry> entries = new ConcurrentHashMap<>();
+		
+		/**
+		 * Number of invalidations of the key while it is in the cache.
+		 */
+		private long version;
+		
+		private int reads;
+		
+		boolean isUnused() {
+			return entries.isEmpty() && reads == 0;
+		}
+	}
+	
+	private static class Entry {
+		
+		private final String key;
+		
+		private final List<Object> operation;
+		
+		private final Object value;
+		
+		private final long cachedAt = System.nanoTime();
+		
+		Entry(String key, List<Object> operation, Object value) {
+			this.key = key;
+			this.operation = operation;
+			this.value = value;
+		}
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.redis.configuration;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+
+import com.langwuyue.orange.redis.logger.OrangeRedisLogger;
+
+/**
+ * <h3>Broadcasts the keys written by clients annotated with {@code @NearCache}.</h3>
+ * <p>
+ * Every instance publishes the written keys to one channel and drops the cached results of the keys it receives.
+ * The channel is subscribed only once the first near cache is created.
+ * </p>
+ * <p>
+ * Redis client tracking is not used, because its RESP3 push messages are not exposed by Spring Data Redis.
+ * </p>
+ *
+ * @author Liang.Zhong
+ * @since 1.0.0
+ */
+public class OrangeRedisNearCacheInvalidator implements MessageListener {
+	
+	static final String CHANNEL = "orange:near-cache:invalidation";
+	
+	private final OrangeRedisPubSub pubSub;
+	
+	private final String channel;
+	
+	private final OrangeRedisLogger logger;
+	
+	private boolean subscribed;
+	
+	OrangeRedisNearCacheInvalidator(OrangeRedisPubSub pubSub, String keyPrefix, OrangeRedisLogger logger) {
+		this.pubSub = pubSub;
+		this.channel = keyPrefix + CHANNEL;
+		this.logger = logger;
+	}
+	
+	/**
+	 * Subscribe the channel if not subscribed yet.
+	 */
+	synchronized void subscribe() {
+		if(this.subscribed) {
+			return;
+		}
+		this.pubSub.subscribe(this, new ChannelTopic(this.channel));
+		this.subscribed = true;
+	}
+	
+	/**
+	 * Failures are only logged, the results cached by the other instances expire by their TTL.
+	 */
+	public void publish(String key) {
+		try {
+			this.pubSub.publish(this.channel.getBytes(StandardCharsets.UTF_8), key.getBytes(StandardCharsets.UTF_8));
+		}catch (Exception e) {
+			logger.warn(String.format("Publish the near cache invalidation of the key %s error", key), e);
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		OrangeRedisNearCache.invalidateAll(new String(message.getBody(), StandardCharsets.UTF_8));
+	}
+}
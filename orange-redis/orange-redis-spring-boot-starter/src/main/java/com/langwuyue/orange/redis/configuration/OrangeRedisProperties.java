@@ -20,6 +20,7 @@ package com.langwuyue.orange.redis.configuration;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.zip.Deflater;
 
 import javax.validation.constraints.NotBlank;
 
@@ -135,6 +136,12 @@ class OrangeRedisProperties {
 	
 	private final Metrics metrics = new Metrics();
 	
+	private final Async async = new Async();
+	
+	private final Compression compression = new Compression();
+	
+	private final SingleFlight singleFlight = new SingleFlight();
+	
 	public int getDatabase() {
 		return this.database;
 	}
@@ -282,6 +289,18 @@ class OrangeRedisProperties {
 	public Metrics getMetrics() {
 		return metrics;
 	}
+	
+	public Async getAsync() {
+		return async;
+	}
+	
+	public Compression getCompression() {
+		return compression;
+	}
+	
+	public SingleFlight getSingleFlight() {
+		return singleFlight;
+	}
 
 	/**
 	 * Type of Redis client to use.
@@ -606,4 +625,91 @@ class OrangeRedisProperties {
 			this.enabled = enabled;
 		}
 	}
+	
+	/**
+	 * Thread pool of the client methods which return {@code CompletableFuture} or {@code CompletionStage}.
+	 */
+	public static class Async {
+		
+		private int poolSize = Runtime.getRuntime().availableProcessors() * 2;
+		
+		/**
+		 * Operations are executed by the calling thread once the queue is full.
+		 */
+		private int queueCapacity = 10000;
+
+		public int getPoolSize() {
+			return poolSize;
+		}
+
+		public void setPoolSize(int poolSize) {
+			this.poolSize = poolSize;
+		}
+
+		public int getQueueCapacity() {
+			return queueCapacity;
+		}
+
+		public void setQueueCapacity(int queueCapacity) {
+			this.queueCapacity = queueCapacity;
+		}
+	}
+	
+	/**
+	 * GZIP compression of large JSON, SMILE and CBOR values stored under keys or hash fields, clients annotated with {@code @Compression} override it.
+	 */
+	public static class Compression {
+		
+		private boolean enabled = false;
+		
+		/**
+		 * Minimum size in bytes of the encoded values to be compressed.
+		 */
+		private int threshold = 16 * 1024;
+		
+		/**
+		 * Deflate level, from 1 (best speed) to 9 (best compression).
+		 */
+		private int level = Deflater.BEST_SPEED;
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getThreshold() {
+			return threshold;
+		}
+
+		public void setThreshold(int threshold) {
+			this.threshold = threshold;
+		}
+
+		public int getLevel() {
+			return level;
+		}
+
+		public void setLevel(int level) {
+			this.level = level;
+		}
+	}
+	
+	/**
+	 * Coalescing of concurrent identical reads, random reads and lazy results are never coalesced.
+	 */
+	public static class SingleFlight {
+		
+		private boolean enabled = false;
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+	}
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.redis.configuration;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * <h3>Pub/sub shared by the near caches and the waiting locks.</h3>
+ * <p>
+ * All subscriptions share one listener container, which is created by the first subscription,
+ * so applications subscribing nothing keep no pub/sub connection.
+ * </p>
+ *
+ * @author Liang.Zhong
+ * @since 1.0.0
+ */
+public class OrangeRedisPubSub implements DisposableBean {
+	
+	private final OrangeRedisConnectionConfiguration configuration;
+	
+	private RedisMessageListenerContainer container;
+	
+	OrangeRedisPubSub(OrangeRedisConnectionConfiguration configuration) {
+		this.configuration = configuration;
+	}
+	
+	public void subscribe(MessageListener listener, Topic topic) {
+		getContainer().addMessageListener(listener, topic);
+	}
+	
+	public void unsubscribe(MessageListener listener, Topic topic) {
+		getContainer().removeMessageListener(listener, topic);
+	}
+	
+	public void publish(byte[] channel, byte[] message) {
+		RedisConnection connection = this.configuration.redisConnectionFactory().getConnection();
+		try {
+			connection.publish(channel, message);
+		}finally {
+			connection.close();
+		}
+	}
+	
+	private synchronized RedisMessageListenerContainer getContainer() {
+		if(this.container == null) {
+			RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+			container.setConnectionFactory(this.configuration.redisConnectionFactory());
+			container.afterPropertiesSet();
+			container.start();
+			this.container = container;
+		}
+		return this.container;
+	}
+
+	@Override
+	public synchronized void destroy() throws Exception {
+		if(this.container != null) {
+			this.container.destroy();
+			this.container = null;
+		}
+	}
+}
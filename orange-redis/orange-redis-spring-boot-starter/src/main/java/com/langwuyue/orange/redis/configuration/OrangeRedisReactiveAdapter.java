@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.redis.configuration;
+
+import java.util.Collection;
+import java.util.concurrent.Callable;
+
+import com.langwuyue.orange.redis.context.builder.OrangeRedisInvocationPlan.AsyncType;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * <h3>Adapts client invocations to {@link Mono} and {@link Flux}.</h3>
+ * <p>
+ * Nothing is executed until subscription, the invocation then runs on {@link Schedulers#boundedElastic()}, 
+ * never on the subscribing thread, so event-loop threads are never blocked. 
+ * The async thread pool of Orange clients is not used here: it runs the rejected tasks on the caller once its queue is full. 
+ * When the bounded elastic scheduler is saturated, the rejection is signaled as an error instead. This class is only loaded when a client method returns {@code Mono} or {@code Flux}.
+ * </p>
+ * <p>
+ * The elements of a {@code Flux} are read as a whole list before the first one is emitted, 
+ * except for scans of all members which read the next page only when the elements of the current one are requested.
+ * </p>
+ *
+ * @author Liang.Zhong
+ * @since 1.0.0
+ */
+class OrangeRedisReactiveAdapter {
+	
+	private OrangeRedisReactiveAdapter() {}
+	
+	static Object adapt(AsyncType asyncType, Callable<Object> invocation) {
+		Mono<Object> mono = Mono.fromCallable(invocation).subscribeOn(getScheduler());
+		if(asyncType == AsyncType.FLUX) {
+			return mono.flatMapMany(OrangeRedisReactiveAdapter::toFlux);
+		}
+		return mono;
+	}
+	
+	/**
+	 * The pages of a lazy iterable are read on the bounded elastic scheduler when the elements are requested.
+	 */
+	private static Flux<?> toFlux(Object result) {
+		if(result instanceof Collection) {
+			return Flux.fromIterable((Collection<?>) result);
+		}
+		if(result instanceof Iterable) {
+			return Flux.fromIterable((Iterable<?>) result).subscribeOn(getScheduler());
+		}
+		return Flux.just(result);
+	}
+	
+	private static Scheduler getScheduler() {
+		return Schedulers.boundedElastic();
+	}
+}
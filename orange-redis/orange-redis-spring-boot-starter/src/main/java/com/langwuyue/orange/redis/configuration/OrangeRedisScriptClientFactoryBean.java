@@ -87,7 +87,7 @@ public class OrangeRedisScriptClientFactoryBean extends OrangeRedisClientAbstrac
 			return EXECUTORS_MAPPING;
 		}
 		OrangeRedisScriptOperations scriptOperations = new OrangeRedisDefaultScriptOperations(
-			this.getRedisTemplate(), 
+			getScriptRegistry(), 
 			getRedisSerializer(),
 			getLogger()
 		);
@@ -20,18 +20,22 @@ package com.langwuyue.orange.redis.configuration;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.langwuyue.orange.redis.OrangeRedisCircuitBreaker;
 import com.langwuyue.orange.redis.annotation.OrangeRedisKey;
 import com.langwuyue.orange.redis.context.OrangeRedisContext.Key;
 import com.langwuyue.orange.redis.context.builder.OrangeOperationArgHandlerMapping;
 import com.langwuyue.orange.redis.context.builder.OrangeRedisContextBuilder;
+import com.langwuyue.orange.redis.context.builder.OrangeRedisInvocationPlan;
 import com.langwuyue.orange.redis.context.builder.OrangeRedisScriptContextBuilder;
 import com.langwuyue.orange.redis.context.builder.OrangeScriptArgHandlerMapping;
-import com.langwuyue.orange.redis.executor.OrangeRedisExecutor;
 import com.langwuyue.orange.redis.mapping.OrangeRedisExecutorsMapping;
 import com.langwuyue.orange.redis.util.OrangeStringTemlateUtils;
+import com.langwuyue.orange.redis.util.OrangeStringTemplate;
 
 /**
  * @author Liang.Zhong
@@ -39,6 +43,8 @@ import com.langwuyue.orange.redis.util.OrangeStringTemlateUtils;
  */
 public class OrangeRedisScriptClientInvocationHandler extends OrangeRedisClientInvocationHandler {
 	
+	private final Map<Method,List<OrangeStringTemplate>> keyTemplates;
+	
 	public OrangeRedisScriptClientInvocationHandler(
 		Class<?> operationOwner,
 		OrangeRedisExecutorsMapping mapping,
@@ -47,6 +53,21 @@ public class OrangeRedisScriptClientInvocationHandler extends OrangeRedisClientI
 		OrangeRedisProperties properties
 	) {
 		super(operationOwner, mapping, null, operationArgHandlerMapping,null,circuitBreaker,properties);
+		OrangeScriptArgHandlerMapping scriptMapping = (OrangeScriptArgHandlerMapping) operationArgHandlerMapping;
+		Map<Method,List<OrangeStringTemplate>> keyTemplates = new HashMap<>();
+		for(Method method : operationOwner.getMethods()) {
+			List<Class<?>> keyClasses = scriptMapping.getKeyClasses(method);
+			if(keyClasses == null) {
+				continue;
+			}
+			List<OrangeStringTemplate> templates = new ArrayList<>(keyClasses.size());
+			for(Class<?> keyClass : keyClasses) {
+				OrangeRedisKey redisKey = keyClass.getAnnotation(OrangeRedisKey.class);
+				templates.add(OrangeStringTemlateUtils.compile(getOriginKey(redisKey.key()), method));
+			}
+			keyTemplates.put(method, templates);
+		}
+		this.keyTemplates = Collections.unmodifiableMap(keyTemplates);
 	}
 
 	@Override
@@ -60,20 +81,17 @@ public class OrangeRedisScriptClientInvocationHandler extends OrangeRedisClientI
 	}
 	
 	@Override
-	protected OrangeRedisContextBuilder createContextBuilder(OrangeRedisExecutor executor,Method method, Object[] args) throws Exception {
-		OrangeRedisScriptContextBuilder builder = (OrangeRedisScriptContextBuilder)super.createContextBuilder(executor, method, args);
+	protected OrangeRedisContextBuilder createContextBuilder(OrangeRedisInvocationPlan plan,Method method, Object[] args) throws Exception {
+		OrangeRedisScriptContextBuilder builder = (OrangeRedisScriptContextBuilder)super.createContextBuilder(plan, method, args);
 		builder.keys(getKeys(method,args));
 		return builder;
 	}
 	
 	private List<String> getKeys(Method method, Object[] args) {
-		OrangeScriptArgHandlerMapping mapping = (OrangeScriptArgHandlerMapping)this.getOperationArgHandlerMapping();
-		List<Class<?>> keyClasses = mapping.getKeyClasses(method);
-		List<String> keys = new ArrayList<>();
-		for(Class<?> keyClass : keyClasses) {
-			OrangeRedisKey redisKey = keyClass.getAnnotation(OrangeRedisKey.class);
-			String key = OrangeStringTemlateUtils.getString(getOriginKey(redisKey.key()), method, args);
-			keys.add(key);
+		List<OrangeStringTemplate> templates = this.keyTemplates.get(method);
+		List<String> keys = new ArrayList<>(templates.size());
+		for(OrangeStringTemplate template : templates) {
+			keys.add(template.getString(args));
 		}
 		return keys;
 	}
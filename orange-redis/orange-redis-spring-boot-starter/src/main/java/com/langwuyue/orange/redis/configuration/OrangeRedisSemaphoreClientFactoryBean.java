@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.redis.configuration;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.BeansException;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+
+import com.langwuyue.orange.redis.OrangeRedisCircuitBreaker;
+import com.langwuyue.orange.redis.OrangeRedisDefaultCircuitBreaker;
+import com.langwuyue.orange.redis.RedisValueTypeEnum;
+import com.langwuyue.orange.redis.annotation.semaphore.OrangeRedisSemaphoreClient;
+import com.langwuyue.orange.redis.executor.multiplelocks.OrangeExpirationTimeAutoInitializer;
+import com.langwuyue.orange.redis.listener.OrangeIfAbsentListenerProxy;
+import com.langwuyue.orange.redis.listener.OrangeRedisMultipleSetIfAbsentListener;
+import com.langwuyue.orange.redis.listener.OrangeRedisSetIfAbsentListener;
+import com.langwuyue.orange.redis.listener.semaphore.OrangeRedisSemaphoreListener;
+import com.langwuyue.orange.redis.mapping.OrangeRedisExecutorsMapping;
+import com.langwuyue.orange.redis.mapping.OrangeRedisSemaphoreExecutorIdGenerator;
+import com.langwuyue.orange.redis.mapping.OrangeRedisSemaphoreExecutorsMapping;
+import com.langwuyue.orange.redis.operations.OrangeRedisDefaultHashOperations;
+import com.langwuyue.orange.redis.operations.OrangeRedisDefaultScriptOperations;
+import com.langwuyue.orange.redis.operations.OrangeRedisHashOperations;
+import com.langwuyue.orange.redis.operations.OrangeRedisScriptOperations;
+import com.langwuyue.orange.redis.timer.OrangeRenewTimerWheel;
+
+/**
+ * @author Liang.Zhong
+ * @since 1.0.0
+ */
+public class OrangeRedisSemaphoreClientFactoryBean extends OrangeRedisClientAbstractFactoryBean {
+	
+	private OrangeRedisSemaphoreClient client;
+	
+	private static OrangeRedisSemaphoreExecutorsMapping EXECUTORS_MAPPING;
+	
+	private OrangeRenewTimerWheel wheel;
+	
+	private OrangeExpirationTimeAutoInitializer expirationTimeAutoInitializer;
+	
+	public OrangeRedisSemaphoreClientFactoryBean(
+			Class<?> operationOwner,
+			Class<?> clientDefinitionClass,
+			OrangeRedisConfiguration configuration
+	) {
+		super(operationOwner, configuration, clientDefinitionClass);
+	}
+	
+	@Override
+	protected OrangeRedisExecutorsMapping getExecutorsMapping() {
+		if(EXECUTORS_MAPPING != null) {
+			return EXECUTORS_MAPPING;
+		}
+		// The holders are kept in a hash
+		OrangeRedisHashOperations operations = new OrangeRedisDefaultHashOperations(
+			this.getRedisTemplate(), 
+			getRedisSerializer(),
+			getScriptRegistry(),
+			getLogger()
+		);
+		OrangeRedisScriptOperations scriptOperations = new OrangeRedisDefaultScriptOperations(
+			getScriptRegistry(), 
+			getRedisSerializer(),
+			getLogger()
+		);
+		EXECUTORS_MAPPING = new OrangeRedisSemaphoreExecutorsMapping(
+			operations, 
+			new OrangeRedisSemaphoreExecutorIdGenerator(), 
+			getListeners(), 
+			scriptOperations,
+			getMultipleListener(),
+			this.wheel,
+			this.expirationTimeAutoInitializer,
+			getLogger()
+		);
+		return EXECUTORS_MAPPING;
+	}
+
+	@Override
+	protected Collection<OrangeRedisMultipleSetIfAbsentListener> getMultipleListener() {
+		return new ArrayList<>();
+	}
+
+	@Override
+	protected Collection<OrangeRedisSetIfAbsentListener> getListeners() {
+		Map<String, OrangeRedisSemaphoreListener> beanMap = this.getApplicationContext().getBeansOfType(OrangeRedisSemaphoreListener.class);
+		if(beanMap == null || beanMap.isEmpty()) {
+			return new ArrayList<>();
+		}
+		List<OrangeRedisSetIfAbsentListener> listeners = OrangeIfAbsentListenerProxy.proxy(
+			beanMap.values(), 
+			OrangeRedisSetIfAbsentListener.class,
+			this.getProperties().getKeyPrefix()
+		);
+		AnnotationAwareOrderComparator.sort(listeners);
+		return listeners;
+	}
+
+	/**
+	 * The owners of the leases are strings
+	 */
+	@Override
+	protected RedisValueTypeEnum getValueType() {
+		return RedisValueTypeEnum.STRING;
+	}
+	
+	@Override
+	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
+		super.setApplicationContext(applicationContext);
+		this.wheel = applicationContext.getBean(OrangeRenewTimerWheel.class);
+		this.expirationTimeAutoInitializer = applicationContext.getBean(OrangeExpirationTimeAutoInitializer.class);
+	}
+	
+	@Override
+	protected Class<? extends OrangeRedisCircuitBreaker> getCircuitBreakerClass(){
+		this.client = this.getClientDefinitionClass().getAnnotation(OrangeRedisSemaphoreClient.class);
+		Class<? extends OrangeRedisCircuitBreaker> clazz = client.breaker();
+		if(clazz != OrangeRedisDefaultCircuitBreaker.class) {
+			return clazz;
+		}
+		if(client.breakerClassName() == null || client.breakerClassName().trim().isEmpty()) {
+			return clazz;
+		}
+		try {
+			return (Class<? extends OrangeRedisCircuitBreaker>) Class.forName(client.breakerClassName());
+		}catch (Exception e) {
+			this.getLogger().warn(String.format(
+				"Get circuit breaker Class error, operation:%s",
+				this.getOperationOwner()
+			),e);
+			return clazz;
+		}
+	}
+}
@@ -20,53 +20,198 @@ package com.langwuyue.orange.redis.configuration;
 
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.zip.Deflater;
 
 import org.springframework.data.redis.serializer.GenericToStringSerializer;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.langwuyue.orange.redis.OrangeRedisException;
 import com.langwuyue.orange.redis.RedisValueTypeEnum;
 
 /**
+ * <p>
+ * {@code STRING}, {@code LONG} and {@code DOUBLE} values are written as strings, 
+ * values of the other types are encoded by the {@link OrangeRedisCodec} registered for their type.
+ * </p>
+ * <p>
+ * Only the values stored under a key are compressed, by {@link #serializeValue(Object, RedisValueTypeEnum)}: 
+ * encoded JSON, SMILE and CBOR values reaching the compression threshold are compressed by the {@link OrangeRedisCompressor}.
+ * Members, hash fields and script arguments identify the entries they are compared to, 
+ * they are serialized by {@link #serialize(Object, RedisValueTypeEnum)} and always written raw, 
+ * whatever the threshold of the thread writing them is.
+ * Compressed values of these types are always decompressed when read, even if the compression is disabled later.
+ * {@code BINARY} values are left to their codec.
+ * </p>
+ * 
  * @author Liang.Zhong
  * @since 1.0.0
  */
 public class OrangeRedisSerializer {
 	
+	private static final ThreadLocal<Integer> CLIENT_COMPRESSION_THRESHOLD = new ThreadLocal<>();
+	
+	/**
+	 * Bytes serialized and deserialized by the current thread, the counters of a thread are allocated once.
+	 */
+	private static final ThreadLocal<long[]> PAYLOAD_BYTES = ThreadLocal.withInitial(() -> new long[2]);
+	
+	private static volatile boolean payloadMeasured;
+	
 	private StringRedisSerializer stringRedisSerializer;
 	
 	private ObjectMapper objectMapper;
 	
+	private final Map<RedisValueTypeEnum, OrangeRedisCodec> codecs = new EnumMap<>(RedisValueTypeEnum.class);
+	
 	private RedisSerializer<Long> longRedisSerializer;
 	
 	private RedisSerializer<Double> doubleRedisSerializer;
 	
+	private OrangeRedisCompressor compressor;
+	
+	/**
+	 * Values smaller than the threshold are written raw, compression is disabled if not positive.
+	 */
+	private int compressionThreshold;
+	
 	public OrangeRedisSerializer(StringRedisSerializer stringRedisSerializer, ObjectMapper objectMapper) {
+		this(stringRedisSerializer, objectMapper, new OrangeRedisCompressor(Deflater.BEST_SPEED), 0);
+	}
+	
+	public OrangeRedisSerializer(
+		StringRedisSerializer stringRedisSerializer, 
+		ObjectMapper objectMapper, 
+		OrangeRedisCompressor compressor, 
+		int compressionThreshold
+	) {
 		super();
 		this.stringRedisSerializer = stringRedisSerializer;
 		this.objectMapper = objectMapper;
 		this.longRedisSerializer = new GenericToStringSerializer<>(Long.class);
 		this.doubleRedisSerializer = new GenericToStringSerializer<>(Double.class);
+		this.compressor = compressor;
+		this.compressionThreshold = compressionThreshold;
+		registerCodec(new OrangeRedisJacksonCodec(RedisValueTypeEnum.JSON, objectMapper));
+		registerCodec(OrangeRedisJacksonCodec.smile(objectMapper));
+		registerCodec(OrangeRedisJacksonCodec.cbor(objectMapper));
+	}
+	
+	/**
+	 * Override the compression threshold for the current thread, it is set by the clients annotated with {@code @Compression} 
+	 * while they are executing, because the operations are shared by all clients of a kind.
+	 * 
+	 * @param compressionThreshold the threshold of the client, the global threshold is restored if {@code null}
+	 * @return the threshold overridden before
+	 */
+	public static Integer setClientCompressionThreshold(Integer compressionThreshold) {
+		Integer previous = CLIENT_COMPRESSION_THRESHOLD.get();
+		if(compressionThreshold == null) {
+			CLIENT_COMPRESSION_THRESHOLD.remove();
+		}else{
+			CLIENT_COMPRESSION_THRESHOLD.set(compressionThreshold);
+		}
+		return previous;
+	}
+	
+	public OrangeRedisCompressor getCompressor() {
+		return compressor;
+	}
+	
+	public int getCompressionThreshold() {
+		Integer clientThreshold = CLIENT_COMPRESSION_THRESHOLD.get();
+		return clientThreshold == null ? compressionThreshold : clientThreshold.intValue();
+	}
+	
+	/**
+	 * Register the codec of a value type, the codec registered before for the same type is replaced.
+	 * Codecs must be registered before clients are used.
+	 */
+	public void registerCodec(OrangeRedisCodec codec) {
+		if(codec == null) {
+			return;
+		}
+		RedisValueTypeEnum valueType = codec.getValueType();
+		if(valueType == null || isString(valueType)) {
+			throw new OrangeRedisException(String.format("The codec %s cannot encode values of type %s", codec.getClass(), valueType));
+		}
+		this.codecs.put(valueType, codec);
+	}
+	
+	private OrangeRedisCodec getCodec(RedisValueTypeEnum valueType) {
+		OrangeRedisCodec codec = this.codecs.get(valueType);
+		if(codec == null) {
+			throw new OrangeRedisException(String.format("No %s is registered for value type %s", OrangeRedisCodec.class.getSimpleName(), valueType));
+		}
+		return codec;
+	}
+	
+	private static boolean isString(RedisValueTypeEnum valueType) {
+		return RedisValueTypeEnum.STRING == valueType || RedisValueTypeEnum.LONG == valueType || RedisValueTypeEnum.DOUBLE == valueType;
+	}
+
+	private static boolean isCompressible(RedisValueTypeEnum valueType) {
+		return RedisValueTypeEnum.JSON == valueType || RedisValueTypeEnum.SMILE == valueType || RedisValueTypeEnum.CBOR == valueType;
+	}
+
+	static void setPayloadMeasured(boolean payloadMeasured) {
+		OrangeRedisSerializer.payloadMeasured = payloadMeasured;
+	}
+	
+	/**
+	 * The bytes serialized ({@code [0]}) and deserialized ({@code [1]}) by the current thread so far, 
+	 * {@code null} if the payload is not measured.
+	 */
+	static long[] getPayloadBytes() {
+		return payloadMeasured ? PAYLOAD_BYTES.get() : null;
+	}
+	
+	private static byte[] measure(int direction, byte[] bytes) {
+		if(payloadMeasured && bytes != null) {
+			PAYLOAD_BYTES.get()[direction] += bytes.length;
+		}
+		return bytes;
 	}
 
+	/**
+	 * Serialize a member, a hash field or a script argument, the bytes are never compressed.
+	 */
 	public byte[] serialize(Object value,RedisValueTypeEnum valueType) throws Exception {
-		if(RedisValueTypeEnum.JSON == valueType) {
-			return objectMapper.writeValueAsBytes(value);
-		}else if(RedisValueTypeEnum.LONG == valueType){
+		return measure(0, doSerialize(value, valueType));
+	}
+	
+	/**
+	 * Serialize a value stored under a key or a hash field, it is compressed when it reaches the compression threshold.
+	 */
+	public byte[] serializeValue(Object value,RedisValueTypeEnum valueType) throws Exception {
+		byte[] bytes = doSerialize(value, valueType);
+		if(bytes != null && isCompressible(valueType)) {
+			int threshold = getCompressionThreshold();
+			if(threshold > 0 && bytes.length >= threshold) {
+				bytes = compressor.compress(bytes);
+			}
+		}
+		return measure(0, bytes);
+	}
+	
+	private byte[] doSerialize(Object value,RedisValueTypeEnum valueType) throws Exception {
+		if(RedisValueTypeEnum.LONG == valueType){
 			return longRedisSerializer.serialize((Long)value);
 		}else if(RedisValueTypeEnum.DOUBLE == valueType){
 			return doubleRedisSerializer.serialize((Double)value);
-		}else{
+		}else if(valueType == null || RedisValueTypeEnum.STRING == valueType){
 			return stringRedisSerializer.serialize((String)value);
+		}else{
+			return getCodec(valueType).encode(value);
 		}
 	}
 	
@@ -100,21 +245,18 @@ public class OrangeRedisSerializer {
 		if(bytes == null || bytes.length == 0) {
 			return null;
 		}
-		if(RedisValueTypeEnum.JSON == valueType) {
-			return objectMapper.readValue(bytes, new TypeReference<Object>() {
-
-				@Override
-				public Type getType() {
-					return returnType;
-				}
-				
-			});
-		}else if(RedisValueTypeEnum.LONG == valueType){
+		measure(1, bytes);
+		if(RedisValueTypeEnum.LONG == valueType){
 			return longRedisSerializer.deserialize(bytes);
 		}else if(RedisValueTypeEnum.DOUBLE == valueType){
 			return doubleRedisSerializer.deserialize(bytes);
-		}else{
+		}else if(valueType == null || RedisValueTypeEnum.STRING == valueType){
 			return stringRedisSerializer.deserialize(bytes);
+		}else{
+			if(isCompressible(valueType) && OrangeRedisCompressor.isCompressed(bytes)) {
+				bytes = compressor.decompress(bytes);
+			}
+			return getCodec(valueType).decode(bytes, returnType);
 		}
 	}
 	
@@ -69,10 +69,11 @@ public class OrangeRedisSetClientFactoryBean extends OrangeRedisClientAbstractFa
 		OrangeRedisSetOperations operations = new OrangeRedisDefaultSetOperations(
 			this.getRedisTemplate(), 
 			getRedisSerializer(),
+			getScriptRegistry(),
 			getLogger()
 		);
 		OrangeRedisScriptOperations scriptOperations = new OrangeRedisDefaultScriptOperations(
-			this.getRedisTemplate(), 
+			getScriptRegistry(), 
 			getRedisSerializer(),
 			getLogger()
 		);
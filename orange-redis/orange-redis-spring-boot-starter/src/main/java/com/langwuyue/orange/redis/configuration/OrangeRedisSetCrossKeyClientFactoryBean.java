@@ -97,10 +97,11 @@ public class OrangeRedisSetCrossKeyClientFactoryBean extends OrangeRedisClientAb
 		OrangeRedisSetOperations operations = new OrangeRedisDefaultSetOperations(
 			this.getRedisTemplate(), 
 			getRedisSerializer(),
+			getScriptRegistry(),
 			getLogger()
 		);
 		OrangeRedisScriptOperations scriptOperations = new OrangeRedisDefaultScriptOperations(
-			this.getRedisTemplate(), 
+			getScriptRegistry(), 
 			getRedisSerializer(),
 			getLogger()
 		);
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.redis.configuration;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.langwuyue.orange.redis.OrangeRedisException;
+
+/**
+ * <h3>Coalesces concurrent identical reads.</h3>
+ * <p>
+ * A read is identified by the operation, the resolved Redis key and the arguments. 
+ * While a read is in flight, the same reads of other threads wait for it and share its result or its exception, 
+ * instead of sending their own requests. A read finished is forgotten, the result is not cached.
+ * </p>
+ * <p>
+ * The shared results must not be modified by the callers.
+ * </p>
+ *
+ * @author Liang.Zhong
+ * @since 1.0.0
+ */
+public class OrangeRedisSingleFlight {
+	
+	private final Map<List<Object>, CompletableFuture<Object>> calls = new ConcurrentHashMap<>();
+	
+	private final LongAdder executions = new LongAdder();
+	
+	private final LongAdder coalesced = new LongAdder();
+	
+	public Object execute(Method method, String key, Object[] args, Callable<Object> read) throws Exception {
+		List<Object> id = id(method, key, args);
+		CompletableFuture<Object> call = new CompletableFuture<>();
+		CompletableFuture<Object> inFlight = calls.putIfAbsent(id, call);
+		if(inFlight != null) {
+			coalesced.increment();
+			return await(inFlight);
+		}
+		executions.increment();
+		try {
+			Object result = read.call();
+			call.complete(result);
+			return result;
+		}catch (Exception | Error e) {
+			call.completeExceptionally(e);
+			throw e;
+		}finally {
+			calls.remove(id, call);
+		}
+	}
+	
+	private static Object await(CompletableFuture<Object> inFlight) throws Exception {
+		try {
+			return inFlight.get();
+		}catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw e;
+		}catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if(cause instanceof Exception) {
+				throw (Exception) cause;
+			}
+			if(cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new OrangeRedisException("The coalesced read failed", cause);
+		}
+	}
+	
+	private static List<Object> id(Method method, String key, Object[] args) {
+		int len = args == null ? 0 : args.length;
+		List<Object> id = new ArrayList<>(len + 2);
+		id.add(method);
+		id.add(key);
+		if(len > 0) {
+			id.addAll(Arrays.asList(args));
+		}
+		return id;
+	}
+	
+	/**
+	 * Number of reads sent to Redis
+	 */
+	public long getExecutionCount() {
+		return executions.sum();
+	}
+	
+	/**
+	 * Number of reads which shared the result of an identical read in flight
+	 */
+	public long getCoalescedCount() {
+		return coalesced.sum();
+	}
+	
+	public int getInFlightCount() {
+		return calls.size();
+	}
+}
@@ -18,6 +18,7 @@
  */
 package com.langwuyue.orange.redis.configuration;
 
+import java.lang.reflect.InvocationHandler;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -82,14 +83,14 @@ public class OrangeRedisTransactionClientFactoryBean extends OrangeRedisClientAb
 		}
 		RedisTemplate<String, byte[]> template = this.getRedisTemplate();
 		OrangeRedisScriptOperations scriptOperations = new OrangeRedisDefaultScriptOperations(
-			this.getRedisTemplate(), 
+			getScriptRegistry(), 
 			getRedisSerializer(),
 			getLogger()
 		);
 		EXECUTORS_MAPPING = new OrangeRedisTransactionExecutorsMapping(
-			new OrangeRedisDefaultHashOperations(template, getRedisSerializer(),getLogger()), 
-			new OrangeRedisDefaultSetOperations(template,getRedisSerializer(),getLogger()),
-			new OrangeRedisDefaultZSetOperations(template,getRedisSerializer(),getLogger()),
+			new OrangeRedisDefaultHashOperations(template, getRedisSerializer(),getScriptRegistry(),getLogger()), 
+			new OrangeRedisDefaultSetOperations(template,getRedisSerializer(),getScriptRegistry(),getLogger()),
+			new OrangeRedisDefaultZSetOperations(template,getRedisSerializer(),getScriptRegistry(),getLogger()),
 			new OrangeRedisTransactionExecutorIdGenerator(), 
 			getListeners(), 
 			scriptOperations,
@@ -151,6 +152,19 @@ public class OrangeRedisTransactionClientFactoryBean extends OrangeRedisClientAb
 		return client.valueType();
 	}
 	
+	@Override
+	protected InvocationHandler getInvocationHandler() {
+		return new OrangeRedisTransactionClientInvocationHandler(
+			this.getOperationOwner(),
+			this.getMapping(),
+			this.getRedisKey(),
+			this.getOperationArgHandlerMapping(),
+			this.getValueType(),
+			this.getCircuitBreaker(),
+			this.getProperties()
+		);
+	}
+	
 	@Override
 	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
 		super.setApplicationContext(applicationContext);
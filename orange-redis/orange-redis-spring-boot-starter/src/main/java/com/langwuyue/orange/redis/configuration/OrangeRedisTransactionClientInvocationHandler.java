@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.redis.configuration;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+import com.langwuyue.orange.redis.OrangeRedisCircuitBreaker;
+import com.langwuyue.orange.redis.OrangeRedisException;
+import com.langwuyue.orange.redis.RedisValueTypeEnum;
+import com.langwuyue.orange.redis.annotation.OrangeRedisKey;
+import com.langwuyue.orange.redis.context.builder.OrangeOperationArgHandlerMapping;
+import com.langwuyue.orange.redis.context.builder.OrangeRedisInvocationPlan;
+import com.langwuyue.orange.redis.mapping.OrangeRedisExecutorsMapping;
+
+/**
+ * The transaction infos of an operation are bound to the calling thread and committed with the DB transaction of that thread, 
+ * so the operations of transaction clients cannot run on the async thread pool, nor be dispatched by an {@link OrangeRedisBatch}.
+ * 
+ * @author Liang.Zhong
+ * @since 1.0.0
+ */
+public class OrangeRedisTransactionClientInvocationHandler extends OrangeRedisClientInvocationHandler {
+	
+	public OrangeRedisTransactionClientInvocationHandler(
+		Class<?> operationOwner,
+		OrangeRedisExecutorsMapping mapping,
+		OrangeRedisKey redisKey,
+		OrangeOperationArgHandlerMapping operationArgHandlerMapping,
+		RedisValueTypeEnum valueType,
+		OrangeRedisCircuitBreaker circuitBreaker,
+		OrangeRedisProperties properties
+	) {
+		super(operationOwner, mapping, redisKey, operationArgHandlerMapping, valueType, circuitBreaker, properties);
+	}
+
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		if(!Object.class.equals(method.getDeclaringClass()) 
+				&& (OrangeRedisBatch.isDispatching() || OrangeRedisClientAbstractFactoryBean.isAsyncThread())) {
+			throw new OrangeRedisException(
+				String.format(
+					"The operation %s of the transaction client %s must be called by the thread of the DB transaction, not by a batch or the async thread pool", 
+					method.getName(),
+					method.getDeclaringClass()
+				)
+			);
+		}
+		return super.invoke(proxy, method, args);
+	}
+
+	@Override
+	protected Map<Method, OrangeRedisInvocationPlan> compilePlans() {
+		Map<Method, OrangeRedisInvocationPlan> plans = super.compilePlans();
+		for(Map.Entry<Method, OrangeRedisInvocationPlan> entry : plans.entrySet()) {
+			if(entry.getValue().isAsync()) {
+				throw new OrangeRedisException(
+					String.format(
+						"The operation %s of the transaction client %s cannot return %s, async operations are not supported by transaction clients", 
+						entry.getKey().getName(),
+						entry.getKey().getDeclaringClass(),
+						entry.getKey().getReturnType().getSimpleName()
+					)
+				);
+			}
+		}
+		return plans;
+	}
+}
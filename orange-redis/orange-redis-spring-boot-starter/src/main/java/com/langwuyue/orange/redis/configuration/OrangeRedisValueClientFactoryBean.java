@@ -20,8 +20,10 @@ package com.langwuyue.orange.redis.configuration;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
@@ -32,7 +34,9 @@ import com.langwuyue.orange.redis.OrangeRedisDefaultCircuitBreaker;
 import com.langwuyue.orange.redis.OrangeRedisException;
 import com.langwuyue.orange.redis.RedisValueTypeEnum;
 import com.langwuyue.orange.redis.annotation.value.OrangeRedisValueClient;
+import com.langwuyue.orange.redis.executor.OrangeRedisExecutor;
 import com.langwuyue.orange.redis.executor.multiplelocks.OrangeExpirationTimeAutoInitializer;
+import com.langwuyue.orange.redis.executor.value.OrangeGetExecutor;
 import com.langwuyue.orange.redis.listener.OrangeIfAbsentListenerProxy;
 import com.langwuyue.orange.redis.listener.OrangeRedisMultipleSetIfAbsentListener;
 import com.langwuyue.orange.redis.listener.OrangeRedisSetIfAbsentListener;
@@ -42,6 +46,7 @@ import com.langwuyue.orange.redis.mapping.OrangeRedisValueExecutorIdGenerator;
 import com.langwuyue.orange.redis.mapping.OrangeRedisValueExecutorsMapping;
 import com.langwuyue.orange.redis.operations.OrangeRedisDefaultScriptOperations;
 import com.langwuyue.orange.redis.operations.OrangeRedisDefaultValueOperations;
+import com.langwuyue.orange.redis.operations.OrangeRedisLockWaiters;
 import com.langwuyue.orange.redis.operations.OrangeRedisScriptOperations;
 import com.langwuyue.orange.redis.operations.OrangeRedisValueOperations;
 import com.langwuyue.orange.redis.timer.OrangeRenewTimerWheel;
@@ -76,10 +81,11 @@ public class OrangeRedisValueClientFactoryBean extends OrangeRedisClientAbstract
 		OrangeRedisValueOperations operations = new OrangeRedisDefaultValueOperations(
 			this.getRedisTemplate(), 
 			getRedisSerializer(),
+			new OrangeRedisLockWaiters(getApplicationContext().getBean(OrangeRedisPubSub.class), getLogger()),
 			getLogger()
 		);
 		OrangeRedisScriptOperations scriptOperations = new OrangeRedisDefaultScriptOperations(
-			this.getRedisTemplate(), 
+			getScriptRegistry(), 
 			getRedisSerializer(),
 			getLogger()
 		);
@@ -96,6 +102,11 @@ public class OrangeRedisValueClientFactoryBean extends OrangeRedisClientAbstract
 		return EXECUTORS_MAPPING;
 	}
 
+	@Override
+	protected Set<Class<? extends OrangeRedisExecutor>> getNearCacheableExecutors() {
+		return Collections.singleton(OrangeGetExecutor.class);
+	}
+
 	@Override
 	protected Collection<OrangeRedisMultipleSetIfAbsentListener> getMultipleListener() {
 		return new ArrayList<>();
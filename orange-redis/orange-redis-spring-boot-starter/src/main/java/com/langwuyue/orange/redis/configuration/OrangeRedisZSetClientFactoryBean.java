@@ -66,9 +66,9 @@ public class OrangeRedisZSetClientFactoryBean extends OrangeRedisClientAbstractF
 		if(EXECUTORS_MAPPING !=  null) {
 			return EXECUTORS_MAPPING;
 		}
-		OrangeRedisZSetOperations operations = new OrangeRedisDefaultZSetOperations(this.getRedisTemplate(), getRedisSerializer(),getLogger());
+		OrangeRedisZSetOperations operations = new OrangeRedisDefaultZSetOperations(this.getRedisTemplate(), getRedisSerializer(),getScriptRegistry(),getLogger());
 		OrangeRedisScriptOperations scriptOperations = new OrangeRedisDefaultScriptOperations(
-			this.getRedisTemplate(), 
+			getScriptRegistry(), 
 			getRedisSerializer(),
 			getLogger()
 		);
@@ -97,10 +97,11 @@ public class OrangeRedisZSetCrossKeyClientFactoryBean extends OrangeRedisClientA
 		OrangeRedisZSetOperations operations = new OrangeRedisDefaultZSetOperations(
 			this.getRedisTemplate(), 
 			getRedisSerializer(),
+			getScriptRegistry(),
 			getLogger()
 		);
 		OrangeRedisScriptOperations scriptOperations = new OrangeRedisDefaultScriptOperations(
-			this.getRedisTemplate(), 
+			getScriptRegistry(), 
 			getRedisSerializer(),
 			getLogger()
 		);
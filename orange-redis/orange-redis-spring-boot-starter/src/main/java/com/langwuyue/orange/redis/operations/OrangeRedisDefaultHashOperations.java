@@ -19,7 +19,9 @@
 package com.langwuyue.orange.redis.operations;
 
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -42,12 +44,20 @@ public class OrangeRedisDefaultHashOperations extends OrangeRedisAbstractOperati
 	
 	private OrangeRedisSerializer redisSerializer;
 	
+	private OrangeRedisScriptRegistry scriptRegistry;
+	
 	private OrangeRedisLogger logger;
 	
-	public OrangeRedisDefaultHashOperations(RedisTemplate<String,byte[]> template,OrangeRedisSerializer redisSerializer,OrangeRedisLogger logger) {
+	public OrangeRedisDefaultHashOperations(
+		RedisTemplate<String,byte[]> template,
+		OrangeRedisSerializer redisSerializer,
+		OrangeRedisScriptRegistry scriptRegistry,
+		OrangeRedisLogger logger
+	) {
 		super(template,logger);
 		this.operations = template.opsForHash();
 		this.redisSerializer = redisSerializer;
+		this.scriptRegistry = scriptRegistry;
 		this.logger = logger;
 	}
 
@@ -60,7 +70,7 @@ public class OrangeRedisDefaultHashOperations extends OrangeRedisAbstractOperati
 		RedisValueTypeEnum hashValueType
 	) throws Exception {
 		byte[] hashKeyBytes = redisSerializer.serialize(hashKey, hashKeyType);
-		byte[] hashValueBytes = redisSerializer.serialize(hashValue, hashValueType);
+		byte[] hashValueBytes = redisSerializer.serializeValue(hashValue, hashValueType);
 		if(this.logger.isDebugEnabled()) {
 			this.logger.debug("Rdis hash 'putMember' operation executing: putMember(key:{},hashKey:{},hashValue:{})", key, new String(hashKeyBytes), new String(hashValueBytes));
 		}
@@ -83,7 +93,7 @@ public class OrangeRedisDefaultHashOperations extends OrangeRedisAbstractOperati
 			Object hashKey = entry.getKey();
 			Object hashValue = entry.getValue();
 			byte[] hashKeyBytes = redisSerializer.serialize(hashKey, hashKeyType);
-			byte[] hashValueBytes = redisSerializer.serialize(hashValue, hashValueType);
+			byte[] hashValueBytes = redisSerializer.serializeValue(hashValue, hashValueType);
 			byteMemebers.put(hashKeyBytes, hashValueBytes);
 		}
 		if(this.logger.isDebugEnabled()) {
@@ -276,7 +286,7 @@ public class OrangeRedisDefaultHashOperations extends OrangeRedisAbstractOperati
 		RedisValueTypeEnum hashValueType
 	) throws Exception {
 		byte[] hashKeyBytes = redisSerializer.serialize(hashKey, hashKeyType);
-		byte[] hashValueBytes = redisSerializer.serialize(hashValue, hashValueType);
+		byte[] hashValueBytes = redisSerializer.serializeValue(hashValue, hashValueType);
 		if(this.logger.isDebugEnabled()) {
 			this.logger.debug("Rdis hash 'putIfAbsent' operation executing: putIfAbsent(key:{},hashKey:{},hashValue:{})", key, new String(hashKeyBytes), new String(hashValueBytes));
 		}
@@ -313,4 +323,33 @@ public class OrangeRedisDefaultHashOperations extends OrangeRedisAbstractOperati
 		return results;
 	}
 	
+
+	@Override
+	public ScanResults scan(
+		String key, 
+		String pattern, 
+		Integer count, 
+		long cursor, 
+		RedisValueTypeEnum hashKeyType,
+		RedisValueTypeEnum hashValueType, 
+		Type keyType, 
+		Type valueType
+	) throws Exception {
+		if(this.logger.isDebugEnabled()) {
+			this.logger.debug("Redis hash 'scan' operation executing: scan(key:{},pattern:{},count:{},cursor:{})", key,pattern,count,cursor);
+		}
+		List<byte[]> replies = this.scriptRegistry.scan("HSCAN", key, cursor, pattern, count);
+		int size = replies.size();
+		// Hash keys and values follow each other after the cursor
+		Map<byte[],byte[]> resultMap = new LinkedHashMap<>(size);
+		for(int i = 1; i + 1 < size; i += 2) {
+			resultMap.put(replies.get(i), replies.get(i + 1));
+		}
+		Map<Object, Object> members = redisSerializer.deserialize(resultMap, hashKeyType, hashValueType, keyType, valueType);
+		ScanResults results = new ScanResults(members, Long.parseLong(new String(replies.get(0), StandardCharsets.UTF_8)));
+		if(logger.isDebugEnabled()) {
+			logger.debug("Redis hash 'scan' operation returned {} and cursor {}", redisSerializer.serializeToJSONString(members), results.getCursor());
+		}
+		return results;
+	}
 }
@@ -19,12 +19,10 @@
 package com.langwuyue.orange.redis.operations;
 
 import java.lang.reflect.Type;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.script.DefaultRedisScript;
-
 import com.langwuyue.orange.redis.RedisValueTypeEnum;
 import com.langwuyue.orange.redis.configuration.OrangeRedisSerializer;
 import com.langwuyue.orange.redis.logger.OrangeRedisLogger;
@@ -35,22 +33,29 @@ import com.langwuyue.orange.redis.logger.OrangeRedisLogger;
  */
 public class OrangeRedisDefaultScriptOperations implements OrangeRedisScriptOperations {
 
-	private RedisTemplate<String,byte[]> template;
+	private OrangeRedisScriptRegistry scriptRegistry;
 	
 	private OrangeRedisSerializer redisSerializer;
 	
 	private OrangeRedisLogger logger;
 	
 	public OrangeRedisDefaultScriptOperations(
-		RedisTemplate<String,byte[]> template,
+		OrangeRedisScriptRegistry scriptRegistry,
 		OrangeRedisSerializer redisSerializer,
 		OrangeRedisLogger logger
 	) {
-		this.template = template;
+		this.scriptRegistry = scriptRegistry;
 		this.redisSerializer = redisSerializer;
 		this.logger = logger;
 	}
 	
+	@Override
+	public void register(String... scripts) {
+		for(String script : scripts) {
+			this.scriptRegistry.register(script);
+		}
+	}
+	
 	@Override
 	public Object execute(
 		String script, 
@@ -74,6 +79,67 @@ public class OrangeRedisDefaultScriptOperations implements OrangeRedisScriptOper
 				}
 			}
 		}
+		return doExecute(script, returnValueType, returnType, keys, scriptArgs);
+	}
+	
+	@Override
+	public Object execute(
+		String script, 
+		RedisValueTypeEnum[] argsValueTypes,
+		RedisValueTypeEnum returnValueType,
+		Type returnType, 
+		List<String> keys, 
+		Object... args
+	) throws Exception {
+		return doExecute(script, returnValueType, returnType, keys, serialize(argsValueTypes, args));
+	}
+	
+	@Override
+	public Boolean[] executeForEachKey(
+		String script,
+		int argsPerKey,
+		RedisValueTypeEnum[] argsValueTypes,
+		List<String> keys,
+		Object... args
+	) throws Exception {
+		Object[] scriptArgs = serialize(argsValueTypes, args);
+		if(logger.isDebugEnabled()) {
+			logger.debug("Redis script 'executeForEachKey' operation executing: executeForEachKey(script:{} {} keys:{} {} args:{})", 
+				script,
+				"\n",
+				keys,
+				"\n",
+				redisSerializer.serializeToJSONString(scriptArgs)
+			);
+		}
+		Boolean[] results = this.scriptRegistry.executeForEachKey(script, keys, argsPerKey, scriptArgs);
+		if(logger.isDebugEnabled()) {
+			logger.debug("Redis script 'executeForEachKey' operation returned {}", Arrays.toString(results));
+		}
+		return results;
+	}
+	
+	private Object[] serialize(RedisValueTypeEnum[] argsValueTypes, Object[] args) throws Exception {
+		int len = args.length;
+		Object[] scriptArgs = new Object[len];
+		for(int i = 0 ; i < len; i++) {
+			RedisValueTypeEnum valueType = argsValueTypes[i];
+			if(valueType != null) {
+				scriptArgs[i] = redisSerializer.serialize(args[i], valueType);
+			}else{
+				scriptArgs[i] = args[i];
+			}
+		}
+		return scriptArgs;
+	}
+	
+	private Object doExecute(
+		String script, 
+		RedisValueTypeEnum returnValueType,
+		Type returnType, 
+		List<String> keys, 
+		Object[] scriptArgs
+	) throws Exception {
 		if(logger.isDebugEnabled()) {
 			logger.debug("Redis script 'execute' operation executing: execute(script:{} {} keys:{} {} args:{})", 
 				script,
@@ -83,7 +149,7 @@ public class OrangeRedisDefaultScriptOperations implements OrangeRedisScriptOper
 				redisSerializer.serializeToJSONString(scriptArgs)
 			);
 		}
-		byte[] bytes = this.template.execute(new DefaultRedisScript<byte[]>(script, byte[].class), keys, scriptArgs);
+		byte[] bytes = this.scriptRegistry.execute(script, keys, scriptArgs);
 		if(bytes == null) {
 			if(logger.isDebugEnabled()) {
 				logger.debug("Redis script 'execute' operation returned null");
@@ -19,9 +19,11 @@
 package com.langwuyue.orange.redis.operations;
 
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -45,12 +47,20 @@ public class OrangeRedisDefaultSetOperations extends OrangeRedisAbstractOperatio
 	
 	private OrangeRedisSerializer redisSerializer;
 	
+	private OrangeRedisScriptRegistry scriptRegistry;
+	
 	private OrangeRedisLogger logger;
 	
-	public OrangeRedisDefaultSetOperations(RedisTemplate<String,byte[]> template,OrangeRedisSerializer redisSerializer,OrangeRedisLogger logger) {
+	public OrangeRedisDefaultSetOperations(
+		RedisTemplate<String,byte[]> template,
+		OrangeRedisSerializer redisSerializer,
+		OrangeRedisScriptRegistry scriptRegistry,
+		OrangeRedisLogger logger
+	) {
 		super(template,logger);
 		this.operations = template.opsForSet();
 		this.redisSerializer = redisSerializer;
+		this.scriptRegistry = scriptRegistry;
 		this.logger = logger;
 	}
 
@@ -289,4 +299,18 @@ public class OrangeRedisDefaultSetOperations extends OrangeRedisAbstractOperatio
 		}
 		
 	}
+
+	@Override
+	public ScanResults scanByCursor(String key, String pattern, Integer count, long cursor, RedisValueTypeEnum valueType, Type returnType) throws Exception {
+		if(logger.isDebugEnabled()) {
+			logger.debug("Redis set 'scanByCursor' operation executing: scanByCursor(key:{},pattern:{},count:{},cursor:{})", key,pattern,count,cursor);
+		}
+		List<byte[]> replies = this.scriptRegistry.scan("SSCAN", key, cursor, pattern, count);
+		Set<Object> members = redisSerializer.deserialize(new LinkedHashSet<>(replies.subList(1, replies.size())), valueType, returnType);
+		ScanResults results = new ScanResults(members, Long.parseLong(new String(replies.get(0), StandardCharsets.UTF_8)));
+		if(logger.isDebugEnabled()) {
+			logger.debug("Redis set 'scanByCursor' operation returned {} and cursor {}", redisSerializer.serializeToJSONString(members), results.getCursor());
+		}
+		return results;
+	}
 }
@@ -38,12 +38,20 @@ public class OrangeRedisDefaultValueOperations extends OrangeRedisAbstractOperat
 	
 	private OrangeRedisSerializer redisSerializer;
 	
+	private OrangeRedisLockWaiters lockWaiters;
+	
 	private OrangeRedisLogger logger;
 	
-	public OrangeRedisDefaultValueOperations(RedisTemplate<String,byte[]> template,OrangeRedisSerializer redisSerializer,OrangeRedisLogger logger) {
+	public OrangeRedisDefaultValueOperations(
+		RedisTemplate<String,byte[]> template,
+		OrangeRedisSerializer redisSerializer,
+		OrangeRedisLockWaiters lockWaiters,
+		OrangeRedisLogger logger
+	) {
 		super(template,logger);
 		this.operations = template.opsForValue();
 		this.redisSerializer = redisSerializer;
+		this.lockWaiters = lockWaiters;
 		this.logger = logger;
 	}
 
@@ -110,7 +118,7 @@ public class OrangeRedisDefaultValueOperations extends OrangeRedisAbstractOperat
 		TimeUnit expirationTimeUnit, 
 		RedisValueTypeEnum valueType
 	) throws Exception{
-		byte[] bytes = redisSerializer.serialize(value, valueType);
+		byte[] bytes = redisSerializer.serializeValue(value, valueType);
 		if(logger.isDebugEnabled()) {
 			logger.debug(
 				"Redis value 'set' operation executing: set(key:{},value:{},expire:{}ms)",
@@ -133,7 +141,7 @@ public class OrangeRedisDefaultValueOperations extends OrangeRedisAbstractOperat
 		TimeUnit expirationTimeUnit, 
 		RedisValueTypeEnum valueType
 	) throws Exception{
-		byte[] bytes = redisSerializer.serialize(value, valueType);
+		byte[] bytes = redisSerializer.serializeValue(value, valueType);
 		if(logger.isDebugEnabled()) {
 			logger.debug(
 				"Redis value 'setIfAbsent' operation executing: setIfAbsent(key:{},value:{},expire:{}ms)", 
@@ -151,7 +159,7 @@ public class OrangeRedisDefaultValueOperations extends OrangeRedisAbstractOperat
 
 	@Override
 	public void set(String key, Object value, RedisValueTypeEnum valueType) throws Exception {
-		byte[] bytes = redisSerializer.serialize(value, valueType);
+		byte[] bytes = redisSerializer.serializeValue(value, valueType);
 		if(logger.isDebugEnabled()) {
 			logger.debug("Redis value 'set' operation executing: set(key:{},value:{})", key,new String(bytes));
 		}
@@ -163,7 +171,7 @@ public class OrangeRedisDefaultValueOperations extends OrangeRedisAbstractOperat
 
 	@Override
 	public Boolean setIfAbsent(String key, Object value, RedisValueTypeEnum valueType) throws Exception {
-		byte[] bytes = redisSerializer.serialize(value, valueType);
+		byte[] bytes = redisSerializer.serializeValue(value, valueType);
 		if(logger.isDebugEnabled()) {
 			logger.debug("Redis value 'setIfAbsent' operation executing: setIfAbsent(key:{},value:{})", key,new String(bytes));
 		}
@@ -173,4 +181,17 @@ public class OrangeRedisDefaultValueOperations extends OrangeRedisAbstractOperat
 		}
 		return result;
 	}
+
+	@Override
+	public OrangeRedisLockWaiter subscribeRelease(String key) {
+		if(logger.isDebugEnabled()) {
+			logger.debug("Redis value 'subscribeRelease' operation executing: subscribeRelease(key:{})", key);
+		}
+		return this.lockWaiters.subscribe(key);
+	}
+
+	@Override
+	public String getReleaseChannel(String key) {
+		return OrangeRedisLockWaiters.getChannel(key);
+	}
 }
@@ -19,6 +19,7 @@
 package com.langwuyue.orange.redis.operations;
 
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -52,12 +53,20 @@ public class OrangeRedisDefaultZSetOperations extends OrangeRedisAbstractOperati
 	
 	private OrangeRedisSerializer redisSerializer;
 	
+	private OrangeRedisScriptRegistry scriptRegistry;
+	
 	private OrangeRedisLogger logger;
 	
-	public OrangeRedisDefaultZSetOperations(RedisTemplate<String,byte[]> template,OrangeRedisSerializer redisSerializer,OrangeRedisLogger logger) {
+	public OrangeRedisDefaultZSetOperations(
+		RedisTemplate<String,byte[]> template,
+		OrangeRedisSerializer redisSerializer,
+		OrangeRedisScriptRegistry scriptRegistry,
+		OrangeRedisLogger logger
+	) {
 		super(template,logger);
 		this.operations = template.opsForZSet();
 		this.redisSerializer = redisSerializer;
+		this.scriptRegistry = scriptRegistry;
 		this.logger = logger;
 	}
 	
@@ -1099,4 +1108,31 @@ public class OrangeRedisDefaultZSetOperations extends OrangeRedisAbstractOperati
 		return results;
 	}
 
+
+	@Override
+	public ScanResults scan(
+		String key, 
+		String pattern, 
+		Integer count, 
+		long cursor, 
+		RedisValueTypeEnum valueType, 
+		Type returnType
+	) throws Exception {
+		if(logger.isDebugEnabled()) {
+			logger.debug("Redis zset 'scan' operation executing: scan(key:{},pattern:{},count:{},cursor:{})", key,pattern,count,cursor);
+		}
+		List<byte[]> replies = this.scriptRegistry.scan("ZSCAN", key, cursor, pattern, count);
+		int size = replies.size();
+		// Members and scores follow each other after the cursor
+		Set<TypedTuple<byte[]>> typedTuples = new LinkedHashSet<>(size);
+		for(int i = 1; i + 1 < size; i += 2) {
+			typedTuples.add(new DefaultTypedTuple<>(replies.get(i), Double.valueOf(new String(replies.get(i + 1), StandardCharsets.UTF_8))));
+		}
+		Set<ZSetEntry> members = typedTuplesToZSetEntries(typedTuples, valueType, returnType);
+		ScanResults results = new ScanResults(members, Long.parseLong(new String(replies.get(0), StandardCharsets.UTF_8)));
+		if(logger.isDebugEnabled()) {
+			logger.debug("Redis zset 'scan' operation returned {} and cursor {}", redisSerializer.serializeToJSONString(members), results.getCursor());
+		}
+		return results;
+	}
 }
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.redis.operations;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+
+import com.langwuyue.orange.redis.configuration.OrangeRedisPubSub;
+import com.langwuyue.orange.redis.logger.OrangeRedisLogger;
+
+/**
+ * <h3>Callers waiting for value locks to be released.</h3>
+ * <p>
+ * The releases of a lock are published to the channel of the lock. 
+ * The channel is subscribed while at least one caller of this instance waits for the lock, 
+ * the callers waiting for the same lock share the subscription.
+ * </p>
+ * <p>
+ * Every release increments the generation of the lock, a waiter is woken when the generation differs from the last one it has seen.
+ * </p>
+ *
+ * @author Liang.Zhong
+ * @since 1.0.0
+ */
+public class OrangeRedisLockWaiters implements MessageListener {
+	
+	private static final String CHANNEL_PREFIX = "orange:lock:released:";
+	
+	private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+	
+	private final OrangeRedisPubSub pubSub;
+	
+	private final OrangeRedisLogger logger;
+	
+	public OrangeRedisLockWaiters(OrangeRedisPubSub pubSub, OrangeRedisLogger logger) {
+		this.pubSub = pubSub;
+		this.logger = logger;
+	}
+	
+	/**
+	 * The subscription of the first waiter of a lock is sent outside {@link #channels}, 
+	 * the waiters of the same lock are serialized on the subscription lock of the channel.
+	 */
+	public OrangeRedisLockWaiter subscribe(String key) {
+		for(;;) {
+			Channel channel = channels.computeIfAbsent(key, Channel::new);
+			synchronized (channel.subscription) {
+				if(channel.closed) {
+					// Unsubscribed by the last waiter, retry with a new channel
+					continue;
+				}
+				if(channel.waiters == 0) {
+					subscribe(channel);
+				}
+				channel.waiters++;
+			}
+			return new Waiter(channel);
+		}
+	}
+	
+	private void subscribe(Channel channel) {
+		try {
+			pubSub.subscribe(this, channel.topic);
+		}catch (RuntimeException e) {
+			channel.closed = true;
+			channels.remove(channel.key, channel);
+			throw e;
+		}
+	}
+	
+	/**
+	 * The channel the releases of the lock of the key are published to.
+	 */
+	public static String getChannel(String key) {
+		return CHANNEL_PREFIX + key;
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String name = new String(message.getChannel(), StandardCharsets.UTF_8);
+		if(!name.startsWith(CHANNEL_PREFIX)) {
+			return;
+		}
+		Channel channel = channels.get(name.substring(CHANNEL_PREFIX.length()));
+		if(channel == null) {
+			return;
+		}
+		synchronized (channel) {
+			channel.generation++;
+			channel.notifyAll();
+		}
+	}
+	
+	/**
+	 * The channel is removed only after the topic is unsubscribed, 
+	 * so the subscription of a new channel of the same lock is never dropped by this one.
+	 */
+	private void unsubscribe(Channel channel) {
+		synchronized (channel.subscription) {
+			if(--channel.waiters > 0) {
+				return;
+			}
+			channel.closed = true;
+			try {
+				pubSub.unsubscribe(this, channel.topic);
+			}catch (Exception e) {
+				logger.warn(String.format("Unsubscribe the releases of the lock %s error", channel.key), e);
+			}finally {
+				channels.remove(channel.key, channel);
+			}
+		}
+	}
+	
+	private static class Channel {
+		
+		private final String key;
+		
+		private final ChannelTopic topic;
+		
+		private final Object subscription = new Object();
+		
+		/**
+		 * Guarded by {@link #subscription}
+		 */
+		private int waiters;
+		
+		/**
+		 * Guarded by {@link #subscription}
+		 */
+		private boolean closed;
+		
+		/**
+		 * Guarded by the channel itself
+		 */
+		private long generation;
+		
+		Channel(String key) {
+			this.key = key;
+			this.topic = new ChannelTopic(getChannel(key));
+		}
+	}
+	
+	private class Waiter implements OrangeRedisLockWaiter {
+		
+		private final Channel channel;
+		
+		private long seen;
+		
+		private boolean closed;
+		
+		Waiter(Channel channel) {
+			this.channel = channel;
+			synchronized (channel) {
+				this.seen = channel.generation;
+			}
+		}
+
+		@Override
+		public boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+			long deadline = System.nanoTime() + unit.toNanos(timeout);
+			synchronized (channel) {
+				while(channel.generation == seen) {
+					long remaining = deadline - System.nanoTime();
+					if(remaining <= 0) {
+						return false;
+					}
+					TimeUnit.NANOSECONDS.timedWait(channel, remaining);
+				}
+				seen = channel.generation;
+				return true;
+			}
+		}
+
+		@Override
+		public void close() {
+			if(closed) {
+				return;
+			}
+			closed = true;
+			unsubscribe(channel);
+		}
+	}
+}
@@ -0,0 +1,318 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.redis.operations;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import com.langwuyue.orange.redis.OrangeRedisException;
+import com.langwuyue.orange.redis.logger.OrangeRedisLogger;
+
+/**
+ * <h3>Registry of the Lua scripts executed by Orange clients.</h3>
+ * <p>
+ * Every distinct script, including the debug variant of a script, is hashed only once.
+ * Registered scripts are loaded into the server with {@code SCRIPT LOAD} before the first use,
+ * and all of them are loaded again once the server replies {@code NOSCRIPT} (restarted, fail over or {@code SCRIPT FLUSH}).
+ * Scripts are always executed with {@code EVALSHA}, so the script body is not sent with every call.
+ * </p>
+ *
+ * @author Liang.Zhong
+ * @since 1.0.0
+ */
+public class OrangeRedisScriptRegistry {
+
+	private static final String NO_SCRIPT = "NOSCRIPT";
+	
+	/**
+	 * Bound of the keys sent with one script call by {@link #executeForEachKey(String, List, int, Object[])},
+	 * so that a script does not block the server for long.
+	 */
+	public static final int MAX_KEYS_PER_SCRIPT = 1000;
+	
+	/**
+	 * One page of {@code SSCAN}, {@code HSCAN} or {@code ZSCAN}, the next cursor is followed by the elements of the page.
+	 */
+	private static final String SCAN_LUA_SCRIPT = String.join("\n",
+		"local result = redis.call(ARGV[4], KEYS[1], ARGV[1], 'MATCH', ARGV[2], 'COUNT', ARGV[3]);",
+		"local elements = result[2];",
+		"table.insert(elements, 1, result[1]);",
+		"return elements;"
+	);
+
+	private final Map<String, RegisteredScript> scripts = new ConcurrentHashMap<>();
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder reloads = new LongAdder();
+
+	private final LongAdder noScripts = new LongAdder();
+
+	private RedisTemplate<String,byte[]> template;
+
+	private OrangeRedisLogger logger;
+
+	public OrangeRedisScriptRegistry(RedisTemplate<String,byte[]> template, OrangeRedisLogger logger) {
+		this.template = template;
+		this.logger = logger;
+		register(SCAN_LUA_SCRIPT);
+	}
+
+	/**
+	 * Hash the script and remember it, the script will be loaded by the next {@link #preload()} or before the first execution.
+	 */
+	public String register(String script) {
+		return getScript(script).sha;
+	}
+
+	/**
+	 * Load all registered scripts which are not loaded yet.
+	 * Failures are only logged, the scripts will be loaded again while executing.
+	 */
+	public void preload() {
+		try {
+			this.template.execute((RedisCallback<Object>) connection -> {
+				for(RegisteredScript script : scripts.values()) {
+					if(!script.loaded) {
+						load(connection, script);
+					}
+				}
+				return null;
+			});
+		}catch (Exception e) {
+			logger.warn("Preload redis scripts error, they will be loaded on the first execution", e);
+		}
+	}
+
+	/**
+	 * Execute the script with {@code EVALSHA}, load all registered scripts and retry once if the server replies {@code NOSCRIPT}.
+	 */
+	public byte[] execute(String script, List<String> keys, Object... args) {
+		RegisteredScript registered = getScript(script);
+		byte[][] keysAndArgs = keysAndArgs(keys, args);
+		int numKeys = keys == null ? 0 : keys.size();
+		return this.template.execute((RedisCallback<byte[]>) connection -> evalSha(connection, registered, ReturnType.VALUE, numKeys, keysAndArgs));
+	}
+	
+	/**
+	 * Read one page of a {@code SSCAN}, {@code HSCAN} or {@code ZSCAN} starting at the cursor returned by the server for the previous page.
+	 * 
+	 * @param command {@code SSCAN}, {@code HSCAN} or {@code ZSCAN}
+	 * @return the next cursor, {@code 0} once the iteration is completed, followed by the elements of the page as they are replied
+	 */
+	public List<byte[]> scan(String command, String key, long cursor, String pattern, int count) {
+		RegisteredScript registered = getScript(SCAN_LUA_SCRIPT);
+		byte[][] keysAndArgs = keysAndArgs(
+			Collections.singletonList(key), 
+			new Object[] {String.valueOf(cursor), pattern, String.valueOf(count), command}
+		);
+		List<Object> replies = this.template.execute((RedisCallback<List<Object>>) connection -> evalSha(connection, registered, ReturnType.MULTI, 1, keysAndArgs));
+		List<byte[]> results = new ArrayList<>(replies == null ? 0 : replies.size());
+		if(replies != null) {
+			for(Object reply : replies) {
+				results.add(reply instanceof String ? ((String) reply).getBytes(StandardCharsets.UTF_8) : (byte[]) reply);
+			}
+		}
+		return results;
+	}
+	
+	/**
+	 * Execute the script for many keys, {@code argsPerKey} arguments of each key follow each other in {@code args}.
+	 * <p>
+	 * The keys are split into groups of at most {@link #MAX_KEYS_PER_SCRIPT} keys, keys of a group are in the same slot when Redis is a cluster.
+	 * Each group is sent with one script call, which must return one flag per key of the group, {@code '1'} for success.
+	 * </p>
+	 * 
+	 * @return the result of each key in order, {@code null} when the call of its group failed
+	 */
+	public Boolean[] executeForEachKey(String script, List<String> keys, int argsPerKey, Object[] args) {
+		RegisteredScript registered = getScript(script);
+		int size = keys.size();
+		return this.template.execute((RedisCallback<Boolean[]>) connection -> {
+			Boolean[] results = new Boolean[size];
+			for(List<Integer> group : groupKeys(connection, keys)) {
+				int groupSize = group.size();
+				List<String> groupKeys = new ArrayList<>(groupSize);
+				Object[] groupArgs = new Object[groupSize * argsPerKey];
+				for(int i = 0; i < groupSize; i++) {
+					int index = group.get(i);
+					groupKeys.add(keys.get(index));
+					System.arraycopy(args, index * argsPerKey, groupArgs, i * argsPerKey, argsPerKey);
+				}
+				byte[] flags;
+				try {
+					flags = evalSha(connection, registered, ReturnType.VALUE, groupSize, keysAndArgs(groupKeys, groupArgs));
+				}catch (Exception e) {
+					logger.warn(String.format("Redis script %s failed for keys %s", registered.sha, groupKeys), e);
+					continue;
+				}
+				for(int i = 0; i < groupSize; i++) {
+					results[group.get(i)] = flags != null && i < flags.length && flags[i] == '1';
+				}
+			}
+			return results;
+		});
+	}
+	
+	private Collection<List<Integer>> groupKeys(RedisConnection connection, List<String> keys) {
+		boolean cluster = connection instanceof RedisClusterConnection;
+		Map<Integer, List<Integer>> slots = new LinkedHashMap<>();
+		List<List<Integer>> groups = new ArrayList<>();
+		int size = keys.size();
+		for(int i = 0; i < size; i++) {
+			int slot = cluster ? ClusterSlotHashUtil.calculateSlot(keys.get(i)) : 0;
+			List<Integer> group = slots.get(slot);
+			if(group == null || group.size() >= MAX_KEYS_PER_SCRIPT) {
+				group = new ArrayList<>();
+				slots.put(slot, group);
+				groups.add(group);
+			}
+			group.add(i);
+		}
+		return groups;
+	}
+	
+	private <T> T evalSha(RedisConnection connection, RegisteredScript registered, ReturnType returnType, int numKeys, byte[][] keysAndArgs) {
+		if(!registered.loaded) {
+			load(connection, registered);
+		}
+		try {
+			T result = connection.scriptingCommands().evalSha(registered.sha, returnType, numKeys, keysAndArgs);
+			hits.increment();
+			return result;
+		}catch (RuntimeException e) {
+			if(!isNoScript(e)) {
+				throw e;
+			}
+			noScripts.increment();
+			logger.warn("Redis replied NOSCRIPT for the script {}, all registered scripts are reloading", registered.sha);
+			for(RegisteredScript s : scripts.values()) {
+				s.loaded = false;
+			}
+			for(RegisteredScript s : scripts.values()) {
+				load(connection, s);
+			}
+			return connection.scriptingCommands().evalSha(registered.sha, returnType, numKeys, keysAndArgs);
+		}
+	}
+
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	public long getReloadCount() {
+		return reloads.sum();
+	}
+
+	public long getNoScriptCount() {
+		return noScripts.sum();
+	}
+
+	public int getScriptCount() {
+		return scripts.size();
+	}
+
+	private RegisteredScript getScript(String script) {
+		RegisteredScript registered = scripts.get(script);
+		if(registered == null) {
+			registered = scripts.computeIfAbsent(script, RegisteredScript::new);
+		}
+		return registered;
+	}
+
+	private void load(RedisConnection connection, RegisteredScript script) {
+		connection.scriptingCommands().scriptLoad(script.bytes);
+		script.loaded = true;
+		reloads.increment();
+	}
+
+	@SuppressWarnings("unchecked")
+	private byte[][] keysAndArgs(List<String> keys, Object[] args) {
+		RedisSerializer<String> keySerializer = (RedisSerializer<String>) this.template.getKeySerializer();
+		RedisSerializer<Object> valueSerializer = (RedisSerializer<Object>) this.template.getValueSerializer();
+		int keySize = keys == null ? 0 : keys.size();
+		int argSize = args == null ? 0 : args.length;
+		byte[][] keysAndArgs = new byte[keySize + argSize][];
+		for(int i = 0; i < keySize; i++) {
+			keysAndArgs[i] = keySerializer.serialize(keys.get(i));
+		}
+		for(int i = 0; i < argSize; i++) {
+			Object arg = args[i];
+			if(arg instanceof byte[]) {
+				keysAndArgs[keySize + i] = (byte[]) arg;
+			}else if(arg instanceof String) {
+				keysAndArgs[keySize + i] = StringRedisSerializer.UTF_8.serialize((String) arg);
+			}else{
+				keysAndArgs[keySize + i] = valueSerializer.serialize(arg);
+			}
+		}
+		return keysAndArgs;
+	}
+
+	private boolean isNoScript(Throwable e) {
+		Throwable cause = NestedExceptionUtils.getMostSpecificCause(e);
+		String message = cause.getMessage();
+		return message != null && message.contains(NO_SCRIPT);
+	}
+
+	private static class RegisteredScript {
+
+		private final byte[] bytes;
+
+		private final String sha;
+
+		private volatile boolean loaded;
+
+		RegisteredScript(String script) {
+			this.bytes = script.getBytes(StandardCharsets.UTF_8);
+			this.sha = sha1(this.bytes);
+		}
+	}
+
+	private static String sha1(byte[] bytes) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-1").digest(bytes);
+			StringBuilder sha = new StringBuilder(digest.length * 2);
+			for(byte b : digest) {
+				sha.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+			}
+			return sha.toString();
+		}catch (Exception e) {
+			throw new OrangeRedisException("Hash redis script error", e);
+		}
+	}
+}
@@ -42,14 +42,35 @@ public class OrangeAnnotationBaseEvaluationContext extends StandardEvaluationCon
 
 	private final ParameterNameDiscoverer parameterNameDiscoverer;
 	
+	private final String[] parameterNames;
+	
 	public OrangeAnnotationBaseEvaluationContext(Method method, 
 			Object[] arguments,
 			ParameterNameDiscoverer parameterNameDiscoverer
+	) {
+		this(method, arguments, parameterNameDiscoverer, null);
+	}
+	
+	/**
+	 * Creates a context with parameter names resolved in advance.
+	 */
+	public OrangeAnnotationBaseEvaluationContext(Method method, 
+			Object[] arguments,
+			String[] parameterNames
+	) {
+		this(method, arguments, null, parameterNames);
+	}
+	
+	private OrangeAnnotationBaseEvaluationContext(Method method, 
+			Object[] arguments,
+			ParameterNameDiscoverer parameterNameDiscoverer,
+			String[] parameterNames
 	) {
 		super(new HashMap<>());
 		this.method = method;
 		this.arguments = arguments;
 		this.parameterNameDiscoverer = parameterNameDiscoverer;
+		this.parameterNames = parameterNames;
 		List<PropertyAccessor> accessors = getPropertyAccessors();
 		accessors.add(new MapAccessor());
 		this.setPropertyAccessors(accessors);
@@ -63,7 +84,7 @@ public class OrangeAnnotationBaseEvaluationContext extends StandardEvaluationCon
 		}
 
 		// Expose indexed variables as well as parameter names (if discoverable)
-		String[] paramNames = this.parameterNameDiscoverer.getParameterNames(this.method);
+		String[] paramNames = this.parameterNames != null ? this.parameterNames : this.parameterNameDiscoverer.getParameterNames(this.method);
 		int paramCount = (paramNames != null ? paramNames.length : this.method.getParameterCount());
 		int argsCount = this.arguments.length;
 
@@ -19,9 +19,20 @@
 package com.langwuyue.orange.redis.util;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 
 /**
@@ -32,21 +43,141 @@ public abstract class OrangeStringTemlateUtils {
 	
 	private static final OrangeTemplateParserContext TEMPLATE_PARSER_CONTEXT = new OrangeTemplateParserContext();
 	
-	private static final ExpressionParser EXPRESSION_PARSER = new SpelExpressionParser();
+	/**
+	 * Expressions are parsed once per template and method, the compiler turns the hot ones into bytecode
+	 * and falls back to interpretation whenever compilation is not possible.
+	 */
+	private static final ExpressionParser EXPRESSION_PARSER = new SpelExpressionParser(
+		new SpelParserConfiguration(SpelCompilerMode.MIXED, OrangeStringTemlateUtils.class.getClassLoader())
+	);
 	
 	private static final OrangeAnnoationBaseParameterNameDiscoverer ANNOATION_BASE_PARAMETER_NAME_DISCOVERER = new OrangeAnnoationBaseParameterNameDiscoverer();
 	
+	/**
+	 * The conversion service used by SpEL by default, so that plain variables are rendered the same way.
+	 */
+	private static final ConversionService CONVERSION_SERVICE = DefaultConversionService.getSharedInstance();
+	
+	private static final Set<String> SPEL_KEYWORDS = new HashSet<>(Arrays.asList(
+		"and","or","not","div","mod","eq","ne","lt","le","gt","ge","matches","between","instanceof","new","null","true","false","T"
+	));
+	
+	private static final Map<Method, Map<String, OrangeStringTemplate>> TEMPLATES = new ConcurrentHashMap<>();
+	
 	public static String getString(String template,Method method, Object[] args) {
-		if(template.indexOf(TEMPLATE_PARSER_CONTEXT.getExpressionPrefix()) != -1) {
-			Expression expr = EXPRESSION_PARSER.parseExpression(template, TEMPLATE_PARSER_CONTEXT);
-	        OrangeAnnotationBaseEvaluationContext context = new OrangeAnnotationBaseEvaluationContext(
-	        		method, 
-	        		args,
-	        		ANNOATION_BASE_PARAMETER_NAME_DISCOVERER
-	        );
-	        template = expr.getValue(context,String.class);
+		if(template.indexOf(TEMPLATE_PARSER_CONTEXT.getExpressionPrefix()) == -1) {
+			return template;
+		}
+		Map<String, OrangeStringTemplate> templates = TEMPLATES.get(method);
+		if(templates == null) {
+			templates = TEMPLATES.computeIfAbsent(method, m -> new ConcurrentHashMap<>());
+		}
+		OrangeStringTemplate stringTemplate = templates.get(template);
+		if(stringTemplate == null) {
+			stringTemplate = templates.computeIfAbsent(template, t -> compile(t, method));
+		}
+		return stringTemplate.getString(args);
+	}
+	
+	/**
+	 * <h3>Compiles a template for a method.</h3>
+	 * <p>
+	 * Templates that only reference arguments annotated with {@code @KeyVariable} (e.g., "user:${id}") are compiled 
+	 * to a plain concatenation without SpEL. The others are parsed into a SpEL expression once.
+	 * </p>
+	 * 
+	 * @param template the template
+	 * @param method the method whose arguments are referenced by the template
+	 * @return the compiled template
+	 */
+	public static OrangeStringTemplate compile(String template, Method method) {
+		if(template.indexOf(TEMPLATE_PARSER_CONTEXT.getExpressionPrefix()) == -1) {
+			return args -> template;
+		}
+		String[] parameterNames = ANNOATION_BASE_PARAMETER_NAME_DISCOVERER.getParameterNames(method);
+		OrangeStringTemplate stringTemplate = compileConcatenation(template, method, parameterNames);
+		if(stringTemplate != null) {
+			return stringTemplate;
+		}
+		Expression expr = EXPRESSION_PARSER.parseExpression(template, TEMPLATE_PARSER_CONTEXT);
+		return args -> expr.getValue(
+			new OrangeAnnotationBaseEvaluationContext(method, args, parameterNames),
+			String.class
+		);
+	}
+	
+	private static OrangeStringTemplate compileConcatenation(String template, Method method, String[] parameterNames) {
+		String prefix = TEMPLATE_PARSER_CONTEXT.getExpressionPrefix();
+		String suffix = TEMPLATE_PARSER_CONTEXT.getExpressionSuffix();
+		List<String> literals = new ArrayList<>();
+		List<Integer> indexes = new ArrayList<>();
+		int from = 0;
+		int start;
+		while((start = template.indexOf(prefix, from)) != -1) {
+			int end = template.indexOf(suffix, start + prefix.length());
+			if(end == -1) {
+				return null;
+			}
+			int index = getParameterIndex(template.substring(start + prefix.length(), end).trim(), method, parameterNames);
+			if(index == -1) {
+				return null;
+			}
+			literals.add(template.substring(from, start));
+			indexes.add(index);
+			from = end + suffix.length();
+		}
+		literals.add(template.substring(from));
+		if(indexes.size() == 1 && literals.get(0).isEmpty() && literals.get(1).isEmpty()) {
+			int index = indexes.get(0);
+			return args -> toString(args[index]);
+		}
+		return new ConcatenationTemplate(
+			literals.toArray(new String[0]), 
+			indexes.stream().mapToInt(Integer::intValue).toArray()
+		);
+	}
+	
+	private static int getParameterIndex(String variable, Method method, String[] parameterNames) {
+		if(!isIdentifier(variable) || SPEL_KEYWORDS.contains(variable)) {
+			return -1;
+		}
+		// The last one wins if names are duplicated, same as the evaluation context.
+		for(int i = parameterNames.length - 1; i >= 0; i--) {
+			if(!variable.equals(parameterNames[i])) {
+				continue;
+			}
+			if(method.isVarArgs() && i == parameterNames.length - 1) {
+				return -1;
+			}
+			return i;
+		}
+		return -1;
+	}
+	
+	private static boolean isIdentifier(String variable) {
+		int len = variable.length();
+		if(len == 0 || Character.isDigit(variable.charAt(0))) {
+			return false;
 		}
-		return template;
+		for(int i = 0; i < len; i++) {
+			char c = variable.charAt(i);
+			boolean valid = (c >= 'a' && c <= 'z') 
+					|| (c >= 'A' && c <= 'Z') 
+					|| (c >= '0' && c <= '9') 
+					|| c == '_' 
+					|| c == '$';
+			if(!valid) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	private static String toString(Object value) {
+		if(value == null || value instanceof String) {
+			return (String) value;
+		}
+		return CONVERSION_SERVICE.convert(value, String.class);
 	}
 	
 	public static String replaceVariable(String template,String variableMark) {
@@ -55,4 +186,38 @@ public abstract class OrangeStringTemlateUtils {
 		}
 		return null;
 	}
+	
+	private static class ConcatenationTemplate implements OrangeStringTemplate {
+		
+		private final String[] literals;
+		
+		private final int[] indexes;
+		
+		private final int literalsLength;
+		
+		ConcatenationTemplate(String[] literals, int[] indexes) {
+			this.literals = literals;
+			this.indexes = indexes;
+			int len = 0;
+			for(String literal : literals) {
+				len += literal.length();
+			}
+			this.literalsLength = len;
+		}
+
+		@Override
+		public String getString(Object[] args) {
+			StringBuilder builder = new StringBuilder(this.literalsLength + 16 * this.indexes.length);
+			int len = this.indexes.length;
+			for(int i = 0; i < len; i++) {
+				builder.append(this.literals[i]);
+				String value = OrangeStringTemlateUtils.toString(args[this.indexes[i]]);
+				if(value != null) {
+					builder.append(value);
+				}
+			}
+			builder.append(this.literals[len]);
+			return builder.toString();
+		}
+	}
 }
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2025 Liang.Zhong. All rights reserved.
+ *
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.langwuyue.orange.redis.configuration;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.langwuyue.orange.redis.RedisValueTypeEnum;
+
+/**
+ * Compares the payload size and the encode/decode throughput of the JSON, Smile and CBOR codecs.
+ * <p>
+ * {@code jackson-dataformat-smile} and {@code jackson-dataformat-cbor} are test dependencies of the starter. 
+ * The payload sizes are printed by the setup.
+ * </p>
+ *
+ * @author Liang.Zhong
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrangeRedisCodecBenchmark {
+
+	@Param({"JSON", "SMILE", "CBOR"})
+	private RedisValueTypeEnum valueType;
+
+	private OrangeRedisCodec codec;
+
+	private Order order;
+
+	private byte[] bytes;
+
+	@Setup
+	public void setup() throws Exception {
+		ObjectMapper jsonMapper = new ObjectMapper();
+		switch (valueType) {
+			case SMILE:
+				this.codec = OrangeRedisJacksonCodec.smile(jsonMapper);
+				break;
+			case CBOR:
+				this.codec = OrangeRedisJacksonCodec.cbor(jsonMapper);
+				break;
+			default:
+				this.codec = new OrangeRedisJacksonCodec(RedisValueTypeEnum.JSON, jsonMapper);
+		}
+		if(this.codec == null) {
+			throw new IllegalStateException(String.format("The %s dataformat is not on the classpath", valueType));
+		}
+		this.order = Order.sample();
+		this.bytes = this.codec.encode(this.order);
+		System.out.println(String.format("%n%s payload size: %d bytes", valueType, this.bytes.length));
+	}
+
+	@Benchmark
+	public byte[] encode() throws Exception {
+		return this.codec.encode(this.order);
+	}
+
+	@Benchmark
+	public Object decode() throws Exception {
+		return this.codec.decode(this.bytes, Order.class);
+	}
+
+	public static class Order {
+
+		private long id;
+
+		private String customer;
+
+		private double amount;
+
+		private boolean paid;
+
+		private List<Item> items;
+
+		private Map<String, String> attributes;
+
+		static Order sample() {
+			Order order = new Order();
+			order.id = 20251018000001L;
+			order.customer = "orange-customer-0001";
+			order.amount = 1288.5D;
+			order.paid = true;
+			order.items = new ArrayList<>();
+			for(int i = 0; i < 10; i++) {
+				Item item = new Item();
+				item.sku = "SKU-" + (100000 + i);
+				item.quantity = i + 1;
+				item.price = 9.9D * (i + 1);
+				order.items.add(item);
+			}
+			order.attributes = new LinkedHashMap<>();
+			order.attributes.put("channel", "mobile");
+			order.attributes.put("region", "east");
+			order.attributes.put("coupon", "NEW-USER-10");
+			return order;
+		}
+
+		public long getId() {
+			return id;
+		}
+
+		public void setId(long id) {
+			this.id = id;
+		}
+
+		public String getCustomer() {
+			return customer;
+		}
+
+		public void setCustomer(String customer) {
+			this.customer = customer;
+		}
+
+		public double getAmount() {
+			return amount;
+		}
+
+		public void setAmount(double amount) {
+			this.amount = amount;
+		}
+
+		public boolean isPaid() {
+			return paid;
+		}
+
+		public void setPaid(boolean paid) {
+			this.paid = paid;
+		}
+
+		public List<Item> getItems() {
+			return items;
+		}
+
+		public void setItems(List<Item> items) {
+			this.items = items;
+		}
+
+		public Map<String, String> getAttributes() {
+			return attributes;
+		}
+
+		public void setAttributes(Map<String, String> attributes) {
+			this.attributes = attributes;
+		}
+	}
+
+	public static class Item {
+
+		private String sku;
+
+		private int quantity;
+
+		private double price;
+
+		public String getSku() {
+			return sku;
+		}
+
+		public void setSku(String sku) {
+			this.sku = sku;
+		}
+
+		public int getQuantity() {
+			return quantity;
+		}
+
+		public void setQuantity(int quantity) {
+			this.quantity = quantity;
+		}
+
+		public double getPrice() {
+			return price;
+		}
+
+		public void setPrice(double price) {
+			this.price = price;
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(
+			new OptionsBuilder()
+				.include(OrangeRedisCodecBenchmark.class.getSimpleName())
+				.build()
+		).run();
+	}
+}